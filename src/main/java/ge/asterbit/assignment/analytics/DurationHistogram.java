@@ -0,0 +1,57 @@
+package ge.asterbit.assignment.analytics;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Log-linear bucket layout for durations in seconds. Bucket {@code 0} holds durations
+ * under one second; bucket {@code b > 0} holds {@code [2^((b-1)/8), 2^(b/8))} seconds,
+ * so every doubling is split into eight buckets and a percentile read from the bucket
+ * upper bound overestimates by at most about 9%. Ten years fit in under 240 buckets,
+ * which keeps each histogram a few hundred rows regardless of how many tasks it counts.
+ */
+public final class DurationHistogram {
+
+    static final int SUB_BUCKETS = 8;
+
+    private DurationHistogram() {
+    }
+
+    public static int bucketFor(long seconds) {
+        if (seconds < 1) {
+            return 0;
+        }
+        return (int) Math.floor(Math.log(seconds) / Math.log(2) * SUB_BUCKETS) + 1;
+    }
+
+    public static long upperBoundSeconds(int bucket) {
+        return (long) Math.ceil(Math.pow(2, (double) bucket / SUB_BUCKETS));
+    }
+
+    public static long total(Map<Integer, Long> counts) {
+        long total = 0;
+        for (long count : counts.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * @param counts task count per bucket, ascending by bucket
+     * @return the upper bound of the bucket holding the given quantile, or {@code null} when empty
+     */
+    public static Long percentile(SortedMap<Integer, Long> counts, long total, double quantile) {
+        if (total == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long cumulative = 0;
+        for (Map.Entry<Integer, Long> entry : counts.entrySet()) {
+            cumulative += entry.getValue();
+            if (cumulative >= rank) {
+                return upperBoundSeconds(entry.getKey());
+            }
+        }
+        return upperBoundSeconds(counts.lastKey());
+    }
+}
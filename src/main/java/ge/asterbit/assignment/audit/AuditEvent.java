@@ -0,0 +1,24 @@
+package ge.asterbit.assignment.audit;
+
+import ge.asterbit.assignment.entity.AuditAction;
+import ge.asterbit.assignment.entity.AuditEntityType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One committed change, captured on the request thread and written later by
+ * {@link AuditWriter}. {@code changes} maps property name to old and new value.
+ */
+public record AuditEvent(
+        LocalDateTime occurredAt,
+        Long actorId,
+        String actorEmail,
+        AuditEntityType entityType,
+        Long entityId,
+        AuditAction action,
+        Map<String, Change> changes) {
+
+    public record Change(Object from, Object to) {
+    }
+}
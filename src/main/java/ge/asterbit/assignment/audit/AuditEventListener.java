@@ -0,0 +1,155 @@
+package ge.asterbit.assignment.audit;
+
+import ge.asterbit.assignment.entity.AuditAction;
+import ge.asterbit.assignment.entity.AuditEntityType;
+import ge.asterbit.assignment.entity.Project;
+import ge.asterbit.assignment.entity.Task;
+import ge.asterbit.assignment.entity.User;
+import ge.asterbit.assignment.security.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Turns Hibernate post-commit events for tasks, projects and users into
+ * {@link AuditEvent}s. Hibernate only invokes these callbacks once the transaction
+ * has committed, so rolled-back work is never audited and nothing is added to the
+ * transaction itself. Users are audited on update only, which covers role changes.
+ */
+@RequiredArgsConstructor
+public class AuditEventListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private static final Map<Class<?>, AuditEntityType> AUDITED_TYPES = Map.of(
+            Task.class, AuditEntityType.TASK,
+            Project.class, AuditEntityType.PROJECT,
+            User.class, AuditEntityType.USER
+    );
+
+    private static final Set<String> IGNORED_PROPERTIES = Set.of(
+            "password", "securityEpoch", "createDate", "updateDate", "rank");
+
+    private final AuditWriter auditWriter;
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return AUDITED_TYPES.containsKey(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        AuditEntityType entityType = AUDITED_TYPES.get(event.getPersister().getMappedClass());
+        if (entityType == null || entityType == AuditEntityType.USER) {
+            return;
+        }
+        publish(entityType, event.getId(), AuditAction.CREATE,
+                diff(event.getPersister(), event.getSession(), null, event.getState()));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        AuditEntityType entityType = AUDITED_TYPES.get(event.getPersister().getMappedClass());
+        if (entityType == null) {
+            return;
+        }
+        publish(entityType, event.getId(), AuditAction.UPDATE,
+                diff(event.getPersister(), event.getSession(), event.getOldState(), event.getState()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        AuditEntityType entityType = AUDITED_TYPES.get(event.getPersister().getMappedClass());
+        if (entityType == null || entityType == AuditEntityType.USER) {
+            return;
+        }
+        publish(entityType, event.getId(), AuditAction.DELETE,
+                diff(event.getPersister(), event.getSession(), event.getDeletedState(), null));
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void publish(AuditEntityType entityType, Object id, AuditAction action,
+                         Map<String, AuditEvent.Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Long actorId = null;
+        String actorEmail = null;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            actorEmail = authentication.getName();
+            if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+                actorId = principal.id();
+            } else if (authentication.getPrincipal() instanceof User user) {
+                actorId = user.getId();
+            }
+        }
+
+        auditWriter.publish(new AuditEvent(LocalDateTime.now(), actorId, actorEmail, entityType,
+                (Long) id, action, changes));
+    }
+
+    private Map<String, AuditEvent.Change> diff(EntityPersister persister, SharedSessionContractImplementor session,
+                                                Object[] oldState, Object[] newState) {
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        Map<String, AuditEvent.Change> changes = new LinkedHashMap<>();
+
+        for (int i = 0; i < names.length; i++) {
+            if (IGNORED_PROPERTIES.contains(names[i]) || types[i].isCollectionType()) {
+                continue;
+            }
+            Object from = oldState != null ? normalize(types[i], oldState[i], session) : null;
+            Object to = newState != null ? normalize(types[i], newState[i], session) : null;
+            if (Objects.equals(from, to)) {
+                continue;
+            }
+            String name = types[i].isEntityType() ? names[i] + "Id" : names[i];
+            changes.put(name, new AuditEvent.Change(from, to));
+        }
+        return changes;
+    }
+
+    private Object normalize(Type type, Object value, SharedSessionContractImplementor session) {
+        if (value == null) {
+            return null;
+        }
+        if (type.isEntityType()) {
+            LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer(value);
+            if (lazyInitializer != null) {
+                return lazyInitializer.getInternalIdentifier();
+            }
+            String entityName = ((EntityType) type).getAssociatedEntityName();
+            return session.getFactory().getMappingMetamodel().getEntityDescriptor(entityName)
+                    .getIdentifier(value, session);
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,160 @@
+package ge.asterbit.assignment.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Buffers committed changes in an {@link AuditRingBuffer} and writes them to
+ * {@code audit_log} with JDBC batch inserts from a single background thread.
+ * Request threads never wait: when the buffer is full the event is dropped and
+ * counted in {@code audit.events{outcome=dropped}}.
+ */
+@Slf4j
+@Component
+public class AuditWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_log "
+            + "(occurred_at, actor_id, actor_email, entity_type, entity_id, action, changes) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditRingBuffer<AuditEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final Counter acceptedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public AuditWriter(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${audit.buffer-capacity}") int bufferCapacity,
+            @Value("${audit.batch-size}") int batchSize,
+            @Value("${audit.flush-interval}") Duration flushInterval,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.buffer = new AuditRingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+
+        this.acceptedCounter = Counter.builder("audit.events")
+                .tag("outcome", "accepted")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.events")
+                .tag("outcome", "dropped")
+                .description("Audit events dropped because the buffer was full")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.events.written")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.events.failed")
+                .description("Audit events lost because their batch insert failed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush.time")
+                .description("Time spent writing one batch of audit events")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.size", buffer, AuditRingBuffer::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return {@code false} when the event was dropped because the buffer is full
+     */
+    public boolean publish(AuditEvent event) {
+        if (!buffer.offer(event)) {
+            droppedCounter.increment();
+            return false;
+        }
+        acceptedCounter.increment();
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::run, "audit-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setObject(1, event.occurredAt());
+                ps.setObject(2, event.actorId(), Types.BIGINT);
+                ps.setString(3, event.actorEmail());
+                ps.setString(4, event.entityType().name());
+                ps.setLong(5, event.entityId());
+                ps.setString(6, event.action().name());
+                ps.setString(7, toJson(event));
+            });
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException ex) {
+            failedCounter.increment(batch.size());
+            log.error("Failed to write {} audit events", batch.size(), ex);
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String toJson(AuditEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.changes());
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize changes of {} {}", event.entityType(), event.entityId(), ex);
+            return "{}";
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ge.asterbit.assignment.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ge.asterbit.assignment.notification.FileNotificationChannel;
+import ge.asterbit.assignment.notification.NotificationChannel;
+import ge.asterbit.assignment.notification.SmtpNotificationChannel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Properties;
+
+@Configuration
+public class NotificationConfig {
+
+    /**
+     * The channel named by {@code notifications.channel}. It is chosen when the bean is
+     * created rather than with {@code @ConditionalOnProperty}, so the AOT-built image still
+     * honours {@code NOTIFICATIONS_CHANNEL} at runtime.
+     */
+    @Bean
+    public NotificationChannel notificationChannel(
+            @Value("${notifications.channel}") String channel,
+            ObjectMapper objectMapper,
+            @Value("${notifications.file.directory}") Path directory,
+            @Value("${notifications.mail.from}") String from,
+            ObjectProvider<JavaMailSender> mailSender,
+            Environment environment) {
+        return switch (channel.toLowerCase(Locale.ROOT)) {
+            case "file" -> new FileNotificationChannel(objectMapper, directory);
+            case "smtp" -> new SmtpNotificationChannel(mailSender.getIfAvailable(() -> mailSender(environment)), from);
+            default -> throw new IllegalStateException("Unknown notifications.channel: " + channel);
+        };
+    }
+
+    /**
+     * Spring Boot only configures a mail sender when {@code spring.mail.host} is set, and
+     * under AOT that is decided at build time, so the sender is built here from the same
+     * properties when there is none.
+     */
+    static JavaMailSender mailSender(Environment environment) {
+        MailProperties properties = Binder.get(environment).bind("spring.mail", MailProperties.class)
+                .orElseGet(MailProperties::new);
+        if (properties.getHost() == null) {
+            throw new IllegalStateException("notifications.channel=smtp needs spring.mail.host");
+        }
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost(properties.getHost());
+        if (properties.getPort() != null) {
+            sender.setPort(properties.getPort());
+        }
+        sender.setUsername(properties.getUsername());
+        sender.setPassword(properties.getPassword());
+        sender.setProtocol(properties.getProtocol());
+        if (properties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(properties.getDefaultEncoding().name());
+        }
+        if (!properties.getProperties().isEmpty()) {
+            Properties javaMailProperties = new Properties();
+            javaMailProperties.putAll(properties.getProperties());
+            sender.setJavaMailProperties(javaMailProperties);
+        }
+        return sender;
+    }
+}
@@ -1,9 +1,17 @@
 package ge.asterbit.assignment.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import ge.asterbit.assignment.repository.UserRepository;
 import ge.asterbit.assignment.security.JwtAuthenticationFilter;
+import ge.asterbit.assignment.security.BoundedPasswordEncoder;
 import ge.asterbit.assignment.security.JwtService;
+import ge.asterbit.assignment.security.RateLimitFilter;
+import ge.asterbit.assignment.security.RateLimiter;
+import ge.asterbit.assignment.security.SecurityEpochCache;
+import ge.asterbit.assignment.security.TokenRevocationList;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -22,6 +30,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -30,6 +39,20 @@ public class SecurityConfig {
 
     private final UserRepository userRepository;
     private final JwtService jwtService;
+    private final TokenRevocationList tokenRevocationList;
+    private final SecurityEpochCache securityEpochCache;
+    private final MeterRegistry meterRegistry;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${auth.password-hashing.pool-size}")
+    private int hashingPoolSize;
+
+    @Value("${auth.password-hashing.queue-capacity}")
+    private int hashingQueueCapacity;
+
+    @Value("${auth.password-hashing.timeout}")
+    private long hashingTimeout;
 
     private static final String[] WHITE_LIST_URLS = {
             "/api/v1/auth/**",
@@ -38,12 +61,18 @@ public class SecurityConfig {
             "/swagger-ui/**",
             "/swagger-ui.html",
             "/api-docs/**",
+            "/actuator/health/**",
             "/h2-console/**"
     };
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtService, userDetailsService());
+        return new JwtAuthenticationFilter(jwtService, userDetailsService(), tokenRevocationList, securityEpochCache);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(rateLimiter, jwtService, objectMapper);
     }
 
     @Bean
@@ -59,7 +88,8 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter(), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -85,6 +115,12 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(),
+                hashingPoolSize,
+                hashingQueueCapacity,
+                hashingTimeout,
+                meterRegistry
+        );
     }
 } 
\ No newline at end of file
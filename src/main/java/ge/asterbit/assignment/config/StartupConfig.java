@@ -0,0 +1,94 @@
+package ge.asterbit.assignment.config;
+
+import ge.asterbit.assignment.datagen.SyntheticDataGenerator;
+import ge.asterbit.assignment.maintenance.TaskArchiver;
+import ge.asterbit.assignment.maintenance.TaskPartitionMigrator;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Marks beans from {@code startup.lazy-bean-packages} (springdoc by default) as lazy,
+     * so OpenAPI scanning and the Swagger UI are set up on their first request instead
+     * of before the first API call. Beans that declare {@code @Lazy(false)} stay eager.
+     * In an AOT build the flags are fixed when the context is processed.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeanFactoryPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("startup.lazy-bean-packages", String[].class)
+                .map(List::of)
+                .orElse(List.of());
+
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (!(definition instanceof AbstractBeanDefinition abstractDefinition)
+                        || abstractDefinition.getLazyInit() != null
+                        || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                    continue;
+                }
+                Class<?> type = beanFactory.getType(beanName, false);
+                if (type != null && packages.stream().anyMatch(type.getName()::startsWith)) {
+                    abstractDefinition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    /**
+     * Fails startup when a switch that decides whether a bean exists is set differently
+     * from the bean set. Without AOT the two always agree; an AOT build fixes the bean set
+     * when it is built, so setting the switch only at runtime would otherwise be ignored.
+     */
+    @Bean
+    public SmartInitializingSingleton frozenSwitchCheck(Environment environment, ListableBeanFactory beanFactory) {
+        return () -> {
+            List<String> mismatches = frozenSwitchMismatches(environment, beanFactory);
+            if (!mismatches.isEmpty()) {
+                throw new IllegalStateException("These settings were fixed when the application was built with AOT "
+                        + "and differ at runtime: " + String.join("; ", mismatches)
+                        + ". Rebuild with the runtime values or start without -Dspring.aot.enabled=true");
+            }
+        };
+    }
+
+    static List<String> frozenSwitchMismatches(Environment environment, ListableBeanFactory beanFactory) {
+        List<FrozenSwitch> switches = List.of(
+                new FrozenSwitch("tasks.partitioning.enabled",
+                        environment.getProperty("tasks.partitioning.enabled", "false").equalsIgnoreCase("true"),
+                        TaskPartitionMigrator.class),
+                new FrozenSwitch("tasks.archive.enabled",
+                        environment.getProperty("tasks.archive.enabled", "false").equalsIgnoreCase("true"),
+                        TaskArchiver.class),
+                new FrozenSwitch("the datagen profile",
+                        environment.acceptsProfiles(Profiles.of("datagen")),
+                        SyntheticDataGenerator.class));
+
+        List<String> mismatches = new ArrayList<>();
+        for (FrozenSwitch frozenSwitch : switches) {
+            boolean present = beanFactory.getBeanNamesForType(frozenSwitch.bean(), true, false).length > 0;
+            if (present != frozenSwitch.enabled()) {
+                mismatches.add(frozenSwitch.name() + " is " + (frozenSwitch.enabled() ? "on" : "off")
+                        + " but " + frozenSwitch.bean().getSimpleName() + (present ? " exists" : " does not exist"));
+            }
+        }
+        return mismatches;
+    }
+
+    private record FrozenSwitch(String name, boolean enabled, Class<?> bean) {
+    }
+}
@@ -0,0 +1,46 @@
+package ge.asterbit.assignment.controller;
+
+import ge.asterbit.assignment.dto.analytics.CycleTimeReportDTO;
+import ge.asterbit.assignment.dto.analytics.WorkloadReportDTO;
+import ge.asterbit.assignment.service.TaskHistoryService;
+import ge.asterbit.assignment.service.WorkloadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Task Analytics API")
+@SecurityRequirement(name = "bearerAuth")
+public class AnalyticsController {
+
+    private final TaskHistoryService taskHistoryService;
+    private final WorkloadService workloadService;
+
+    @GetMapping("/projects/{projectId}/cycle-time")
+    @Operation(summary = "Get lead and cycle time percentiles for a project")
+    public ResponseEntity<CycleTimeReportDTO> getProjectCycleTimes(@PathVariable Long projectId) {
+        return ResponseEntity.ok(taskHistoryService.getProjectCycleTimes(projectId));
+    }
+
+    @GetMapping("/users/{userId}/cycle-time")
+    @Operation(summary = "Get lead and cycle time percentiles for an assignee")
+    public ResponseEntity<CycleTimeReportDTO> getAssigneeCycleTimes(@PathVariable Long userId) {
+        return ResponseEntity.ok(taskHistoryService.getAssigneeCycleTimes(userId));
+    }
+
+    @GetMapping("/workload")
+    @PreAuthorize("hasAnyAuthority('admin:read', 'manager:read')")
+    @Operation(summary = "Get open tasks per assignee across the current user's projects (ADMIN and MANAGER only)")
+    public ResponseEntity<WorkloadReportDTO> getWorkload() {
+        return ResponseEntity.ok(workloadService.getWorkload());
+    }
+}
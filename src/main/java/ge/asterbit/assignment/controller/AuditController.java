@@ -0,0 +1,37 @@
+package ge.asterbit.assignment.controller;
+
+import ge.asterbit.assignment.dto.audit.AuditLogPage;
+import ge.asterbit.assignment.entity.AuditEntityType;
+import ge.asterbit.assignment.service.AuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/audit")
+@RequiredArgsConstructor
+@Tag(name = "Audit", description = "Audit Log API")
+@SecurityRequirement(name = "bearerAuth")
+public class AuditController {
+
+    private final AuditService auditService;
+
+    @GetMapping
+    @PreAuthorize("hasAuthority('admin:read')")
+    @Operation(summary = "Get audit entries, newest first (ADMIN only)")
+    public ResponseEntity<AuditLogPage> getAuditLog(
+            @RequestParam(required = false) AuditEntityType entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) Long actorId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(auditService.getAuditLog(entityType, entityId, actorId, before, size));
+    }
+}
@@ -0,0 +1,34 @@
+package ge.asterbit.assignment.controller;
+
+import ge.asterbit.assignment.dto.batch.BatchRequest;
+import ge.asterbit.assignment.dto.batch.BatchResponse;
+import ge.asterbit.assignment.service.BatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/batch")
+@RequiredArgsConstructor
+@Tag(name = "Batch", description = "Multiplexed request API")
+@SecurityRequirement(name = "bearerAuth")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    @PostMapping
+    @Operation(summary = "Execute several API requests in one round trip")
+    public ResponseEntity<BatchResponse> execute(
+            @Valid @RequestBody BatchRequest request,
+            HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(batchService.execute(request, httpRequest));
+    }
+}
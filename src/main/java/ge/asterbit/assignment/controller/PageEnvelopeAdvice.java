@@ -0,0 +1,55 @@
+package ge.asterbit.assignment.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import ge.asterbit.assignment.dto.common.PageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Lets clients written against the old list responses keep them: with
+ * {@code envelope=page} a {@link PageResponse} is written as the Spring Data page it was
+ * built from ({@code pageable}, {@code sort}, {@code number} and so on), plus {@code refs}
+ * in normalized mode. Without the parameter the compact envelope is written unchanged.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class PageEnvelopeAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String PARAMETER = "envelope";
+    public static final String SPRING_PAGE = "page";
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof PageResponse<?> page) || page.getSource() == null || !wantsSpringPage(request)) {
+            return body;
+        }
+        ObjectNode node = objectMapper.valueToTree(page.getSource());
+        if (page.getRefs() != null) {
+            node.set("refs", objectMapper.valueToTree(page.getRefs()));
+        }
+        return node;
+    }
+
+    private static boolean wantsSpringPage(ServerHttpRequest request) {
+        return request instanceof ServletServerHttpRequest servletRequest
+                && SPRING_PAGE.equals(servletRequest.getServletRequest().getParameter(PARAMETER));
+    }
+}
@@ -1,21 +1,29 @@
 package ge.asterbit.assignment.controller;
 
+import ge.asterbit.assignment.dto.common.FieldSelection;
+import ge.asterbit.assignment.dto.common.PageResponse;
 import ge.asterbit.assignment.dto.project.CreateProjectRequest;
 import ge.asterbit.assignment.dto.project.ProjectDTO;
 import ge.asterbit.assignment.dto.project.UpdateProjectRequest;
+import ge.asterbit.assignment.dto.task.TaskBoardDTO;
+import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.mapper.PageResponseMapper;
+import ge.asterbit.assignment.repository.projection.ProjectProjection;
 import ge.asterbit.assignment.service.ProjectService;
+import ge.asterbit.assignment.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/projects")
 @RequiredArgsConstructor
@@ -24,24 +32,58 @@ import org.springframework.web.bind.annotation.*;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final TaskService taskService;
+    private final PageResponseMapper pageResponseMapper;
 
     @GetMapping
     @PreAuthorize("hasAuthority('admin:read')")
     @Operation(summary = "Get all projects (ADMIN only)")
-    public ResponseEntity<Page<ProjectDTO>> getAllProjects(Pageable pageable) {
-        return ResponseEntity.ok(projectService.getAllProjects(pageable));
+    public ResponseEntity<PageResponse<ProjectDTO>> getAllProjects(
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(pageResponseMapper.toProjectResponse(
+                projectService.getAllProjects(pageable, projectFields(fields)), normalized));
     }
 
     @GetMapping("/my")
     @Operation(summary = "Get current user's projects")
-    public ResponseEntity<Page<ProjectDTO>> getMyProjects(Pageable pageable) {
-        return ResponseEntity.ok(projectService.getMyProjects(pageable));
+    public ResponseEntity<PageResponse<ProjectDTO>> getMyProjects(
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(pageResponseMapper.toProjectResponse(
+                projectService.getMyProjects(pageable, projectFields(fields)), normalized));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get project by ID")
-    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
-        return ResponseEntity.ok(projectService.getProjectById(id));
+    public ResponseEntity<ProjectDTO> getProjectById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(projectService.getProjectById(id, projectFields(fields)));
+    }
+
+    @GetMapping("/{id}/board")
+    @Operation(summary = "Get the project's task board: top tasks and totals per status")
+    public ResponseEntity<TaskBoardDTO> getProjectBoard(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(taskService.getProjectBoard(id, limit));
+    }
+
+    @GetMapping("/{id}/ready")
+    @Operation(summary = "Get open tasks that no unfinished task blocks, earliest due first")
+    public ResponseEntity<List<TaskDTO>> getReadyTasks(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(taskService.getReadyTasks(id, limit));
+    }
+
+    @GetMapping("/{id}/critical-path")
+    @Operation(summary = "Get the longest chain of unfinished tasks, each blocking the next")
+    public ResponseEntity<List<TaskDTO>> getCriticalPath(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.getCriticalPath(id));
     }
 
     @PostMapping
@@ -65,4 +107,8 @@ public class ProjectController {
         projectService.deleteProject(id);
         return ResponseEntity.noContent().build();
     }
-} 
\ No newline at end of file
+
+    private FieldSelection projectFields(String fields) {
+        return FieldSelection.parse(fields, ProjectProjection.SPEC.getFieldNames());
+    }
+}
@@ -1,23 +1,32 @@
 package ge.asterbit.assignment.controller;
 
+import ge.asterbit.assignment.dto.common.FieldSelection;
+import ge.asterbit.assignment.dto.common.PageResponse;
 import ge.asterbit.assignment.dto.task.CreateTaskRequest;
+import ge.asterbit.assignment.dto.task.MoveTaskRequest;
 import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.dto.task.TaskDependenciesDTO;
+import ge.asterbit.assignment.dto.task.TaskLookupResponse;
+import ge.asterbit.assignment.dto.task.TaskStatusTransitionDTO;
 import ge.asterbit.assignment.dto.task.UpdateTaskRequest;
 import ge.asterbit.assignment.entity.TaskPriority;
 import ge.asterbit.assignment.entity.TaskStatus;
+import ge.asterbit.assignment.mapper.PageResponseMapper;
+import ge.asterbit.assignment.repository.projection.TaskProjection;
 import ge.asterbit.assignment.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/tasks")
 @RequiredArgsConstructor
@@ -26,49 +35,86 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
 
     private final TaskService taskService;
+    private final PageResponseMapper pageResponseMapper;
 
     @GetMapping
     @PreAuthorize("hasAuthority('admin:read')")
     @Operation(summary = "Get all tasks (ADMIN only)")
-    public ResponseEntity<Page<TaskDTO>> getAllTasks(Pageable pageable) {
-        return ResponseEntity.ok(taskService.getAllTasks(pageable));
+    public ResponseEntity<PageResponse<TaskDTO>> getAllTasks(
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(pageResponseMapper.toTaskResponse(
+                taskService.getAllTasks(pageable, taskFields(fields)), normalized));
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get several tasks by ID in one request")
+    public ResponseEntity<TaskLookupResponse> getTasksByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(taskService.getTasksByIds(ids, taskFields(fields)));
     }
 
     @GetMapping("/my")
     @Operation(summary = "Get current user's assigned tasks")
-    public ResponseEntity<Page<TaskDTO>> getMyTasks(Pageable pageable) {
-        return ResponseEntity.ok(taskService.getMyTasks(pageable));
+    public ResponseEntity<PageResponse<TaskDTO>> getMyTasks(
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(pageResponseMapper.toTaskResponse(
+                taskService.getMyTasks(pageable, taskFields(fields)), normalized));
     }
 
     @GetMapping("/project/{projectId}")
-    @Operation(summary = "Get tasks by project")
-    public ResponseEntity<Page<TaskDTO>> getTasksByProject(
-            @PathVariable Long projectId, Pageable pageable) {
-        return ResponseEntity.ok(taskService.getTasksByProject(projectId, pageable));
+    @Operation(summary = "Get tasks by project; archived=true lists archived tasks instead")
+    public ResponseEntity<PageResponse<TaskDTO>> getTasksByProject(
+            @PathVariable Long projectId,
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean archived,
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(pageResponseMapper.toTaskResponse(archived
+                ? taskService.getArchivedTasksByProject(projectId, pageable, taskFields(fields))
+                : taskService.getTasksByProject(projectId, pageable, taskFields(fields)), normalized));
     }
 
     @GetMapping("/project/{projectId}/status/{status}")
     @Operation(summary = "Get tasks by project and status")
-    public ResponseEntity<Page<TaskDTO>> getTasksByProjectAndStatus(
+    public ResponseEntity<PageResponse<TaskDTO>> getTasksByProjectAndStatus(
             @PathVariable Long projectId,
             @PathVariable TaskStatus status,
-            Pageable pageable) {
-        return ResponseEntity.ok(taskService.getTasksByProjectAndStatus(projectId, status, pageable));
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(pageResponseMapper.toTaskResponse(
+                taskService.getTasksByProjectAndStatus(projectId, status, pageable, taskFields(fields)), normalized));
     }
 
     @GetMapping("/project/{projectId}/priority/{priority}")
     @Operation(summary = "Get tasks by project and priority")
-    public ResponseEntity<Page<TaskDTO>> getTasksByProjectAndPriority(
+    public ResponseEntity<PageResponse<TaskDTO>> getTasksByProjectAndPriority(
             @PathVariable Long projectId,
             @PathVariable TaskPriority priority,
-            Pageable pageable) {
-        return ResponseEntity.ok(taskService.getTasksByProjectAndPriority(projectId, priority, pageable));
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(pageResponseMapper.toTaskResponse(
+                taskService.getTasksByProjectAndPriority(projectId, priority, pageable, taskFields(fields)), normalized));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get task by ID")
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskDTO> getTaskById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(taskService.getTaskById(id, taskFields(fields)));
+    }
+
+    @GetMapping("/{id}/history")
+    @Operation(summary = "Get the status transitions of a task, oldest first")
+    public ResponseEntity<List<TaskStatusTransitionDTO>> getTaskHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.getTaskHistory(id));
     }
 
     @PostMapping
@@ -93,6 +139,15 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateTaskStatus(id, status));
     }
 
+    @PatchMapping("/{id}/move")
+    @PreAuthorize("hasAnyAuthority('admin:update', 'manager:update')")
+    @Operation(summary = "Move a task to a position on the board (ADMIN and MANAGER only)")
+    public ResponseEntity<TaskDTO> moveTask(
+            @PathVariable Long id,
+            @RequestBody MoveTaskRequest request) {
+        return ResponseEntity.ok(taskService.moveTask(id, request));
+    }
+
     @PatchMapping("/{id}/assign/{userId}")
     @PreAuthorize("hasAnyAuthority('admin:update', 'manager:update')")
     @Operation(summary = "Assign task to user (ADMIN and MANAGER only)")
@@ -102,10 +157,39 @@ public class TaskController {
         return ResponseEntity.ok(taskService.assignTask(id, userId));
     }
 
+    @GetMapping("/{id}/dependencies")
+    @Operation(summary = "Get the tasks blocking a task and the tasks it blocks")
+    public ResponseEntity<TaskDependenciesDTO> getTaskDependencies(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.getTaskDependencies(id));
+    }
+
+    @PutMapping("/{id}/blockers/{blockerId}")
+    @PreAuthorize("hasAnyAuthority('admin:update', 'manager:update')")
+    @Operation(summary = "Mark a task as blocked by another task of its project (ADMIN and MANAGER only)")
+    public ResponseEntity<TaskDependenciesDTO> addBlocker(
+            @PathVariable Long id,
+            @PathVariable Long blockerId) {
+        return ResponseEntity.ok(taskService.addBlocker(id, blockerId));
+    }
+
+    @DeleteMapping("/{id}/blockers/{blockerId}")
+    @PreAuthorize("hasAnyAuthority('admin:update', 'manager:update')")
+    @Operation(summary = "Remove a blocking task from a task (ADMIN and MANAGER only)")
+    public ResponseEntity<Void> removeBlocker(
+            @PathVariable Long id,
+            @PathVariable Long blockerId) {
+        taskService.removeBlocker(id, blockerId);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a task")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
-} 
\ No newline at end of file
+
+    private FieldSelection taskFields(String fields) {
+        return FieldSelection.parse(fields, TaskProjection.SPEC.getFieldNames());
+    }
+}
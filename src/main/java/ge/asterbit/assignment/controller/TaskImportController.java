@@ -0,0 +1,55 @@
+package ge.asterbit.assignment.controller;
+
+import ge.asterbit.assignment.dto.task.TaskImportDTO;
+import ge.asterbit.assignment.entity.TaskImportFormat;
+import ge.asterbit.assignment.exception.BadRequestException;
+import ge.asterbit.assignment.service.TaskImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+@RequestMapping("/api/v1/tasks")
+@RequiredArgsConstructor
+@Tag(name = "Task Import", description = "Bulk Task Import API")
+@SecurityRequirement(name = "bearerAuth")
+public class TaskImportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final TaskImportService taskImportService;
+
+    @PostMapping(value = "/project/{projectId}/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "Import tasks into a project from a CSV or NDJSON body, optionally gzip-encoded")
+    public ResponseEntity<TaskImportDTO> importTasks(
+            @PathVariable Long projectId,
+            HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        TaskImportFormat format = TEXT_CSV.includes(contentType) ? TaskImportFormat.CSV : TaskImportFormat.NDJSON;
+
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        InputStream body = request.getInputStream();
+        if ("gzip".equalsIgnoreCase(encoding)) {
+            body = new GZIPInputStream(body, 64 * 1024);
+        } else if (encoding != null && !"identity".equalsIgnoreCase(encoding)) {
+            throw new BadRequestException("Unsupported Content-Encoding: " + encoding);
+        }
+        return ResponseEntity.ok(taskImportService.importTasks(projectId, format, body));
+    }
+
+    @GetMapping("/imports/{importId}")
+    @Operation(summary = "Get the progress and rejected rows of an import")
+    public ResponseEntity<TaskImportDTO> getImport(@PathVariable Long importId) {
+        return ResponseEntity.ok(taskImportService.getImport(importId));
+    }
+}
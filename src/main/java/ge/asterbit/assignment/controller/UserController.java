@@ -1,14 +1,15 @@
 package ge.asterbit.assignment.controller;
 
+import ge.asterbit.assignment.dto.common.PageResponse;
 import ge.asterbit.assignment.dto.user.RoleAssignmentRequest;
 import ge.asterbit.assignment.dto.user.UserDTO;
+import ge.asterbit.assignment.mapper.PageResponseMapper;
 import ge.asterbit.assignment.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,12 +23,13 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final PageResponseMapper pageResponseMapper;
 
     @GetMapping
     @PreAuthorize("hasAuthority('admin:read')")
     @Operation(summary = "Get all users (ADMIN only)")
-    public ResponseEntity<Page<UserDTO>> getAllUsers(Pageable pageable) {
-        return ResponseEntity.ok(userService.getAllUsers(pageable));
+    public ResponseEntity<PageResponse<UserDTO>> getAllUsers(Pageable pageable) {
+        return ResponseEntity.ok(pageResponseMapper.toResponse(userService.getAllUsers(pageable)));
     }
 
     @GetMapping("/{id}")
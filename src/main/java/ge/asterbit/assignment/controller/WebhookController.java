@@ -0,0 +1,61 @@
+package ge.asterbit.assignment.controller;
+
+import ge.asterbit.assignment.dto.common.PageResponse;
+import ge.asterbit.assignment.dto.webhook.CreateWebhookRequest;
+import ge.asterbit.assignment.dto.webhook.WebhookDeadLetterDTO;
+import ge.asterbit.assignment.dto.webhook.WebhookSubscriptionDTO;
+import ge.asterbit.assignment.mapper.PageResponseMapper;
+import ge.asterbit.assignment.service.WebhookService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/webhooks")
+@RequiredArgsConstructor
+@Tag(name = "Webhooks", description = "Project Webhook API")
+@SecurityRequirement(name = "bearerAuth")
+public class WebhookController {
+
+    private final WebhookService webhookService;
+    private final PageResponseMapper pageResponseMapper;
+
+    @PostMapping
+    @Operation(summary = "Subscribe a URL to the project's task and project changes")
+    public ResponseEntity<WebhookSubscriptionDTO> createWebhook(
+            @PathVariable Long projectId,
+            @Valid @RequestBody CreateWebhookRequest request) {
+        return new ResponseEntity<>(webhookService.createWebhook(projectId, request), HttpStatus.CREATED);
+    }
+
+    @GetMapping
+    @Operation(summary = "Get the project's webhooks")
+    public ResponseEntity<List<WebhookSubscriptionDTO>> getWebhooks(@PathVariable Long projectId) {
+        return ResponseEntity.ok(webhookService.getWebhooks(projectId));
+    }
+
+    @DeleteMapping("/{webhookId}")
+    @Operation(summary = "Delete a webhook and its undelivered events")
+    public ResponseEntity<Void> deleteWebhook(@PathVariable Long projectId, @PathVariable Long webhookId) {
+        webhookService.deleteWebhook(projectId, webhookId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{webhookId}/dead-letters")
+    @Operation(summary = "Get event batches that could not be delivered, newest first")
+    public ResponseEntity<PageResponse<WebhookDeadLetterDTO>> getDeadLetters(
+            @PathVariable Long projectId,
+            @PathVariable Long webhookId,
+            Pageable pageable) {
+        return ResponseEntity.ok(pageResponseMapper.toResponse(
+                webhookService.getDeadLetters(projectId, webhookId, pageable)));
+    }
+}
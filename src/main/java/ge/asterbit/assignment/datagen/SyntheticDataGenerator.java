@@ -0,0 +1,187 @@
+package ge.asterbit.assignment.datagen;
+
+import ge.asterbit.assignment.jdbc.BatchInsertTableWriter;
+import ge.asterbit.assignment.jdbc.CopyTableWriter;
+import ge.asterbit.assignment.jdbc.TableWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fills the database with synthetic users, projects and tasks when the application is
+ * started with the {@code datagen} profile, then exits. Rows get explicit ids after the
+ * current maximum, are loaded in parallel chunks over separate connections, through
+ * {@code COPY} on PostgreSQL and JDBC batches elsewhere, and the id sequences are moved
+ * past them at the end. The same seed, counts and reference date always produce the
+ * same rows.
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+    private final long users;
+    private final long managers;
+    private final long projects;
+    private final long tasks;
+    private final long seed;
+    private final int threads;
+    private final int chunkSize;
+    private final int batchSize;
+    private final String emailDomain;
+    private final String password;
+    private final String referenceDate;
+    private final boolean exitWhenDone;
+
+    public SyntheticDataGenerator(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            ConfigurableApplicationContext context,
+            @Value("${datagen.users}") long users,
+            @Value("${datagen.managers}") long managers,
+            @Value("${datagen.projects}") long projects,
+            @Value("${datagen.tasks}") long tasks,
+            @Value("${datagen.seed}") long seed,
+            @Value("${datagen.threads}") int threads,
+            @Value("${datagen.chunk-size}") int chunkSize,
+            @Value("${datagen.batch-size}") int batchSize,
+            @Value("${datagen.email-domain}") String emailDomain,
+            @Value("${datagen.password}") String password,
+            @Value("${datagen.reference-date:}") String referenceDate,
+            @Value("${datagen.exit-when-done}") boolean exitWhenDone) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+        this.users = users;
+        this.managers = managers;
+        this.projects = projects;
+        this.tasks = tasks;
+        this.seed = seed;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.emailDomain = emailDomain;
+        this.password = password;
+        this.referenceDate = referenceDate;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (managers < 1 || managers > users || (tasks > 0 && projects < 1)) {
+            throw new IllegalArgumentException("datagen needs 1 <= managers <= users, and projects when generating tasks");
+        }
+
+        boolean postgres = isPostgres();
+        TableWriter writer = postgres ? new CopyTableWriter() : new BatchInsertTableWriter(batchSize);
+        SyntheticRows.Plan plan = new SyntheticRows.Plan(
+                nextId("users"), users, managers,
+                nextId("projects"), projects,
+                Math.max(nextId("tasks"), nextId("tasks_archive")), tasks);
+        LocalDateTime now = referenceDate.isBlank() ? LocalDateTime.now().withNano(0) : LocalDate.parse(referenceDate).atStartOfDay();
+        SyntheticRows rows = new SyntheticRows(seed, emailDomain, passwordEncoder.encode(password), now, plan);
+
+        log.info("Generating {} users, {} projects and {} tasks with seed {} using {}",
+                users, projects, tasks, seed, writer.getClass().getSimpleName());
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            load(executor, writer, "users", SyntheticRows.USER_COLUMNS, users, rows::user);
+            load(executor, writer, "projects", SyntheticRows.PROJECT_COLUMNS, projects, rows::project);
+            load(executor, writer, "tasks", SyntheticRows.TASK_COLUMNS, tasks, rows::task);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (String table : List.of("users", "projects", "tasks")) {
+            restartIdentity(table, postgres);
+        }
+        if (postgres) {
+            jdbcTemplate.execute("ANALYZE users, projects, tasks");
+        }
+        log.info("Synthetic data generated in {} s", (System.nanoTime() - started) / 1_000_000_000);
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private void load(ExecutorService executor, TableWriter writer, String table, String[] columns,
+                      long count, TableWriter.RowSource source) throws Exception {
+        long started = System.nanoTime();
+        List<Future<?>> chunks = new ArrayList<>();
+        for (long from = 0; from < count; from += chunkSize) {
+            long to = Math.min(count, from + chunkSize);
+            long chunkFrom = from;
+            chunks.add(executor.submit(() -> {
+                writeChunk(writer, table, columns, chunkFrom, to, source);
+                return null;
+            }));
+        }
+        for (Future<?> chunk : chunks) {
+            chunk.get();
+        }
+        double seconds = Math.max(1, System.nanoTime() - started) / 1_000_000_000.0;
+        log.info("Loaded {} rows into {} in {} s ({} rows/s)", count, table,
+                String.format("%.1f", seconds), (long) (count / seconds));
+    }
+
+    private void writeChunk(TableWriter writer, String table, String[] columns, long from, long to,
+                            TableWriter.RowSource source) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                writer.write(connection, table, columns, from, to, source);
+                connection.commit();
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        }
+        log.debug("Loaded {} rows {}-{}", table, from, to);
+    }
+
+    private boolean isPostgres() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        }
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private void restartIdentity(String table, boolean postgres) {
+        long next = nextId(table);
+        if (postgres) {
+            jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence(?, 'id'), ?, false)", Long.class, table, next);
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+}
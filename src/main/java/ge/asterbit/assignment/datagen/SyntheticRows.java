@@ -0,0 +1,156 @@
+package ge.asterbit.assignment.datagen;
+
+import ge.asterbit.assignment.entity.Role;
+import ge.asterbit.assignment.entity.TaskPriority;
+import ge.asterbit.assignment.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Produces the column values of generated users, projects and tasks. Every row draws from
+ * its own random stream, seeded by the generator seed, the table and the row index, so
+ * the output does not depend on how rows are split across threads or batches.
+ * <p>
+ * Distributions: about 2% of users are managers and own all projects; tasks per project
+ * follow a power law (the busiest 1% of projects hold about a fifth of all tasks), 15% of
+ * tasks are unassigned and the rest lean towards low user ids; statuses are 35% TODO,
+ * 20% IN_PROGRESS and 45% DONE; tasks were created during the last two years and are due
+ * one day to two months later, with 10% having no due date.
+ */
+final class SyntheticRows {
+
+    static final String[] USER_COLUMNS = {
+            "id", "email", "password", "role", "security_epoch", "create_date", "update_date"};
+    static final String[] PROJECT_COLUMNS = {
+            "id", "name", "description", "owner_id", "create_date", "update_date"};
+    static final String[] TASK_COLUMNS = {
+            "id", "title", "description", "status", "due_date", "priority", "project_id", "assigned_user_id",
+            "create_date", "update_date"};
+
+    private static final long USER_SALT = 0x5DEECE66DL;
+    private static final long PROJECT_SALT = 0x2545F4914F6CDD1DL;
+    private static final long TASK_SALT = 0x9E3779B97F4A7C15L;
+    private static final int HISTORY_DAYS = 730;
+
+    private static final String[] WORDS = {
+            "api", "billing", "cache", "dashboard", "deploy", "docs", "export", "import", "index", "login",
+            "metrics", "migration", "mobile", "onboarding", "payment", "report", "search", "settings",
+            "signup", "sync"};
+    private static final String[] VERBS = {
+            "Fix", "Add", "Review", "Refactor", "Test", "Document", "Speed up", "Remove", "Design", "Update"};
+
+    private final long seed;
+    private final String emailDomain;
+    private final String passwordHash;
+    private final LocalDateTime now;
+    private final Plan plan;
+
+    SyntheticRows(long seed, String emailDomain, String passwordHash, LocalDateTime now, Plan plan) {
+        this.seed = seed;
+        this.emailDomain = emailDomain;
+        this.passwordHash = passwordHash;
+        this.now = now;
+        this.plan = plan;
+    }
+
+    /**
+     * Row counts and the id each table starts at; ids are assigned consecutively.
+     */
+    record Plan(long firstUserId, long users, long managers, long firstProjectId, long projects,
+                long firstTaskId, long tasks) {
+    }
+
+    void user(long index, Object[] row) {
+        SplittableRandom random = random(USER_SALT, index);
+        long id = plan.firstUserId() + index;
+        LocalDateTime created = pastTimestamp(random);
+
+        row[0] = id;
+        row[1] = "user" + id + "@" + emailDomain;
+        row[2] = passwordHash;
+        row[3] = (index < plan.managers() ? Role.MANAGER : Role.USER).name();
+        row[4] = 0;
+        row[5] = created;
+        row[6] = created;
+    }
+
+    void project(long index, Object[] row) {
+        SplittableRandom random = random(PROJECT_SALT, index);
+        long id = plan.firstProjectId() + index;
+        LocalDateTime created = pastTimestamp(random);
+
+        row[0] = id;
+        row[1] = capitalize(word(random)) + " " + word(random) + " " + id;
+        row[2] = "Generated project about " + word(random) + " and " + word(random);
+        row[3] = plan.firstUserId() + random.nextLong(plan.managers());
+        row[4] = created;
+        row[5] = created.plusDays(random.nextInt(30));
+    }
+
+    void task(long index, Object[] row) {
+        SplittableRandom random = random(TASK_SALT, index);
+        long id = plan.firstTaskId() + index;
+        LocalDateTime created = pastTimestamp(random);
+        TaskStatus status = status(random);
+        LocalDate dueDate = random.nextInt(10) == 0 ? null : created.toLocalDate().plusDays(1 + random.nextInt(60));
+        LocalDateTime updated = status == TaskStatus.TODO
+                ? created
+                : min(created.plusHours(1 + random.nextInt(24 * 45)), now);
+
+        row[0] = id;
+        row[1] = VERBS[random.nextInt(VERBS.length)] + " " + word(random) + " " + word(random) + " #" + id;
+        row[2] = "Generated task touching " + word(random) + ", " + word(random) + " and " + word(random);
+        row[3] = status.name();
+        row[4] = dueDate;
+        row[5] = priority(random).name();
+        row[6] = plan.firstProjectId() + skewed(random, plan.projects(), 3.0);
+        row[7] = random.nextInt(100) < 15 ? null : plan.firstUserId() + skewed(random, plan.users(), 2.0);
+        row[8] = created;
+        row[9] = updated;
+    }
+
+    private SplittableRandom random(long salt, long index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L ^ salt ^ index * 0xBF58476D1CE4E5B9L);
+    }
+
+    /**
+     * Picks an index below {@code bound}; higher exponents concentrate more picks on low indexes.
+     */
+    static long skewed(SplittableRandom random, long bound, double exponent) {
+        return Math.min(bound - 1, (long) (bound * Math.pow(random.nextDouble(), exponent)));
+    }
+
+    private LocalDateTime pastTimestamp(SplittableRandom random) {
+        return now.minusSeconds(random.nextLong(HISTORY_DAYS * 86_400L)).withNano(0);
+    }
+
+    private static TaskStatus status(SplittableRandom random) {
+        int value = random.nextInt(100);
+        if (value < 35) {
+            return TaskStatus.TODO;
+        }
+        return value < 55 ? TaskStatus.IN_PROGRESS : TaskStatus.DONE;
+    }
+
+    private static TaskPriority priority(SplittableRandom random) {
+        int value = random.nextInt(100);
+        if (value < 30) {
+            return TaskPriority.LOW;
+        }
+        return value < 80 ? TaskPriority.MEDIUM : TaskPriority.HIGH;
+    }
+
+    private static String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,367 @@
+package ge.asterbit.assignment.dependency;
+
+import ge.asterbit.assignment.entity.TaskStatus;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The "blocks" links between the tasks of one project, held in memory in topological order.
+ * The order is repaired incrementally when a link is added (Pearce-Kelly): only tasks ordered
+ * between the two ends are searched and renumbered, and the same bounded search finds a path
+ * that would close a cycle. Only tasks that take part in a link are held, each with whether
+ * it is done. All public methods are synchronized.
+ */
+public class DependencyGraph {
+
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private long version;
+    private int nextOrder;
+
+    private DependencyGraph(long version) {
+        this.version = version;
+    }
+
+    /**
+     * @param version {@code dependency_version} of the project the links were read at
+     * @throws IllegalStateException if the links contain a cycle
+     */
+    public static DependencyGraph of(long version, Collection<Link> links) {
+        DependencyGraph graph = new DependencyGraph(version);
+        for (Link link : links) {
+            graph.connect(graph.node(link.blockerId(), link.blockerStatus()),
+                    graph.node(link.blockedId(), link.blockedStatus()));
+        }
+        graph.sortTopologically();
+        return graph;
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Applies {@code change} if the graph is at the version before {@code newVersion}, and
+     * moves it to {@code newVersion}; {@code null} applies a change that does not touch links.
+     *
+     * @return {@code false} if the graph is at another version and was left alone
+     */
+    synchronized boolean update(Long newVersion, Consumer<DependencyGraph> change) {
+        if (newVersion != null) {
+            if (version != newVersion - 1) {
+                return false;
+            }
+            version = newVersion;
+        }
+        change.accept(this);
+        return true;
+    }
+
+    /**
+     * Adds a link, keeping the topological order. Adding an existing link only updates the
+     * statuses.
+     *
+     * @throws IllegalArgumentException if the link would close a cycle
+     */
+    public synchronized void addLink(Long blockerId, TaskStatus blockerStatus, Long blockedId, TaskStatus blockedStatus) {
+        if (!findPath(blockedId, blockerId).isEmpty()) {
+            throw new IllegalArgumentException("Task " + blockedId + " already blocks task " + blockerId);
+        }
+        Node blocker = node(blockerId, blockerStatus);
+        Node blocked = node(blockedId, blockedStatus);
+        if (blocker.blocks.contains(blocked)) {
+            return;
+        }
+        if (blocker.order > blocked.order) {
+            reorder(blocker, blocked);
+        }
+        connect(blocker, blocked);
+    }
+
+    public synchronized void removeLink(Long blockerId, Long blockedId) {
+        Node blocker = nodes.get(blockerId);
+        Node blocked = nodes.get(blockedId);
+        if (blocker == null || blocked == null) {
+            return;
+        }
+        blocker.blocks.remove(blocked);
+        blocked.blockedBy.remove(blocker);
+        dropIfUnlinked(blocker);
+        dropIfUnlinked(blocked);
+    }
+
+    public synchronized void removeTask(Long taskId) {
+        Node node = nodes.remove(taskId);
+        if (node == null) {
+            return;
+        }
+        for (Node blocked : node.blocks) {
+            blocked.blockedBy.remove(node);
+            dropIfUnlinked(blocked);
+        }
+        for (Node blocker : node.blockedBy) {
+            blocker.blocks.remove(node);
+            dropIfUnlinked(blocker);
+        }
+    }
+
+    public synchronized void setStatus(Long taskId, TaskStatus status) {
+        Node node = nodes.get(taskId);
+        if (node != null) {
+            node.done = status == TaskStatus.DONE;
+        }
+    }
+
+    /**
+     * Tasks linked from {@code fromId} to {@code toId} through "blocks" links, both ends
+     * included; empty when there is no such chain.
+     */
+    public synchronized List<Long> findPath(Long fromId, Long toId) {
+        if (fromId.equals(toId)) {
+            return List.of(fromId);
+        }
+        Node from = nodes.get(fromId);
+        Node to = nodes.get(toId);
+        if (from == null || to == null || from.order > to.order) {
+            return List.of();
+        }
+
+        // Every task on a chain from 'from' to 'to' is ordered between the two
+        Map<Node, Node> reachedFrom = new HashMap<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(from);
+        reachedFrom.put(from, null);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            for (Node next : node.blocks) {
+                if (next.order > to.order || reachedFrom.containsKey(next)) {
+                    continue;
+                }
+                reachedFrom.put(next, node);
+                if (next == to) {
+                    List<Long> path = new ArrayList<>();
+                    for (Node step = to; step != null; step = reachedFrom.get(step)) {
+                        path.add(step.id);
+                    }
+                    Collections.reverse(path);
+                    return path;
+                }
+                stack.push(next);
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * @return whether a task that is not done still blocks the task
+     */
+    public synchronized boolean isBlocked(Long taskId) {
+        Node node = nodes.get(taskId);
+        if (node == null) {
+            return false;
+        }
+        for (Node blocker : node.blockedBy) {
+            if (!blocker.done) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of tasks that are still blocked
+     */
+    public synchronized int countBlocked() {
+        int blocked = 0;
+        for (Node node : nodes.values()) {
+            if (isBlocked(node.id)) {
+                blocked++;
+            }
+        }
+        return blocked;
+    }
+
+    public synchronized List<Long> getBlockers(Long taskId) {
+        Node node = nodes.get(taskId);
+        return node != null ? sortedIds(node.blockedBy) : List.of();
+    }
+
+    public synchronized List<Long> getBlockedTasks(Long taskId) {
+        Node node = nodes.get(taskId);
+        return node != null ? sortedIds(node.blocks) : List.of();
+    }
+
+    /**
+     * The longest chain of tasks that are not done yet, each blocking the next, first task
+     * first. One pass over the tasks in topological order.
+     */
+    public synchronized List<Long> criticalPath() {
+        List<Node> open = new ArrayList<>();
+        for (Node node : nodes.values()) {
+            if (!node.done) {
+                open.add(node);
+            }
+        }
+        open.sort(Comparator.comparingInt(node -> node.order));
+
+        Map<Node, Integer> length = new HashMap<>();
+        Map<Node, Node> previous = new HashMap<>();
+        Node last = null;
+        for (Node node : open) {
+            int best = 1;
+            for (Node blocker : node.blockedBy) {
+                Integer blockerLength = length.get(blocker);
+                if (blockerLength != null && blockerLength + 1 > best) {
+                    best = blockerLength + 1;
+                    previous.put(node, blocker);
+                }
+            }
+            length.put(node, best);
+            if (last == null || best > length.get(last)) {
+                last = node;
+            }
+        }
+
+        List<Long> path = new ArrayList<>();
+        for (Node node = last; node != null; node = previous.get(node)) {
+            path.add(node.id);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Moves the tasks reachable from {@code blocked} that are ordered before {@code blocker}
+     * behind the tasks reaching {@code blocker} that are ordered after {@code blocked}, reusing
+     * their order numbers.
+     */
+    private void reorder(Node blocker, Node blocked) {
+        List<Node> forward = collect(blocked, blocker.order, true);
+        List<Node> backward = collect(blocker, blocked.order, false);
+
+        List<Integer> orders = new ArrayList<>(forward.size() + backward.size());
+        for (Node node : backward) {
+            orders.add(node.order);
+        }
+        for (Node node : forward) {
+            orders.add(node.order);
+        }
+        Collections.sort(orders);
+
+        int i = 0;
+        for (Node node : backward) {
+            node.order = orders.get(i++);
+        }
+        for (Node node : forward) {
+            node.order = orders.get(i++);
+        }
+    }
+
+    /**
+     * Tasks reachable from {@code start} following links forward (ordered below
+     * {@code bound}) or backward (ordered above it), sorted by their current order.
+     */
+    private List<Node> collect(Node start, int bound, boolean forward) {
+        Set<Node> seen = new LinkedHashSet<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        seen.add(start);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            for (Node next : forward ? node.blocks : node.blockedBy) {
+                boolean inRange = forward ? next.order < bound : next.order > bound;
+                if (inRange && seen.add(next)) {
+                    stack.push(next);
+                }
+            }
+        }
+        List<Node> sorted = new ArrayList<>(seen);
+        sorted.sort(Comparator.comparingInt(node -> node.order));
+        return sorted;
+    }
+
+    private void sortTopologically() {
+        Map<Node, Integer> remainingBlockers = new HashMap<>();
+        Deque<Node> ready = new ArrayDeque<>();
+        for (Node node : nodes.values()) {
+            remainingBlockers.put(node, node.blockedBy.size());
+            if (node.blockedBy.isEmpty()) {
+                ready.add(node);
+            }
+        }
+
+        nextOrder = 0;
+        while (!ready.isEmpty()) {
+            Node node = ready.poll();
+            node.order = nextOrder++;
+            for (Node blocked : node.blocks) {
+                if (remainingBlockers.merge(blocked, -1, Integer::sum) == 0) {
+                    ready.add(blocked);
+                }
+            }
+        }
+        if (nextOrder < nodes.size()) {
+            throw new IllegalStateException("Task links contain a cycle");
+        }
+    }
+
+    private Node node(Long id, TaskStatus status) {
+        Node node = nodes.computeIfAbsent(id, key -> new Node(key, nextOrder++));
+        node.done = status == TaskStatus.DONE;
+        return node;
+    }
+
+    private void connect(Node blocker, Node blocked) {
+        blocker.blocks.add(blocked);
+        blocked.blockedBy.add(blocker);
+    }
+
+    private void dropIfUnlinked(Node node) {
+        if (node.blocks.isEmpty() && node.blockedBy.isEmpty()) {
+            nodes.remove(node.id);
+        }
+    }
+
+    private static List<Long> sortedIds(Set<Node> linked) {
+        List<Long> ids = new ArrayList<>(linked.size());
+        for (Node node : linked) {
+            ids.add(node.id);
+        }
+        Collections.sort(ids);
+        return ids;
+    }
+
+    /**
+     * "{@code blockerId} blocks {@code blockedId}" with both tasks' current status.
+     */
+    public record Link(Long blockerId, TaskStatus blockerStatus, Long blockedId, TaskStatus blockedStatus) {
+    }
+
+    private static final class Node {
+        private final Long id;
+        private final Set<Node> blocks = new HashSet<>();
+        private final Set<Node> blockedBy = new HashSet<>();
+        private int order;
+        private boolean done;
+
+        private Node(Long id, int order) {
+            this.id = id;
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package ge.asterbit.assignment.dependency;
+
+import ge.asterbit.assignment.entity.TaskStatus;
+import ge.asterbit.assignment.repository.TaskDependencyRepository;
+import ge.asterbit.assignment.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Dependency graph per project. A graph is loaded with one query and kept for
+ * {@code tasks.dependencies.cache-ttl}; changes made on this instance are applied to it in
+ * place once their transaction commits. Link changes, and status changes that move a linked
+ * task into or out of {@code DONE}, carry the project's {@code dependency_version}. Every
+ * read compares the cached graph with that version, so a graph that missed a change made
+ * elsewhere is read again instead of being served, and link changes always check cycles
+ * against a current graph.
+ */
+@Component
+public class DependencyGraphCache {
+
+    private final TaskDependencyRepository dependencyRepository;
+    private final long ttlMillis;
+    private final Map<Long, Entry> graphs = new ConcurrentHashMap<>();
+
+    public DependencyGraphCache(TaskDependencyRepository dependencyRepository,
+                                @Value("${tasks.dependencies.cache-ttl}") long ttlMillis) {
+        this.dependencyRepository = dependencyRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * The current graph. Costs one primary key lookup of the project's version when the
+     * cached graph is still current.
+     */
+    public DependencyGraph get(Long projectId) {
+        long now = System.currentTimeMillis();
+        long version = dependencyRepository.findVersion(projectId);
+        Entry entry = graphs.get(projectId);
+        if (entry == null || entry.graph().getVersion() != version || entry.loadedAt() + ttlMillis < now) {
+            entry = new Entry(load(projectId), now);
+            graphs.put(projectId, entry);
+        }
+        return entry.graph();
+    }
+
+    /**
+     * The graph at {@code version}, for a caller holding the project's link lock. A cached
+     * graph at another version is dropped and the graph is read again, without caching it.
+     */
+    public DependencyGraph getAtVersion(Long projectId, long version) {
+        Entry entry = graphs.get(projectId);
+        if (entry != null && entry.graph().getVersion() == version) {
+            return entry.graph();
+        }
+        if (entry != null) {
+            graphs.remove(projectId, entry);
+        }
+        return load(projectId);
+    }
+
+    /**
+     * Applies a change of links to the cached graph after commit.
+     *
+     * @param version the project's {@code dependency_version} after the change
+     */
+    public void linksChanged(Long projectId, long version, Consumer<DependencyGraph> change) {
+        TransactionHooks.afterCommit(() -> apply(projectId, version, change));
+    }
+
+    /**
+     * Applies a status change that does not change what is blocked, so other instances may
+     * keep their copy.
+     */
+    public void statusChanged(Long projectId, Long taskId, TaskStatus status) {
+        TransactionHooks.afterCommit(() -> apply(projectId, null, graph -> graph.setStatus(taskId, status)));
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.dependencies.cache-ttl}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMillis;
+        graphs.values().removeIf(entry -> entry.loadedAt() < cutoff);
+    }
+
+    private DependencyGraph load(Long projectId) {
+        long version = dependencyRepository.findVersion(projectId);
+        List<DependencyGraph.Link> links = dependencyRepository.findLinks(projectId).stream()
+                .map(row -> new DependencyGraph.Link(row.getBlockerId(), row.getBlockerStatus(),
+                        row.getBlockedId(), row.getBlockedStatus()))
+                .toList();
+        return DependencyGraph.of(version, links);
+    }
+
+    private void apply(Long projectId, Long version, Consumer<DependencyGraph> change) {
+        Entry entry = graphs.get(projectId);
+        if (entry == null) {
+            return;
+        }
+        boolean applied;
+        try {
+            applied = entry.graph().update(version, change);
+        } catch (IllegalArgumentException ex) {
+            // The cached copy disagrees with the committed links
+            applied = false;
+        }
+        if (!applied) {
+            graphs.remove(projectId, entry);
+        }
+    }
+
+    private record Entry(DependencyGraph graph, long loadedAt) {
+    }
+}
@@ -0,0 +1,23 @@
+package ge.asterbit.assignment.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AssigneeWorkloadDTO {
+    private Long assigneeId;
+    private String assigneeEmail;
+    private long openTasks;
+    private long highPriority;
+    private long mediumPriority;
+    private long lowPriority;
+    private long overdue;
+    private long noDueDate;
+}
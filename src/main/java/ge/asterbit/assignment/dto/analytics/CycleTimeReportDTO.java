@@ -0,0 +1,19 @@
+package ge.asterbit.assignment.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CycleTimeReportDTO {
+    private Long projectId;
+    private Long assigneeId;
+    private DurationStatsDTO leadTime;
+    private DurationStatsDTO cycleTime;
+}
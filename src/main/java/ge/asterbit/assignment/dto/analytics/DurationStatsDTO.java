@@ -0,0 +1,23 @@
+package ge.asterbit.assignment.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Percentiles in seconds, each the upper bound of its histogram bucket. They are
+ * {@code null} when no task has been completed yet.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DurationStatsDTO {
+    private long sampleSize;
+    private Long p50Seconds;
+    private Long p75Seconds;
+    private Long p90Seconds;
+    private Long p95Seconds;
+    private Long p99Seconds;
+}
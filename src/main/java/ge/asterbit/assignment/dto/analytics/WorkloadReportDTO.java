@@ -0,0 +1,21 @@
+package ge.asterbit.assignment.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkloadReportDTO {
+    private LocalDateTime generatedAt;
+    private List<AssigneeWorkloadDTO> assignees;
+    private AssigneeWorkloadDTO unassigned;
+}
@@ -0,0 +1,26 @@
+package ge.asterbit.assignment.dto.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import ge.asterbit.assignment.entity.AuditAction;
+import ge.asterbit.assignment.entity.AuditEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogDTO {
+    private Long id;
+    private LocalDateTime occurredAt;
+    private Long actorId;
+    private String actorEmail;
+    private AuditEntityType entityType;
+    private Long entityId;
+    private AuditAction action;
+    private JsonNode changes;
+}
@@ -0,0 +1,23 @@
+package ge.asterbit.assignment.dto.audit;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Keyset page of audit entries, newest first. Pass {@code nextCursor} as
+ * {@code before} to fetch the next page; it is absent on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuditLogPage {
+    private List<AuditLogDTO> content;
+    private Long nextCursor;
+}
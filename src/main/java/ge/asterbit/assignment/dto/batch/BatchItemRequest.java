@@ -0,0 +1,28 @@
+package ge.asterbit.assignment.dto.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemRequest {
+
+    /**
+     * Optional client-chosen id echoed back on the matching response.
+     */
+    private String id;
+
+    @NotBlank(message = "Method is required")
+    private String method;
+
+    @NotBlank(message = "Path is required")
+    private String path;
+
+    private JsonNode body;
+}
@@ -0,0 +1,24 @@
+package ge.asterbit.assignment.dto.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one sub-request. {@code truncated} is set when the body was dropped
+ * because the batch exceeded its response size limit; the status is still accurate.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResponse {
+    private String id;
+    private int status;
+    private JsonNode body;
+    private Boolean truncated;
+}
@@ -0,0 +1,52 @@
+package ge.asterbit.assignment.dto.common;
+
+import ge.asterbit.assignment.exception.BadRequestException;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Fields requested through {@code ?fields=}. An empty selection means "all fields".
+ */
+public final class FieldSelection {
+
+    private static final FieldSelection ALL = new FieldSelection(Collections.emptySet());
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    public static FieldSelection parse(String raw, Set<String> allowedFields) {
+        if (raw == null || raw.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> fields = new LinkedHashSet<>();
+        for (String field : raw.split(",")) {
+            String trimmed = field.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!allowedFields.contains(trimmed)) {
+                throw new BadRequestException("Unknown field '" + trimmed + "'. Allowed fields: " + allowedFields);
+            }
+            fields.add(trimmed);
+        }
+        return fields.isEmpty() || fields.containsAll(allowedFields) ? ALL : new FieldSelection(Collections.unmodifiableSet(fields));
+    }
+
+    public boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+}
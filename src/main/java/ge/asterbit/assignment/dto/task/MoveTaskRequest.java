@@ -0,0 +1,25 @@
+package ge.asterbit.assignment.dto.task;
+
+import ge.asterbit.assignment.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Drop position on the board. {@code afterTaskId} is the task that ends up directly above,
+ * omitted at the top of the column; {@code beforeTaskId} is the one directly below, omitted
+ * at the bottom. With neither the task goes to the end of the column.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveTaskRequest {
+
+    private TaskStatus status;
+
+    private Long afterTaskId;
+
+    private Long beforeTaskId;
+}
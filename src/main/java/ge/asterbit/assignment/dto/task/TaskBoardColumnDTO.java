@@ -0,0 +1,19 @@
+package ge.asterbit.assignment.dto.task;
+
+import ge.asterbit.assignment.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardColumnDTO {
+    private TaskStatus status;
+    private long total;
+    private List<TaskDTO> tasks;
+}
@@ -0,0 +1,23 @@
+package ge.asterbit.assignment.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Kanban view of a project: one column per status, in workflow order, each with the
+ * first {@code limit} tasks and the column's total.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardDTO {
+    private Long projectId;
+    private String projectName;
+    private int limit;
+    private List<TaskBoardColumnDTO> columns;
+}
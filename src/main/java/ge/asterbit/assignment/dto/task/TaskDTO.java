@@ -1,5 +1,6 @@
 package ge.asterbit.assignment.dto.task;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import ge.asterbit.assignment.entity.TaskPriority;
 import ge.asterbit.assignment.entity.TaskStatus;
 import lombok.AllArgsConstructor;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class TaskDTO {
     private Long id;
     private String title;
@@ -27,4 +29,5 @@ public class TaskDTO {
     private String assignedUserEmail;
     private LocalDateTime createDate;
     private LocalDateTime updateDate;
+    private Boolean archived;
 } 
\ No newline at end of file
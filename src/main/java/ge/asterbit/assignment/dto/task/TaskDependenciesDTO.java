@@ -0,0 +1,23 @@
+package ge.asterbit.assignment.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The direct links of a task: the tasks it waits for and the tasks waiting for it.
+ * {@code blocked} is set while one of {@code blockedBy} is not done.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDependenciesDTO {
+    private Long taskId;
+    private List<Long> blockedBy;
+    private List<Long> blocks;
+    private boolean blocked;
+}
@@ -0,0 +1,31 @@
+package ge.asterbit.assignment.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import ge.asterbit.assignment.entity.TaskImportFormat;
+import ge.asterbit.assignment.entity.TaskImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskImportDTO {
+    private Long id;
+    private Long projectId;
+    private TaskImportFormat format;
+    private TaskImportStatus status;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<TaskImportErrorDTO> errors;
+}
@@ -0,0 +1,15 @@
+package ge.asterbit.assignment.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportErrorDTO {
+    private Long lineNumber;
+    private String message;
+}
@@ -0,0 +1,22 @@
+package ge.asterbit.assignment.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a multi-get by id. Every requested id appears in exactly one of the
+ * three lists, in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskLookupResponse {
+    private List<TaskDTO> found;
+    private List<Long> forbidden;
+    private List<Long> missing;
+}
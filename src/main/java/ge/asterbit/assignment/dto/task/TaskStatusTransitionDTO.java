@@ -0,0 +1,21 @@
+package ge.asterbit.assignment.dto.task;
+
+import ge.asterbit.assignment.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusTransitionDTO {
+    private TaskStatus fromStatus;
+    private TaskStatus toStatus;
+    private Long assigneeId;
+    private LocalDateTime transitionedAt;
+    private boolean backfilled;
+}
@@ -0,0 +1,31 @@
+package ge.asterbit.assignment.dto.webhook;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateWebhookRequest {
+
+    @NotBlank(message = "Webhook URL is required")
+    @Size(max = 2048, message = "URL cannot exceed 2048 characters")
+    @Pattern(regexp = "(?i)https?://\\S+", message = "URL must be an http or https URL")
+    private String url;
+
+    @Size(min = 16, max = 255, message = "Secret must be between 16 and 255 characters")
+    private String secret;
+
+    @Min(value = 1, message = "Batch size must be at least 1")
+    @Max(value = 100, message = "Batch size cannot exceed 100")
+    @Builder.Default
+    private int maxBatchSize = 1;
+}
@@ -0,0 +1,24 @@
+package ge.asterbit.assignment.dto.webhook;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookDeadLetterDTO {
+    private Long id;
+    private String deliveryId;
+    private String url;
+    private int eventCount;
+    private int attempts;
+    private Integer lastStatus;
+    private String lastError;
+    private String payload;
+    private LocalDateTime createDate;
+}
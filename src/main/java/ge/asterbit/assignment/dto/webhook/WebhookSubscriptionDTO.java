@@ -0,0 +1,21 @@
+package ge.asterbit.assignment.dto.webhook;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookSubscriptionDTO {
+    private Long id;
+    private Long projectId;
+    private String url;
+    private boolean signed;
+    private int maxBatchSize;
+    private LocalDateTime createDate;
+}
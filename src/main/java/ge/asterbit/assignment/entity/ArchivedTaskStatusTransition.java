@@ -0,0 +1,49 @@
+package ge.asterbit.assignment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of the {@code task_status_transitions_archive} table. Rows are copied there
+ * from {@code task_status_transitions} by {@link ge.asterbit.assignment.maintenance.TaskArchiver}
+ * together with their task and keep their original ids.
+ */
+@Entity
+@Immutable
+@Table(name = "task_status_transitions_archive")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTaskStatusTransition {
+
+    @Id
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private TaskStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private TaskStatus toStatus;
+
+    @Column(name = "transitioned_at", nullable = false)
+    private LocalDateTime transitionedAt;
+
+    @Column(nullable = false)
+    private boolean backfilled;
+}
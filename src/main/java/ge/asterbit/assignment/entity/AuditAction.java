@@ -0,0 +1,8 @@
+package ge.asterbit.assignment.entity;
+
+public enum AuditAction {
+    CREATE,
+    UPDATE,
+    DELETE,
+    ARCHIVE
+}
@@ -0,0 +1,7 @@
+package ge.asterbit.assignment.entity;
+
+public enum AuditEntityType {
+    TASK,
+    PROJECT,
+    USER
+}
@@ -0,0 +1,48 @@
+package ge.asterbit.assignment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of the {@code audit_log} table. Rows are inserted in JDBC batches by
+ * {@link ge.asterbit.assignment.audit.AuditWriter}, never through JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "audit_log")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLog {
+
+    @Id
+    private Long id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "actor_email")
+    private String actorEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private AuditEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AuditAction action;
+
+    @Column(nullable = false)
+    private String changes;
+}
@@ -0,0 +1,9 @@
+package ge.asterbit.assignment.entity;
+
+/**
+ * {@code LEAD}: creation to done. {@code CYCLE}: first start of work to done.
+ */
+public enum DurationMetric {
+    LEAD,
+    CYCLE
+}
@@ -3,6 +3,7 @@ package ge.asterbit.assignment.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.PartitionKey;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -42,6 +43,23 @@ public class Task {
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
+    /**
+     * Read-only copy of the project foreign key. As the partition key it is added to the
+     * {@code WHERE} clause of every update and delete, so PostgreSQL only touches one
+     * partition of the hash-partitioned {@code tasks} table.
+     */
+    @PartitionKey
+    @Setter(AccessLevel.NONE)
+    @Column(name = "project_id", insertable = false, updatable = false)
+    private Long projectId;
+
+    /**
+     * Position within the project's column for {@link #status}, as a
+     * {@link ge.asterbit.assignment.ranking.FractionalIndex} key. {@code null} until assigned.
+     */
+    @Column(name = "rank_key", length = 64)
+    private String rank;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_user_id")
     private User assignedUser;
@@ -53,4 +71,9 @@ public class Task {
     @UpdateTimestamp
     @Column(name = "update_date", nullable = false)
     private LocalDateTime updateDate;
+
+    @PrePersist
+    void copyProjectId() {
+        projectId = project != null ? project.getId() : null;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,35 @@
+package ge.asterbit.assignment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * "{@code blockingTaskId} blocks {@code blockedTaskId}"; both tasks belong to {@code projectId}.
+ */
+@Entity
+@Table(name = "task_dependencies")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "blocking_task_id", nullable = false)
+    private Long blockingTaskId;
+
+    @Column(name = "blocked_task_id", nullable = false)
+    private Long blockedTaskId;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+}
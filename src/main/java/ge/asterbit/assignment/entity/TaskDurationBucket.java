@@ -0,0 +1,53 @@
+package ge.asterbit.assignment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * One bucket of a lead or cycle time histogram, see
+ * {@link ge.asterbit.assignment.analytics.DurationHistogram} for the bucket layout.
+ */
+@Entity
+@IdClass(TaskDurationBucket.Key.class)
+@Table(name = "task_duration_histograms")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDurationBucket {
+
+    public static final long UNASSIGNED = 0L;
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric")
+    private DurationMetric metric;
+
+    @Id
+    @Column(name = "bucket")
+    private Integer bucket;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private Long assigneeId;
+        private DurationMetric metric;
+        private Integer bucket;
+    }
+}
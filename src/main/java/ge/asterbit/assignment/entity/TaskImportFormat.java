@@ -0,0 +1,6 @@
+package ge.asterbit.assignment.entity;
+
+public enum TaskImportFormat {
+    CSV,
+    NDJSON
+}
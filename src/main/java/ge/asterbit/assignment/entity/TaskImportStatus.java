@@ -0,0 +1,7 @@
+package ge.asterbit.assignment.entity;
+
+public enum TaskImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -33,6 +33,12 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Role role;
 
+    @Column(name = "security_epoch", nullable = false)
+    private int securityEpoch;
+
+    @Column(name = "security_epoch_changed_at")
+    private LocalDateTime securityEpochChangedAt;
+
     @CreationTimestamp
     @Column(name = "create_date", nullable = false, updatable = false)
     private LocalDateTime createDate;
@@ -0,0 +1,54 @@
+package ge.asterbit.assignment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A batch of webhook events that was given up on. Written with JDBC by
+ * {@code WebhookDispatcher}; mapped here for reading.
+ */
+@Entity
+@Table(name = "webhook_dead_letters")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "subscription_id", nullable = false)
+    private Long subscriptionId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false, length = 2048)
+    private String url;
+
+    @Column(name = "delivery_id", nullable = false, length = 36)
+    private String deliveryId;
+
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "event_count", nullable = false)
+    private int eventCount;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_status")
+    private Integer lastStatus;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+}
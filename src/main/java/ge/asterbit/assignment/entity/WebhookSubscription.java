@@ -0,0 +1,40 @@
+package ge.asterbit.assignment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "webhook_subscriptions")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookSubscription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false, length = 2048)
+    private String url;
+
+    /**
+     * Key for the {@code X-Webhook-Signature} header, {@code null} for unsigned requests.
+     */
+    private String secret;
+
+    @Column(name = "max_batch_size", nullable = false)
+    private int maxBatchSize;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+}
@@ -0,0 +1,155 @@
+package ge.asterbit.assignment.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 reader: the first row names the columns, fields may be quoted with {@code "},
+ * quotes inside quoted fields are doubled and quoted fields may span lines. Blank lines
+ * are skipped.
+ */
+class CsvImportRecordReader implements ImportRecordReader {
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private List<String> header;
+    private long line = 1;
+    private int pushedBack = -2;
+    private boolean endOfInput;
+
+    CsvImportRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        while (true) {
+            long startLine = line;
+            List<String> values = new ArrayList<>();
+            String error = readRecord(values);
+            if (endOfInput && values.isEmpty() && error == null) {
+                return null;
+            }
+            if (error == null && values.size() == 1 && values.get(0).isEmpty()) {
+                continue;
+            }
+            if (header == null) {
+                if (error != null) {
+                    throw new IOException("Could not read the CSV header: " + error);
+                }
+                header = values.stream().map(ImportRecord::normalize).toList();
+                continue;
+            }
+            if (error != null) {
+                return ImportRecord.failed(startLine, error);
+            }
+            if (values.size() != header.size()) {
+                return ImportRecord.failed(startLine,
+                        "Expected " + header.size() + " columns but found " + values.size());
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                fields.put(header.get(i), values.get(i));
+            }
+            return ImportRecord.of(startLine, fields);
+        }
+    }
+
+    /**
+     * Reads fields up to the end of the record into {@code values}.
+     *
+     * @return why the record is invalid, or {@code null}
+     */
+    private String readRecord(List<String> values) throws IOException {
+        field.setLength(0);
+        int length = 0;
+        boolean quoted = false;
+        boolean afterQuote = false;
+        String error = null;
+
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                endOfInput = true;
+                if (quoted) {
+                    return "Quoted field is not closed";
+                }
+                if (length > 0 || !values.isEmpty()) {
+                    values.add(field.toString());
+                }
+                return error;
+            }
+            if (++length > MAX_RECORD_CHARS && error == null) {
+                error = "Row is longer than " + MAX_RECORD_CHARS + " characters";
+            }
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        append(ch, error);
+                    } else {
+                        quoted = false;
+                        afterQuote = true;
+                        unread(following);
+                    }
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    append(ch, error);
+                }
+            } else if (ch == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (ch == '\r' || ch == '\n') {
+                if (ch == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                line++;
+                values.add(field.toString());
+                return error;
+            } else if (ch == '"' && field.isEmpty() && !afterQuote) {
+                quoted = true;
+            } else if (afterQuote) {
+                if (error == null) {
+                    error = "Unexpected character after a quoted field";
+                }
+            } else {
+                append(ch, error);
+            }
+        }
+    }
+
+    private void append(char ch, String error) {
+        if (error == null) {
+            field.append(ch);
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,28 @@
+package ge.asterbit.assignment.imports;
+
+import java.util.Map;
+
+/**
+ * One row of an upload: its fields keyed by normalized column name, or the reason it
+ * could not be read.
+ *
+ * @param lineNumber line of the file the row starts on, counting from 1
+ */
+public record ImportRecord(long lineNumber, Map<String, String> fields, String error) {
+
+    static ImportRecord of(long lineNumber, Map<String, String> fields) {
+        return new ImportRecord(lineNumber, fields, null);
+    }
+
+    static ImportRecord failed(long lineNumber, String error) {
+        return new ImportRecord(lineNumber, Map.of(), error);
+    }
+
+    /**
+     * Column names are matched ignoring case and underscores, so {@code due_date},
+     * {@code DueDate} and {@code dueDate} are the same column.
+     */
+    static String normalize(String name) {
+        return name.trim().replace("_", "").toLowerCase();
+    }
+}
@@ -0,0 +1,32 @@
+package ge.asterbit.assignment.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ge.asterbit.assignment.entity.TaskImportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads an upload one row at a time, so only the current row is held in memory. Rows that
+ * cannot be parsed are returned with an error instead of ending the import.
+ */
+public interface ImportRecordReader extends Closeable {
+
+    /**
+     * Rows longer than this are rejected without being buffered.
+     */
+    int MAX_RECORD_CHARS = 64 * 1024;
+
+    /**
+     * @return the next row, or {@code null} at the end of the input
+     */
+    ImportRecord next() throws IOException;
+
+    static ImportRecordReader open(TaskImportFormat format, Reader reader, ObjectMapper objectMapper) {
+        return switch (format) {
+            case CSV -> new CsvImportRecordReader(reader);
+            case NDJSON -> new NdjsonImportRecordReader(reader, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package ge.asterbit.assignment.imports;
+
+import ge.asterbit.assignment.dto.task.CreateTaskRequest;
+import ge.asterbit.assignment.entity.TaskPriority;
+import ge.asterbit.assignment.entity.TaskStatus;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Turns import rows into tasks, applying the {@link CreateTaskRequest} constraints.
+ * Recognized columns are {@code title}, {@code description}, {@code status} (defaults to
+ * {@code TODO}), {@code priority}, {@code dueDate} ({@code yyyy-MM-dd}) and
+ * {@code assigneeEmail}; other columns are ignored. Empty values count as missing.
+ */
+public class ImportRowConverter {
+
+    private final Validator validator;
+
+    public ImportRowConverter(Validator validator) {
+        this.validator = validator;
+    }
+
+    public record Result(ImportedTask task, String error) {
+    }
+
+    public Result convert(ImportRecord record, Long projectId) {
+        if (record.error() != null) {
+            return new Result(null, record.error());
+        }
+        Map<String, String> fields = record.fields();
+        TaskStatus status;
+        TaskPriority priority;
+        LocalDate dueDate;
+        try {
+            String statusValue = value(fields, "status");
+            status = statusValue == null ? TaskStatus.TODO : TaskStatus.valueOf(enumName(statusValue));
+        } catch (IllegalArgumentException ex) {
+            return new Result(null, "Unknown status '" + fields.get("status") + "'");
+        }
+        try {
+            String priorityValue = value(fields, "priority");
+            priority = priorityValue == null ? null : TaskPriority.valueOf(enumName(priorityValue));
+        } catch (IllegalArgumentException ex) {
+            return new Result(null, "Unknown priority '" + fields.get("priority") + "'");
+        }
+        try {
+            String dueDateValue = value(fields, "duedate");
+            dueDate = dueDateValue == null ? null : LocalDate.parse(dueDateValue);
+        } catch (DateTimeParseException ex) {
+            return new Result(null, "Due date must look like 2024-12-31");
+        }
+
+        CreateTaskRequest request = CreateTaskRequest.builder()
+                .title(value(fields, "title"))
+                .description(value(fields, "description"))
+                .dueDate(dueDate)
+                .priority(priority)
+                .projectId(projectId)
+                .build();
+        Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return new Result(null, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        return new Result(new ImportedTask(record.lineNumber(), request.getTitle(), request.getDescription(), status,
+                dueDate, priority, value(fields, "assigneeemail")), null);
+    }
+
+    private static String value(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String enumName(String value) {
+        return value.trim().replace(' ', '_').replace('-', '_').toUpperCase(Locale.ROOT);
+    }
+}
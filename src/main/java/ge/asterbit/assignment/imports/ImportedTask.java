@@ -0,0 +1,19 @@
+package ge.asterbit.assignment.imports;
+
+import ge.asterbit.assignment.entity.TaskPriority;
+import ge.asterbit.assignment.entity.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * A validated import row, ready for the staging table.
+ */
+public record ImportedTask(
+        long lineNumber,
+        String title,
+        String description,
+        TaskStatus status,
+        LocalDate dueDate,
+        TaskPriority priority,
+        String assigneeEmail) {
+}
@@ -0,0 +1,96 @@
+package ge.asterbit.assignment.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Newline-delimited JSON: one object per line, blank lines skipped. Values are read as
+ * text so both readers feed the same conversion.
+ */
+class NdjsonImportRecordReader implements ImportRecordReader {
+
+    private final Reader reader;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder buffer = new StringBuilder();
+    private long line;
+    private boolean endOfInput;
+
+    NdjsonImportRecordReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        while (!endOfInput) {
+            line++;
+            boolean tooLong = readLine();
+            if (tooLong) {
+                return ImportRecord.failed(line, "Row is longer than " + MAX_RECORD_CHARS + " characters");
+            }
+            if (buffer.toString().isBlank()) {
+                continue;
+            }
+            return parse(line, buffer.toString());
+        }
+        return null;
+    }
+
+    private ImportRecord parse(long lineNumber, String json) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(json);
+        } catch (JsonProcessingException ex) {
+            return ImportRecord.failed(lineNumber, "Invalid JSON: " + ex.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ImportRecord.failed(lineNumber, "Expected a JSON object");
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            JsonNode value = entry.getValue();
+            if (value.isContainerNode()) {
+                return ImportRecord.failed(lineNumber, "Field '" + entry.getKey() + "' must be a plain value");
+            }
+            fields.put(ImportRecord.normalize(entry.getKey()), value.isNull() ? null : value.asText());
+        }
+        return ImportRecord.of(lineNumber, fields);
+    }
+
+    /**
+     * Reads up to the next line break into {@code buffer}.
+     *
+     * @return whether the line exceeded {@link #MAX_RECORD_CHARS}; its content is dropped then
+     */
+    private boolean readLine() throws IOException {
+        buffer.setLength(0);
+        boolean tooLong = false;
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (buffer.length() >= MAX_RECORD_CHARS) {
+                tooLong = true;
+                buffer.setLength(0);
+            }
+            if (!tooLong && c != '\r') {
+                buffer.append((char) c);
+            }
+        }
+        if (c == -1) {
+            endOfInput = true;
+        }
+        return tooLong;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
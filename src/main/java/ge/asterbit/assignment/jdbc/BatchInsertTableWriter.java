@@ -0,0 +1,44 @@
+package ge.asterbit.assignment.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * Portable fallback for databases without {@code COPY}: JDBC batches of a single-row
+ * {@code INSERT}, which drivers such as pgjdbc can rewrite into multi-row statements.
+ */
+public class BatchInsertTableWriter implements TableWriter {
+
+    private final int batchSize;
+
+    public BatchInsertTableWriter(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void write(Connection connection, String table, String[] columns, long from, long to, RowSource rows)
+            throws SQLException {
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            Object[] row = new Object[columns.length];
+            int pending = 0;
+            for (long index = from; index < to; index++) {
+                rows.fill(index, row);
+                for (int i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i]);
+                }
+                statement.addBatch();
+                if (++pending == batchSize) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+}
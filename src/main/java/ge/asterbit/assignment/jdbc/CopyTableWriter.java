@@ -0,0 +1,73 @@
+package ge.asterbit.assignment.jdbc;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Streams rows to PostgreSQL with {@code COPY ... FROM STDIN} in CSV format, flushing the
+ * encoded rows to the server in chunks of about 1 MB.
+ */
+public class CopyTableWriter implements TableWriter {
+
+    private static final int FLUSH_BYTES = 1 << 20;
+
+    @Override
+    public void write(Connection connection, String table, String[] columns, long from, long to, RowSource rows)
+            throws SQLException {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        try {
+            Object[] row = new Object[columns.length];
+            StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 4096);
+            for (long index = from; index < to; index++) {
+                rows.fill(index, row);
+                appendCsv(buffer, row);
+                if (buffer.length() >= FLUSH_BYTES) {
+                    flush(copyIn, buffer);
+                }
+            }
+            flush(copyIn, buffer);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    public static void appendCsv(StringBuilder buffer, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            Object value = row[i];
+            if (value instanceof String text) {
+                buffer.append('"');
+                for (int c = 0; c < text.length(); c++) {
+                    char ch = text.charAt(c);
+                    if (ch == '"') {
+                        buffer.append('"');
+                    }
+                    buffer.append(ch);
+                }
+                buffer.append('"');
+            } else if (value != null) {
+                buffer.append(value);
+            }
+        }
+        buffer.append('\n');
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
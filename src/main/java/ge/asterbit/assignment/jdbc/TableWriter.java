@@ -0,0 +1,31 @@
+package ge.asterbit.assignment.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Bulk-loads rows into one table. Writers run on the caller's connection and leave
+ * committing to the caller.
+ */
+public interface TableWriter {
+
+    /**
+     * Writes rows {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    void write(Connection connection, String table, String[] columns, long from, long to, RowSource rows)
+            throws SQLException;
+
+    @FunctionalInterface
+    interface RowSource {
+        void fill(long index, Object[] row);
+    }
+
+    /**
+     * {@code COPY} on PostgreSQL, JDBC batches of {@code batchSize} rows elsewhere.
+     */
+    static TableWriter forConnection(Connection connection, int batchSize) throws SQLException {
+        return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())
+                ? new CopyTableWriter()
+                : new BatchInsertTableWriter(batchSize);
+    }
+}
@@ -0,0 +1,144 @@
+package ge.asterbit.assignment.maintenance;
+
+import ge.asterbit.assignment.audit.AuditEvent;
+import ge.asterbit.assignment.audit.AuditWriter;
+import ge.asterbit.assignment.entity.AuditAction;
+import ge.asterbit.assignment.entity.AuditEntityType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves {@code DONE} tasks that have not changed for {@code tasks.archive.min-age} from
+ * {@code tasks} to {@code tasks_archive}. Each batch is copied and deleted in its own short
+ * transaction with the rows locked, so a run can stop at any point and the next one simply
+ * picks up the tasks that are still eligible. Status history of archived tasks is copied to
+ * {@code task_status_transitions_archive} before the delete cascades to it. Their dependency
+ * links are removed, bumping the link version of the projects concerned.
+ *
+ * <p>Off by default ({@code tasks.archive.enabled}). Rows are moved with plain JDBC, so the
+ * Hibernate audit listener does not see them; each archived task is written to the audit log
+ * as {@code ARCHIVE}, without an actor, once its batch commits. Webhooks and notifications are
+ * not sent: the task is not deleted, it stays readable through the API, and it was already
+ * {@code DONE}, which was announced when it happened. {@link TaskRankRebalancer} holds no state
+ * per task, so a queued column simply has fewer rows to re-spread.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.archive.enabled", havingValue = "true")
+public class TaskArchiver {
+
+    private static final String COLUMNS = "id, title, description, status, due_date, priority, project_id, "
+            + "assigned_user_id, create_date, update_date";
+
+    private static final String SELECT_BATCH_SQL = "SELECT id FROM tasks "
+            + "WHERE status = 'DONE' AND update_date < :cutoff ORDER BY id LIMIT :limit FOR UPDATE";
+
+    private static final String COPY_SQL = "INSERT INTO tasks_archive (" + COLUMNS + ", archived_at) "
+            + "SELECT " + COLUMNS + ", :archivedAt FROM tasks WHERE id IN (:ids)";
+
+    private static final String TRANSITION_COLUMNS = "id, task_id, project_id, assignee_id, from_status, "
+            + "to_status, transitioned_at, backfilled";
+
+    private static final String COPY_TRANSITIONS_SQL = "INSERT INTO task_status_transitions_archive ("
+            + TRANSITION_COLUMNS + ") SELECT " + TRANSITION_COLUMNS
+            + " FROM task_status_transitions WHERE task_id IN (:ids)";
+
+    private static final String BUMP_DEPENDENCY_VERSION_SQL = "UPDATE projects "
+            + "SET dependency_version = dependency_version + 1 WHERE id IN (SELECT project_id FROM task_dependencies "
+            + "WHERE blocking_task_id IN (:ids) OR blocked_task_id IN (:ids))";
+
+    private static final String DELETE_DEPENDENCIES_SQL = "DELETE FROM task_dependencies "
+            + "WHERE blocking_task_id IN (:ids) OR blocked_task_id IN (:ids)";
+
+    private static final String DELETE_SQL = "DELETE FROM tasks WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minAge;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter archivedCounter;
+    private final AuditWriter auditWriter;
+
+    public TaskArchiver(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            AuditWriter auditWriter,
+            @Value("${tasks.archive.min-age}") Duration minAge,
+            @Value("${tasks.archive.batch-size}") int batchSize,
+            @Value("${tasks.archive.max-batches-per-run}") int maxBatchesPerRun,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.auditWriter = auditWriter;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.archivedCounter = Counter.builder("tasks.archived")
+                .description("Tasks moved to tasks_archive")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${tasks.archive.cron}")
+    public void archiveCompletedTasks() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<Long> archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+                if (archived == null || archived.isEmpty()) {
+                    break;
+                }
+                archived.forEach(this::audit);
+                total += archived.size();
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Task archiving stopped after {} tasks, resuming on the next run", total, ex);
+        }
+        if (total > 0) {
+            log.info("Archived {} completed tasks last updated before {}", total, cutoff);
+        }
+    }
+
+    /**
+     * @return the ids of the tasks moved, empty when nothing is left to archive
+     */
+    List<Long> archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_BATCH_SQL, new MapSqlParameterSource()
+                .addValue("cutoff", cutoff)
+                .addValue("limit", batchSize), Long.class);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", LocalDateTime.now());
+        jdbcTemplate.update(COPY_SQL, params);
+        jdbcTemplate.update(COPY_TRANSITIONS_SQL, params);
+        if (jdbcTemplate.update(BUMP_DEPENDENCY_VERSION_SQL, params) > 0) {
+            jdbcTemplate.update(DELETE_DEPENDENCIES_SQL, params);
+        }
+        archivedCounter.increment(jdbcTemplate.update(DELETE_SQL, params));
+        return ids;
+    }
+
+    private void audit(Long taskId) {
+        auditWriter.publish(new AuditEvent(LocalDateTime.now(), null, null, AuditEntityType.TASK, taskId,
+                AuditAction.ARCHIVE, Map.of("archived", new AuditEvent.Change(false, true))));
+    }
+}
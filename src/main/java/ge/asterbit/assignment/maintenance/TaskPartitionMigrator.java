@@ -0,0 +1,231 @@
+package ge.asterbit.assignment.maintenance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Moves existing rows of {@code tasks} into the hash-partitioned {@code tasks_partitioned}
+ * created by the PostgreSQL-only V7 migration, one id range per run so the copy never
+ * holds locks for long. The first run adds the trigger that mirrors writes made meanwhile
+ * and records the highest existing id as the target. Once every row up to that id is
+ * copied, the tables are swapped in one short transaction and the old table is kept as
+ * {@code tasks_legacy} until it is dropped by hand. The swap only happens if
+ * {@code tasks_partitioned} has every index and constraint that later migrations gave
+ * {@code tasks}; otherwise the migrator stops before it and keeps mirroring.
+ * <p>
+ * Progress lives in {@code task_partition_migration}, so the move resumes after a restart,
+ * and the progress row is locked per batch so only one instance copies at a time. The
+ * migrator is off unless {@code tasks.partitioning.enabled} is set; the README describes
+ * the cutover.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.partitioning.enabled", havingValue = "true")
+public class TaskPartitionMigrator {
+
+    private static final String COLUMNS = "id, title, description, status, due_date, priority, project_id, "
+            + "assigned_user_id, create_date, update_date, rank_key";
+
+    private static final String COPY_BATCH_SQL = "WITH batch AS ("
+            + "SELECT " + COLUMNS + " FROM tasks WHERE id > ? AND id <= ? ORDER BY id LIMIT ? FOR SHARE), "
+            + "copied AS (INSERT INTO tasks_partitioned (" + COLUMNS + ") SELECT " + COLUMNS + " FROM batch "
+            + "ON CONFLICT (project_id, id) DO NOTHING) "
+            + "SELECT MAX(id) FROM batch";
+
+    private static final List<String> START_SQL = List.of(
+            "CREATE TRIGGER tasks_mirror AFTER INSERT OR UPDATE OR DELETE ON tasks "
+                    + "FOR EACH ROW EXECUTE FUNCTION tasks_mirror_to_partitioned()",
+            "INSERT INTO task_partition_migration (id, target_id, last_copied_id) "
+                    + "SELECT 1, COALESCE(MAX(id), 0), 0 FROM tasks"
+    );
+
+    /**
+     * Counterparts of the indexes on {@code tasks}, added by V7 and by the vendor scripts that
+     * follow V8, V9, V11 and V12
+     */
+    static final List<String> REQUIRED_INDEXES = List.of(
+            "idx_tasks_part_id",
+            "idx_tasks_part_status_update",
+            "idx_tasks_part_project_due",
+            "idx_tasks_part_project_status_due",
+            "idx_tasks_part_project_priority_due",
+            "idx_tasks_part_assignee_status_due",
+            "idx_tasks_part_project_status_priority_due",
+            "idx_tasks_part_project_status_rank"
+    );
+
+    static final List<String> REQUIRED_CONSTRAINTS = List.of(
+            "tasks_partitioned_pkey",
+            "tasks_partitioned_project_id_fkey",
+            "tasks_partitioned_assigned_user_id_fkey"
+    );
+
+    private static final List<String> CUTOVER_SQL = List.of(
+            "LOCK TABLE tasks IN ACCESS EXCLUSIVE MODE",
+            "DROP TRIGGER tasks_mirror ON tasks",
+            "DROP FUNCTION tasks_mirror_to_partitioned()",
+            "ALTER TABLE task_status_transitions DROP CONSTRAINT IF EXISTS task_status_transitions_task_id_fkey",
+            "ALTER TABLE tasks RENAME TO tasks_legacy",
+            "ALTER TABLE tasks_partitioned RENAME TO tasks",
+            "ALTER SEQUENCE tasks_id_seq OWNED BY tasks.id",
+            "ALTER TABLE task_status_transitions ADD CONSTRAINT fk_transition_task "
+                    + "FOREIGN KEY (project_id, task_id) REFERENCES tasks (project_id, id) ON DELETE CASCADE NOT VALID",
+            "UPDATE task_partition_migration SET completed_at = NOW() WHERE id = 1"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private volatile boolean started;
+    private volatile boolean finished;
+
+    public TaskPartitionMigrator(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${tasks.partitioning.batch-size}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.partitioning.interval}", initialDelayString = "${tasks.partitioning.interval}")
+    public void migrateNextBatch() {
+        if (finished) {
+            return;
+        }
+        if (!isMigrationInstalled()) {
+            log.info("Task partitioning is not available on this database");
+            finished = true;
+            return;
+        }
+
+        try {
+            if (!started) {
+                if (!isStarted()) {
+                    transactionTemplate.executeWithoutResult(status -> start());
+                }
+                started = true;
+            }
+            Boolean copiedAll = transactionTemplate.execute(status -> copyBatch());
+            if (Boolean.TRUE.equals(copiedAll)) {
+                Boolean swapped = transactionTemplate.execute(status -> cutOver());
+                finished = true;
+                if (Boolean.TRUE.equals(swapped)) {
+                    validateTransitionForeignKey();
+                }
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Task partition migration step failed, retrying on the next run", ex);
+        }
+    }
+
+    private boolean isMigrationInstalled() {
+        try {
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT to_regclass('task_partition_migration') IS NOT NULL", Boolean.class));
+        } catch (DataAccessException ex) {
+            // Not PostgreSQL
+            return false;
+        }
+    }
+
+    private void start() {
+        // Blocks writes to tasks until the trigger and the target id are in place
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+        jdbcTemplate.execute("LOCK TABLE tasks IN SHARE ROW EXCLUSIVE MODE");
+        if (isStarted()) {
+            // Another instance started the move while this one waited for the lock
+            return;
+        }
+        START_SQL.forEach(jdbcTemplate::execute);
+        log.info("Started moving tasks into tasks_partitioned");
+    }
+
+    private boolean isStarted() {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_partition_migration", Integer.class);
+        return rows != null && rows > 0;
+    }
+
+    /**
+     * @return {@code true} when every row up to the target id has been copied
+     */
+    private Boolean copyBatch() {
+        List<Map<String, Object>> progress = jdbcTemplate.queryForList(
+                "SELECT target_id, last_copied_id, completed_at FROM task_partition_migration "
+                        + "WHERE id = 1 FOR UPDATE SKIP LOCKED");
+        if (progress.isEmpty()) {
+            return false;
+        }
+        if (progress.get(0).get("completed_at") != null) {
+            finished = true;
+            return false;
+        }
+
+        long targetId = ((Number) progress.get(0).get("target_id")).longValue();
+        long lastCopiedId = ((Number) progress.get(0).get("last_copied_id")).longValue();
+        if (lastCopiedId >= targetId) {
+            return true;
+        }
+
+        Long copiedUpTo = jdbcTemplate.queryForObject(COPY_BATCH_SQL, Long.class, lastCopiedId, targetId, batchSize);
+        long newLastCopiedId = copiedUpTo != null ? copiedUpTo : targetId;
+        jdbcTemplate.update("UPDATE task_partition_migration SET last_copied_id = ? WHERE id = 1", newLastCopiedId);
+        log.debug("Copied tasks up to id {} of {} into tasks_partitioned", newLastCopiedId, targetId);
+        return newLastCopiedId >= targetId;
+    }
+
+    /**
+     * @return {@code true} when the tables were swapped or another instance already swapped them
+     */
+    private Boolean cutOver() {
+        // Give up instead of queueing every writer behind a long-running transaction
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+        List<Map<String, Object>> progress = jdbcTemplate.queryForList(
+                "SELECT completed_at FROM task_partition_migration WHERE id = 1 FOR UPDATE");
+        if (progress.get(0).get("completed_at") != null) {
+            return true;
+        }
+        List<String> missing = findMissingIndexesAndConstraints();
+        if (!missing.isEmpty()) {
+            log.error("Not swapping tasks for tasks_partitioned because it lacks {}. Create them on "
+                    + "tasks_partitioned and restart the migrator; writes are still mirrored meanwhile", missing);
+            return false;
+        }
+        CUTOVER_SQL.forEach(jdbcTemplate::execute);
+        log.info("tasks is now hash-partitioned by project_id; the previous table is kept as tasks_legacy");
+        return true;
+    }
+
+    private List<String> findMissingIndexesAndConstraints() {
+        Set<String> present = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema() "
+                        + "AND tablename = 'tasks_partitioned'", String.class));
+        present.addAll(jdbcTemplate.queryForList(
+                "SELECT conname FROM pg_constraint WHERE conrelid = 'tasks_partitioned'::regclass", String.class));
+        return Stream.concat(REQUIRED_INDEXES.stream(), REQUIRED_CONSTRAINTS.stream())
+                .filter(name -> !present.contains(name))
+                .toList();
+    }
+
+    private void validateTransitionForeignKey() {
+        try {
+            jdbcTemplate.execute("ALTER TABLE task_status_transitions VALIDATE CONSTRAINT fk_transition_task");
+        } catch (DataAccessException ex) {
+            log.warn("Could not validate fk_transition_task; run ALTER TABLE task_status_transitions "
+                    + "VALIDATE CONSTRAINT fk_transition_task by hand", ex);
+        }
+    }
+}
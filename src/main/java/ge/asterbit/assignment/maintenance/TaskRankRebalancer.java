@@ -0,0 +1,115 @@
+package ge.asterbit.assignment.maintenance;
+
+import ge.asterbit.assignment.entity.TaskStatus;
+import ge.asterbit.assignment.ranking.FractionalIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rewrites the rank keys of a board column as evenly spaced keys of equal length, keeping
+ * the current order. Moves that produce a key longer than {@code tasks.rank.max-length}
+ * queue their column here and it is rebalanced in the background. Columns holding tasks
+ * without a key, or with duplicate keys from concurrent moves, are rebalanced on demand
+ * inside the move's transaction; unranked tasks keep the default board order after the
+ * ranked ones. Rebalancing does not touch {@code update_date}.
+ */
+@Slf4j
+@Component
+public class TaskRankRebalancer {
+
+    private static final String SELECT_COLUMN_SQL = "SELECT id FROM tasks "
+            + "WHERE project_id = :projectId AND status = :status%s "
+            + "ORDER BY rank_key NULLS LAST, CASE priority WHEN 'HIGH' THEN 0 WHEN 'MEDIUM' THEN 1 ELSE 2 END, "
+            + "due_date NULLS LAST, id FOR UPDATE";
+
+    private static final String UPDATE_SQL = "UPDATE tasks SET rank_key = :rank "
+            + "WHERE project_id = :projectId AND id = :id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxKeyLength;
+    private final Counter rebalancedCounter;
+    private final Set<Column> pending = ConcurrentHashMap.newKeySet();
+
+    public TaskRankRebalancer(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${tasks.rank.max-length}") int maxKeyLength,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxKeyLength = maxKeyLength;
+        this.rebalancedCounter = Counter.builder("tasks.rank.rebalanced")
+                .description("Board columns whose rank keys were re-spread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the column for the next background run if {@code key} has grown too long.
+     */
+    public void keyAssigned(Long projectId, TaskStatus status, String key) {
+        if (key.length() > maxKeyLength) {
+            pending.add(new Column(projectId, status));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.rank.rebalance-interval}")
+    public void rebalancePending() {
+        for (Column column : List.copyOf(pending)) {
+            pending.remove(column);
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebalance(column.projectId(), column.status(), null));
+            } catch (DataAccessException ex) {
+                log.warn("Rebalancing {} tasks of project {} failed, retrying on the next run",
+                        column.status(), column.projectId(), ex);
+                pending.add(column);
+            }
+        }
+    }
+
+    /**
+     * Re-spreads the keys of one column with its rows locked. Runs in the caller's
+     * transaction.
+     *
+     * @param movingTaskId task the caller is about to give a new key, left as it is so the
+     *                     caller's loaded copy stays current; {@code null} for none
+     * @return the number of tasks rebalanced
+     */
+    public int rebalance(Long projectId, TaskStatus status, Long movingTaskId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("status", status.name())
+                .addValue("movingTaskId", movingTaskId);
+        String sql = String.format(SELECT_COLUMN_SQL, movingTaskId != null ? " AND id <> :movingTaskId" : "");
+        List<Long> ids = jdbcTemplate.queryForList(sql, params, Long.class);
+        List<String> keys = FractionalIndex.spread(ids.size());
+
+        SqlParameterSource[] batch = new SqlParameterSource[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("rank", keys.get(i))
+                    .addValue("projectId", projectId)
+                    .addValue("id", ids.get(i));
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+        rebalancedCounter.increment();
+        log.debug("Rebalanced rank keys of {} {} tasks in project {}", ids.size(), status, projectId);
+        return ids.size();
+    }
+
+    private record Column(Long projectId, TaskStatus status) {
+    }
+}
@@ -0,0 +1,29 @@
+package ge.asterbit.assignment.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import ge.asterbit.assignment.dto.audit.AuditLogDTO;
+import ge.asterbit.assignment.entity.AuditLog;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+@Mapper(componentModel = "spring")
+public interface AuditLogMapper {
+
+    ObjectMapper CHANGES_READER = new ObjectMapper();
+
+    @Mapping(target = "changes", source = "changes", qualifiedByName = "parseChanges")
+    AuditLogDTO toDTO(AuditLog auditLog);
+
+    @Named("parseChanges")
+    default JsonNode parseChanges(String changes) {
+        try {
+            return CHANGES_READER.readTree(changes);
+        } catch (JsonProcessingException ex) {
+            return TextNode.valueOf(changes);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package ge.asterbit.assignment.mapper;
+
+import ge.asterbit.assignment.dto.common.PageResponse;
+import ge.asterbit.assignment.dto.project.ProjectDTO;
+import ge.asterbit.assignment.dto.task.TaskDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds list envelopes. In normalized mode repeated project names and user emails
+ * are moved out of every item into a single {@code refs} table. Names whose id was
+ * not selected (sparse fieldsets) stay inline since they could not be resolved.
+ */
+@Component
+public class PageResponseMapper {
+
+    public static final String PROJECTS = "projects";
+    public static final String USERS = "users";
+
+    public <T> PageResponse<T> toResponse(Page<T> page) {
+        return PageResponse.of(page);
+    }
+
+    public PageResponse<TaskDTO> toTaskResponse(Page<TaskDTO> page, boolean normalized) {
+        PageResponse<TaskDTO> response = PageResponse.of(page);
+        if (!normalized) {
+            return response;
+        }
+
+        Map<Long, String> projects = new LinkedHashMap<>();
+        Map<Long, String> users = new LinkedHashMap<>();
+        for (TaskDTO task : page.getContent()) {
+            if (task.getProjectId() != null && task.getProjectName() != null) {
+                projects.putIfAbsent(task.getProjectId(), task.getProjectName());
+                task.setProjectName(null);
+            }
+            if (task.getAssignedUserId() != null && task.getAssignedUserEmail() != null) {
+                users.putIfAbsent(task.getAssignedUserId(), task.getAssignedUserEmail());
+                task.setAssignedUserEmail(null);
+            }
+        }
+
+        Map<String, Map<Long, String>> refs = new HashMap<>();
+        refs.put(PROJECTS, projects);
+        refs.put(USERS, users);
+        response.setRefs(refs);
+        return response;
+    }
+
+    public PageResponse<ProjectDTO> toProjectResponse(Page<ProjectDTO> page, boolean normalized) {
+        PageResponse<ProjectDTO> response = PageResponse.of(page);
+        if (!normalized) {
+            return response;
+        }
+
+        Map<Long, String> users = new LinkedHashMap<>();
+        for (ProjectDTO project : page.getContent()) {
+            if (project.getOwnerId() != null && project.getOwnerEmail() != null) {
+                users.putIfAbsent(project.getOwnerId(), project.getOwnerEmail());
+                project.setOwnerEmail(null);
+            }
+        }
+
+        response.setRefs(Map.of(USERS, users));
+        return response;
+    }
+}
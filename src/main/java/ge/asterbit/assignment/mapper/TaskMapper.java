@@ -2,9 +2,18 @@ package ge.asterbit.assignment.mapper;
 
 import ge.asterbit.assignment.dto.task.CreateTaskRequest;
 import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.dto.task.TaskImportDTO;
+import ge.asterbit.assignment.dto.task.TaskImportErrorDTO;
+import ge.asterbit.assignment.dto.task.TaskStatusTransitionDTO;
 import ge.asterbit.assignment.dto.task.UpdateTaskRequest;
+import ge.asterbit.assignment.entity.ArchivedTask;
+import ge.asterbit.assignment.entity.ArchivedTaskStatusTransition;
 import ge.asterbit.assignment.entity.Task;
+import ge.asterbit.assignment.entity.TaskImport;
+import ge.asterbit.assignment.entity.TaskImportError;
 import ge.asterbit.assignment.entity.TaskStatus;
+import ge.asterbit.assignment.entity.TaskStatusTransition;
+import ge.asterbit.assignment.repository.TaskRepository;
 import org.mapstruct.*;
 import org.mapstruct.factory.Mappers;
 
@@ -17,14 +26,28 @@ public interface TaskMapper {
     @Mapping(target = "projectName", source = "project.name")
     @Mapping(target = "assignedUserId", source = "assignedUser.id")
     @Mapping(target = "assignedUserEmail", source = "assignedUser.email")
+    @Mapping(target = "archived", ignore = true)
     TaskDTO toDTO(Task task);
     
+    @Mapping(target = "projectId", source = "project.id")
+    @Mapping(target = "projectName", source = "project.name")
+    @Mapping(target = "assignedUserId", source = "assignedUser.id")
+    @Mapping(target = "assignedUserEmail", source = "assignedUser.email")
+    @Mapping(target = "archived", constant = "true")
+    TaskDTO toDTO(ArchivedTask task);
+    
+    @Mapping(target = "projectId", ignore = true)
+    @Mapping(target = "projectName", ignore = true)
+    @Mapping(target = "archived", ignore = true)
+    TaskDTO toDTO(TaskRepository.BoardRow row);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "status", constant = "TODO")
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "assignedUser", ignore = true) 
     @Mapping(target = "createDate", ignore = true)
     @Mapping(target = "updateDate", ignore = true)
+    @Mapping(target = "rank", ignore = true)
     Task createRequestToTask(CreateTaskRequest request);
     
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
@@ -33,5 +56,15 @@ public interface TaskMapper {
     @Mapping(target = "assignedUser", ignore = true)
     @Mapping(target = "createDate", ignore = true)
     @Mapping(target = "updateDate", ignore = true)
+    @Mapping(target = "rank", ignore = true)
     void updateTaskFromRequest(UpdateTaskRequest request, @MappingTarget Task task);
+    
+    TaskStatusTransitionDTO toTransitionDTO(TaskStatusTransition transition);
+
+    TaskStatusTransitionDTO toTransitionDTO(ArchivedTaskStatusTransition transition);
+    
+    @Mapping(target = "errors", ignore = true)
+    TaskImportDTO toImportDTO(TaskImport taskImport);
+    
+    TaskImportErrorDTO toImportErrorDTO(TaskImportError error);
 } 
\ No newline at end of file
@@ -19,5 +19,7 @@ public interface UserMapper {
     @Mapping(target = "updateDate", ignore = true)
     @Mapping(target = "password", source = "password")
     @Mapping(target = "role", ignore = true)
+    @Mapping(target = "securityEpoch", ignore = true)
+    @Mapping(target = "securityEpochChangedAt", ignore = true)
     User registerRequestToUser(RegisterRequest registerRequest);
 } 
\ No newline at end of file
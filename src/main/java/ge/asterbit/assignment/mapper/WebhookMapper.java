@@ -0,0 +1,17 @@
+package ge.asterbit.assignment.mapper;
+
+import ge.asterbit.assignment.dto.webhook.WebhookDeadLetterDTO;
+import ge.asterbit.assignment.dto.webhook.WebhookSubscriptionDTO;
+import ge.asterbit.assignment.entity.WebhookDeadLetter;
+import ge.asterbit.assignment.entity.WebhookSubscription;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface WebhookMapper {
+
+    @Mapping(target = "signed", expression = "java(subscription.getSecret() != null)")
+    WebhookSubscriptionDTO toDTO(WebhookSubscription subscription);
+
+    WebhookDeadLetterDTO toDeadLetterDTO(WebhookDeadLetter deadLetter);
+}
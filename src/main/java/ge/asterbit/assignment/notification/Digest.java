@@ -0,0 +1,11 @@
+package ge.asterbit.assignment.notification;
+
+import java.util.List;
+
+/**
+ * The notifications collected for one recipient during one window.
+ *
+ * @param omitted notifications left out because the digest was full
+ */
+public record Digest(Long recipientId, String recipientEmail, List<Notification> notifications, int omitted) {
+}
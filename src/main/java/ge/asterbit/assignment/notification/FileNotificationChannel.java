@@ -0,0 +1,46 @@
+package ge.asterbit.assignment.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each digest as one JSON line to {@code notifications.jsonl} in
+ * {@code notifications.file.directory}. The default channel, and the stand-in for a mail
+ * server in development and tests.
+ */
+public class FileNotificationChannel implements NotificationChannel {
+
+    static final String FILE_NAME = "notifications.jsonl";
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileNotificationChannel(ObjectMapper objectMapper, Path directory) {
+        this.objectMapper = objectMapper;
+        this.file = directory.resolve(FILE_NAME);
+    }
+
+    @Override
+    public void send(List<Digest> digests) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (Digest digest : digests) {
+                    writer.write(objectMapper.writeValueAsString(digest));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write notifications to " + file, ex);
+        }
+    }
+}
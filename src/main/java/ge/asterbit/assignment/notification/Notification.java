@@ -0,0 +1,20 @@
+package ge.asterbit.assignment.notification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One change to a task that its recipient should hear about.
+ */
+public record Notification(
+        Long recipientId,
+        String recipientEmail,
+        NotificationType type,
+        Long taskId,
+        String taskTitle,
+        Long projectId,
+        String projectName,
+        LocalDate dueDate,
+        String actorEmail,
+        LocalDateTime occurredAt) {
+}
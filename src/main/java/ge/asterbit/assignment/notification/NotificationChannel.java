@@ -0,0 +1,17 @@
+package ge.asterbit.assignment.notification;
+
+import java.util.List;
+
+/**
+ * Delivers digests, selected with {@code notifications.channel}. Called from the
+ * {@link NotificationDispatcher} sender thread only.
+ */
+public interface NotificationChannel {
+
+    /**
+     * Sends one batch of digests, each to its own recipient.
+     *
+     * @throws RuntimeException if the batch could not be delivered
+     */
+    void send(List<Digest> digests);
+}
@@ -0,0 +1,199 @@
+package ge.asterbit.assignment.notification;
+
+import ge.asterbit.assignment.util.TransactionHooks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Collects notifications per recipient and hands them to the {@link NotificationChannel}
+ * as one digest per recipient and {@code notifications.digest-window}, from a single
+ * background thread, in batches of {@code notifications.batch-size}. Notifications are
+ * only collected once their transaction commits. Within a digest a newer change to the same
+ * task replaces the older one, and an assignment followed by an unassignment cancels out,
+ * so reassigning thousands of tasks sends each person one message. Request threads never
+ * wait on delivery; pending digests are held in memory and flushed on shutdown.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationChannel channel;
+    private final long windowMillis;
+    private final long flushIntervalNanos;
+    private final int batchSize;
+    private final int maxItemsPerDigest;
+    private final int maxPendingRecipients;
+    private final Map<Long, PendingDigest> pending = new ConcurrentHashMap<>();
+
+    private final Counter queuedCounter;
+    private final Counter droppedCounter;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread sender;
+
+    public NotificationDispatcher(
+            NotificationChannel channel,
+            @Value("${notifications.digest-window}") Duration window,
+            @Value("${notifications.flush-interval}") Duration flushInterval,
+            @Value("${notifications.batch-size}") int batchSize,
+            @Value("${notifications.max-items-per-digest}") int maxItemsPerDigest,
+            @Value("${notifications.max-pending-recipients}") int maxPendingRecipients,
+            MeterRegistry meterRegistry) {
+        this.channel = channel;
+        this.windowMillis = window.toMillis();
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.batchSize = batchSize;
+        this.maxItemsPerDigest = maxItemsPerDigest;
+        this.maxPendingRecipients = maxPendingRecipients;
+
+        this.queuedCounter = Counter.builder("notifications.queued")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notifications.dropped")
+                .description("Notifications dropped because too many recipients had a digest pending")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("notifications.digests.sent")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notifications.digests.failed")
+                .description("Digests lost because their batch could not be delivered")
+                .register(meterRegistry);
+        Gauge.builder("notifications.pending.recipients", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the notification once the current transaction commits, or right away outside
+     * a transaction.
+     */
+    public void publish(Notification notification) {
+        TransactionHooks.afterCommit(() -> enqueue(notification, System.currentTimeMillis()));
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        sender = new Thread(this::run, "notification-sender");
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(sender);
+        sender.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    void enqueue(Notification notification, long now) {
+        Long recipientId = notification.recipientId();
+        if (!pending.containsKey(recipientId) && pending.size() >= maxPendingRecipients) {
+            droppedCounter.increment();
+            return;
+        }
+        pending.compute(recipientId, (id, digest) -> {
+            PendingDigest updated = digest != null ? digest : new PendingDigest(notification.recipientEmail(), now);
+            updated.add(notification, maxItemsPerDigest);
+            return updated;
+        });
+        queuedCounter.increment();
+    }
+
+    /**
+     * Sends the digests whose window has closed by {@code now}.
+     *
+     * @return the number of digests handed to the channel
+     */
+    int flush(long now) {
+        List<Digest> batch = new ArrayList<>(batchSize);
+        int flushed = 0;
+        for (Map.Entry<Long, PendingDigest> entry : pending.entrySet()) {
+            PendingDigest digest = entry.getValue();
+            if (digest.windowStart + windowMillis > now || !pending.remove(entry.getKey(), digest)) {
+                continue;
+            }
+            if (digest.items.isEmpty() && digest.omitted == 0) {
+                continue;
+            }
+            batch.add(digest.toDigest(entry.getKey()));
+            if (batch.size() == batchSize) {
+                flushed += send(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushed += send(batch);
+        }
+        return flushed;
+    }
+
+    private void run() {
+        while (running) {
+            flush(System.currentTimeMillis());
+            LockSupport.parkNanos(this, flushIntervalNanos);
+        }
+        flush(Long.MAX_VALUE);
+    }
+
+    private int send(List<Digest> batch) {
+        try {
+            channel.send(batch);
+            sentCounter.increment(batch.size());
+        } catch (RuntimeException ex) {
+            failedCounter.increment(batch.size());
+            log.error("Failed to deliver {} notification digests", batch.size(), ex);
+        }
+        return batch.size();
+    }
+
+    /**
+     * Notifications for one recipient, keyed by task and type. Only changed inside
+     * {@link ConcurrentHashMap#compute}, and read once removed from the map.
+     */
+    private static final class PendingDigest {
+        private final String recipientEmail;
+        private final long windowStart;
+        private final Map<ItemKey, Notification> items = new LinkedHashMap<>();
+        private int omitted;
+
+        private PendingDigest(String recipientEmail, long windowStart) {
+            this.recipientEmail = recipientEmail;
+            this.windowStart = windowStart;
+        }
+
+        private void add(Notification notification, int maxItems) {
+            NotificationType opposite = notification.type().opposite();
+            if (opposite != null && items.remove(new ItemKey(notification.taskId(), opposite)) != null) {
+                return;
+            }
+            ItemKey key = new ItemKey(notification.taskId(), notification.type());
+            if (items.containsKey(key) || items.size() < maxItems) {
+                items.put(key, notification);
+            } else {
+                omitted++;
+            }
+        }
+
+        private Digest toDigest(Long recipientId) {
+            return new Digest(recipientId, recipientEmail, List.copyOf(items.values()), omitted);
+        }
+    }
+
+    private record ItemKey(Long taskId, NotificationType type) {
+    }
+}
@@ -0,0 +1,18 @@
+package ge.asterbit.assignment.notification;
+
+public enum NotificationType {
+    ASSIGNED,
+    UNASSIGNED,
+    DUE_DATE_CHANGED;
+
+    /**
+     * @return the change that cancels this one within a digest, {@code null} for none
+     */
+    NotificationType opposite() {
+        return switch (this) {
+            case ASSIGNED -> UNASSIGNED;
+            case UNASSIGNED -> ASSIGNED;
+            case DUE_DATE_CHANGED -> null;
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package ge.asterbit.assignment.notification;
+
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.List;
+
+/**
+ * Mails each digest to its recipient. A batch is handed to the mail sender in one call, so
+ * it goes out over one SMTP connection. Needs {@code spring.mail.host}.
+ */
+public class SmtpNotificationChannel implements NotificationChannel {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+
+    public SmtpNotificationChannel(JavaMailSender mailSender, String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    @Override
+    public void send(List<Digest> digests) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[digests.size()];
+        for (int i = 0; i < digests.size(); i++) {
+            messages[i] = toMessage(digests.get(i));
+        }
+        mailSender.send(messages);
+    }
+
+    SimpleMailMessage toMessage(Digest digest) {
+        int count = digest.notifications().size() + digest.omitted();
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(digest.recipientEmail());
+        message.setSubject(count == 1 ? "1 task update" : count + " task updates");
+
+        StringBuilder text = new StringBuilder();
+        for (Notification notification : digest.notifications()) {
+            text.append(switch (notification.type()) {
+                case ASSIGNED -> "Assigned to you: ";
+                case UNASSIGNED -> "No longer assigned to you: ";
+                case DUE_DATE_CHANGED -> "Due date changed: ";
+            });
+            text.append('#').append(notification.taskId()).append(' ').append(notification.taskTitle())
+                    .append(" (").append(notification.projectName()).append(')');
+            if (notification.dueDate() != null) {
+                text.append(", due ").append(notification.dueDate());
+            }
+            if (notification.actorEmail() != null) {
+                text.append(", by ").append(notification.actorEmail());
+            }
+            text.append('\n');
+        }
+        if (digest.omitted() > 0) {
+            text.append("... and ").append(digest.omitted()).append(" more\n");
+        }
+        message.setText(text.toString());
+        return message;
+    }
+}
@@ -0,0 +1,191 @@
+package ge.asterbit.assignment.ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Order keys that sort lexicographically. A key is read as the base-36 fraction
+ * {@code 0.d1d2d3...} and never ends in {@code 0}, so there is always another key between
+ * any two of them: moving an item only rewrites the item's own key. Keys only use
+ * {@code 0-9a-z}, so byte order, {@link String#compareTo} and the database agree.
+ * Inserts at either end step by {@code 36^-6}, so they keep keys at six characters for
+ * millions of inserts. Repeated inserts at the same spot in the middle add about one
+ * character per five inserts, so columns with long keys are re-spread with {@link #spread}
+ * from time to time.
+ */
+public final class FractionalIndex {
+
+    static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final int MAX_SPREAD_LENGTH = 12;
+    private static final int STEP_DIGITS = 6;
+
+    private FractionalIndex() {
+    }
+
+    /**
+     * @param lower key to sort after, {@code null} for the start of the column
+     * @param upper key to sort before, {@code null} for the end of the column
+     * @return a key strictly between the two
+     */
+    public static String between(String lower, String upper) {
+        if (lower != null) {
+            validate(lower);
+        }
+        if (upper != null) {
+            validate(upper);
+        }
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException(lower + " does not sort before " + upper);
+        }
+        if (upper == null && lower != null) {
+            return increment(lower);
+        }
+        if (lower == null && upper != null) {
+            String decremented = decrement(upper);
+            if (decremented != null) {
+                return decremented;
+            }
+        }
+        return midpoint(lower != null ? lower : "", upper);
+    }
+
+    /**
+     * @return {@code count} ascending, evenly spaced keys; a key between two neighbours is
+     * at most one character longer than the longest of them
+     */
+    public static List<String> spread(int count) {
+        int length = 1;
+        long scale = BASE;
+        while (scale / BASE < count + 1L && length < MAX_SPREAD_LENGTH) {
+            scale *= BASE;
+            length++;
+        }
+        long step = scale / (count + 1L);
+        if (step < 1) {
+            throw new IllegalArgumentException("Too many keys to spread: " + count);
+        }
+
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            keys.add(encode(i * step, length));
+        }
+        return keys;
+    }
+
+    /**
+     * {@code key} rounded down to {@link #STEP_DIGITS} digits plus one step, or the midpoint
+     * to one once no step is left.
+     */
+    private static String increment(String key) {
+        int[] digits = toDigits(key);
+        for (int i = STEP_DIGITS - 1; i >= 0; i--) {
+            if (digits[i] < BASE - 1) {
+                digits[i]++;
+                return fromDigits(digits, i + 1);
+            }
+            digits[i] = 0;
+        }
+        return midpoint(key, null);
+    }
+
+    /**
+     * {@code key} minus one step, or just rounded down to {@link #STEP_DIGITS} digits when it
+     * is longer; {@code null} when that would reach zero.
+     */
+    private static String decrement(String key) {
+        int[] digits = toDigits(key);
+        if (key.length() <= STEP_DIGITS) {
+            for (int i = STEP_DIGITS - 1; i >= 0; i--) {
+                if (digits[i] > 0) {
+                    digits[i]--;
+                    break;
+                }
+                digits[i] = BASE - 1;
+            }
+        }
+        String decremented = fromDigits(digits, STEP_DIGITS);
+        return decremented.isEmpty() ? null : decremented;
+    }
+
+    /**
+     * The first {@link #STEP_DIGITS} digits of {@code key}, zero-padded.
+     */
+    private static int[] toDigits(String key) {
+        int[] digits = new int[STEP_DIGITS];
+        for (int i = 0; i < Math.min(key.length(), STEP_DIGITS); i++) {
+            digits[i] = DIGITS.indexOf(key.charAt(i));
+        }
+        return digits;
+    }
+
+    /**
+     * The first {@code length} digits without trailing zeros.
+     */
+    private static String fromDigits(int[] digits, int length) {
+        StringBuilder key = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            key.append(DIGITS.charAt(digits[i]));
+        }
+        int end = key.length();
+        while (end > 0 && key.charAt(end - 1) == DIGITS.charAt(0)) {
+            end--;
+        }
+        return key.substring(0, end);
+    }
+
+    /**
+     * Digit-wise midpoint of {@code lower} (possibly empty, meaning zero) and {@code upper}
+     * ({@code null} meaning one).
+     */
+    private static String midpoint(String lower, String upper) {
+        if (upper != null) {
+            int prefix = 0;
+            while (prefix < upper.length() && digitAt(lower, prefix) == upper.charAt(prefix)) {
+                prefix++;
+            }
+            if (prefix > 0) {
+                return upper.substring(0, prefix)
+                        + midpoint(lower.length() > prefix ? lower.substring(prefix) : "", upper.substring(prefix));
+            }
+        }
+
+        int low = lower.isEmpty() ? 0 : DIGITS.indexOf(lower.charAt(0));
+        int high = upper != null ? DIGITS.indexOf(upper.charAt(0)) : BASE;
+        if (high - low > 1) {
+            return String.valueOf(DIGITS.charAt((low + high + 1) / 2));
+        }
+        if (upper != null && upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+        return DIGITS.charAt(low) + midpoint(lower.length() > 1 ? lower.substring(1) : "", null);
+    }
+
+    private static char digitAt(String key, int index) {
+        return index < key.length() ? key.charAt(index) : DIGITS.charAt(0);
+    }
+
+    private static String encode(long value, int length) {
+        char[] digits = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int end = length;
+        while (end > 1 && digits[end - 1] == DIGITS.charAt(0)) {
+            end--;
+        }
+        return new String(digits, 0, end);
+    }
+
+    private static void validate(String key) {
+        if (key.isEmpty() || key.charAt(key.length() - 1) == DIGITS.charAt(0)) {
+            throw new IllegalArgumentException("Invalid order key: '" + key + "'");
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid order key: '" + key + "'");
+            }
+        }
+    }
+}
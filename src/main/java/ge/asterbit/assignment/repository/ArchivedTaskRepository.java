@@ -0,0 +1,17 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.ArchivedTask;
+import ge.asterbit.assignment.entity.Project;
+import ge.asterbit.assignment.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+    Page<ArchivedTask> findByProject(Project project, Pageable pageable);
+    Optional<ArchivedTask> findByIdAndAssignedUser(Long id, User assignedUser);
+}
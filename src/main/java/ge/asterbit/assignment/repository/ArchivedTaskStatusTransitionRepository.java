@@ -0,0 +1,12 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.ArchivedTaskStatusTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedTaskStatusTransitionRepository extends JpaRepository<ArchivedTaskStatusTransition, Long> {
+    List<ArchivedTaskStatusTransition> findByTaskIdOrderByTransitionedAtAsc(Long taskId);
+}
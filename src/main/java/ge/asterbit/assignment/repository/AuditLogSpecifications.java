@@ -0,0 +1,30 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.AuditEntityType;
+import ge.asterbit.assignment.entity.AuditLog;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Optional audit filters; a {@code null} argument leaves the query unrestricted.
+ */
+public final class AuditLogSpecifications {
+
+    private AuditLogSpecifications() {
+    }
+
+    public static Specification<AuditLog> idBefore(Long cursor) {
+        return (root, query, cb) -> cursor == null ? null : cb.lessThan(root.get("id"), cursor);
+    }
+
+    public static Specification<AuditLog> hasEntityType(AuditEntityType entityType) {
+        return (root, query, cb) -> entityType == null ? null : cb.equal(root.get("entityType"), entityType);
+    }
+
+    public static Specification<AuditLog> hasEntityId(Long entityId) {
+        return (root, query, cb) -> entityId == null ? null : cb.equal(root.get("entityId"), entityId);
+    }
+
+    public static Specification<AuditLog> byActor(Long actorId) {
+        return (root, query, cb) -> actorId == null ? null : cb.equal(root.get("actorId"), actorId);
+    }
+}
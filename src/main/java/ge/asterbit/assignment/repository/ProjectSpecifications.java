@@ -0,0 +1,19 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.Project;
+import ge.asterbit.assignment.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {
+    }
+
+    public static Specification<Project> any() {
+        return (root, query, cb) -> null;
+    }
+
+    public static Specification<Project> ownedBy(User owner) {
+        return (root, query, cb) -> cb.equal(root.get("owner"), owner);
+    }
+}
@@ -0,0 +1,61 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.TaskDependency;
+import ge.asterbit.assignment.entity.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    interface LinkRow {
+        Long getBlockerId();
+        TaskStatus getBlockerStatus();
+        Long getBlockedId();
+        TaskStatus getBlockedStatus();
+    }
+
+    /**
+     * Every link of a project with the status of both tasks. Links to tasks that no longer
+     * exist are left out by the joins.
+     */
+    @Query("SELECT d.blockingTaskId AS blockerId, b.status AS blockerStatus, "
+            + "d.blockedTaskId AS blockedId, t.status AS blockedStatus "
+            + "FROM TaskDependency d, Task b, Task t "
+            + "WHERE d.projectId = :projectId "
+            + "AND b.project.id = d.projectId AND b.id = d.blockingTaskId "
+            + "AND t.project.id = d.projectId AND t.id = d.blockedTaskId")
+    List<LinkRow> findLinks(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.blockingTaskId = :blockerId AND d.blockedTaskId = :blockedId")
+    int deleteLink(@Param("blockerId") Long blockerId, @Param("blockedId") Long blockedId);
+
+    boolean existsByBlockingTaskIdOrBlockedTaskId(Long blockingTaskId, Long blockedTaskId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.blockingTaskId = :taskId OR d.blockedTaskId = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Bumps the project's link version, locking the project row until the transaction ends.
+     */
+    @Modifying
+    @Query(value = "UPDATE projects SET dependency_version = dependency_version + 1 WHERE id = :projectId",
+            nativeQuery = true)
+    int incrementVersion(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT dependency_version FROM projects WHERE id = :projectId", nativeQuery = true)
+    long findVersion(@Param("projectId") Long projectId);
+
+    /**
+     * Takes the same project row lock as {@link #incrementVersion} without changing the version.
+     */
+    @Query(value = "SELECT dependency_version FROM projects WHERE id = :projectId FOR UPDATE", nativeQuery = true)
+    long lockVersion(@Param("projectId") Long projectId);
+}
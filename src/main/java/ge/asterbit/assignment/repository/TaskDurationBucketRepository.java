@@ -0,0 +1,50 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.DurationMetric;
+import ge.asterbit.assignment.entity.TaskDurationBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface TaskDurationBucketRepository extends JpaRepository<TaskDurationBucket, TaskDurationBucket.Key> {
+
+    interface BucketCount {
+        Integer getBucket();
+        Long getTaskCount();
+    }
+
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "MERGE INTO task_duration_histograms h "
+            + "USING (SELECT CAST(:projectId AS BIGINT) AS project_id, CAST(:assigneeId AS BIGINT) AS assignee_id, "
+            + "CAST(:metric AS VARCHAR(10)) AS metric, CAST(:bucket AS INTEGER) AS bucket) v "
+            + "ON h.project_id = v.project_id AND h.assignee_id = v.assignee_id "
+            + "AND h.metric = v.metric AND h.bucket = v.bucket "
+            + "WHEN MATCHED THEN UPDATE SET task_count = h.task_count + 1 "
+            + "WHEN NOT MATCHED THEN INSERT (project_id, assignee_id, metric, bucket, task_count) "
+            + "VALUES (v.project_id, v.assignee_id, v.metric, v.bucket, 1)", nativeQuery = true)
+    int increment(@Param("projectId") Long projectId, @Param("assigneeId") Long assigneeId,
+                  @Param("metric") String metric, @Param("bucket") int bucket);
+
+    @Query("SELECT b.bucket AS bucket, SUM(b.taskCount) AS taskCount FROM TaskDurationBucket b "
+            + "WHERE b.projectId = :projectId AND b.metric = :metric GROUP BY b.bucket")
+    List<BucketCount> sumByProject(@Param("projectId") Long projectId, @Param("metric") DurationMetric metric);
+
+    @Query("SELECT b.bucket AS bucket, SUM(b.taskCount) AS taskCount FROM TaskDurationBucket b "
+            + "WHERE b.assigneeId = :assigneeId AND b.metric = :metric GROUP BY b.bucket")
+    List<BucketCount> sumByAssignee(@Param("assigneeId") Long assigneeId, @Param("metric") DurationMetric metric);
+
+    @Query("SELECT b.bucket AS bucket, SUM(b.taskCount) AS taskCount FROM TaskDurationBucket b "
+            + "WHERE b.assigneeId = :assigneeId AND b.metric = :metric "
+            + "AND b.projectId IN (SELECT p.id FROM Project p WHERE p.owner.id = :ownerId) GROUP BY b.bucket")
+    List<BucketCount> sumByAssigneeAndProjectOwner(@Param("assigneeId") Long assigneeId,
+                                                   @Param("ownerId") Long ownerId,
+                                                   @Param("metric") DurationMetric metric);
+}
@@ -0,0 +1,12 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.TaskImportError;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskImportErrorRepository extends JpaRepository<TaskImportError, Long> {
+    List<TaskImportError> findByImportIdOrderByLineNumberAsc(Long importId);
+}
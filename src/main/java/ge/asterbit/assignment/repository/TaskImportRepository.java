@@ -0,0 +1,9 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.TaskImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskImportRepository extends JpaRepository<TaskImport, Long> {
+}
@@ -7,23 +7,145 @@ import ge.asterbit.assignment.entity.TaskStatus;
 import ge.asterbit.assignment.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+
+    interface BoardRow {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        TaskStatus getStatus();
+        TaskPriority getPriority();
+        LocalDate getDueDate();
+        Long getAssignedUserId();
+        String getAssignedUserEmail();
+        LocalDateTime getCreateDate();
+        LocalDateTime getUpdateDate();
+        Long getColumnTotal();
+    }
+
+    interface RankedTask {
+        Long getId();
+        Long getProjectId();
+        TaskStatus getStatus();
+        String getRank();
+    }
+
+    interface WorkloadRow {
+        Long getAssigneeId();
+        String getAssigneeEmail();
+        Long getOpenTasks();
+        Long getHighPriority();
+        Long getMediumPriority();
+        Long getLowPriority();
+        Long getOverdue();
+        Long getNoDueDate();
+    }
+
+    String BOARD_COLUMN = "SELECT t.id, t.title, t.description, t.status, t.priority, t.due_date, "
+            + "t.assigned_user_id, t.create_date, t.update_date, t.rank_key "
+            + "FROM tasks t WHERE t.project_id = :projectId AND t.status = ";
+
+    String BOARD_DEFAULT_ORDER = "CASE t.priority WHEN 'HIGH' THEN 0 WHEN 'MEDIUM' THEN 1 ELSE 2 END, "
+            + "t.due_date NULLS LAST, t.id";
+
+    String BOARD_RANKED = " AND t.rank_key IS NOT NULL ORDER BY t.rank_key, " + BOARD_DEFAULT_ORDER + " LIMIT :limit";
+
+    String BOARD_UNRANKED = " AND t.rank_key IS NULL ORDER BY " + BOARD_DEFAULT_ORDER + " LIMIT :limit";
+
+    String WORKLOAD_SELECT = "SELECT u.id AS assigneeId, u.email AS assigneeEmail, COUNT(t) AS openTasks, "
+            + "SUM(CASE WHEN t.priority = ge.asterbit.assignment.entity.TaskPriority.HIGH THEN 1 ELSE 0 END) "
+            + "AS highPriority, "
+            + "SUM(CASE WHEN t.priority = ge.asterbit.assignment.entity.TaskPriority.MEDIUM THEN 1 ELSE 0 END) "
+            + "AS mediumPriority, "
+            + "SUM(CASE WHEN t.priority = ge.asterbit.assignment.entity.TaskPriority.LOW THEN 1 ELSE 0 END) "
+            + "AS lowPriority, "
+            + "SUM(CASE WHEN t.dueDate < :today THEN 1 ELSE 0 END) AS overdue, "
+            + "SUM(CASE WHEN t.dueDate IS NULL THEN 1 ELSE 0 END) AS noDueDate "
+            + "FROM Task t LEFT JOIN t.assignedUser u ";
+
+    String WORKLOAD_GROUP_BY = "GROUP BY u.id, u.email ORDER BY COUNT(t) DESC, u.email";
+
     Page<Task> findByProject(Project project, Pageable pageable);
     Page<Task> findByAssignedUser(User assignedUser, Pageable pageable);
     Page<Task> findByProjectAndStatus(Project project, TaskStatus status, Pageable pageable);
     Page<Task> findByProjectAndPriority(Project project, TaskPriority priority, Pageable pageable);
     Page<Task> findByAssignedUserAndStatus(User assignedUser, TaskStatus status, Pageable pageable);
+    Slice<Task> findByProjectAndStatusIn(Project project, Collection<TaskStatus> statuses, Pageable pageable);
     Optional<Task> findByIdAndProject(Long id, Project project);
     Optional<Task> findByIdAndAssignedUser(Long id, User assignedUser);
     Optional<Task> findByIdAndProjectOwner(Long id, User owner);
     List<Task> findByProject(Project project);
     boolean existsByIdAndAssignedUser(Long id, User assignedUser);
-} 
\ No newline at end of file
+
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.id AS id, t.projectId AS projectId, t.status AS status, t.rank AS rank "
+            + "FROM Task t WHERE t.id IN :ids")
+    List<RankedTask> findRanks(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MAX(t.rank) FROM Task t WHERE t.projectId = :projectId AND t.status = :status")
+    Optional<String> findMaxRank(@Param("projectId") Long projectId, @Param("status") TaskStatus status);
+
+    /**
+     * The first {@code limit} tasks of every status column of a project in rank order, each
+     * row carrying its column's total. Tasks without a rank follow, highest priority and
+     * earliest due date first. Every column is read on its own along
+     * {@code (project_id, status, rank_key)} and stops after {@code limit} ranked rows, so
+     * only those and the column's unranked tasks are sorted.
+     */
+    @Query(value = "SELECT b.id AS id, b.title AS title, b.description AS description, b.status AS status, "
+            + "b.priority AS priority, b.due_date AS dueDate, b.assigned_user_id AS assignedUserId, "
+            + "u.email AS assignedUserEmail, b.create_date AS createDate, b.update_date AS updateDate, "
+            + "n.column_total AS columnTotal "
+            + "FROM (SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.status ORDER BY c.rank_key NULLS LAST, "
+            + "CASE c.priority WHEN 'HIGH' THEN 0 WHEN 'MEDIUM' THEN 1 ELSE 2 END, c.due_date NULLS LAST, c.id) "
+            + "AS column_rank FROM ("
+            // One ranked and one unranked branch per TaskStatus
+            + "(" + BOARD_COLUMN + "'TODO'" + BOARD_RANKED + ") UNION ALL "
+            + "(" + BOARD_COLUMN + "'TODO'" + BOARD_UNRANKED + ") UNION ALL "
+            + "(" + BOARD_COLUMN + "'IN_PROGRESS'" + BOARD_RANKED + ") UNION ALL "
+            + "(" + BOARD_COLUMN + "'IN_PROGRESS'" + BOARD_UNRANKED + ") UNION ALL "
+            + "(" + BOARD_COLUMN + "'DONE'" + BOARD_RANKED + ") UNION ALL "
+            + "(" + BOARD_COLUMN + "'DONE'" + BOARD_UNRANKED + ")) c) b "
+            + "JOIN (SELECT status, COUNT(*) AS column_total FROM tasks WHERE project_id = :projectId "
+            + "GROUP BY status) n ON n.status = b.status "
+            + "LEFT JOIN users u ON u.id = b.assigned_user_id "
+            + "WHERE b.column_rank <= :limit "
+            + "ORDER BY b.status, b.column_rank", nativeQuery = true)
+    List<BoardRow> findBoard(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    /**
+     * Open tasks per assignee across all projects owned by {@code owner}, split by priority
+     * and due state. Unassigned tasks come back as one row without an assignee.
+     */
+    @Query(WORKLOAD_SELECT
+            + "WHERE t.project.owner = :owner AND t.status IN :statuses "
+            + WORKLOAD_GROUP_BY)
+    List<WorkloadRow> findWorkloadByProjectOwner(@Param("owner") User owner,
+                                                 @Param("statuses") Collection<TaskStatus> statuses,
+                                                 @Param("today") LocalDate today);
+
+    /**
+     * Same as {@link #findWorkloadByProjectOwner} across every project.
+     */
+    @Query(WORKLOAD_SELECT
+            + "WHERE t.status IN :statuses "
+            + WORKLOAD_GROUP_BY)
+    List<WorkloadRow> findWorkload(@Param("statuses") Collection<TaskStatus> statuses,
+                                   @Param("today") LocalDate today);
+}
@@ -0,0 +1,67 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.Project;
+import ge.asterbit.assignment.entity.Task;
+import ge.asterbit.assignment.entity.TaskPriority;
+import ge.asterbit.assignment.entity.TaskStatus;
+import ge.asterbit.assignment.entity.User;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> any() {
+        return (root, query, cb) -> null;
+    }
+
+    public static Specification<Task> inProject(Project project) {
+        return (root, query, cb) -> cb.equal(root.get("project"), project);
+    }
+
+    public static Specification<Task> assignedTo(User user) {
+        return (root, query, cb) -> cb.equal(root.get("assignedUser"), user);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(TaskPriority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Mirrors the per-task access rules of the task service: administrators see every
+     * task, managers the tasks of projects they own and users the tasks assigned to them.
+     */
+    public static Specification<Task> visibleTo(User user) {
+        return switch (user.getRole()) {
+            case ADMIN -> any();
+            case MANAGER -> (root, query, cb) -> cb.equal(root.get("project").get("owner"), user);
+            default -> assignedTo(user);
+        };
+    }
+
+    /**
+     * Fetches the project and assignee in the same query so that mapping a list of tasks
+     * does not issue one lookup per row.
+     */
+    public static Specification<Task> fetchProjectAndAssignee() {
+        return (root, query, cb) -> {
+            if (query.getResultType() == Task.class) {
+                root.fetch("project");
+                root.fetch("assignedUser", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
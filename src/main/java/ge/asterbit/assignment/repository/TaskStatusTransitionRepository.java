@@ -0,0 +1,15 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.TaskStatus;
+import ge.asterbit.assignment.entity.TaskStatusTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskStatusTransitionRepository extends JpaRepository<TaskStatusTransition, Long> {
+    List<TaskStatusTransition> findByTaskIdOrderByTransitionedAtAsc(Long taskId);
+    Optional<TaskStatusTransition> findFirstByTaskIdAndToStatusOrderByTransitionedAtAsc(Long taskId, TaskStatus toStatus);
+}
@@ -2,12 +2,28 @@ package ge.asterbit.assignment.repository;
 
 import ge.asterbit.assignment.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.securityEpoch FROM User u WHERE u.id = :id")
+    Optional<Integer> findSecurityEpochById(@Param("id") Long id);
+
+    @Query("SELECT u.id AS id, u.securityEpoch AS securityEpoch FROM User u "
+            + "WHERE u.securityEpochChangedAt > :since")
+    List<EpochChange> findSecurityEpochChangedAfter(@Param("since") LocalDateTime since);
+
+    interface EpochChange {
+        Long getId();
+        int getSecurityEpoch();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,20 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.WebhookDeadLetter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WebhookDeadLetterRepository extends JpaRepository<WebhookDeadLetter, Long> {
+
+    Page<WebhookDeadLetter> findBySubscriptionIdOrderByIdDesc(Long subscriptionId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM WebhookDeadLetter d WHERE d.subscriptionId = :subscriptionId")
+    int deleteBySubscriptionId(@Param("subscriptionId") Long subscriptionId);
+}
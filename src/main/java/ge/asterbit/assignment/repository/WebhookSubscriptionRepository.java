@@ -0,0 +1,16 @@
+package ge.asterbit.assignment.repository;
+
+import ge.asterbit.assignment.entity.WebhookSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WebhookSubscriptionRepository extends JpaRepository<WebhookSubscription, Long> {
+
+    List<WebhookSubscription> findByProjectIdOrderByIdAsc(Long projectId);
+
+    Optional<WebhookSubscription> findByIdAndProjectId(Long id, Long projectId);
+}
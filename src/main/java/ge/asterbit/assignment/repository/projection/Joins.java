@@ -0,0 +1,35 @@
+package ge.asterbit.assignment.repository.projection;
+
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Gives projection fields access to the query root and creates each join at most
+ * once, and only when a selected field actually needs it.
+ */
+public final class Joins<E> {
+
+    private final Root<E> root;
+    private final Map<String, Join<E, ?>> joins = new HashMap<>();
+
+    Joins(Root<E> root) {
+        this.root = root;
+    }
+
+    public Root<E> root() {
+        return root;
+    }
+
+    public From<E, ?> inner(String attribute) {
+        return joins.computeIfAbsent(attribute, name -> root.join(name, JoinType.INNER));
+    }
+
+    public From<E, ?> left(String attribute) {
+        return joins.computeIfAbsent(attribute, name -> root.join(name, JoinType.LEFT));
+    }
+}
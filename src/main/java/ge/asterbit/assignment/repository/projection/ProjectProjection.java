@@ -0,0 +1,27 @@
+package ge.asterbit.assignment.repository.projection;
+
+import ge.asterbit.assignment.dto.project.ProjectDTO;
+import ge.asterbit.assignment.entity.Project;
+
+import java.time.LocalDateTime;
+
+public final class ProjectProjection {
+
+    public static final ProjectionSpec<Project, ProjectDTO> SPEC = ProjectionSpec.builder(Project.class, ProjectDTO::new)
+            .field("id", j -> j.root().get("id"), ProjectDTO::getId, (ProjectDTO d, Long v) -> d.setId(v))
+            .field("name", j -> j.root().get("name"), ProjectDTO::getName, (ProjectDTO d, String v) -> d.setName(v))
+            .field("description", j -> j.root().get("description"), ProjectDTO::getDescription,
+                    (ProjectDTO d, String v) -> d.setDescription(v))
+            .field("ownerId", j -> j.root().get("owner").get("id"), ProjectDTO::getOwnerId,
+                    (ProjectDTO d, Long v) -> d.setOwnerId(v))
+            .field("ownerEmail", j -> j.inner("owner").get("email"), ProjectDTO::getOwnerEmail,
+                    (ProjectDTO d, String v) -> d.setOwnerEmail(v))
+            .field("createDate", j -> j.root().get("createDate"), ProjectDTO::getCreateDate,
+                    (ProjectDTO d, LocalDateTime v) -> d.setCreateDate(v))
+            .field("updateDate", j -> j.root().get("updateDate"), ProjectDTO::getUpdateDate,
+                    (ProjectDTO d, LocalDateTime v) -> d.setUpdateDate(v))
+            .build();
+
+    private ProjectProjection() {
+    }
+}
@@ -0,0 +1,86 @@
+package ge.asterbit.assignment.repository.projection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+/**
+ * Runs criteria queries that select only the columns behind the requested DTO
+ * fields, so unrequested columns and joins are never fetched.
+ */
+@Component
+public class ProjectionQueryExecutor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <E, D> Page<D> findAll(ProjectionSpec<E, D> projection, Specification<E> specification,
+                                  Set<String> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(projection.getEntityClass());
+        Joins<E> joins = new Joins<>(root);
+
+        List<String> names = new ArrayList<>(fields);
+        List<Selection<?>> selections = new ArrayList<>(names.size());
+        for (String name : names) {
+            selections.add(projection.getField(name).selection().apply(joins).alias(name));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<D> content = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            D dto = projection.newDto();
+            for (String name : names) {
+                projection.getField(name).setter().accept(dto, tuple.get(name));
+            }
+            content.add(dto);
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(projection, specification));
+    }
+
+    private <E, D> long count(ProjectionSpec<E, D> projection, Specification<E> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(projection.getEntityClass());
+        query.select(cb.count(root));
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,90 @@
+package ge.asterbit.assignment.repository.projection;
+
+import jakarta.persistence.criteria.Expression;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Describes how each public DTO field of entity {@code E} is selected in SQL and
+ * copied into DTO {@code D}. Used to build narrowed queries for sparse fieldsets.
+ */
+public final class ProjectionSpec<E, D> {
+
+    private final Class<E> entityClass;
+    private final Supplier<D> dtoFactory;
+    private final Map<String, Field<E, D>> fields;
+
+    private ProjectionSpec(Class<E> entityClass, Supplier<D> dtoFactory, Map<String, Field<E, D>> fields) {
+        this.entityClass = entityClass;
+        this.dtoFactory = dtoFactory;
+        this.fields = Collections.unmodifiableMap(fields);
+    }
+
+    public static <E, D> Builder<E, D> builder(Class<E> entityClass, Supplier<D> dtoFactory) {
+        return new Builder<>(entityClass, dtoFactory);
+    }
+
+    public Class<E> getEntityClass() {
+        return entityClass;
+    }
+
+    public Set<String> getFieldNames() {
+        return fields.keySet();
+    }
+
+    Field<E, D> getField(String name) {
+        return fields.get(name);
+    }
+
+    D newDto() {
+        return dtoFactory.get();
+    }
+
+    /**
+     * Copies only the selected fields of a fully populated DTO into a new instance.
+     */
+    public D filter(D source, Set<String> selected) {
+        D target = dtoFactory.get();
+        for (String name : selected) {
+            Field<E, D> field = fields.get(name);
+            field.setter().accept(target, field.getter().apply(source));
+        }
+        return target;
+    }
+
+    record Field<E, D>(
+            Function<Joins<E>, Expression<?>> selection,
+            Function<D, Object> getter,
+            BiConsumer<D, Object> setter
+    ) {
+    }
+
+    public static final class Builder<E, D> {
+
+        private final Class<E> entityClass;
+        private final Supplier<D> dtoFactory;
+        private final Map<String, Field<E, D>> fields = new LinkedHashMap<>();
+
+        private Builder(Class<E> entityClass, Supplier<D> dtoFactory) {
+            this.entityClass = entityClass;
+            this.dtoFactory = dtoFactory;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> Builder<E, D> field(String name, Function<Joins<E>, Expression<?>> selection,
+                                       Function<D, T> getter, BiConsumer<D, T> setter) {
+            fields.put(name, new Field<>(selection, (Function<D, Object>) getter, (BiConsumer<D, Object>) setter));
+            return this;
+        }
+
+        public ProjectionSpec<E, D> build() {
+            return new ProjectionSpec<>(entityClass, dtoFactory, fields);
+        }
+    }
+}
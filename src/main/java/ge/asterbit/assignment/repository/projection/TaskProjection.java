@@ -0,0 +1,40 @@
+package ge.asterbit.assignment.repository.projection;
+
+import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.entity.Task;
+import ge.asterbit.assignment.entity.TaskPriority;
+import ge.asterbit.assignment.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public final class TaskProjection {
+
+    public static final ProjectionSpec<Task, TaskDTO> SPEC = ProjectionSpec.builder(Task.class, TaskDTO::new)
+            .field("id", j -> j.root().get("id"), TaskDTO::getId, (TaskDTO d, Long v) -> d.setId(v))
+            .field("title", j -> j.root().get("title"), TaskDTO::getTitle, (TaskDTO d, String v) -> d.setTitle(v))
+            .field("description", j -> j.root().get("description"), TaskDTO::getDescription,
+                    (TaskDTO d, String v) -> d.setDescription(v))
+            .field("status", j -> j.root().get("status"), TaskDTO::getStatus,
+                    (TaskDTO d, TaskStatus v) -> d.setStatus(v))
+            .field("dueDate", j -> j.root().get("dueDate"), TaskDTO::getDueDate,
+                    (TaskDTO d, LocalDate v) -> d.setDueDate(v))
+            .field("priority", j -> j.root().get("priority"), TaskDTO::getPriority,
+                    (TaskDTO d, TaskPriority v) -> d.setPriority(v))
+            .field("projectId", j -> j.root().get("project").get("id"), TaskDTO::getProjectId,
+                    (TaskDTO d, Long v) -> d.setProjectId(v))
+            .field("projectName", j -> j.inner("project").get("name"), TaskDTO::getProjectName,
+                    (TaskDTO d, String v) -> d.setProjectName(v))
+            .field("assignedUserId", j -> j.root().get("assignedUser").get("id"), TaskDTO::getAssignedUserId,
+                    (TaskDTO d, Long v) -> d.setAssignedUserId(v))
+            .field("assignedUserEmail", j -> j.left("assignedUser").get("email"), TaskDTO::getAssignedUserEmail,
+                    (TaskDTO d, String v) -> d.setAssignedUserEmail(v))
+            .field("createDate", j -> j.root().get("createDate"), TaskDTO::getCreateDate,
+                    (TaskDTO d, LocalDateTime v) -> d.setCreateDate(v))
+            .field("updateDate", j -> j.root().get("updateDate"), TaskDTO::getUpdateDate,
+                    (TaskDTO d, LocalDateTime v) -> d.setUpdateDate(v))
+            .build();
+
+    private TaskProjection() {
+    }
+}
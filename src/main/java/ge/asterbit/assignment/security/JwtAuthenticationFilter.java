@@ -1,5 +1,7 @@
 package ge.asterbit.assignment.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,15 +20,22 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".CLAIMS";
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
+    private final SecurityEpochCache securityEpochCache;
     
     private String authHeader = "Authorization";
     private String authPrefix = "Bearer ";
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                                   TokenRevocationList tokenRevocationList, SecurityEpochCache securityEpochCache) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.securityEpochCache = securityEpochCache;
     }
 
     @Override
@@ -37,7 +46,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String header = request.getHeader(authHeader);
         final String jwt;
-        final String userEmail;
+        final Claims claims;
 
         if (header == null || !header.startsWith(authPrefix)) {
             filterChain.doFilter(request, response);
@@ -45,12 +54,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = header.substring(authPrefix.length()).trim();
-        userEmail = jwtService.extractUsername(jwt);
+        try {
+            claims = request.getAttribute(CLAIMS_ATTRIBUTE) instanceof Claims parsed
+                    ? parsed
+                    : jwtService.extractAllClaims(jwt);
+        } catch (JwtException | IllegalArgumentException ex) {
+            // Expired or malformed tokens leave the request unauthenticated
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (tokenRevocationList.isRevoked(claims.getId())
+                || (jwtService.isWarmupToken(claims) && !JwtService.isLoopback(request.getRemoteAddr()))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final String userEmail = claims.getSubject();
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            UserDetails userDetails = resolvePrincipal(claims);
             
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (userDetails != null && jwtService.isTokenValid(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -64,4 +89,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+
+    private UserDetails resolvePrincipal(Claims claims) {
+        AuthenticatedUser principal = jwtService.extractAuthenticatedUser(claims);
+        if (principal == null) {
+            // Tokens issued before identity claims were added still need the user row
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        if (!securityEpochCache.isCurrent(principal.id(), principal.securityEpoch())) {
+            return null;
+        }
+        return principal;
+    }
+}
@@ -1,31 +1,54 @@
 package ge.asterbit.assignment.security;
 
+import ge.asterbit.assignment.entity.Role;
+import ge.asterbit.assignment.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class JwtService {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String EPOCH_CLAIM = "epoch";
+    public static final String WARMUP_CLAIM = "warmup";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long expiration;
 
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpiration;
+
+    private Key signInKey;
+
+    @PostConstruct
+    void initSignInKey() {
+        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+        signInKey = Keys.hmacShaKeyFor(keyBytes);
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -40,30 +63,87 @@ public class JwtService {
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        return buildToken(extraClaims, userDetails, expiration);
+    }
+
+    /**
+     * Token for the startup warm-up, valid for {@code lifetime} only.
+     */
+    public String generateWarmupToken(UserDetails userDetails, Duration lifetime) {
+        return buildToken(Map.of(WARMUP_CLAIM, true), userDetails, lifetime.toMillis());
+    }
+
+    private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long lifetimeMillis) {
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        if (userDetails instanceof User user) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(ROLE_CLAIM, user.getRole().name());
+            claims.put(EPOCH_CLAIM, user.getSecurityEpoch());
+        }
+
         return Jwts
                 .builder()
-                .setClaims(extraClaims)
+                .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                .setExpiration(new Date(System.currentTimeMillis() + lifetimeMillis))
                 .signWith(getSignInKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(extractAllClaims(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * Builds the principal from identity claims, or returns {@code null} for tokens
+     * issued without them.
+     */
+    public AuthenticatedUser extractAuthenticatedUser(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null || claims.get(EPOCH_CLAIM) == null) {
+            return null;
+        }
+        return new AuthenticatedUser(userId.longValue(), claims.getSubject(), Role.valueOf(role),
+                extractSecurityEpoch(claims));
     }
 
-    private Claims extractAllClaims(String token) {
+    public int extractSecurityEpoch(Claims claims) {
+        return claims.get(EPOCH_CLAIM, Number.class).intValue();
+    }
+
+    /**
+     * Tokens minted for the startup warm-up, which sends them to the local port. They are
+     * only honoured from a loopback address, so a leaked one is useless elsewhere.
+     */
+    public boolean isWarmupToken(Claims claims) {
+        return Boolean.TRUE.equals(claims.get(WARMUP_CLAIM, Boolean.class));
+    }
+
+    public static boolean isLoopback(String remoteAddr) {
+        try {
+            // Servlet containers report the peer as an IP literal, so this does no lookup
+            return remoteAddr != null && InetAddress.getByName(remoteAddr).isLoopbackAddress();
+        } catch (UnknownHostException ex) {
+            return false;
+        }
+    }
+
+    public long getExpiration() {
+        return expiration;
+    }
+
+    public long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    public Claims extractAllClaims(String token) {
         return Jwts
                 .parserBuilder()
                 .setSigningKey(getSignInKey())
@@ -73,7 +153,9 @@ public class JwtService {
     }
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        if (signInKey == null) {
+            initSignInKey();
+        }
+        return signInKey;
     }
-} 
\ No newline at end of file
+}
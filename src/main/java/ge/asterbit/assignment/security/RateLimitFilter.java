@@ -0,0 +1,96 @@
+package ge.asterbit.assignment.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ge.asterbit.assignment.exception.ApiError;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects clients that exceed their request budget before any authentication work
+ * is done. Authentication endpoints are limited per IP, everything else per user
+ * (token subject) or per IP for anonymous callers. Verified claims are kept on the
+ * request so {@link JwtAuthenticationFilter} does not parse the token again. Requests
+ * carrying a warm-up token are not counted when they come from a loopback address.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final JwtService jwtService;
+    private final ObjectMapper objectMapper;
+
+    private String authHeader = "Authorization";
+    private String authPrefix = "Bearer ";
+
+    public RateLimitFilter(RateLimiter rateLimiter, JwtService jwtService, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.jwtService = jwtService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimiter.Policy policy = rateLimiter.resolvePolicy(request.getMethod(), path);
+        String key;
+
+        if (policy == RateLimiter.Policy.AUTH) {
+            key = request.getRemoteAddr();
+        } else {
+            Claims claims = resolveClaims(request);
+            if (claims != null && jwtService.isWarmupToken(claims) && JwtService.isLoopback(request.getRemoteAddr())) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            key = claims != null && claims.getSubject() != null
+                    ? "user:" + claims.getSubject()
+                    : "ip:" + request.getRemoteAddr();
+        }
+
+        long waitNanos = rateLimiter.tryConsume(policy, key);
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Claims resolveClaims(HttpServletRequest request) {
+        String header = request.getHeader(authHeader);
+        if (header == null || !header.startsWith(authPrefix)) {
+            return null;
+        }
+        try {
+            Claims claims = jwtService.extractAllClaims(header.substring(authPrefix.length()).trim());
+            request.setAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE, claims);
+            return claims;
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        ApiError apiError = new ApiError(HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please retry later");
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), apiError);
+    }
+}
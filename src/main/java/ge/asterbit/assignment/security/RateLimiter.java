@@ -0,0 +1,167 @@
+package ge.asterbit.assignment.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds one token bucket per client key and policy. Memory stays bounded: idle
+ * buckets are evicted periodically, and once {@code maxBuckets} is reached the least
+ * recently used tenth is dropped, so every key keeps a bucket of its own. Dropping a
+ * batch at a time spreads the cost of finding them over many new keys; threads that
+ * arrive while another one evicts do not wait for it.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String AUTH_PATHS = "/api/v1/auth/**";
+
+    public enum Policy {
+        AUTH,
+        EXPENSIVE,
+        DEFAULT
+    }
+
+    private final Map<Policy, Limit> limits = new EnumMap<>(Policy.class);
+    private final Map<Policy, Counter> allowedCounters = new EnumMap<>(Policy.class);
+    private final Map<Policy, Counter> rejectedCounters = new EnumMap<>(Policy.class);
+    private final Map<String, Entry> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Counter evictedCounter;
+    private final int maxBuckets;
+    private final List<String> expensivePaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimiter(
+            @Value("${rate-limit.auth.capacity}") long authCapacity,
+            @Value("${rate-limit.auth.period}") Duration authPeriod,
+            @Value("${rate-limit.expensive.capacity}") long expensiveCapacity,
+            @Value("${rate-limit.expensive.period}") Duration expensivePeriod,
+            @Value("${rate-limit.default.capacity}") long defaultCapacity,
+            @Value("${rate-limit.default.period}") Duration defaultPeriod,
+            @Value("${rate-limit.max-buckets}") int maxBuckets,
+            @Value("${rate-limit.expensive-paths}") List<String> expensivePaths,
+            MeterRegistry meterRegistry) {
+        this.maxBuckets = maxBuckets;
+        this.expensivePaths = expensivePaths;
+        limits.put(Policy.AUTH, new Limit(authCapacity, authPeriod.toNanos()));
+        limits.put(Policy.EXPENSIVE, new Limit(expensiveCapacity, expensivePeriod.toNanos()));
+        limits.put(Policy.DEFAULT, new Limit(defaultCapacity, defaultPeriod.toNanos()));
+
+        for (Policy policy : Policy.values()) {
+            Limit limit = limits.get(policy);
+            allowedCounters.put(policy, Counter.builder("ratelimit.requests")
+                    .tag("policy", policy.name().toLowerCase())
+                    .tag("outcome", "allowed")
+                    .register(meterRegistry));
+            rejectedCounters.put(policy, Counter.builder("ratelimit.requests")
+                    .tag("policy", policy.name().toLowerCase())
+                    .tag("outcome", "rejected")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("ratelimit.buckets", buckets, Map::size).register(meterRegistry);
+        evictedCounter = Counter.builder("ratelimit.buckets.evicted")
+                .description("Buckets dropped as least recently used because max-buckets was reached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Authentication endpoints use the {@code AUTH} policy, reads of configured
+     * expensive paths {@code EXPENSIVE}, and everything else {@code DEFAULT}.
+     */
+    public Policy resolvePolicy(String method, String path) {
+        if (pathMatcher.match(AUTH_PATHS, path)) {
+            return Policy.AUTH;
+        }
+        if (HttpMethod.GET.matches(method)) {
+            for (String pattern : expensivePaths) {
+                if (pathMatcher.match(pattern, path)) {
+                    return Policy.EXPENSIVE;
+                }
+            }
+        }
+        return Policy.DEFAULT;
+    }
+
+    /**
+     * @return {@code 0} when allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryConsume(Policy policy, String key) {
+        long now = System.nanoTime();
+        TokenBucket bucket = resolveBucket(policy, key, now);
+        long waitNanos = bucket.tryConsume(now);
+        (waitNanos == 0 ? allowedCounters : rejectedCounters).get(policy).increment();
+        return waitNanos;
+    }
+
+    private TokenBucket resolveBucket(Policy policy, String key, long now) {
+        String bucketKey = policy.name() + ':' + key;
+        Entry entry = buckets.get(bucketKey);
+        if (entry == null) {
+            if (buckets.size() >= maxBuckets) {
+                evictLeastRecentlyUsed();
+            }
+            Limit limit = limits.get(policy);
+            entry = buckets.computeIfAbsent(bucketKey,
+                    k -> new Entry(new TokenBucket(limit.capacity(), limit.periodNanos())));
+        }
+        entry.lastUsedNanos = now;
+        return entry.bucket;
+    }
+
+    private void evictLeastRecentlyUsed() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = buckets.size() - maxBuckets;
+            if (excess < 0) {
+                return;
+            }
+            List<Map.Entry<String, Entry>> entries = new ArrayList<>(buckets.entrySet());
+            entries.sort(Comparator.comparingLong(e -> e.getValue().lastUsedNanos));
+            int toEvict = Math.min(entries.size(), excess + Math.max(1, maxBuckets / 10));
+            int evicted = 0;
+            for (int i = 0; i < toEvict; i++) {
+                if (buckets.remove(entries.get(i).getKey(), entries.get(i).getValue())) {
+                    evicted++;
+                }
+            }
+            evictedCounter.increment(evicted);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(entry -> entry.bucket.isIdle(now));
+        log.debug("Evicted {} idle rate limit buckets", before - buckets.size());
+    }
+
+    private static final class Entry {
+        private final TokenBucket bucket;
+        private volatile long lastUsedNanos;
+
+        private Entry(TokenBucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+
+    private record Limit(long capacity, long periodNanos) {
+    }
+}
@@ -0,0 +1,87 @@
+package ge.asterbit.assignment.security;
+
+import ge.asterbit.assignment.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Current security epoch per user. Entries are loaded from the database at most once
+ * per TTL and are updated in place when {@link #bump} is called, so a role change on
+ * this instance invalidates older tokens immediately.
+ * <p>
+ * Other instances learn about the change every {@code jwt.revocation.sync-interval}, the
+ * same window as token revocations, by reading the users whose epoch changed since their
+ * last sync. Older tokens therefore stay usable elsewhere for at most that long, not for
+ * the whole {@code jwt.epoch-cache-ttl}.
+ */
+@Component
+public class SecurityEpochCache {
+
+    /**
+     * Epoch changes are stamped with the changing instance's clock and may commit a little
+     * after that, so each sync reads back this far before the previous one.
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final Map<Long, Entry> epochs = new ConcurrentHashMap<>();
+    private LocalDateTime lastSync = LocalDateTime.now();
+
+    public SecurityEpochCache(UserRepository userRepository,
+                              @Value("${jwt.epoch-cache-ttl}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public boolean isCurrent(Long userId, int tokenEpoch) {
+        long now = System.currentTimeMillis();
+        Entry entry = epochs.get(userId);
+        if (entry == null || entry.loadedAt() + ttlMillis < now) {
+            Integer epoch = userRepository.findSecurityEpochById(userId).orElse(null);
+            if (epoch == null) {
+                epochs.remove(userId);
+                return false;
+            }
+            entry = new Entry(epoch, now);
+            epochs.put(userId, entry);
+        }
+        return entry.epoch() == tokenEpoch;
+    }
+
+    public void bump(Long userId, int newEpoch) {
+        epochs.put(userId, new Entry(newEpoch, System.currentTimeMillis()));
+    }
+
+    /**
+     * Applies the epoch changes made since the last sync, including those made on other
+     * instances, to the users that are cached here.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval}", initialDelayString = "${jwt.revocation.sync-interval}")
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSync.minus(SYNC_OVERLAP);
+        long loadedAt = System.currentTimeMillis();
+        for (UserRepository.EpochChange change : userRepository.findSecurityEpochChangedAfter(since)) {
+            epochs.computeIfPresent(change.getId(), (userId, entry) -> entry.epoch() == change.getSecurityEpoch()
+                    ? entry
+                    : new Entry(change.getSecurityEpoch(), loadedAt));
+        }
+        lastSync = now;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.epoch-cache-ttl}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMillis;
+        epochs.values().removeIf(entry -> entry.loadedAt() < cutoff);
+    }
+
+    private record Entry(int epoch, long loadedAt) {
+    }
+}
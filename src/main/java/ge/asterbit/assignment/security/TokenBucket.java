@@ -0,0 +1,49 @@
+package ge.asterbit.assignment.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as a generic cell rate algorithm: the whole
+ * state is a single "theoretical arrival time" updated with compare-and-set.
+ * A bucket holds up to {@code capacity} tokens and regains one every
+ * {@code refillPeriodNanos / capacity}.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(long capacity, long refillPeriodNanos) {
+        this.emissionIntervalNanos = Math.max(1, refillPeriodNanos / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return {@code 0} when the request is allowed, otherwise the nanoseconds to wait
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long base = current == Long.MIN_VALUE ? nowNanos : Math.max(current, nowNanos);
+            long next = base + emissionIntervalNanos;
+            long allowAt = next - emissionIntervalNanos - burstToleranceNanos;
+            if (allowAt > nowNanos) {
+                return allowAt - nowNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * A bucket that has fully refilled is indistinguishable from a new one and can be dropped.
+     */
+    public boolean isIdle(long nowNanos) {
+        long current = theoreticalArrival.get();
+        return current == Long.MIN_VALUE || current <= nowNanos;
+    }
+}
@@ -0,0 +1,123 @@
+package ge.asterbit.assignment.security;
+
+import ge.asterbit.assignment.entity.RevokedToken;
+import ge.asterbit.assignment.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of revoked access tokens. The Bloom filter answers the common
+ * "not revoked" case without touching the exact set; hits are confirmed against it.
+ * Both are rebuilt from {@code revoked_tokens} at startup and periodically, which is
+ * also when entries for already expired tokens are dropped. The startup load waits
+ * until all singletons exist, so it does not hold up the background JPA bootstrap, but
+ * still completes before the web server accepts requests.
+ * <p>
+ * A revocation takes effect at once on the instance that made it. Other instances pick
+ * it up every {@code jwt.revocation.sync-interval} by reading the rows revoked since
+ * their last sync, so a revoked token stays usable elsewhere for at most that long. The
+ * interval must be shorter than the access token lifetime, otherwise the check is
+ * refused at startup.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements SmartInitializingSingleton {
+
+    /**
+     * Rows are stamped with the revoking instance's clock and may commit a little after
+     * that, so each sync reads back this far before the previous one.
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile Snapshot snapshot;
+    private LocalDateTime lastSync;
+
+    public TokenRevocationList(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${jwt.revocation.expected-revocations}") int expectedRevocations,
+            @Value("${jwt.revocation.false-positive-rate}") double falsePositiveRate,
+            @Value("${jwt.revocation.sync-interval}") long syncIntervalMillis,
+            @Value("${jwt.expiration}") long accessTokenMillis) {
+        if (syncIntervalMillis >= accessTokenMillis) {
+            throw new IllegalStateException("jwt.revocation.sync-interval (" + syncIntervalMillis
+                    + " ms) must be shorter than jwt.expiration (" + accessTokenMillis
+                    + " ms), or tokens revoked on another instance stay usable until they expire");
+        }
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = new Snapshot(new BloomFilter(expectedRevocations, falsePositiveRate), ConcurrentHashMap.newKeySet());
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        return current.filter().mightContain(tokenId) && current.revoked().contains(tokenId);
+    }
+
+    public synchronized void revoke(String tokenId, LocalDateTime expiresAt) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .revokedAt(LocalDateTime.now())
+                .build());
+        Snapshot current = snapshot;
+        current.revoked().add(tokenId);
+        current.filter().put(tokenId);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval}", initialDelayString = "${jwt.revocation.rebuild-interval}")
+    public synchronized void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        lastSync = now;
+        revokedTokenRepository.deleteExpired(now);
+        List<RevokedToken> active = revokedTokenRepository.findByExpiresAtAfter(now);
+
+        BloomFilter filter = new BloomFilter(Math.max(expectedRevocations, active.size() * 2), falsePositiveRate);
+        Set<String> revoked = ConcurrentHashMap.newKeySet(active.size());
+        for (RevokedToken token : active) {
+            filter.put(token.getTokenId());
+            revoked.add(token.getTokenId());
+        }
+        snapshot = new Snapshot(filter, revoked);
+        log.debug("Rebuilt token revocation list with {} entries", revoked.size());
+    }
+
+    /**
+     * Adds the tokens revoked since the last sync, including those revoked on other instances.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval}", initialDelayString = "${jwt.revocation.sync-interval}")
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = (lastSync != null ? lastSync : now).minus(SYNC_OVERLAP);
+        Snapshot current = snapshot;
+        for (RevokedToken token : revokedTokenRepository.findByRevokedAtAfter(since)) {
+            current.revoked().add(token.getTokenId());
+            current.filter().put(token.getTokenId());
+        }
+        lastSync = now;
+    }
+
+    private record Snapshot(BloomFilter filter, Set<String> revoked) {
+    }
+}
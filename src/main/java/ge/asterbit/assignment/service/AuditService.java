@@ -0,0 +1,8 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.dto.audit.AuditLogPage;
+import ge.asterbit.assignment.entity.AuditEntityType;
+
+public interface AuditService {
+    AuditLogPage getAuditLog(AuditEntityType entityType, Long entityId, Long actorId, Long before, int size);
+}
@@ -2,9 +2,12 @@ package ge.asterbit.assignment.service;
 
 import ge.asterbit.assignment.dto.auth.AuthRequest;
 import ge.asterbit.assignment.dto.auth.AuthResponse;
+import ge.asterbit.assignment.dto.auth.RefreshTokenRequest;
 import ge.asterbit.assignment.dto.auth.RegisterRequest;
 
 public interface AuthService {
     AuthResponse register(RegisterRequest request);
     AuthResponse authenticate(AuthRequest request);
-} 
\ No newline at end of file
+    AuthResponse refresh(RefreshTokenRequest request);
+    void logout(String accessToken, String refreshToken);
+}
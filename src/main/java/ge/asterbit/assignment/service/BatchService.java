@@ -0,0 +1,9 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.dto.batch.BatchRequest;
+import ge.asterbit.assignment.dto.batch.BatchResponse;
+import jakarta.servlet.http.HttpServletRequest;
+
+public interface BatchService {
+    BatchResponse execute(BatchRequest request, HttpServletRequest httpRequest);
+}
@@ -1,5 +1,6 @@
 package ge.asterbit.assignment.service;
 
+import ge.asterbit.assignment.dto.common.FieldSelection;
 import ge.asterbit.assignment.dto.project.CreateProjectRequest;
 import ge.asterbit.assignment.dto.project.ProjectDTO;
 import ge.asterbit.assignment.dto.project.UpdateProjectRequest;
@@ -9,13 +10,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface ProjectService {
-    Page<ProjectDTO> getAllProjects(Pageable pageable);
-    Page<ProjectDTO> getMyProjects(Pageable pageable);
-    ProjectDTO getProjectById(Long id);
+    Page<ProjectDTO> getAllProjects(Pageable pageable, FieldSelection fields);
+    Page<ProjectDTO> getMyProjects(Pageable pageable, FieldSelection fields);
+    ProjectDTO getProjectById(Long id, FieldSelection fields);
     ProjectDTO createProject(CreateProjectRequest request);
     ProjectDTO updateProject(Long id, UpdateProjectRequest request);
     void deleteProject(Long id);
     
     Project getProjectEntityById(Long id);
     Project getProjectEntityByIdAndOwner(Long id, User owner);
+
+    default Page<ProjectDTO> getAllProjects(Pageable pageable) {
+        return getAllProjects(pageable, FieldSelection.all());
+    }
+
+    default Page<ProjectDTO> getMyProjects(Pageable pageable) {
+        return getMyProjects(pageable, FieldSelection.all());
+    }
+
+    default ProjectDTO getProjectById(Long id) {
+        return getProjectById(id, FieldSelection.all());
+    }
 } 
\ No newline at end of file
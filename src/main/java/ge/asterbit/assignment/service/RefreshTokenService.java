@@ -0,0 +1,10 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.entity.User;
+
+public interface RefreshTokenService {
+    String createRefreshToken(User user);
+    User rotateRefreshToken(String refreshToken);
+    void revokeRefreshToken(String refreshToken);
+    void revokeAllForUser(Long userId);
+}
@@ -0,0 +1,15 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.dto.analytics.CycleTimeReportDTO;
+import ge.asterbit.assignment.dto.task.TaskStatusTransitionDTO;
+import ge.asterbit.assignment.entity.Task;
+import ge.asterbit.assignment.entity.TaskStatus;
+
+import java.util.List;
+
+public interface TaskHistoryService {
+    void recordTransition(Task task, TaskStatus fromStatus, TaskStatus toStatus);
+    List<TaskStatusTransitionDTO> getTransitions(Long taskId);
+    CycleTimeReportDTO getProjectCycleTimes(Long projectId);
+    CycleTimeReportDTO getAssigneeCycleTimes(Long userId);
+}
@@ -0,0 +1,11 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.dto.task.TaskImportDTO;
+import ge.asterbit.assignment.entity.TaskImportFormat;
+
+import java.io.InputStream;
+
+public interface TaskImportService {
+    TaskImportDTO importTasks(Long projectId, TaskImportFormat format, InputStream input);
+    TaskImportDTO getImport(Long importId);
+}
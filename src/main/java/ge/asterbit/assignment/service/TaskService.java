@@ -1,23 +1,65 @@
 package ge.asterbit.assignment.service;
 
+import ge.asterbit.assignment.dto.common.FieldSelection;
 import ge.asterbit.assignment.dto.task.CreateTaskRequest;
+import ge.asterbit.assignment.dto.task.MoveTaskRequest;
+import ge.asterbit.assignment.dto.task.TaskBoardDTO;
 import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.dto.task.TaskDependenciesDTO;
+import ge.asterbit.assignment.dto.task.TaskLookupResponse;
+import ge.asterbit.assignment.dto.task.TaskStatusTransitionDTO;
 import ge.asterbit.assignment.dto.task.UpdateTaskRequest;
 import ge.asterbit.assignment.entity.TaskPriority;
 import ge.asterbit.assignment.entity.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface TaskService {
-    Page<TaskDTO> getAllTasks(Pageable pageable);
-    Page<TaskDTO> getTasksByProject(Long projectId, Pageable pageable);
-    Page<TaskDTO> getMyTasks(Pageable pageable);
-    Page<TaskDTO> getTasksByProjectAndStatus(Long projectId, TaskStatus status, Pageable pageable);
-    Page<TaskDTO> getTasksByProjectAndPriority(Long projectId, TaskPriority priority, Pageable pageable);
-    TaskDTO getTaskById(Long id);
+    Page<TaskDTO> getAllTasks(Pageable pageable, FieldSelection fields);
+    Page<TaskDTO> getTasksByProject(Long projectId, Pageable pageable, FieldSelection fields);
+    Page<TaskDTO> getArchivedTasksByProject(Long projectId, Pageable pageable, FieldSelection fields);
+    Page<TaskDTO> getMyTasks(Pageable pageable, FieldSelection fields);
+    Page<TaskDTO> getTasksByProjectAndStatus(Long projectId, TaskStatus status, Pageable pageable, FieldSelection fields);
+    Page<TaskDTO> getTasksByProjectAndPriority(Long projectId, TaskPriority priority, Pageable pageable, FieldSelection fields);
+    TaskBoardDTO getProjectBoard(Long projectId, int limit);
+    List<TaskDTO> getReadyTasks(Long projectId, int limit);
+    List<TaskDTO> getCriticalPath(Long projectId);
+    TaskDTO getTaskById(Long id, FieldSelection fields);
+    TaskLookupResponse getTasksByIds(List<Long> ids, FieldSelection fields);
+    List<TaskStatusTransitionDTO> getTaskHistory(Long id);
     TaskDTO createTask(CreateTaskRequest request);
     TaskDTO updateTask(Long id, UpdateTaskRequest request);
     TaskDTO updateTaskStatus(Long id, TaskStatus status);
+    TaskDTO moveTask(Long id, MoveTaskRequest request);
     TaskDTO assignTask(Long id, Long userId);
+    TaskDependenciesDTO getTaskDependencies(Long id);
+    TaskDependenciesDTO addBlocker(Long id, Long blockerId);
+    void removeBlocker(Long id, Long blockerId);
     void deleteTask(Long id);
+
+    default Page<TaskDTO> getAllTasks(Pageable pageable) {
+        return getAllTasks(pageable, FieldSelection.all());
+    }
+
+    default Page<TaskDTO> getTasksByProject(Long projectId, Pageable pageable) {
+        return getTasksByProject(projectId, pageable, FieldSelection.all());
+    }
+
+    default Page<TaskDTO> getMyTasks(Pageable pageable) {
+        return getMyTasks(pageable, FieldSelection.all());
+    }
+
+    default Page<TaskDTO> getTasksByProjectAndStatus(Long projectId, TaskStatus status, Pageable pageable) {
+        return getTasksByProjectAndStatus(projectId, status, pageable, FieldSelection.all());
+    }
+
+    default Page<TaskDTO> getTasksByProjectAndPriority(Long projectId, TaskPriority priority, Pageable pageable) {
+        return getTasksByProjectAndPriority(projectId, priority, pageable, FieldSelection.all());
+    }
+
+    default TaskDTO getTaskById(Long id) {
+        return getTaskById(id, FieldSelection.all());
+    }
 } 
\ No newline at end of file
@@ -14,4 +14,5 @@ public interface UserService {
     
     User getUserEntityById(Long id);
     User getCurrentUserEntity();
+    User getCurrentUserReference();
 } 
\ No newline at end of file
@@ -0,0 +1,16 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.dto.webhook.CreateWebhookRequest;
+import ge.asterbit.assignment.dto.webhook.WebhookDeadLetterDTO;
+import ge.asterbit.assignment.dto.webhook.WebhookSubscriptionDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface WebhookService {
+    WebhookSubscriptionDTO createWebhook(Long projectId, CreateWebhookRequest request);
+    List<WebhookSubscriptionDTO> getWebhooks(Long projectId);
+    void deleteWebhook(Long projectId, Long webhookId);
+    Page<WebhookDeadLetterDTO> getDeadLetters(Long projectId, Long webhookId, Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.dto.analytics.WorkloadReportDTO;
+
+public interface WorkloadService {
+    WorkloadReportDTO getWorkload();
+}
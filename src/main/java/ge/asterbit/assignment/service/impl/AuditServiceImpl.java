@@ -0,0 +1,52 @@
+package ge.asterbit.assignment.service.impl;
+
+import ge.asterbit.assignment.dto.audit.AuditLogDTO;
+import ge.asterbit.assignment.dto.audit.AuditLogPage;
+import ge.asterbit.assignment.entity.AuditEntityType;
+import ge.asterbit.assignment.entity.AuditLog;
+import ge.asterbit.assignment.mapper.AuditLogMapper;
+import ge.asterbit.assignment.repository.AuditLogRepository;
+import ge.asterbit.assignment.repository.AuditLogSpecifications;
+import ge.asterbit.assignment.service.AuditService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AuditServiceImpl implements AuditService {
+
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogMapper auditLogMapper;
+
+    @Override
+    public AuditLogPage getAuditLog(AuditEntityType entityType, Long entityId, Long actorId, Long before, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Specification<AuditLog> specification = AuditLogSpecifications.idBefore(before)
+                .and(AuditLogSpecifications.hasEntityType(entityType))
+                .and(AuditLogSpecifications.hasEntityId(entityId))
+                .and(AuditLogSpecifications.byActor(actorId));
+
+        // One extra row tells whether another page exists without a count query
+        List<AuditLog> rows = auditLogRepository.findBy(specification, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "id"))
+                .limit(pageSize + 1)
+                .all());
+
+        boolean hasMore = rows.size() > pageSize;
+        List<AuditLogDTO> content = rows.stream()
+                .limit(pageSize)
+                .map(auditLogMapper::toDTO)
+                .toList();
+
+        return AuditLogPage.builder()
+                .content(content)
+                .nextCursor(hasMore ? content.get(content.size() - 1).getId() : null)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package ge.asterbit.assignment.service.impl;
 
 import ge.asterbit.assignment.dto.auth.AuthRequest;
 import ge.asterbit.assignment.dto.auth.AuthResponse;
+import ge.asterbit.assignment.dto.auth.RefreshTokenRequest;
 import ge.asterbit.assignment.dto.auth.RegisterRequest;
 import ge.asterbit.assignment.entity.Role;
 import ge.asterbit.assignment.entity.User;
@@ -9,14 +10,23 @@ import ge.asterbit.assignment.exception.ResourceNotFoundException;
 import ge.asterbit.assignment.mapper.UserMapper;
 import ge.asterbit.assignment.repository.UserRepository;
 import ge.asterbit.assignment.security.JwtService;
+import ge.asterbit.assignment.security.TokenRevocationList;
 import ge.asterbit.assignment.service.AuthService;
+import ge.asterbit.assignment.service.RefreshTokenService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
@@ -26,6 +36,8 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
     
     @Override
     @Transactional
@@ -39,33 +51,62 @@ public class AuthServiceImpl implements AuthService {
         user.setRole(Role.USER);
         
         User savedUser = userRepository.save(user);
-        String jwtToken = jwtService.generateToken(savedUser);
-        
-        return AuthResponse.builder()
-                .token(jwtToken)
-                .email(savedUser.getEmail())
-                .role(savedUser.getRole())
-                .build();
+        return buildAuthResponse(savedUser);
     }
     
     @Override
     public AuthResponse authenticate(AuthRequest request) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
                         request.getPassword()
                 )
         );
         
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with the provided email address"));
+        if (!(authentication.getPrincipal() instanceof User user)) {
+            throw new ResourceNotFoundException("User not found with the provided email address");
+        }
+        
+        return buildAuthResponse(user);
+    }
+    
+    @Override
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        User user = refreshTokenService.rotateRefreshToken(request.getRefreshToken());
+        return buildAuthResponse(user);
+    }
+    
+    @Override
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            try {
+                Claims claims = jwtService.extractAllClaims(accessToken);
+                tokenRevocationList.revoke(
+                        claims.getId(),
+                        LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault())
+                );
+            } catch (JwtException | IllegalArgumentException ex) {
+                // Expired or invalid access tokens are already unusable
+            }
+        }
         
+        if (refreshToken != null) {
+            refreshTokenService.revokeRefreshToken(refreshToken);
+        }
+    }
+    
+    private AuthResponse buildAuthResponse(User user) {
         String jwtToken = jwtService.generateToken(user);
+        String refreshToken = refreshTokenService.createRefreshToken(user);
         
         return AuthResponse.builder()
                 .token(jwtToken)
+                .refreshToken(refreshToken)
+                .expiresIn(jwtService.getExpiration() / 1000)
                 .email(user.getEmail())
                 .role(user.getRole())
                 .build();
     }
-} 
\ No newline at end of file
+}
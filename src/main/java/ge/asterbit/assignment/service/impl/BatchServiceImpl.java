@@ -0,0 +1,426 @@
+package ge.asterbit.assignment.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import ge.asterbit.assignment.dto.batch.BatchItemRequest;
+import ge.asterbit.assignment.dto.batch.BatchItemResponse;
+import ge.asterbit.assignment.dto.batch.BatchRequest;
+import ge.asterbit.assignment.dto.batch.BatchResponse;
+import ge.asterbit.assignment.exception.ApiError;
+import ge.asterbit.assignment.exception.BadRequestException;
+import ge.asterbit.assignment.security.RateLimiter;
+import ge.asterbit.assignment.service.BatchService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * Runs the items of a batch through the regular {@link DispatcherServlet} with the
+ * caller's already established security context, so JWT parsing and the filter
+ * chain run once per batch. GET items run in parallel on a bounded pool; all other
+ * items run one after another in the order given, alongside the reads. Every item
+ * is still charged against the caller's rate limit.
+ * <p>
+ * Items are handed to the {@code DispatcherServlet} directly and do not pass through
+ * the servlet filter chain: the Spring Security filters, {@code JwtAuthenticationFilter}
+ * and {@code RateLimitFilter} ran once for the batch request, the rate limit is charged
+ * here per item, and {@code @PreAuthorize} checks still apply inside the servlet. Token
+ * revocation and security epoch checks therefore happen once, when the batch arrives. The
+ * other filters are skipped as well, so items are not recorded in the
+ * {@code http.server.requests} metric; only the batch request is. A filter added later
+ * does not see batch items unless it is mirrored here.
+ * <p>
+ * Each item gets a {@link BatchSubRequest} and {@link BatchSubResponse} that hold their
+ * own copy of what they need from the batch request. An item that is abandoned at the
+ * timeout and keeps running never reads from or writes to the batch request or response.
+ * <p>
+ * Each write item runs in its own transaction, which the service methods join. It only
+ * commits if the batch is still waiting for it: once the batch timeout has passed and the
+ * item was reported as 504, the item rolls back, so a retry by the client cannot apply
+ * the change twice. Write items that have not started by then are skipped.
+ */
+@Slf4j
+@Service
+public class BatchServiceImpl implements BatchService, DisposableBean {
+
+    private static final String API_PATHS = "/api/v1/**";
+    private static final List<String> EXCLUDED_PATHS = List.of("/api/v1/auth/**", "/api/v1/batch/**");
+    private static final Set<String> METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+    private static final byte[] NO_BODY = new byte[0];
+
+    private static final int PENDING = 0;
+    private static final int COMMITTING = 1;
+    private static final int ABANDONED = 2;
+
+    private final DispatcherServlet dispatcherServlet;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxItems;
+    private final long maxRequestBytes;
+    private final long maxResponseBytes;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Timer itemTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public BatchServiceImpl(
+            DispatcherServlet dispatcherServlet,
+            RateLimiter rateLimiter,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            @Value("${batch.max-items}") int maxItems,
+            @Value("${batch.max-request-bytes}") long maxRequestBytes,
+            @Value("${batch.max-response-bytes}") long maxResponseBytes,
+            @Value("${batch.pool-size}") int poolSize,
+            @Value("${batch.queue-capacity}") int queueCapacity,
+            @Value("${batch.timeout}") long timeoutMillis,
+            MeterRegistry meterRegistry) {
+        this.dispatcherServlet = dispatcherServlet;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.maxItems = maxItems;
+        this.maxRequestBytes = maxRequestBytes;
+        this.maxResponseBytes = maxResponseBytes;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "batch-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.itemTimer = Timer.builder("batch.item.time")
+                .description("Time spent executing one batch sub-request")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("batch.items.rejected")
+                .description("Batch sub-requests rejected because the batch pool was saturated")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("batch.items.timeout")
+                .description("Batch sub-requests that did not finish within the batch timeout")
+                .register(meterRegistry);
+        Gauge.builder("batch.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("batch.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public BatchResponse execute(BatchRequest request, HttpServletRequest httpRequest) {
+        List<BatchItemRequest> items = request.getRequests();
+        if (items.size() > maxItems) {
+            throw new BadRequestException("A batch may contain at most " + maxItems + " requests");
+        }
+
+        List<byte[]> bodies = new ArrayList<>(items.size());
+        long requestBytes = 0;
+        for (BatchItemRequest item : items) {
+            byte[] body = serializeBody(item.getBody());
+            requestBytes += body.length;
+            bodies.add(body);
+        }
+        if (requestBytes > maxRequestBytes) {
+            throw new BadRequestException("Batch request bodies may not exceed " + maxRequestBytes + " bytes in total");
+        }
+
+        String rateLimitKey = "user:" + SecurityContextHolder.getContext().getAuthentication().getName();
+        AtomicReferenceArray<ItemResult> results = new AtomicReferenceArray<>(items.size());
+        BatchSubRequest[] subRequests = new BatchSubRequest[items.size()];
+        List<Integer> reads = new ArrayList<>();
+        List<Integer> writes = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            BatchItemRequest item = items.get(i);
+            String method = item.getMethod().toUpperCase(Locale.ROOT);
+            int queryStart = item.getPath().indexOf('?');
+            String path = queryStart < 0 ? item.getPath() : item.getPath().substring(0, queryStart);
+            String query = queryStart < 0 ? null : item.getPath().substring(queryStart + 1);
+
+            String error = validate(method, path);
+            if (error != null) {
+                results.set(i, failure(item, HttpStatus.BAD_REQUEST, error));
+                continue;
+            }
+            if (rateLimiter.tryConsume(rateLimiter.resolvePolicy(method, path), rateLimitKey) > 0) {
+                results.set(i, failure(item, HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please retry later"));
+                continue;
+            }
+
+            subRequests[i] = new BatchSubRequest(httpRequest, method, path, query, bodies.get(i));
+            (HttpMethod.GET.matches(method) ? reads : writes).add(i);
+        }
+
+        Map<Future<?>, List<Integer>> futures = new LinkedHashMap<>();
+        for (Integer index : reads) {
+            submit(List.of(index), i -> dispatch(items.get(i), subRequests[i]), items, results, futures);
+        }
+        Future<?> writeFuture = null;
+        AtomicIntegerArray writeStates = new AtomicIntegerArray(items.size());
+        if (!writes.isEmpty()) {
+            writeFuture = submit(writes,
+                    i -> writeStates.get(i) == PENDING
+                            ? dispatchInTransaction(items.get(i), subRequests[i], writeStates, i)
+                            : null,
+                    items, results, futures);
+        }
+        awaitAll(futures, writeFuture);
+        if (writeFuture != null) {
+            abandonUnfinishedWrites(writes, results, writeStates, writeFuture);
+        }
+
+        List<BatchItemResponse> responses = new ArrayList<>(items.size());
+        long responseBytes = 0;
+        for (int i = 0; i < items.size(); i++) {
+            ItemResult result = results.get(i);
+            if (result == null) {
+                timeoutCounter.increment();
+                result = failure(items.get(i), HttpStatus.GATEWAY_TIMEOUT, "Request did not complete within the batch timeout");
+            }
+            responseBytes += result.bodySize();
+            BatchItemResponse response = result.response();
+            if (responseBytes > maxResponseBytes && response.getBody() != null) {
+                response.setBody(null);
+                response.setTruncated(true);
+            }
+            responses.add(response);
+        }
+
+        return BatchResponse.builder()
+                .responses(responses)
+                .build();
+    }
+
+    private String validate(String method, String path) {
+        if (!METHODS.contains(method)) {
+            return "Unsupported method '" + method + "'";
+        }
+        if (!pathMatcher.match(API_PATHS, path) || path.contains("..")) {
+            return "Path must address an API endpoint under /api/v1";
+        }
+        for (String excluded : EXCLUDED_PATHS) {
+            if (pathMatcher.match(excluded, path)) {
+                return "Path '" + path + "' cannot be used inside a batch";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Runs {@code run} for each index in order on the batch pool; a {@code null} result
+     * stops the task.
+     *
+     * @return the task's future, or {@code null} if the pool rejected it
+     */
+    private Future<?> submit(List<Integer> indices, IntFunction<ItemResult> run, List<BatchItemRequest> items,
+                             AtomicReferenceArray<ItemResult> results, Map<Future<?>, List<Integer>> futures) {
+        Runnable task = () -> {
+            for (Integer index : indices) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                ItemResult result = run.apply(index);
+                if (result == null) {
+                    return;
+                }
+                results.compareAndSet(index, null, result);
+            }
+        };
+        try {
+            Future<?> future = executor.submit(new DelegatingSecurityContextRunnable(task));
+            futures.put(future, indices);
+            return future;
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment(indices.size());
+            for (Integer index : indices) {
+                results.set(index, failure(items.get(index), HttpStatus.SERVICE_UNAVAILABLE,
+                        "Batch service is busy, please retry shortly"));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Waits for all tasks until the batch timeout. Reads still running are cancelled;
+     * the write task is left to finish so its current item can roll back cleanly.
+     */
+    private void awaitAll(Map<Future<?>, List<Integer>> futures, Future<?> writeFuture) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (Future<?> future : futures.keySet()) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException ex) {
+                if (future != writeFuture) {
+                    future.cancel(true);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                if (future != writeFuture) {
+                    future.cancel(true);
+                }
+            } catch (ExecutionException ex) {
+                log.error("Batch task failed", ex.getCause());
+            }
+        }
+    }
+
+    /**
+     * Marks every write item without a result as abandoned, so it rolls back or is never
+     * started. An item that already passed its commit check is waited for instead, since
+     * its change is being committed and must be reported.
+     */
+    private void abandonUnfinishedWrites(List<Integer> writes, AtomicReferenceArray<ItemResult> results,
+                                         AtomicIntegerArray writeStates, Future<?> writeFuture) {
+        boolean committing = false;
+        for (Integer index : writes) {
+            if (results.get(index) == null && !writeStates.compareAndSet(index, PENDING, ABANDONED)) {
+                committing = true;
+            }
+        }
+        if (!committing) {
+            return;
+        }
+        try {
+            writeFuture.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            log.error("Batch task failed", ex.getCause());
+        }
+    }
+
+    private ItemResult dispatchInTransaction(BatchItemRequest item, BatchSubRequest subRequest,
+                                             AtomicIntegerArray writeStates, int index) {
+        ItemResult[] dispatched = new ItemResult[1];
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                dispatched[0] = dispatch(item, subRequest);
+                if (!writeStates.compareAndSet(index, PENDING, COMMITTING)) {
+                    // Already reported as timed out
+                    status.setRollbackOnly();
+                }
+            });
+            return writeStates.get(index) == ABANDONED ? null : dispatched[0];
+        } catch (UnexpectedRollbackException ex) {
+            // A failed service call marked the transaction; its error response stands
+            if (dispatched[0] != null && dispatched[0].response().getStatus() >= 400) {
+                return dispatched[0];
+            }
+            return failure(item, ex);
+        } catch (TransactionException ex) {
+            return failure(item, ex);
+        }
+    }
+
+    private ItemResult dispatch(BatchItemRequest item, BatchSubRequest subRequest) {
+        BatchSubResponse subResponse = new BatchSubResponse();
+        long startedAt = System.nanoTime();
+        try {
+            dispatcherServlet.service(subRequest, subResponse);
+        } catch (Exception ex) {
+            return failure(item, ex);
+        } finally {
+            itemTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        byte[] content = subResponse.getContentAsByteArray();
+        BatchItemResponse response = BatchItemResponse.builder()
+                .id(item.getId())
+                .status(subResponse.getStatus())
+                .body(parseBody(content))
+                .build();
+        return new ItemResult(response, content.length);
+    }
+
+    private ItemResult failure(BatchItemRequest item, Exception ex) {
+        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof AccessDeniedException) {
+            return failure(item, HttpStatus.FORBIDDEN, "You don't have permission to perform this request");
+        }
+        if (cause instanceof AuthenticationException) {
+            return failure(item, HttpStatus.UNAUTHORIZED, "Authentication required");
+        }
+        log.error("Batch item {} {} failed", item.getMethod(), item.getPath(), cause);
+        return failure(item, HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+    }
+
+    private ItemResult failure(BatchItemRequest item, HttpStatus status, String message) {
+        JsonNode body = objectMapper.valueToTree(new ApiError(status, message));
+        BatchItemResponse response = BatchItemResponse.builder()
+                .id(item.getId())
+                .status(status.value())
+                .body(body)
+                .build();
+        return new ItemResult(response, 0);
+    }
+
+    private byte[] serializeBody(JsonNode body) {
+        if (body == null || body.isNull()) {
+            return NO_BODY;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new BadRequestException("Invalid request body in batch");
+        }
+    }
+
+    private JsonNode parseBody(byte[] content) {
+        if (content.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(content);
+        } catch (IOException ex) {
+            return TextNode.valueOf(new String(content, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private record ItemResult(BatchItemResponse response, int bodySize) {
+    }
+}
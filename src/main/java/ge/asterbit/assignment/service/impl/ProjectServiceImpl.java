@@ -1,5 +1,6 @@
 package ge.asterbit.assignment.service.impl;
 
+import ge.asterbit.assignment.dto.common.FieldSelection;
 import ge.asterbit.assignment.dto.project.CreateProjectRequest;
 import ge.asterbit.assignment.dto.project.ProjectDTO;
 import ge.asterbit.assignment.dto.project.UpdateProjectRequest;
@@ -10,14 +11,22 @@ import ge.asterbit.assignment.exception.AccessDeniedException;
 import ge.asterbit.assignment.exception.ResourceNotFoundException;
 import ge.asterbit.assignment.mapper.ProjectMapper;
 import ge.asterbit.assignment.repository.ProjectRepository;
+import ge.asterbit.assignment.repository.ProjectSpecifications;
+import ge.asterbit.assignment.repository.projection.ProjectProjection;
+import ge.asterbit.assignment.repository.projection.ProjectionQueryExecutor;
 import ge.asterbit.assignment.service.ProjectService;
 import ge.asterbit.assignment.service.UserService;
+import ge.asterbit.assignment.webhook.WebhookDispatcher;
+import ge.asterbit.assignment.webhook.WebhookEventType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.function.Supplier;
+
 @Service
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
@@ -25,32 +34,35 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final UserService userService;
+    private final ProjectionQueryExecutor projectionQueryExecutor;
+    private final WebhookDispatcher webhookDispatcher;
 
     @Override
-    public Page<ProjectDTO> getAllProjects(Pageable pageable) {
+    public Page<ProjectDTO> getAllProjects(Pageable pageable, FieldSelection fields) {
         User currentUser = userService.getCurrentUserEntity();
         
         if (currentUser.getRole() != Role.ADMIN) {
             throw new AccessDeniedException("Only administrators can access all projects");
         }
         
-        return projectRepository.findAll(pageable)
-                .map(projectMapper::toDTO);
+        return findProjects(ProjectSpecifications.any(), pageable, fields,
+                () -> projectRepository.findAll(pageable));
     }
 
     @Override
-    public Page<ProjectDTO> getMyProjects(Pageable pageable) {
+    public Page<ProjectDTO> getMyProjects(Pageable pageable, FieldSelection fields) {
         User currentUser = userService.getCurrentUserEntity();
-        return projectRepository.findByOwner(currentUser, pageable)
-                .map(projectMapper::toDTO);
+        return findProjects(ProjectSpecifications.ownedBy(currentUser), pageable, fields,
+                () -> projectRepository.findByOwner(currentUser, pageable));
     }
 
     @Override
-    public ProjectDTO getProjectById(Long id) {
+    public ProjectDTO getProjectById(Long id, FieldSelection fields) {
         User currentUser = userService.getCurrentUserEntity();
         
         Project project = findProjectAndCheckAccess(id, currentUser);
-        return projectMapper.toDTO(project);
+        ProjectDTO projectDTO = projectMapper.toDTO(project);
+        return fields.isAll() ? projectDTO : ProjectProjection.SPEC.filter(projectDTO, fields.getFields());
     }
     
     @Override
@@ -75,7 +87,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
         
         Project project = projectMapper.createRequestToProject(request);
-        project.setOwner(currentUser);
+        project.setOwner(userService.getCurrentUserReference());
         
         Project savedProject = projectRepository.save(project);
         return projectMapper.toDTO(savedProject);
@@ -90,7 +102,10 @@ public class ProjectServiceImpl implements ProjectService {
         projectMapper.updateProjectFromRequest(request, project);
         
         Project updatedProject = projectRepository.save(project);
-        return projectMapper.toDTO(updatedProject);
+        ProjectDTO projectDTO = projectMapper.toDTO(updatedProject);
+        webhookDispatcher.publish(WebhookEventType.PROJECT_UPDATED, updatedProject.getId(), updatedProject.getId(),
+                projectDTO, currentUser.getEmail());
+        return projectDTO;
     }
 
     @Override
@@ -99,9 +114,20 @@ public class ProjectServiceImpl implements ProjectService {
         User currentUser = userService.getCurrentUserEntity();
         
         Project project = findProjectAndCheckAccess(id, currentUser);
+        // Published first: the project's subscriptions are deleted with it
+        webhookDispatcher.publish(WebhookEventType.PROJECT_DELETED, project.getId(), project.getId(), null,
+                currentUser.getEmail());
         projectRepository.delete(project);
     }
     
+    private Page<ProjectDTO> findProjects(Specification<Project> specification, Pageable pageable,
+                                          FieldSelection fields, Supplier<Page<Project>> fullQuery) {
+        if (fields.isAll()) {
+            return fullQuery.get().map(projectMapper::toDTO);
+        }
+        return projectionQueryExecutor.findAll(ProjectProjection.SPEC, specification, fields.getFields(), pageable);
+    }
+    
     private Project findProjectAndCheckAccess(Long id, User user) {
         Project project;
         
@@ -0,0 +1,102 @@
+package ge.asterbit.assignment.service.impl;
+
+import ge.asterbit.assignment.entity.RefreshToken;
+import ge.asterbit.assignment.entity.User;
+import ge.asterbit.assignment.repository.RefreshTokenRepository;
+import ge.asterbit.assignment.security.JwtService;
+import ge.asterbit.assignment.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Override
+    @Transactional
+    public String createRefreshToken(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .user(user)
+                .expiresAt(LocalDateTime.now().plusNanos(jwtService.getRefreshExpiration() * 1_000_000))
+                .build());
+
+        return rawToken;
+    }
+
+    @Override
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public User rotateRefreshToken(String refreshToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        if (token.isRevoked()) {
+            // A rotated token being presented again means it leaked: revoke the whole family
+            log.warn("Refresh token reuse detected for user {}", token.getUser().getId());
+            refreshTokenRepository.revokeAllByUserId(token.getUser().getId());
+            throw new BadCredentialsException("Refresh token has been revoked");
+        }
+
+        if (token.isExpired()) {
+            throw new BadCredentialsException("Refresh token has expired");
+        }
+
+        token.setRevoked(true);
+        refreshTokenRepository.save(token);
+        return token.getUser();
+    }
+
+    @Override
+    @Transactional
+    public void revokeRefreshToken(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .ifPresent(token -> {
+                    token.setRevoked(true);
+                    refreshTokenRepository.save(token);
+                });
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron}")
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.debug("Deleted {} expired refresh tokens", deleted);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
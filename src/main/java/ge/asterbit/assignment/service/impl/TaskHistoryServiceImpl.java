@@ -0,0 +1,165 @@
+package ge.asterbit.assignment.service.impl;
+
+import ge.asterbit.assignment.analytics.DurationHistogram;
+import ge.asterbit.assignment.dto.analytics.CycleTimeReportDTO;
+import ge.asterbit.assignment.dto.analytics.DurationStatsDTO;
+import ge.asterbit.assignment.dto.task.TaskStatusTransitionDTO;
+import ge.asterbit.assignment.entity.*;
+import ge.asterbit.assignment.exception.AccessDeniedException;
+import ge.asterbit.assignment.mapper.TaskMapper;
+import ge.asterbit.assignment.repository.ArchivedTaskStatusTransitionRepository;
+import ge.asterbit.assignment.repository.TaskDurationBucketRepository;
+import ge.asterbit.assignment.repository.TaskDurationBucketRepository.BucketCount;
+import ge.asterbit.assignment.repository.TaskStatusTransitionRepository;
+import ge.asterbit.assignment.service.ProjectService;
+import ge.asterbit.assignment.service.TaskHistoryService;
+import ge.asterbit.assignment.service.UserService;
+import ge.asterbit.assignment.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Records status transitions and keeps lead and cycle time histograms per project and
+ * assignee. Histograms are bumped once a task reaches {@code DONE}, after the status
+ * change has committed, so reading percentiles only sums a few hundred bucket rows.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskHistoryServiceImpl implements TaskHistoryService {
+
+    private final TaskStatusTransitionRepository transitionRepository;
+    private final ArchivedTaskStatusTransitionRepository archivedTransitionRepository;
+    private final TaskDurationBucketRepository bucketRepository;
+    private final TaskMapper taskMapper;
+    private final UserService userService;
+    private final ProjectService projectService;
+
+    @Override
+    public void recordTransition(Task task, TaskStatus fromStatus, TaskStatus toStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        Long projectId = task.getProject().getId();
+        Long assigneeId = task.getAssignedUser() != null ? task.getAssignedUser().getId() : null;
+
+        transitionRepository.save(TaskStatusTransition.builder()
+                .taskId(task.getId())
+                .projectId(projectId)
+                .assigneeId(assigneeId)
+                .fromStatus(fromStatus)
+                .toStatus(toStatus)
+                .transitionedAt(now)
+                .build());
+
+        if (toStatus != TaskStatus.DONE) {
+            return;
+        }
+
+        Map<DurationMetric, Long> durations = new EnumMap<>(DurationMetric.class);
+        if (task.getCreateDate() != null) {
+            durations.put(DurationMetric.LEAD, Duration.between(task.getCreateDate(), now).toSeconds());
+        }
+        // A backfilled start only says the task was in progress by then, so no cycle time is counted
+        transitionRepository.findFirstByTaskIdAndToStatusOrderByTransitionedAtAsc(task.getId(), TaskStatus.IN_PROGRESS)
+                .filter(started -> !started.isBackfilled())
+                .ifPresent(started -> durations.put(DurationMetric.CYCLE,
+                        Duration.between(started.getTransitionedAt(), now).toSeconds()));
+
+        Long histogramAssignee = assigneeId != null ? assigneeId : TaskDurationBucket.UNASSIGNED;
+        TransactionHooks.afterCommit(() -> durations.forEach((metric, seconds) ->
+                incrementBucket(projectId, histogramAssignee, metric, DurationHistogram.bucketFor(seconds))));
+    }
+
+    @Override
+    public List<TaskStatusTransitionDTO> getTransitions(Long taskId) {
+        List<TaskStatusTransition> transitions = transitionRepository.findByTaskIdOrderByTransitionedAtAsc(taskId);
+        if (!transitions.isEmpty()) {
+            return transitions.stream()
+                    .map(taskMapper::toTransitionDTO)
+                    .toList();
+        }
+        // Every live task has at least its creation row, so an empty history means it was archived
+        return archivedTransitionRepository.findByTaskIdOrderByTransitionedAtAsc(taskId).stream()
+                .map(taskMapper::toTransitionDTO)
+                .toList();
+    }
+
+    @Override
+    public CycleTimeReportDTO getProjectCycleTimes(Long projectId) {
+        User currentUser = userService.getCurrentUserEntity();
+        if (currentUser.getRole() == Role.ADMIN) {
+            projectService.getProjectEntityById(projectId);
+        } else {
+            projectService.getProjectEntityByIdAndOwner(projectId, currentUser);
+        }
+
+        return CycleTimeReportDTO.builder()
+                .projectId(projectId)
+                .leadTime(toStats(bucketRepository.sumByProject(projectId, DurationMetric.LEAD)))
+                .cycleTime(toStats(bucketRepository.sumByProject(projectId, DurationMetric.CYCLE)))
+                .build();
+    }
+
+    @Override
+    public CycleTimeReportDTO getAssigneeCycleTimes(Long userId) {
+        User currentUser = userService.getCurrentUserEntity();
+        if (currentUser.getRole() == Role.USER && !currentUser.getId().equals(userId)) {
+            throw new AccessDeniedException("You can only view your own cycle times");
+        }
+
+        // Managers only see the work someone did in the projects they own
+        if (currentUser.getRole() == Role.MANAGER && !currentUser.getId().equals(userId)) {
+            Long ownerId = currentUser.getId();
+            return CycleTimeReportDTO.builder()
+                    .assigneeId(userId)
+                    .leadTime(toStats(bucketRepository.sumByAssigneeAndProjectOwner(userId, ownerId, DurationMetric.LEAD)))
+                    .cycleTime(toStats(bucketRepository.sumByAssigneeAndProjectOwner(userId, ownerId, DurationMetric.CYCLE)))
+                    .build();
+        }
+
+        return CycleTimeReportDTO.builder()
+                .assigneeId(userId)
+                .leadTime(toStats(bucketRepository.sumByAssignee(userId, DurationMetric.LEAD)))
+                .cycleTime(toStats(bucketRepository.sumByAssignee(userId, DurationMetric.CYCLE)))
+                .build();
+    }
+
+    private void incrementBucket(Long projectId, Long assigneeId, DurationMetric metric, int bucket) {
+        try {
+            try {
+                bucketRepository.increment(projectId, assigneeId, metric.name(), bucket);
+            } catch (DataIntegrityViolationException ex) {
+                // A concurrent first insert of the same bucket won; the row exists now
+                bucketRepository.increment(projectId, assigneeId, metric.name(), bucket);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not update {} histogram for project {}", metric, projectId, ex);
+        }
+    }
+
+    private DurationStatsDTO toStats(List<BucketCount> bucketCounts) {
+        SortedMap<Integer, Long> counts = new TreeMap<>();
+        for (BucketCount bucketCount : bucketCounts) {
+            counts.put(bucketCount.getBucket(), bucketCount.getTaskCount());
+        }
+        long total = DurationHistogram.total(counts);
+
+        return DurationStatsDTO.builder()
+                .sampleSize(total)
+                .p50Seconds(DurationHistogram.percentile(counts, total, 0.50))
+                .p75Seconds(DurationHistogram.percentile(counts, total, 0.75))
+                .p90Seconds(DurationHistogram.percentile(counts, total, 0.90))
+                .p95Seconds(DurationHistogram.percentile(counts, total, 0.95))
+                .p99Seconds(DurationHistogram.percentile(counts, total, 0.99))
+                .build();
+    }
+}
@@ -0,0 +1,377 @@
+package ge.asterbit.assignment.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ge.asterbit.assignment.audit.AuditEvent;
+import ge.asterbit.assignment.audit.AuditWriter;
+import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.dto.task.TaskImportDTO;
+import ge.asterbit.assignment.entity.*;
+import ge.asterbit.assignment.exception.ResourceNotFoundException;
+import ge.asterbit.assignment.imports.ImportRecord;
+import ge.asterbit.assignment.imports.ImportRecordReader;
+import ge.asterbit.assignment.imports.ImportRowConverter;
+import ge.asterbit.assignment.imports.ImportedTask;
+import ge.asterbit.assignment.jdbc.TableWriter;
+import ge.asterbit.assignment.maintenance.TaskRankRebalancer;
+import ge.asterbit.assignment.mapper.TaskMapper;
+import ge.asterbit.assignment.notification.Notification;
+import ge.asterbit.assignment.notification.NotificationDispatcher;
+import ge.asterbit.assignment.notification.NotificationType;
+import ge.asterbit.assignment.ranking.FractionalIndex;
+import ge.asterbit.assignment.repository.TaskImportErrorRepository;
+import ge.asterbit.assignment.repository.TaskImportRepository;
+import ge.asterbit.assignment.repository.TaskRepository;
+import ge.asterbit.assignment.service.ProjectService;
+import ge.asterbit.assignment.service.TaskImportService;
+import ge.asterbit.assignment.service.UserService;
+import ge.asterbit.assignment.util.TransactionHooks;
+import ge.asterbit.assignment.webhook.WebhookDispatcher;
+import ge.asterbit.assignment.webhook.WebhookEventType;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Loads uploaded tasks in batches. Rows are parsed and validated while the upload streams
+ * in; each batch of valid rows is written to {@code task_import_staging} (with {@code COPY}
+ * on PostgreSQL), checked for unknown assignee emails with one query, moved into
+ * {@code tasks} with a single {@code INSERT ... SELECT} and removed from staging, all in one
+ * transaction. Rows are ranked after the existing tasks of their column before they are
+ * staged. Since the rows bypass Hibernate, the inserted tasks are read back and the audit
+ * log, webhooks and assignment notifications get the same events {@code createTask} would
+ * send, once the batch commits. Progress is saved with every batch, so {@link #getImport}
+ * shows how far a running import has come. Batches that already committed stay when a
+ * later one fails.
+ */
+@Slf4j
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final String STAGING_TABLE = "task_import_staging";
+    private static final String[] STAGING_COLUMNS = {
+            "import_id", "line_number", "title", "description", "status", "due_date", "priority", "assignee_email",
+            "rank_key"};
+
+    private static final String UNKNOWN_ASSIGNEES_SQL = "SELECT s.line_number, s.assignee_email "
+            + "FROM task_import_staging s WHERE s.import_id = :importId AND s.assignee_email IS NOT NULL "
+            + "AND NOT EXISTS (SELECT 1 FROM users u WHERE u.email = s.assignee_email)";
+
+    private static final String INSERT_TASKS_SQL = "INSERT INTO tasks (title, description, status, due_date, priority, "
+            + "project_id, assigned_user_id, rank_key, create_date, update_date) "
+            + "SELECT s.title, s.description, s.status, s.due_date, s.priority, :projectId, u.id, s.rank_key, :now, :now "
+            + "FROM task_import_staging s LEFT JOIN users u ON u.email = s.assignee_email "
+            + "WHERE s.import_id = :importId AND (s.assignee_email IS NULL OR u.id IS NOT NULL) "
+            + "ORDER BY s.line_number";
+
+    private static final String INSERT_TRANSITIONS_SQL = "INSERT INTO task_status_transitions "
+            + "(task_id, project_id, assignee_id, from_status, to_status, transitioned_at, backfilled) "
+            + "SELECT id, project_id, assigned_user_id, NULL, status, create_date, TRUE FROM tasks WHERE id IN (:ids)";
+
+    private static final String IMPORTED_TASKS_SQL = "SELECT t.id, t.title, t.description, t.status, t.due_date, "
+            + "t.priority, t.assigned_user_id, u.email AS assignee_email, t.create_date, t.update_date "
+            + "FROM tasks t LEFT JOIN users u ON u.id = t.assigned_user_id WHERE t.id IN (:ids) ORDER BY t.id";
+
+    private static final String CLEAR_STAGING_SQL = "DELETE FROM task_import_staging WHERE import_id = :importId";
+
+    private final TaskImportRepository taskImportRepository;
+    private final TaskImportErrorRepository taskImportErrorRepository;
+    private final TaskMapper taskMapper;
+    private final UserService userService;
+    private final ProjectService projectService;
+    private final TaskRepository taskRepository;
+    private final TaskRankRebalancer taskRankRebalancer;
+    private final WebhookDispatcher webhookDispatcher;
+    private final NotificationDispatcher notificationDispatcher;
+    private final AuditWriter auditWriter;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ImportRowConverter rowConverter;
+    private final int batchSize;
+    private final long maxRows;
+    private final int maxErrors;
+
+    public TaskImportServiceImpl(
+            TaskImportRepository taskImportRepository,
+            TaskImportErrorRepository taskImportErrorRepository,
+            TaskMapper taskMapper,
+            UserService userService,
+            ProjectService projectService,
+            TaskRepository taskRepository,
+            TaskRankRebalancer taskRankRebalancer,
+            WebhookDispatcher webhookDispatcher,
+            NotificationDispatcher notificationDispatcher,
+            AuditWriter auditWriter,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${tasks.import.batch-size}") int batchSize,
+            @Value("${tasks.import.max-rows}") long maxRows,
+            @Value("${tasks.import.max-errors}") int maxErrors) {
+        this.taskImportRepository = taskImportRepository;
+        this.taskImportErrorRepository = taskImportErrorRepository;
+        this.taskMapper = taskMapper;
+        this.userService = userService;
+        this.projectService = projectService;
+        this.taskRepository = taskRepository;
+        this.taskRankRebalancer = taskRankRebalancer;
+        this.webhookDispatcher = webhookDispatcher;
+        this.notificationDispatcher = notificationDispatcher;
+        this.auditWriter = auditWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.rowConverter = new ImportRowConverter(validator);
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public TaskImportDTO importTasks(Long projectId, TaskImportFormat format, InputStream input) {
+        User currentUser = userService.getCurrentUserEntity();
+        Project project = currentUser.getRole() == Role.ADMIN
+                ? projectService.getProjectEntityById(projectId)
+                : projectService.getProjectEntityByIdAndOwner(projectId, currentUser);
+
+        TaskImport taskImport = taskImportRepository.save(TaskImport.builder()
+                .projectId(projectId)
+                .createdBy(currentUser.getId())
+                .format(format)
+                .status(TaskImportStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build());
+
+        List<ImportedTask> batch = new ArrayList<>(batchSize);
+        List<TaskImportError> errors = new ArrayList<>();
+        try (ImportRecordReader reader = ImportRecordReader.open(format,
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), objectMapper)) {
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                if (taskImport.getRowsRead() == maxRows) {
+                    flush(taskImport, batch, errors, project, currentUser);
+                    throw new ImportAbortedException("The file has more than " + maxRows + " rows");
+                }
+                taskImport.setRowsRead(taskImport.getRowsRead() + 1);
+
+                ImportRowConverter.Result result = rowConverter.convert(record, projectId);
+                if (result.error() != null) {
+                    reject(taskImport, errors, record.lineNumber(), result.error());
+                } else {
+                    batch.add(result.task());
+                }
+                if (batch.size() == batchSize) {
+                    flush(taskImport, batch, errors, project, currentUser);
+                }
+            }
+            flush(taskImport, batch, errors, project, currentUser);
+            taskImport.setStatus(TaskImportStatus.COMPLETED);
+        } catch (IOException | DataAccessException | ImportAbortedException ex) {
+            log.warn("Import {} into project {} failed after {} rows", taskImport.getId(), projectId,
+                    taskImport.getRowsRead(), ex);
+            taskImport.setStatus(TaskImportStatus.FAILED);
+            taskImport.setErrorMessage(truncate(ex instanceof ImportAbortedException
+                    ? ex.getMessage()
+                    : "Import stopped: " + ex.getMessage()));
+        }
+
+        taskImport.setFinishedAt(LocalDateTime.now());
+        taskImportRepository.save(taskImport);
+        log.info("Import {} into project {} {}: {} imported, {} rejected", taskImport.getId(), projectId,
+                taskImport.getStatus(), taskImport.getRowsImported(), taskImport.getRowsRejected());
+        return toDTO(taskImport);
+    }
+
+    @Override
+    public TaskImportDTO getImport(Long importId) {
+        User currentUser = userService.getCurrentUserEntity();
+        TaskImport taskImport = taskImportRepository.findById(importId)
+                .filter(found -> currentUser.getRole() == Role.ADMIN || currentUser.getId().equals(found.getCreatedBy()))
+                .orElseThrow(() -> new ResourceNotFoundException("Import", "id", importId));
+        return toDTO(taskImport);
+    }
+
+    private void flush(TaskImport taskImport, List<ImportedTask> batch, List<TaskImportError> errors,
+                       Project project, User actor) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!batch.isEmpty()) {
+                loadBatch(taskImport, batch, errors, project, actor);
+            }
+            if (!errors.isEmpty()) {
+                taskImportErrorRepository.saveAll(errors);
+            }
+            taskImportRepository.save(taskImport);
+        });
+        batch.clear();
+        errors.clear();
+    }
+
+    private void loadBatch(TaskImport taskImport, List<ImportedTask> batch, List<TaskImportError> errors,
+                           Project project, User actor) {
+        Long importId = taskImport.getId();
+        List<String> ranks = rank(project.getId(), batch);
+        jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Void>) connection -> {
+            TableWriter.forConnection(connection, batchSize).write(connection, STAGING_TABLE, STAGING_COLUMNS,
+                    0, batch.size(), (index, row) -> {
+                        ImportedTask task = batch.get((int) index);
+                        row[0] = importId;
+                        row[1] = task.lineNumber();
+                        row[2] = task.title();
+                        row[3] = task.description();
+                        row[4] = task.status().name();
+                        row[5] = task.dueDate();
+                        row[6] = task.priority().name();
+                        row[7] = task.assigneeEmail();
+                        row[8] = ranks.get((int) index);
+                    });
+            return null;
+        });
+
+        MapSqlParameterSource params = new MapSqlParameterSource("importId", importId);
+        jdbcTemplate.query(UNKNOWN_ASSIGNEES_SQL, params, rs -> {
+            reject(taskImport, errors, rs.getLong("line_number"),
+                    "Unknown assignee email '" + rs.getString("assignee_email") + "'");
+        });
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(INSERT_TASKS_SQL, new MapSqlParameterSource("importId", importId)
+                .addValue("projectId", taskImport.getProjectId())
+                .addValue("now", LocalDateTime.now()), keyHolder, new String[]{"id"});
+        List<Long> taskIds = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+        if (!taskIds.isEmpty()) {
+            jdbcTemplate.update(INSERT_TRANSITIONS_SQL, new MapSqlParameterSource("ids", taskIds));
+            publishCreated(project, actor, taskIds);
+        }
+        jdbcTemplate.update(CLEAR_STAGING_SQL, params);
+
+        taskImport.setRowsImported(taskImport.getRowsImported() + taskIds.size());
+    }
+
+    /**
+     * Gives each row a key after the last ranked task of its column, as {@code createTask}
+     * does, so imported tasks keep their file order at the bottom of the board.
+     */
+    private List<String> rank(Long projectId, List<ImportedTask> batch) {
+        Map<TaskStatus, String> lastRanks = new EnumMap<>(TaskStatus.class);
+        List<String> ranks = new ArrayList<>(batch.size());
+        for (ImportedTask task : batch) {
+            String lower = lastRanks.containsKey(task.status())
+                    ? lastRanks.get(task.status())
+                    : taskRepository.findMaxRank(projectId, task.status()).orElse(null);
+            String rank = FractionalIndex.between(lower, null);
+            lastRanks.put(task.status(), rank);
+            ranks.add(rank);
+        }
+        TransactionHooks.afterCommit(() ->
+                lastRanks.forEach((status, rank) -> taskRankRebalancer.keyAssigned(projectId, status, rank)));
+        return ranks;
+    }
+
+    /**
+     * Sends the webhook, assignment notification and audit entry of every inserted task, all
+     * once the batch commits.
+     */
+    private void publishCreated(Project project, User actor, List<Long> taskIds) {
+        List<TaskDTO> tasks = jdbcTemplate.query(IMPORTED_TASKS_SQL, new MapSqlParameterSource("ids", taskIds),
+                (rs, rowNum) -> TaskDTO.builder()
+                        .id(rs.getLong("id"))
+                        .title(rs.getString("title"))
+                        .description(rs.getString("description"))
+                        .status(TaskStatus.valueOf(rs.getString("status")))
+                        .dueDate(rs.getObject("due_date", LocalDate.class))
+                        .priority(TaskPriority.valueOf(rs.getString("priority")))
+                        .projectId(project.getId())
+                        .projectName(project.getName())
+                        .assignedUserId(rs.getObject("assigned_user_id", Long.class))
+                        .assignedUserEmail(rs.getString("assignee_email"))
+                        .createDate(rs.getObject("create_date", LocalDateTime.class))
+                        .updateDate(rs.getObject("update_date", LocalDateTime.class))
+                        .build());
+
+        List<AuditEvent> auditEvents = new ArrayList<>(tasks.size());
+        for (TaskDTO task : tasks) {
+            webhookDispatcher.publish(WebhookEventType.TASK_CREATED, project.getId(), task.getId(), task,
+                    actor.getEmail());
+            if (task.getAssignedUserId() != null && !task.getAssignedUserId().equals(actor.getId())) {
+                notificationDispatcher.publish(new Notification(task.getAssignedUserId(),
+                        task.getAssignedUserEmail(), NotificationType.ASSIGNED, task.getId(), task.getTitle(),
+                        project.getId(), project.getName(), task.getDueDate(), actor.getEmail(),
+                        LocalDateTime.now()));
+            }
+            auditEvents.add(new AuditEvent(LocalDateTime.now(), actor.getId(), actor.getEmail(),
+                    AuditEntityType.TASK, task.getId(), AuditAction.CREATE, creationChanges(task)));
+        }
+        TransactionHooks.afterCommit(() -> auditEvents.forEach(auditWriter::publish));
+    }
+
+    /**
+     * The properties {@code AuditEventListener} records when a task is inserted through
+     * Hibernate, in the same order and form.
+     */
+    private static Map<String, AuditEvent.Change> creationChanges(TaskDTO task) {
+        Map<String, AuditEvent.Change> changes = new LinkedHashMap<>();
+        putCreated(changes, "assignedUserId", task.getAssignedUserId());
+        putCreated(changes, "description", task.getDescription());
+        putCreated(changes, "dueDate", task.getDueDate());
+        putCreated(changes, "priority", task.getPriority().name());
+        putCreated(changes, "projectId", task.getProjectId());
+        putCreated(changes, "status", task.getStatus().name());
+        putCreated(changes, "title", task.getTitle());
+        return changes;
+    }
+
+    private static void putCreated(Map<String, AuditEvent.Change> changes, String name, Object value) {
+        if (value != null) {
+            changes.put(name, new AuditEvent.Change(null, value));
+        }
+    }
+
+    private void reject(TaskImport taskImport, List<TaskImportError> errors, long lineNumber, String message) {
+        taskImport.setRowsRejected(taskImport.getRowsRejected() + 1);
+        if (taskImport.getRowsRejected() <= maxErrors) {
+            errors.add(TaskImportError.builder()
+                    .importId(taskImport.getId())
+                    .lineNumber(lineNumber)
+                    .message(truncate(message))
+                    .build());
+        }
+    }
+
+    private TaskImportDTO toDTO(TaskImport taskImport) {
+        TaskImportDTO dto = taskMapper.toImportDTO(taskImport);
+        dto.setErrors(taskImportErrorRepository.findByImportIdOrderByLineNumberAsc(taskImport.getId()).stream()
+                .map(taskMapper::toImportErrorDTO)
+                .toList());
+        return dto;
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 500 ? message.substring(0, 497) + "..." : message;
+    }
+
+    private static class ImportAbortedException extends RuntimeException {
+        ImportAbortedException(String message) {
+            super(message);
+        }
+    }
+}
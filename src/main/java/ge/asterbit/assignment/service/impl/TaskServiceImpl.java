@@ -1,84 +1,291 @@
 package ge.asterbit.assignment.service.impl;
 
+import ge.asterbit.assignment.dependency.DependencyGraph;
+import ge.asterbit.assignment.dependency.DependencyGraphCache;
+import ge.asterbit.assignment.dto.common.FieldSelection;
 import ge.asterbit.assignment.dto.task.CreateTaskRequest;
+import ge.asterbit.assignment.dto.task.MoveTaskRequest;
+import ge.asterbit.assignment.dto.task.TaskBoardColumnDTO;
+import ge.asterbit.assignment.dto.task.TaskBoardDTO;
 import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.dto.task.TaskDependenciesDTO;
+import ge.asterbit.assignment.dto.task.TaskLookupResponse;
+import ge.asterbit.assignment.dto.task.TaskStatusTransitionDTO;
 import ge.asterbit.assignment.dto.task.UpdateTaskRequest;
 import ge.asterbit.assignment.entity.*;
 import ge.asterbit.assignment.exception.AccessDeniedException;
+import ge.asterbit.assignment.exception.BadRequestException;
 import ge.asterbit.assignment.exception.ResourceNotFoundException;
+import ge.asterbit.assignment.exception.ServiceUnavailableException;
+import ge.asterbit.assignment.maintenance.TaskRankRebalancer;
 import ge.asterbit.assignment.mapper.TaskMapper;
+import ge.asterbit.assignment.notification.Notification;
+import ge.asterbit.assignment.notification.NotificationDispatcher;
+import ge.asterbit.assignment.notification.NotificationType;
+import ge.asterbit.assignment.ranking.FractionalIndex;
+import ge.asterbit.assignment.repository.ArchivedTaskRepository;
+import ge.asterbit.assignment.repository.TaskDependencyRepository;
 import ge.asterbit.assignment.repository.TaskRepository;
+import ge.asterbit.assignment.repository.TaskSpecifications;
+import ge.asterbit.assignment.repository.projection.ProjectionQueryExecutor;
+import ge.asterbit.assignment.repository.projection.TaskProjection;
 import ge.asterbit.assignment.service.ProjectService;
+import ge.asterbit.assignment.service.TaskHistoryService;
 import ge.asterbit.assignment.service.TaskService;
 import ge.asterbit.assignment.service.UserService;
+import ge.asterbit.assignment.util.TransactionHooks;
+import ge.asterbit.assignment.webhook.WebhookDispatcher;
+import ge.asterbit.assignment.webhook.WebhookEventType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    static final int MAX_LOOKUP_IDS = 500;
+    static final int MAX_BOARD_LIMIT = 100;
+    static final int MAX_RANK_LENGTH = 64;
+    static final int MAX_READY_SCAN = 1000;
+    private static final Sort BOARD_ORDER = Sort.by("rank", "id");
+    private static final Sort READY_ORDER = Sort.by(Sort.Order.asc("dueDate").nullsLast(), Sort.Order.asc("id"));
+    private static final Set<TaskStatus> OPEN_STATUSES = EnumSet.complementOf(EnumSet.of(TaskStatus.DONE));
+
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
     private final TaskMapper taskMapper;
     private final UserService userService;
     private final ProjectService projectService;
+    private final ProjectionQueryExecutor projectionQueryExecutor;
+    private final TaskHistoryService taskHistoryService;
+    private final TaskRankRebalancer taskRankRebalancer;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final DependencyGraphCache dependencyGraphCache;
+    private final NotificationDispatcher notificationDispatcher;
+    private final WebhookDispatcher webhookDispatcher;
 
     @Override
-    public Page<TaskDTO> getAllTasks(Pageable pageable) {
+    public Page<TaskDTO> getAllTasks(Pageable pageable, FieldSelection fields) {
         User currentUser = userService.getCurrentUserEntity();
         
         if (currentUser.getRole() != Role.ADMIN) {
             throw new AccessDeniedException("Only administrators can access all tasks");
         }
         
-        return taskRepository.findAll(pageable)
-                .map(taskMapper::toDTO);
+        return findTasks(TaskSpecifications.any(), pageable, fields,
+                () -> taskRepository.findAll(pageable));
+    }
+
+    @Override
+    public Page<TaskDTO> getTasksByProject(Long projectId, Pageable pageable, FieldSelection fields) {
+        User currentUser = userService.getCurrentUserEntity();
+        Project project = findProjectAndCheckAccess(projectId, currentUser);
+        
+        return findTasks(TaskSpecifications.inProject(project), pageable, fields,
+                () -> taskRepository.findByProject(project, pageable));
     }
 
     @Override
-    public Page<TaskDTO> getTasksByProject(Long projectId, Pageable pageable) {
+    public Page<TaskDTO> getArchivedTasksByProject(Long projectId, Pageable pageable, FieldSelection fields) {
         User currentUser = userService.getCurrentUserEntity();
         Project project = findProjectAndCheckAccess(projectId, currentUser);
         
-        return taskRepository.findByProject(project, pageable)
-                .map(taskMapper::toDTO);
+        return archivedTaskRepository.findByProject(project, pageable)
+                .map(archivedTask -> filterFields(taskMapper.toDTO(archivedTask), fields));
+    }
+
+    @Override
+    public Page<TaskDTO> getMyTasks(Pageable pageable, FieldSelection fields) {
+        User currentUser = userService.getCurrentUserEntity();
+        
+        return findTasks(TaskSpecifications.assignedTo(currentUser), pageable, fields,
+                () -> taskRepository.findByAssignedUser(currentUser, pageable));
     }
 
     @Override
-    public Page<TaskDTO> getMyTasks(Pageable pageable) {
+    public Page<TaskDTO> getTasksByProjectAndStatus(Long projectId, TaskStatus status, Pageable pageable,
+                                                    FieldSelection fields) {
         User currentUser = userService.getCurrentUserEntity();
+        Project project = findProjectAndCheckAccess(projectId, currentUser);
+        Pageable ordered = pageable.isPaged() && pageable.getSort().isUnsorted()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), BOARD_ORDER)
+                : pageable;
         
-        return taskRepository.findByAssignedUser(currentUser, pageable)
-                .map(taskMapper::toDTO);
+        return findTasks(TaskSpecifications.inProject(project).and(TaskSpecifications.hasStatus(status)), ordered, fields,
+                () -> taskRepository.findByProjectAndStatus(project, status, ordered));
     }
 
     @Override
-    public Page<TaskDTO> getTasksByProjectAndStatus(Long projectId, TaskStatus status, Pageable pageable) {
+    public Page<TaskDTO> getTasksByProjectAndPriority(Long projectId, TaskPriority priority, Pageable pageable,
+                                                      FieldSelection fields) {
         User currentUser = userService.getCurrentUserEntity();
         Project project = findProjectAndCheckAccess(projectId, currentUser);
         
-        return taskRepository.findByProjectAndStatus(project, status, pageable)
-                .map(taskMapper::toDTO);
+        return findTasks(TaskSpecifications.inProject(project).and(TaskSpecifications.hasPriority(priority)), pageable, fields,
+                () -> taskRepository.findByProjectAndPriority(project, priority, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskBoardDTO getProjectBoard(Long projectId, int limit) {
+        if (limit < 1 || limit > MAX_BOARD_LIMIT) {
+            throw new BadRequestException("Board limit must be between 1 and " + MAX_BOARD_LIMIT);
+        }
+        User currentUser = userService.getCurrentUserEntity();
+        Project project = findProjectAndCheckAccess(projectId, currentUser);
+
+        Map<TaskStatus, TaskBoardColumnDTO> columns = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            columns.put(status, TaskBoardColumnDTO.builder()
+                    .status(status)
+                    .tasks(new ArrayList<>())
+                    .build());
+        }
+        for (TaskRepository.BoardRow row : taskRepository.findBoard(project.getId(), limit)) {
+            TaskBoardColumnDTO column = columns.get(row.getStatus());
+            column.setTotal(row.getColumnTotal());
+            column.getTasks().add(taskMapper.toDTO(row));
+        }
+
+        return TaskBoardDTO.builder()
+                .projectId(project.getId())
+                .projectName(project.getName())
+                .limit(limit)
+                .columns(new ArrayList<>(columns.values()))
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getReadyTasks(Long projectId, int limit) {
+        if (limit < 1 || limit > MAX_BOARD_LIMIT) {
+            throw new BadRequestException("Ready task limit must be between 1 and " + MAX_BOARD_LIMIT);
+        }
+        User currentUser = userService.getCurrentUserEntity();
+        Project project = findProjectAndCheckAccess(projectId, currentUser);
+        DependencyGraph graph = dependencyGraphCache.get(project.getId());
+        
+        // At most countBlocked() open tasks are skipped, so one page is usually enough
+        int pageSize = Math.min(limit + graph.countBlocked(), MAX_READY_SCAN);
+        List<TaskDTO> ready = new ArrayList<>(limit);
+        Pageable pageable = PageRequest.of(0, pageSize, READY_ORDER);
+        Slice<Task> slice;
+        do {
+            slice = taskRepository.findByProjectAndStatusIn(project, OPEN_STATUSES, pageable);
+            for (Task task : slice) {
+                if (!graph.isBlocked(task.getId())) {
+                    ready.add(taskMapper.toDTO(task));
+                    if (ready.size() == limit) {
+                        return ready;
+                    }
+                }
+            }
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+        return ready;
     }
 
     @Override
-    public Page<TaskDTO> getTasksByProjectAndPriority(Long projectId, TaskPriority priority, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getCriticalPath(Long projectId) {
         User currentUser = userService.getCurrentUserEntity();
         Project project = findProjectAndCheckAccess(projectId, currentUser);
         
-        return taskRepository.findByProjectAndPriority(project, priority, pageable)
-                .map(taskMapper::toDTO);
+        List<Long> path = dependencyGraphCache.get(project.getId()).criticalPath();
+        Map<Long, Task> tasks = new HashMap<>();
+        for (Task task : taskRepository.findAllById(path)) {
+            tasks.put(task.getId(), task);
+        }
+        return path.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .map(taskMapper::toDTO)
+                .toList();
     }
 
     @Override
-    public TaskDTO getTaskById(Long id) {
+    public TaskDTO getTaskById(Long id, FieldSelection fields) {
         User currentUser = userService.getCurrentUserEntity();
         
-        Task task = findTaskAndCheckAccess(id, currentUser);
-        return taskMapper.toDTO(task);
+        Task task;
+        try {
+            task = findTaskAndCheckAccess(id, currentUser);
+        } catch (ResourceNotFoundException ex) {
+            ArchivedTask archivedTask = findArchivedTaskAndCheckAccess(id, currentUser).orElseThrow(() -> ex);
+            return filterFields(taskMapper.toDTO(archivedTask), fields);
+        }
+        return toDTO(task, fields);
+    }
+
+    @Override
+    public TaskLookupResponse getTasksByIds(List<Long> ids, FieldSelection fields) {
+        User currentUser = userService.getCurrentUserEntity();
+        
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.isEmpty()) {
+            throw new BadRequestException("At least one task id is required");
+        }
+        if (requested.size() > MAX_LOOKUP_IDS) {
+            throw new BadRequestException("At most " + MAX_LOOKUP_IDS + " task ids can be requested at once");
+        }
+        
+        Map<Long, Task> visible = new HashMap<>();
+        for (Task task : taskRepository.findAll(TaskSpecifications.fetchProjectAndAssignee()
+                .and(TaskSpecifications.idIn(requested))
+                .and(TaskSpecifications.visibleTo(currentUser)))) {
+            visible.put(task.getId(), task);
+        }
+        
+        // Only managers can tell forbidden from missing; a user gets 404 for tasks not assigned to them
+        Set<Long> existing = Set.of();
+        if (currentUser.getRole() == Role.MANAGER && visible.size() < requested.size()) {
+            List<Long> remaining = requested.stream().filter(id -> !visible.containsKey(id)).toList();
+            existing = new HashSet<>(taskRepository.findExistingIds(remaining));
+        }
+        
+        List<TaskDTO> found = new ArrayList<>(visible.size());
+        List<Long> forbidden = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            Task task = visible.get(id);
+            if (task != null) {
+                found.add(toDTO(task, fields));
+            } else if (existing.contains(id)) {
+                forbidden.add(id);
+            } else {
+                missing.add(id);
+            }
+        }
+        
+        return TaskLookupResponse.builder()
+                .found(found)
+                .forbidden(forbidden)
+                .missing(missing)
+                .build();
+    }
+
+    @Override
+    public List<TaskStatusTransitionDTO> getTaskHistory(Long id) {
+        User currentUser = userService.getCurrentUserEntity();
+        try {
+            findTaskAndCheckAccess(id, currentUser);
+        } catch (ResourceNotFoundException ex) {
+            findArchivedTaskAndCheckAccess(id, currentUser).orElseThrow(() -> ex);
+        }
+        return taskHistoryService.getTransitions(id);
     }
 
     @Override
@@ -95,9 +302,12 @@ public class TaskServiceImpl implements TaskService {
             User assignedUser = userService.getUserEntityById(request.getAssignedUserId());
             task.setAssignedUser(assignedUser);
         }
+        task.setRank(rankFor(project.getId(), task.getStatus(), null, null, null));
         
         Task savedTask = taskRepository.save(task);
-        return taskMapper.toDTO(savedTask);
+        taskHistoryService.recordTransition(savedTask, null, savedTask.getStatus());
+        notify(savedTask, savedTask.getAssignedUser(), NotificationType.ASSIGNED, currentUser);
+        return publish(WebhookEventType.TASK_CREATED, savedTask, currentUser);
     }
 
     @Override
@@ -111,6 +321,9 @@ public class TaskServiceImpl implements TaskService {
             throw new AccessDeniedException("You don't have permission to update this task");
         }
         
+        TaskStatus previousStatus = task.getStatus();
+        User previousAssignee = task.getAssignedUser();
+        LocalDate previousDueDate = task.getDueDate();
         taskMapper.updateTaskFromRequest(request, task);
         
         if (request.getAssignedUserId() != null) {
@@ -121,9 +334,20 @@ public class TaskServiceImpl implements TaskService {
             User assignedUser = userService.getUserEntityById(request.getAssignedUserId());
             task.setAssignedUser(assignedUser);
         }
+        if (task.getStatus() != previousStatus) {
+            task.setRank(rankFor(task.getProject().getId(), task.getStatus(), task.getId(), null, null));
+        }
         
         Task updatedTask = taskRepository.save(task);
-        return taskMapper.toDTO(updatedTask);
+        if (updatedTask.getStatus() != previousStatus) {
+            taskHistoryService.recordTransition(updatedTask, previousStatus, updatedTask.getStatus());
+            statusChanged(updatedTask, previousStatus);
+        }
+        if (!notifyAssignment(updatedTask, previousAssignee, currentUser)
+                && !Objects.equals(updatedTask.getDueDate(), previousDueDate)) {
+            notify(updatedTask, updatedTask.getAssignedUser(), NotificationType.DUE_DATE_CHANGED, currentUser);
+        }
+        return publish(WebhookEventType.TASK_UPDATED, updatedTask, currentUser);
     }
 
     @Override
@@ -137,10 +361,43 @@ public class TaskServiceImpl implements TaskService {
             throw new AccessDeniedException("Only the assigned user can update task status");
         }
         
+        TaskStatus previousStatus = task.getStatus();
+        if (status != previousStatus) {
+            task.setRank(rankFor(task.getProject().getId(), status, task.getId(), null, null));
+        }
         task.setStatus(status);
         Task updatedTask = taskRepository.save(task);
+        if (status != previousStatus) {
+            taskHistoryService.recordTransition(updatedTask, previousStatus, status);
+            statusChanged(updatedTask, previousStatus);
+        }
         
-        return taskMapper.toDTO(updatedTask);
+        return publish(WebhookEventType.TASK_UPDATED, updatedTask, currentUser);
+    }
+
+    @Override
+    @Transactional
+    public TaskDTO moveTask(Long id, MoveTaskRequest request) {
+        User currentUser = userService.getCurrentUserEntity();
+        
+        Task task = findTaskAndCheckAccess(id, currentUser);
+        
+        if (!canModifyTask(task, currentUser)) {
+            throw new AccessDeniedException("You don't have permission to move this task");
+        }
+        
+        TaskStatus previousStatus = task.getStatus();
+        TaskStatus status = request.getStatus() != null ? request.getStatus() : previousStatus;
+        task.setRank(rankFor(task.getProject().getId(), status, task.getId(), request.getAfterTaskId(),
+                request.getBeforeTaskId()));
+        task.setStatus(status);
+        
+        Task updatedTask = taskRepository.save(task);
+        if (status != previousStatus) {
+            taskHistoryService.recordTransition(updatedTask, previousStatus, status);
+            statusChanged(updatedTask, previousStatus);
+        }
+        return publish(WebhookEventType.TASK_UPDATED, updatedTask, currentUser);
     }
 
     @Override
@@ -155,11 +412,13 @@ public class TaskServiceImpl implements TaskService {
         Task task = findTaskAndCheckAccess(id, currentUser);
         
         User assignedUser = userService.getUserEntityById(userId);
+        User previousAssignee = task.getAssignedUser();
         
         task.setAssignedUser(assignedUser);
         Task updatedTask = taskRepository.save(task);
+        notifyAssignment(updatedTask, previousAssignee, currentUser);
         
-        return taskMapper.toDTO(updatedTask);
+        return publish(WebhookEventType.TASK_UPDATED, updatedTask, currentUser);
     }
 
     @Override
@@ -173,7 +432,113 @@ public class TaskServiceImpl implements TaskService {
             throw new AccessDeniedException("You don't have permission to delete this task");
         }
         
+        Long projectId = task.getProject().getId();
+        // Locked before the links are deleted, so a link added meanwhile cannot outlive the task
+        taskDependencyRepository.lockVersion(projectId);
+        if (taskDependencyRepository.deleteByTaskId(id) > 0) {
+            long version = lockDependencies(projectId);
+            dependencyGraphCache.linksChanged(projectId, version, graph -> graph.removeTask(id));
+        }
         taskRepository.delete(task);
+        webhookDispatcher.publish(WebhookEventType.TASK_DELETED, projectId, id, null, currentUser.getEmail());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskDependenciesDTO getTaskDependencies(Long id) {
+        User currentUser = userService.getCurrentUserEntity();
+        
+        Task task = findTaskAndCheckAccess(id, currentUser);
+        
+        return toDependenciesDTO(id, dependencyGraphCache.get(task.getProject().getId()));
+    }
+
+    @Override
+    @Transactional
+    public TaskDependenciesDTO addBlocker(Long id, Long blockerId) {
+        User currentUser = userService.getCurrentUserEntity();
+        
+        Task task = findTaskAndCheckAccess(id, currentUser);
+        
+        if (!canModifyTask(task, currentUser)) {
+            throw new AccessDeniedException("You don't have permission to change this task's dependencies");
+        }
+        if (id.equals(blockerId)) {
+            throw new BadRequestException("A task cannot block itself");
+        }
+        
+        Project project = task.getProject();
+        Task blocker = taskRepository.findByIdAndProject(blockerId, project)
+                .orElseThrow(() -> new BadRequestException("Task " + blockerId + " is not in project " + project.getId()));
+        
+        long version = lockDependencies(project.getId());
+        DependencyGraph graph = dependencyGraphCache.getAtVersion(project.getId(), version - 1);
+        List<Long> cycle = graph.findPath(id, blockerId);
+        if (!cycle.isEmpty()) {
+            throw new BadRequestException("Task " + blockerId + " already waits for task " + id + " ("
+                    + cycle.stream().map(String::valueOf).collect(Collectors.joining(" -> "))
+                    + "); the link would create a cycle");
+        }
+        if (!graph.getBlockers(id).contains(blockerId)) {
+            taskDependencyRepository.save(TaskDependency.builder()
+                    .projectId(project.getId())
+                    .blockingTaskId(blockerId)
+                    .blockedTaskId(id)
+                    .createDate(LocalDateTime.now())
+                    .build());
+        }
+        
+        TaskStatus blockerStatus = blocker.getStatus();
+        TaskStatus status = task.getStatus();
+        dependencyGraphCache.linksChanged(project.getId(), version,
+                changed -> changed.addLink(blockerId, blockerStatus, id, status));
+        
+        List<Long> blockedBy = new ArrayList<>(graph.getBlockers(id));
+        if (!blockedBy.contains(blockerId)) {
+            blockedBy.add(blockerId);
+            Collections.sort(blockedBy);
+        }
+        return TaskDependenciesDTO.builder()
+                .taskId(id)
+                .blockedBy(blockedBy)
+                .blocks(graph.getBlockedTasks(id))
+                .blocked(graph.isBlocked(id) || blockerStatus != TaskStatus.DONE)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void removeBlocker(Long id, Long blockerId) {
+        User currentUser = userService.getCurrentUserEntity();
+        
+        Task task = findTaskAndCheckAccess(id, currentUser);
+        
+        if (!canModifyTask(task, currentUser)) {
+            throw new AccessDeniedException("You don't have permission to change this task's dependencies");
+        }
+        
+        Long projectId = task.getProject().getId();
+        long version = lockDependencies(projectId);
+        if (taskDependencyRepository.deleteLink(blockerId, id) == 0) {
+            throw new ResourceNotFoundException("Task " + id + " is not blocked by task " + blockerId);
+        }
+        dependencyGraphCache.linksChanged(projectId, version, graph -> graph.removeLink(blockerId, id));
+    }
+    
+    private Page<TaskDTO> findTasks(Specification<Task> specification, Pageable pageable, FieldSelection fields,
+                                    Supplier<Page<Task>> fullQuery) {
+        if (fields.isAll()) {
+            return fullQuery.get().map(taskMapper::toDTO);
+        }
+        return projectionQueryExecutor.findAll(TaskProjection.SPEC, specification, fields.getFields(), pageable);
+    }
+    
+    private TaskDTO toDTO(Task task, FieldSelection fields) {
+        return filterFields(taskMapper.toDTO(task), fields);
+    }
+    
+    private TaskDTO filterFields(TaskDTO taskDTO, FieldSelection fields) {
+        return fields.isAll() ? taskDTO : TaskProjection.SPEC.filter(taskDTO, fields.getFields());
     }
     
     private Project findProjectAndCheckAccess(Long projectId, User user) {
@@ -211,6 +576,150 @@ public class TaskServiceImpl implements TaskService {
         return task;
     }
     
+    private Optional<ArchivedTask> findArchivedTaskAndCheckAccess(Long taskId, User user) {
+        if (user.getRole() == Role.USER) {
+            return archivedTaskRepository.findByIdAndAssignedUser(taskId, user);
+        }
+        
+        Optional<ArchivedTask> archivedTask = archivedTaskRepository.findById(taskId);
+        if (user.getRole() == Role.MANAGER && archivedTask.isPresent()
+                && !archivedTask.get().getProject().getOwner().getId().equals(user.getId())) {
+            throw new AccessDeniedException("You don't have permission to access this task");
+        }
+        return archivedTask;
+    }
+    
+    /**
+     * Serializes link changes of a project, and status changes of its linked tasks that
+     * change what is blocked, and returns its new link version.
+     */
+    private long lockDependencies(Long projectId) {
+        taskDependencyRepository.incrementVersion(projectId);
+        return taskDependencyRepository.findVersion(projectId);
+    }
+    
+    private void statusChanged(Task task, TaskStatus previousStatus) {
+        Long projectId = task.getProject().getId();
+        Long taskId = task.getId();
+        TaskStatus status = task.getStatus();
+        // Only DONE decides whether a task blocks others, so other moves leave cached graphs current
+        if ((previousStatus == TaskStatus.DONE || status == TaskStatus.DONE)
+                && taskDependencyRepository.existsByBlockingTaskIdOrBlockedTaskId(taskId, taskId)) {
+            long version = lockDependencies(projectId);
+            dependencyGraphCache.linksChanged(projectId, version, graph -> graph.setStatus(taskId, status));
+        } else {
+            dependencyGraphCache.statusChanged(projectId, taskId, status);
+        }
+    }
+    
+    private TaskDTO publish(WebhookEventType type, Task task, User actor) {
+        TaskDTO taskDTO = taskMapper.toDTO(task);
+        webhookDispatcher.publish(type, task.getProject().getId(), task.getId(), taskDTO, actor.getEmail());
+        return taskDTO;
+    }
+    
+    /**
+     * @return whether the task changed hands
+     */
+    private boolean notifyAssignment(Task task, User previousAssignee, User actor) {
+        User assignee = task.getAssignedUser();
+        Long previousId = previousAssignee != null ? previousAssignee.getId() : null;
+        if (Objects.equals(previousId, assignee != null ? assignee.getId() : null)) {
+            return false;
+        }
+        notify(task, assignee, NotificationType.ASSIGNED, actor);
+        notify(task, previousAssignee, NotificationType.UNASSIGNED, actor);
+        return true;
+    }
+    
+    private void notify(Task task, User recipient, NotificationType type, User actor) {
+        if (recipient == null || recipient.getId().equals(actor.getId())) {
+            return;
+        }
+        Project project = task.getProject();
+        notificationDispatcher.publish(new Notification(recipient.getId(), recipient.getEmail(), type,
+                task.getId(), task.getTitle(), project.getId(), project.getName(), task.getDueDate(),
+                actor.getEmail(), LocalDateTime.now()));
+    }
+    
+    private TaskDependenciesDTO toDependenciesDTO(Long taskId, DependencyGraph graph) {
+        return TaskDependenciesDTO.builder()
+                .taskId(taskId)
+                .blockedBy(graph.getBlockers(taskId))
+                .blocks(graph.getBlockedTasks(taskId))
+                .blocked(graph.isBlocked(taskId))
+                .build();
+    }
+    
+    /**
+     * Rank key placing a task between two neighbours of the target column, or at its end
+     * when neither is given. If a neighbour has no key yet, or the two keys are equal after
+     * concurrent moves, the column is rebalanced once and the neighbours are read again. The
+     * rebalancer only hears about the key once it is committed.
+     */
+    private String rankFor(Long projectId, TaskStatus status, Long taskId, Long afterTaskId, Long beforeTaskId) {
+        if (taskId != null && (taskId.equals(afterTaskId) || taskId.equals(beforeTaskId))) {
+            throw new BadRequestException("A task cannot be placed next to itself");
+        }
+        
+        for (int attempt = 0; ; attempt++) {
+            String lower;
+            String upper = null;
+            if (afterTaskId == null && beforeTaskId == null) {
+                lower = taskRepository.findMaxRank(projectId, status).orElse(null);
+            } else {
+                Map<Long, String> ranks = findNeighbourRanks(projectId, status, afterTaskId, beforeTaskId);
+                lower = ranks.get(afterTaskId);
+                upper = ranks.get(beforeTaskId);
+            }
+            
+            boolean ranked = (afterTaskId == null || lower != null) && (beforeTaskId == null || upper != null);
+            boolean ordered = lower == null || upper == null || lower.compareTo(upper) < 0;
+            String rank = ranked && ordered ? FractionalIndex.between(lower, upper) : null;
+            if (rank != null && rank.length() <= MAX_RANK_LENGTH) {
+                TransactionHooks.afterCommit(() -> taskRankRebalancer.keyAssigned(projectId, status, rank));
+                return rank;
+            }
+            if (attempt > 0) {
+                if (!ranked) {
+                    // Only possible if the neighbour was written again since the rebalance
+                    Long unranked = afterTaskId != null && lower == null ? afterTaskId : beforeTaskId;
+                    throw new ServiceUnavailableException("Task " + unranked + " is being moved, please retry", 1);
+                }
+                if (!ordered) {
+                    throw new BadRequestException("Task " + afterTaskId + " must come before task " + beforeTaskId);
+                }
+                throw new IllegalStateException("No rank key of at most " + MAX_RANK_LENGTH + " characters fits in the "
+                        + status + " column of project " + projectId + ", even after rebalancing");
+            }
+            taskRankRebalancer.rebalance(projectId, status, taskId);
+        }
+    }
+    
+    private Map<Long, String> findNeighbourRanks(Long projectId, TaskStatus status, Long afterTaskId, Long beforeTaskId) {
+        List<Long> ids = new ArrayList<>(2);
+        if (afterTaskId != null) {
+            ids.add(afterTaskId);
+        }
+        if (beforeTaskId != null) {
+            ids.add(beforeTaskId);
+        }
+        
+        Map<Long, String> ranks = new HashMap<>();
+        for (TaskRepository.RankedTask neighbour : taskRepository.findRanks(ids)) {
+            if (neighbour.getProjectId().equals(projectId) && neighbour.getStatus() == status) {
+                ranks.put(neighbour.getId(), neighbour.getRank());
+            }
+        }
+        for (Long neighbourId : ids) {
+            if (!ranks.containsKey(neighbourId)) {
+                throw new BadRequestException("Task " + neighbourId + " is not in the " + status
+                        + " column of project " + projectId);
+            }
+        }
+        return ranks;
+    }
+    
     private boolean canModifyTask(Task task, User user) {
         if (user.getRole() == Role.ADMIN) {
             return true;
@@ -6,7 +6,10 @@ import ge.asterbit.assignment.entity.User;
 import ge.asterbit.assignment.exception.ResourceNotFoundException;
 import ge.asterbit.assignment.mapper.UserMapper;
 import ge.asterbit.assignment.repository.UserRepository;
+import ge.asterbit.assignment.security.AuthenticatedUser;
+import ge.asterbit.assignment.security.SecurityEpochCache;
 import ge.asterbit.assignment.service.UserService;
+import ge.asterbit.assignment.util.TransactionHooks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,12 +18,15 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final SecurityEpochCache securityEpochCache;
 
     @Override
     public Page<UserDTO> getAllUsers(Pageable pageable) {
@@ -43,16 +49,42 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserDTO getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
         
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        // The DTO carries the timestamps, which are not in the token
+        User user = authentication.getPrincipal() instanceof AuthenticatedUser principal
+                ? userRepository.findById(principal.id())
+                        .orElseThrow(() -> new ResourceNotFoundException("User not found"))
+                : currentUserOf(authentication);
         
         return userMapper.toDTO(user);
     }
     
+    /**
+     * The current user as carried by the request's token: id, email, role and security
+     * epoch, without reading the {@code users} row. The instance is not managed, so use
+     * {@link #getCurrentUserReference()} to link the user from another entity.
+     */
     public User getCurrentUserEntity() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return currentUserOf(SecurityContextHolder.getContext().getAuthentication());
+    }
+    
+    public User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentUserEntity().getId());
+    }
+    
+    private User currentUserOf(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return User.builder()
+                    .id(principal.id())
+                    .email(principal.email())
+                    .role(principal.role())
+                    .securityEpoch(principal.securityEpoch())
+                    .build();
+        }
+        if (authentication.getPrincipal() instanceof User user) {
+            return user;
+        }
+        
         String email = authentication.getName();
         
         return userRepository.findByEmail(email)
@@ -64,7 +96,18 @@ public class UserServiceImpl implements UserService {
     public UserDTO assignRole(Long userId, Role role) {
         User user = getUserEntityById(userId);
         user.setRole(role);
+        user.setSecurityEpoch(user.getSecurityEpoch() + 1);
+        user.setSecurityEpochChangedAt(LocalDateTime.now());
         User updatedUser = userRepository.save(user);
+        bumpEpochAfterCommit(userId, user.getSecurityEpoch());
         return userMapper.toDTO(updatedUser);
     }
+    
+    /**
+     * A rolled-back role change must not move the cached epoch ahead of the database, or
+     * every valid token of the user would be rejected until the entry expires.
+     */
+    private void bumpEpochAfterCommit(Long userId, int epoch) {
+        TransactionHooks.afterCommit(() -> securityEpochCache.bump(userId, epoch));
+    }
 } 
\ No newline at end of file
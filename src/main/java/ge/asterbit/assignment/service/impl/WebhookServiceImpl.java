@@ -0,0 +1,120 @@
+package ge.asterbit.assignment.service.impl;
+
+import ge.asterbit.assignment.dto.webhook.CreateWebhookRequest;
+import ge.asterbit.assignment.dto.webhook.WebhookDeadLetterDTO;
+import ge.asterbit.assignment.dto.webhook.WebhookSubscriptionDTO;
+import ge.asterbit.assignment.entity.Project;
+import ge.asterbit.assignment.entity.Role;
+import ge.asterbit.assignment.entity.User;
+import ge.asterbit.assignment.entity.WebhookSubscription;
+import ge.asterbit.assignment.exception.BadRequestException;
+import ge.asterbit.assignment.exception.ResourceNotFoundException;
+import ge.asterbit.assignment.mapper.WebhookMapper;
+import ge.asterbit.assignment.repository.WebhookDeadLetterRepository;
+import ge.asterbit.assignment.repository.WebhookSubscriptionRepository;
+import ge.asterbit.assignment.service.ProjectService;
+import ge.asterbit.assignment.service.UserService;
+import ge.asterbit.assignment.service.WebhookService;
+import ge.asterbit.assignment.webhook.WebhookDispatcher;
+import ge.asterbit.assignment.webhook.WebhookUrlPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class WebhookServiceImpl implements WebhookService {
+
+    static final int MAX_WEBHOOKS_PER_PROJECT = 10;
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final WebhookDeadLetterRepository deadLetterRepository;
+    private final WebhookMapper webhookMapper;
+    private final UserService userService;
+    private final ProjectService projectService;
+    private final WebhookDispatcher webhookDispatcher;
+    private final WebhookUrlPolicy webhookUrlPolicy;
+
+    @Override
+    @Transactional
+    public WebhookSubscriptionDTO createWebhook(Long projectId, CreateWebhookRequest request) {
+        User currentUser = userService.getCurrentUserEntity();
+        
+        Project project = findProjectAndCheckAccess(projectId, currentUser);
+        if (subscriptionRepository.findByProjectIdOrderByIdAsc(project.getId()).size() >= MAX_WEBHOOKS_PER_PROJECT) {
+            throw new BadRequestException("A project can have at most " + MAX_WEBHOOKS_PER_PROJECT + " webhooks");
+        }
+        checkUrl(request.getUrl());
+        
+        WebhookSubscription subscription = WebhookSubscription.builder()
+                .projectId(project.getId())
+                .url(request.getUrl())
+                .secret(request.getSecret())
+                .maxBatchSize(request.getMaxBatchSize())
+                .createdBy(currentUser.getId())
+                .createDate(LocalDateTime.now())
+                .build();
+        WebhookSubscription savedSubscription = subscriptionRepository.save(subscription);
+        webhookDispatcher.subscriptionsChanged(project.getId());
+        return webhookMapper.toDTO(savedSubscription);
+    }
+
+    @Override
+    public List<WebhookSubscriptionDTO> getWebhooks(Long projectId) {
+        User currentUser = userService.getCurrentUserEntity();
+        
+        Project project = findProjectAndCheckAccess(projectId, currentUser);
+        return subscriptionRepository.findByProjectIdOrderByIdAsc(project.getId()).stream()
+                .map(webhookMapper::toDTO)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void deleteWebhook(Long projectId, Long webhookId) {
+        User currentUser = userService.getCurrentUserEntity();
+        
+        WebhookSubscription subscription = findWebhookAndCheckAccess(projectId, webhookId, currentUser);
+        deadLetterRepository.deleteBySubscriptionId(subscription.getId());
+        subscriptionRepository.delete(subscription);
+        webhookDispatcher.subscriptionRemoved(projectId, subscription.getId());
+    }
+
+    @Override
+    public Page<WebhookDeadLetterDTO> getDeadLetters(Long projectId, Long webhookId, Pageable pageable) {
+        User currentUser = userService.getCurrentUserEntity();
+        
+        WebhookSubscription subscription = findWebhookAndCheckAccess(projectId, webhookId, currentUser);
+        return deadLetterRepository.findBySubscriptionIdOrderByIdDesc(subscription.getId(), pageable)
+                .map(webhookMapper::toDeadLetterDTO);
+    }
+    
+    private WebhookSubscription findWebhookAndCheckAccess(Long projectId, Long webhookId, User user) {
+        Project project = findProjectAndCheckAccess(projectId, user);
+        return subscriptionRepository.findByIdAndProjectId(webhookId, project.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Webhook", "id", webhookId));
+    }
+    
+    private Project findProjectAndCheckAccess(Long projectId, User user) {
+        if (user.getRole() == Role.ADMIN) {
+            return projectService.getProjectEntityById(projectId);
+        }
+        return projectService.getProjectEntityByIdAndOwner(projectId, user);
+    }
+    
+    private void checkUrl(String url) {
+        try {
+            webhookUrlPolicy.check(url);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException(ex.getMessage());
+        } catch (UnknownHostException ex) {
+            throw new BadRequestException("Webhook URL host cannot be resolved: " + ex.getMessage());
+        }
+    }
+}
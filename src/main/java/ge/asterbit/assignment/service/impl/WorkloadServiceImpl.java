@@ -0,0 +1,108 @@
+package ge.asterbit.assignment.service.impl;
+
+import ge.asterbit.assignment.dto.analytics.AssigneeWorkloadDTO;
+import ge.asterbit.assignment.dto.analytics.WorkloadReportDTO;
+import ge.asterbit.assignment.entity.Role;
+import ge.asterbit.assignment.entity.TaskStatus;
+import ge.asterbit.assignment.entity.User;
+import ge.asterbit.assignment.repository.TaskRepository;
+import ge.asterbit.assignment.repository.TaskRepository.WorkloadRow;
+import ge.asterbit.assignment.service.UserService;
+import ge.asterbit.assignment.service.WorkloadService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Open task counts per assignee over the caller's projects, or over all projects for an
+ * administrator. Each report is a single grouped query and is cached per caller for
+ * {@code analytics.workload-cache-ttl}, so a dashboard polling it does not rescan the tasks
+ * of hundreds of projects on every refresh.
+ */
+@Service
+public class WorkloadServiceImpl implements WorkloadService {
+
+    private static final Set<TaskStatus> OPEN_STATUSES = EnumSet.complementOf(EnumSet.of(TaskStatus.DONE));
+
+    private final TaskRepository taskRepository;
+    private final UserService userService;
+    private final long ttlMillis;
+    private final Map<Long, Entry> reports = new ConcurrentHashMap<>();
+
+    public WorkloadServiceImpl(TaskRepository taskRepository,
+                               UserService userService,
+                               @Value("${analytics.workload-cache-ttl}") long ttlMillis) {
+        this.taskRepository = taskRepository;
+        this.userService = userService;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WorkloadReportDTO getWorkload() {
+        User currentUser = userService.getCurrentUserEntity();
+        long now = System.currentTimeMillis();
+        Entry entry = reports.get(currentUser.getId());
+        if (entry == null || entry.loadedAt() + ttlMillis < now || entry.role() != currentUser.getRole()) {
+            entry = new Entry(load(currentUser), currentUser.getRole(), now);
+            reports.put(currentUser.getId(), entry);
+        }
+        return entry.report();
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.workload-cache-ttl}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMillis;
+        reports.values().removeIf(entry -> entry.loadedAt() < cutoff);
+    }
+
+    private WorkloadReportDTO load(User user) {
+        LocalDate today = LocalDate.now();
+        List<WorkloadRow> rows = user.getRole() == Role.ADMIN
+                ? taskRepository.findWorkload(OPEN_STATUSES, today)
+                : taskRepository.findWorkloadByProjectOwner(user, OPEN_STATUSES, today);
+
+        List<AssigneeWorkloadDTO> assignees = new ArrayList<>(rows.size());
+        AssigneeWorkloadDTO unassigned = null;
+        for (WorkloadRow row : rows) {
+            AssigneeWorkloadDTO workload = toDTO(row);
+            if (row.getAssigneeId() == null) {
+                unassigned = workload;
+            } else {
+                assignees.add(workload);
+            }
+        }
+
+        return WorkloadReportDTO.builder()
+                .generatedAt(LocalDateTime.now())
+                .assignees(assignees)
+                .unassigned(unassigned)
+                .build();
+    }
+
+    private AssigneeWorkloadDTO toDTO(WorkloadRow row) {
+        return AssigneeWorkloadDTO.builder()
+                .assigneeId(row.getAssigneeId())
+                .assigneeEmail(row.getAssigneeEmail())
+                .openTasks(row.getOpenTasks())
+                .highPriority(row.getHighPriority())
+                .mediumPriority(row.getMediumPriority())
+                .lowPriority(row.getLowPriority())
+                .overdue(row.getOverdue())
+                .noDueDate(row.getNoDueDate())
+                .build();
+    }
+
+    private record Entry(WorkloadReportDTO report, Role role, long loadedAt) {
+    }
+}
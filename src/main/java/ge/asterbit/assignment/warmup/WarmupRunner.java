@@ -0,0 +1,294 @@
+package ge.asterbit.assignment.warmup;
+
+import ge.asterbit.assignment.dto.task.CreateTaskRequest;
+import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.entity.TaskPriority;
+import ge.asterbit.assignment.entity.TaskStatus;
+import ge.asterbit.assignment.entity.User;
+import ge.asterbit.assignment.repository.UserRepository;
+import ge.asterbit.assignment.security.JwtService;
+import ge.asterbit.assignment.service.TaskService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional warm-up that runs before the application reports ready. Runners complete
+ * before Spring Boot publishes {@code ACCEPTING_TRAFFIC}, so the readiness probe stays
+ * {@code OUT_OF_SERVICE} until this returns. Each round sends read-only requests
+ * through the local port, so they pass the real filter chain, JWT parsing, services,
+ * mappers and Jackson, plus one invalid create that only exercises validation. Create
+ * and status change are also run at service level in a transaction that is always
+ * rolled back. The run stops after {@code warmup.iterations} rounds or
+ * {@code warmup.timeout}, whichever comes first.
+ */
+@Slf4j
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final boolean enabled;
+    private final String userEmail;
+    private final int iterations;
+    private final int concurrency;
+    private final int writeEvery;
+    private final Duration timeout;
+    private final Environment environment;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JwtService jwtService;
+    private final TaskService taskService;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer durationTimer;
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+
+    public WarmupRunner(
+            @Value("${warmup.enabled}") boolean enabled,
+            @Value("${warmup.user-email}") String userEmail,
+            @Value("${warmup.iterations}") int iterations,
+            @Value("${warmup.concurrency}") int concurrency,
+            @Value("${warmup.write-every}") int writeEvery,
+            @Value("${warmup.timeout}") Duration timeout,
+            Environment environment,
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            JwtService jwtService,
+            TaskService taskService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.userEmail = userEmail;
+        this.iterations = iterations;
+        this.concurrency = concurrency;
+        this.writeEvery = writeEvery;
+        this.timeout = timeout;
+        this.environment = environment;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jwtService = jwtService;
+        this.taskService = taskService;
+        this.transactionTemplate = transactionTemplate;
+        this.durationTimer = Timer.builder("warmup.duration")
+                .description("Time spent warming up before readiness")
+                .register(meterRegistry);
+        this.succeededCounter = Counter.builder("warmup.requests")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("warmup.requests")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        Optional<User> user = userRepository.findByEmail(userEmail);
+        if (port == null || user.isEmpty()) {
+            log.warn("Skipping warm-up: {}", port == null ? "no web server" : "user " + userEmail + " not found");
+            return;
+        }
+
+        WarmupTarget target = findTarget();
+        // Lives no longer than the run itself and is only honoured from loopback
+        String token = jwtService.generateWarmupToken(user.get(), timeout.plus(REQUEST_TIMEOUT));
+        List<WarmupCall> calls = WarmupCall.forTarget(target);
+        URI base = URI.create("http://localhost:" + port);
+
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        AtomicInteger rounds = new AtomicInteger();
+        AtomicInteger completedRounds = new AtomicInteger();
+        AtomicLong firstRoundNanos = new AtomicLong();
+        AtomicLong lastRoundNanos = new AtomicLong();
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+
+        log.info("Warming up with {} workers for at most {} rounds or {}", concurrency, iterations, timeout);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                int round;
+                while ((round = rounds.getAndIncrement()) < iterations && System.nanoTime() < deadline) {
+                    long roundStart = System.nanoTime();
+                    for (WarmupCall call : calls) {
+                        count(send(base, token, call, deadline), succeeded, failed);
+                    }
+                    if (target.projectId() != null && writeEvery > 0 && round % writeEvery == 0) {
+                        count(rolledBackWrite(user.get(), target.projectId()), succeeded, failed);
+                    }
+                    long roundNanos = System.nanoTime() - roundStart;
+                    firstRoundNanos.compareAndSet(0, roundNanos);
+                    lastRoundNanos.set(roundNanos);
+                    completedRounds.incrementAndGet();
+                }
+            });
+        }
+        workers.shutdown();
+        // Workers check the deadline between requests; give the last ones time to return
+        if (!workers.awaitTermination(timeout.plus(REQUEST_TIMEOUT).toNanos(), TimeUnit.NANOSECONDS)) {
+            workers.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        durationTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Warm-up finished in {} ms: {} rounds, {} requests, {} failed{}; round time {} ms -> {} ms",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), completedRounds.get(),
+                succeeded.get() + failed.get(), failed.get(),
+                System.nanoTime() >= deadline ? ", stopped by timeout" : "",
+                TimeUnit.NANOSECONDS.toMillis(firstRoundNanos.get()),
+                TimeUnit.NANOSECONDS.toMillis(lastRoundNanos.get()));
+    }
+
+    private void count(Boolean success, AtomicLong succeeded, AtomicLong failed) {
+        if (success == null) {
+            return;
+        }
+        (success ? succeeded : failed).incrementAndGet();
+        (success ? succeededCounter : failedCounter).increment();
+    }
+
+    /**
+     * Returns whether the expected status came back, or {@code null} if the request was
+     * not sent because the deadline has passed.
+     */
+    private Boolean send(URI base, String token, WarmupCall call, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return null;
+        }
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(call.path()))
+                .timeout(Duration.ofNanos(Math.min(remaining, REQUEST_TIMEOUT.toNanos())))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .method(call.method(), call.body() == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(call.body()))
+                .build();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != call.expectedStatus()) {
+                log.debug("Warm-up {} {} returned {}", call.method(), call.path(), response.statusCode());
+                return false;
+            }
+            return true;
+        } catch (IOException ex) {
+            log.debug("Warm-up {} {} failed", call.method(), call.path(), ex);
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private boolean rolledBackWrite(User user, Long projectId) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                TaskDTO task = taskService.createTask(CreateTaskRequest.builder()
+                        .title("Warm-up task")
+                        .description("Rolled back")
+                        .dueDate(LocalDate.now().plusDays(7))
+                        .priority(TaskPriority.MEDIUM)
+                        .projectId(projectId)
+                        .assignedUserId(user.getId())
+                        .build());
+                taskService.updateTaskStatus(task.getId(), TaskStatus.IN_PROGRESS);
+            });
+            return true;
+        } catch (RuntimeException ex) {
+            log.debug("Warm-up write failed", ex);
+            return false;
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private WarmupTarget findTarget() {
+        List<WarmupTarget> latestTask = jdbcTemplate.query(
+                "SELECT project_id, id FROM tasks ORDER BY id DESC LIMIT 1",
+                (rs, rowNum) -> new WarmupTarget(rs.getLong(1), rs.getLong(2)));
+        if (!latestTask.isEmpty()) {
+            return latestTask.get(0);
+        }
+        List<Long> latestProject = jdbcTemplate.queryForList(
+                "SELECT id FROM projects ORDER BY id DESC LIMIT 1", Long.class);
+        return new WarmupTarget(latestProject.isEmpty() ? null : latestProject.get(0), null);
+    }
+
+    record WarmupTarget(Long projectId, Long taskId) {
+    }
+
+    record WarmupCall(String method, String path, String body, int expectedStatus) {
+
+        static List<WarmupCall> forTarget(WarmupTarget target) {
+            List<WarmupCall> calls = new ArrayList<>();
+            calls.add(get("/api/v1/users/me"));
+            calls.add(get("/api/v1/projects?page=0&size=20"));
+            calls.add(get("/api/v1/projects/my?page=0&size=20"));
+            calls.add(get("/api/v1/tasks?page=0&size=50"));
+            calls.add(get("/api/v1/tasks/my?page=0&size=50"));
+            if (target.projectId() != null) {
+                String project = "/api/v1/projects/" + target.projectId();
+                String projectTasks = "/api/v1/tasks/project/" + target.projectId();
+                calls.add(get(project));
+                calls.add(get(projectTasks + "?page=0&size=50&sort=dueDate"));
+                calls.add(get(projectTasks + "/status/" + TaskStatus.TODO + "?page=0&size=50"));
+                calls.add(get(projectTasks + "/priority/" + TaskPriority.HIGH + "?page=0&size=50"));
+            }
+            if (target.taskId() != null) {
+                calls.add(get("/api/v1/tasks/" + target.taskId()));
+                calls.add(get("/api/v1/tasks/" + target.taskId() + "/history"));
+            }
+            // Rejected by validation before anything is written
+            calls.add(new WarmupCall("POST", "/api/v1/tasks",
+                    "{\"title\":\"\",\"priority\":\"HIGH\",\"projectId\":" + target.projectId() + "}", 400));
+            return calls;
+        }
+
+        private static WarmupCall get(String path) {
+            return new WarmupCall("GET", path, null, 200);
+        }
+    }
+}
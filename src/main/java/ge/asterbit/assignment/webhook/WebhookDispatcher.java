@@ -0,0 +1,457 @@
+package ge.asterbit.assignment.webhook;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ge.asterbit.assignment.entity.WebhookSubscription;
+import ge.asterbit.assignment.repository.WebhookSubscriptionRepository;
+import ge.asterbit.assignment.util.TransactionHooks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends committed task and project changes to the project's webhook subscriptions.
+ * Events are queued per subscription once their transaction commits, and a single
+ * background thread POSTs them as {@code {"events": [...]}}, up to the subscription's
+ * {@code maxBatchSize} events per request, with the non-blocking {@link HttpClient}. At most
+ * {@code webhooks.max-concurrency-per-endpoint} requests per subscription are in flight.
+ * Network errors, 408, 429 and 5xx are retried with exponential backoff and jitter, keeping
+ * the batch and its {@code X-Webhook-Delivery} id; other responses, and batches out of
+ * attempts, go to {@code webhook_dead_letters}. Events can arrive out of order after a retry.
+ * Request threads never wait: events for a subscription with
+ * {@code webhooks.max-queued-per-endpoint} events waiting are dropped and counted in
+ * {@code webhooks.events{outcome=dropped}}. Before every request the URL is checked against
+ * the {@link WebhookUrlPolicy} again, and redirects are never followed, so a subscriber
+ * cannot point a delivery at an internal address after the webhook was created.
+ */
+@Slf4j
+@Component
+public class WebhookDispatcher {
+
+    static final String DELIVERY_HEADER = "X-Webhook-Delivery";
+    static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+
+    private static final String INSERT_DEAD_LETTER_SQL = "INSERT INTO webhook_dead_letters "
+            + "(subscription_id, project_id, url, delivery_id, payload, event_count, attempts, last_status, "
+            + "last_error, create_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final WebhookUrlPolicy urlPolicy;
+    private final HttpClient httpClient;
+    private final long cacheTtlMillis;
+    private final int maxConcurrency;
+    private final int maxQueued;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Duration requestTimeout;
+    private final long pollIntervalNanos;
+    private final Map<Long, CachedTargets> targets = new ConcurrentHashMap<>();
+    private final Map<Long, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private final Counter queuedCounter;
+    private final Counter droppedCounter;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+
+    private volatile boolean running;
+    private Thread sender;
+
+    public WebhookDispatcher(
+            WebhookSubscriptionRepository subscriptionRepository,
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            WebhookUrlPolicy urlPolicy,
+            @Value("${webhooks.subscription-cache-ttl}") long cacheTtlMillis,
+            @Value("${webhooks.max-concurrency-per-endpoint}") int maxConcurrency,
+            @Value("${webhooks.max-queued-per-endpoint}") int maxQueued,
+            @Value("${webhooks.max-attempts}") int maxAttempts,
+            @Value("${webhooks.initial-backoff}") Duration initialBackoff,
+            @Value("${webhooks.max-backoff}") Duration maxBackoff,
+            @Value("${webhooks.connect-timeout}") Duration connectTimeout,
+            @Value("${webhooks.request-timeout}") Duration requestTimeout,
+            @Value("${webhooks.poll-interval}") Duration pollInterval,
+            MeterRegistry meterRegistry) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.urlPolicy = urlPolicy;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = maxQueued;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.requestTimeout = requestTimeout;
+        this.pollIntervalNanos = pollInterval.toNanos();
+
+        this.queuedCounter = Counter.builder("webhooks.events")
+                .tag("outcome", "queued")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("webhooks.events")
+                .tag("outcome", "dropped")
+                .description("Webhook events dropped because the subscription's queue was full")
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("webhooks.events.delivered")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("webhooks.deliveries.failed")
+                .description("Webhook requests that failed, including ones retried later")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("webhooks.events.dead-lettered")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the change for the project's subscriptions once the current transaction
+     * commits, or right away outside a transaction. The subscriptions are looked up now, so
+     * the deletion of a project still reaches them.
+     */
+    public void publish(WebhookEventType type, Long projectId, Long entityId, Object data, String actorEmail) {
+        List<Target> projectTargets = targetsOf(projectId);
+        if (projectTargets.isEmpty()) {
+            return;
+        }
+        WebhookEvent event = new WebhookEvent(UUID.randomUUID().toString(), type, projectId, entityId,
+                actorEmail, LocalDateTime.now(), data);
+        TransactionHooks.afterCommit(() -> enqueue(projectTargets, event));
+    }
+
+    /**
+     * Drops the cached subscriptions of a project once the current transaction commits.
+     */
+    public void subscriptionsChanged(Long projectId) {
+        TransactionHooks.afterCommit(() -> targets.remove(projectId));
+    }
+
+    /**
+     * Drops the cached subscriptions of a project and the events still waiting for
+     * {@code subscriptionId} once the current transaction commits.
+     */
+    public void subscriptionRemoved(Long projectId, Long subscriptionId) {
+        TransactionHooks.afterCommit(() -> {
+            targets.remove(projectId);
+            endpoints.remove(subscriptionId);
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        sender = new Thread(this::run, "webhook-sender");
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    /**
+     * Stops sending and moves the events that were not sent yet to the dead-letter table.
+     * Requests in flight are not waited for.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(sender);
+        sender.join(TimeUnit.SECONDS.toMillis(10));
+        for (Endpoint endpoint : endpoints.values()) {
+            for (Delivery delivery : endpoint.drain()) {
+                delivery.lastError = "Not delivered before shutdown";
+                deadLetter(endpoint.target, delivery);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${webhooks.subscription-cache-ttl}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - cacheTtlMillis;
+        targets.values().removeIf(cached -> cached.loadedAt() < cutoff);
+        for (Long subscriptionId : endpoints.keySet()) {
+            endpoints.computeIfPresent(subscriptionId, (id, endpoint) -> endpoint.isIdle() ? null : endpoint);
+        }
+    }
+
+    private List<Target> targetsOf(Long projectId) {
+        long now = System.currentTimeMillis();
+        CachedTargets cached = targets.get(projectId);
+        if (cached == null || cached.loadedAt() + cacheTtlMillis < now) {
+            List<Target> loaded = subscriptionRepository.findByProjectIdOrderByIdAsc(projectId).stream()
+                    .map(Target::of)
+                    .toList();
+            cached = new CachedTargets(loaded, now);
+            targets.put(projectId, cached);
+        }
+        return cached.targets();
+    }
+
+    private void enqueue(List<Target> projectTargets, WebhookEvent event) {
+        for (Target target : projectTargets) {
+            // Offered inside compute so an idle endpoint cannot be evicted in between
+            endpoints.compute(target.subscriptionId(), (id, endpoint) -> {
+                Endpoint updated = endpoint != null ? endpoint : new Endpoint(target);
+                if (updated.offer(event, maxQueued)) {
+                    queuedCounter.increment();
+                } else {
+                    droppedCounter.increment();
+                }
+                return updated;
+            });
+        }
+        LockSupport.unpark(sender);
+    }
+
+    private void run() {
+        while (running) {
+            long now = System.currentTimeMillis();
+            for (Endpoint endpoint : endpoints.values()) {
+                Delivery delivery;
+                while ((delivery = endpoint.next(now, maxConcurrency)) != null) {
+                    send(endpoint, delivery);
+                }
+            }
+            LockSupport.parkNanos(this, pollIntervalNanos);
+        }
+    }
+
+    private void send(Endpoint endpoint, Delivery delivery) {
+        Target target = endpoint.target;
+        HttpRequest request;
+        try {
+            // Resolved again here so a host re-pointed at an internal address after the webhook
+            // was created is caught; the client then gets the same answer from the JVM's DNS cache
+            URI uri = urlPolicy.check(target.url());
+            if (delivery.body == null) {
+                delivery.body = objectMapper.writeValueAsBytes(Map.of("events", delivery.events));
+            }
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header(DELIVERY_HEADER, delivery.id)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(delivery.body));
+            if (target.secret() != null) {
+                builder.header(SIGNATURE_HEADER, "sha256=" + sign(target.secret(), delivery.body));
+            }
+            request = builder.build();
+        } catch (UnknownHostException ex) {
+            delivery.attempts++;
+            completed(endpoint, delivery, null, ex);
+            return;
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            delivery.lastError = ex.getMessage();
+            deadLetter(target, delivery);
+            endpoint.release();
+            return;
+        }
+        delivery.attempts++;
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) ->
+                        completed(endpoint, delivery, response != null ? response.statusCode() : null, error));
+    }
+
+    private void completed(Endpoint endpoint, Delivery delivery, Integer status, Throwable error) {
+        try {
+            if (error == null && status / 100 == 2) {
+                deliveredCounter.increment(delivery.events.size());
+                return;
+            }
+            failedCounter.increment();
+            delivery.lastStatus = status;
+            delivery.lastError = error != null ? error.toString() : "HTTP " + status;
+            boolean retryable = error != null || status >= 500 || status == 408 || status == 429;
+            if (retryable && delivery.attempts < maxAttempts) {
+                delivery.nextAttemptAt = System.currentTimeMillis() + backoffMillis(delivery.attempts);
+                endpoint.retryLater(delivery);
+            } else {
+                deadLetter(endpoint.target, delivery);
+            }
+        } finally {
+            endpoint.release();
+            LockSupport.unpark(sender);
+        }
+    }
+
+    /**
+     * {@code initial-backoff * 2^(attempts - 1)}, capped at {@code max-backoff}, of which
+     * a random half is taken off so retries of many batches spread out.
+     */
+    private long backoffMillis(int attempts) {
+        long delay = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempts - 1, 30));
+        return delay - ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private void deadLetter(Target target, Delivery delivery) {
+        String payload;
+        try {
+            payload = delivery.body != null
+                    ? new String(delivery.body, StandardCharsets.UTF_8)
+                    : objectMapper.writeValueAsString(Map.of("events", delivery.events));
+        } catch (JsonProcessingException ex) {
+            payload = "";
+        }
+        String lastError = delivery.lastError != null && delivery.lastError.length() > MAX_ERROR_LENGTH
+                ? delivery.lastError.substring(0, MAX_ERROR_LENGTH)
+                : delivery.lastError;
+        try {
+            jdbcTemplate.update(INSERT_DEAD_LETTER_SQL, target.subscriptionId(), target.projectId(), target.url(),
+                    delivery.id, payload, delivery.events.size(), delivery.attempts, delivery.lastStatus,
+                    lastError, LocalDateTime.now());
+            deadLetteredCounter.increment(delivery.events.size());
+            log.warn("Webhook delivery {} to subscription {} failed after {} attempts: {}",
+                    delivery.id, target.subscriptionId(), delivery.attempts, lastError);
+        } catch (DataAccessException ex) {
+            log.error("Failed to dead-letter {} webhook events for subscription {}",
+                    delivery.events.size(), target.subscriptionId(), ex);
+        }
+    }
+
+    private static String sign(String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+
+    private record Target(Long subscriptionId, Long projectId, String url, String secret, int maxBatchSize) {
+
+        private static Target of(WebhookSubscription subscription) {
+            return new Target(subscription.getId(), subscription.getProjectId(), subscription.getUrl(),
+                    subscription.getSecret(), subscription.getMaxBatchSize());
+        }
+    }
+
+    private record CachedTargets(List<Target> targets, long loadedAt) {
+    }
+
+    /**
+     * Events waiting for one subscription, batches waiting for a retry, and the number of
+     * requests in flight.
+     */
+    private static final class Endpoint {
+        private final Target target;
+        private final ArrayDeque<WebhookEvent> queued = new ArrayDeque<>();
+        private final List<Delivery> retries = new ArrayList<>();
+        private int inFlight;
+
+        private Endpoint(Target target) {
+            this.target = target;
+        }
+
+        private synchronized boolean offer(WebhookEvent event, int maxQueued) {
+            if (queued.size() >= maxQueued) {
+                return false;
+            }
+            queued.add(event);
+            return true;
+        }
+
+        /**
+         * The next batch to send, a due retry first; {@code null} if none is ready or too
+         * many requests are in flight.
+         */
+        private synchronized Delivery next(long now, int maxConcurrency) {
+            if (inFlight >= maxConcurrency) {
+                return null;
+            }
+            Delivery delivery = null;
+            for (Iterator<Delivery> it = retries.iterator(); it.hasNext(); ) {
+                Delivery retry = it.next();
+                if (retry.nextAttemptAt <= now) {
+                    it.remove();
+                    delivery = retry;
+                    break;
+                }
+            }
+            if (delivery == null && !queued.isEmpty()) {
+                delivery = new Delivery(take());
+            }
+            if (delivery != null) {
+                inFlight++;
+            }
+            return delivery;
+        }
+
+        private synchronized void retryLater(Delivery delivery) {
+            retries.add(delivery);
+        }
+
+        private synchronized void release() {
+            inFlight--;
+        }
+
+        private synchronized boolean isIdle() {
+            return queued.isEmpty() && retries.isEmpty() && inFlight == 0;
+        }
+
+        private synchronized List<Delivery> drain() {
+            List<Delivery> pending = new ArrayList<>(retries);
+            retries.clear();
+            while (!queued.isEmpty()) {
+                pending.add(new Delivery(take()));
+            }
+            return pending;
+        }
+
+        private List<WebhookEvent> take() {
+            List<WebhookEvent> events = new ArrayList<>(Math.min(queued.size(), target.maxBatchSize()));
+            while (events.size() < target.maxBatchSize() && !queued.isEmpty()) {
+                events.add(queued.poll());
+            }
+            return events;
+        }
+    }
+
+    /**
+     * One batch of events; retries resend the same body under the same id.
+     */
+    private static final class Delivery {
+        private final String id = UUID.randomUUID().toString();
+        private final List<WebhookEvent> events;
+        private byte[] body;
+        private int attempts;
+        private long nextAttemptAt;
+        private Integer lastStatus;
+        private String lastError;
+
+        private Delivery(List<WebhookEvent> events) {
+            this.events = events;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package ge.asterbit.assignment.webhook;
+
+import java.time.LocalDateTime;
+
+/**
+ * One committed change as sent to subscribers.
+ *
+ * @param id   unique per event, for subscribers that have to drop repeats after a retry
+ * @param data the task or project after the change, {@code null} for deletions
+ */
+public record WebhookEvent(
+        String id,
+        WebhookEventType type,
+        Long projectId,
+        Long entityId,
+        String actorEmail,
+        LocalDateTime occurredAt,
+        Object data) {
+}
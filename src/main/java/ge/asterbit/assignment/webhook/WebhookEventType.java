@@ -0,0 +1,22 @@
+package ge.asterbit.assignment.webhook;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum WebhookEventType {
+    TASK_CREATED("task.created"),
+    TASK_UPDATED("task.updated"),
+    TASK_DELETED("task.deleted"),
+    PROJECT_UPDATED("project.updated"),
+    PROJECT_DELETED("project.deleted");
+
+    private final String value;
+
+    WebhookEventType(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+}
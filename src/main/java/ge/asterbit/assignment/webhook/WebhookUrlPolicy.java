@@ -0,0 +1,91 @@
+package ge.asterbit.assignment.webhook;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.util.Locale;
+
+/**
+ * Decides which URLs webhooks may be sent to, so a project owner cannot make the server
+ * POST to itself or to its internal network. Only {@code https} URLs are allowed, and
+ * {@code http} ones with {@code webhooks.allow-http}. Every address the host resolves to
+ * must be public: loopback, link-local (which includes cloud metadata endpoints),
+ * site-local, unique-local, any-local and multicast addresses are rejected unless
+ * {@code webhooks.allow-private-addresses} is set. The check runs when a webhook is
+ * created and again before every request, since the host's DNS records can change.
+ */
+@Component
+public class WebhookUrlPolicy {
+
+    private final boolean allowHttp;
+    private final boolean allowPrivateAddresses;
+    private final Resolver resolver;
+
+    @Autowired
+    public WebhookUrlPolicy(@Value("${webhooks.allow-http}") boolean allowHttp,
+                            @Value("${webhooks.allow-private-addresses}") boolean allowPrivateAddresses) {
+        this(allowHttp, allowPrivateAddresses, InetAddress::getAllByName);
+    }
+
+    WebhookUrlPolicy(boolean allowHttp, boolean allowPrivateAddresses, Resolver resolver) {
+        this.allowHttp = allowHttp;
+        this.allowPrivateAddresses = allowPrivateAddresses;
+        this.resolver = resolver;
+    }
+
+    /**
+     * Checks the URL and the addresses its host resolves to right now.
+     *
+     * @throws UnknownHostException if the host cannot be resolved
+     * @throws IllegalArgumentException if the URL is not allowed
+     */
+    public URI check(String url) throws UnknownHostException {
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException ex) {
+            throw new IllegalArgumentException("Invalid webhook URL: " + ex.getMessage());
+        }
+        String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "";
+        if (!scheme.equals("https") && !(allowHttp && scheme.equals("http"))) {
+            throw new IllegalArgumentException(allowHttp
+                    ? "Webhook URL must be an http or https URL"
+                    : "Webhook URL must be an https URL");
+        }
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException("Webhook URL has no host: " + url);
+        }
+        if (uri.getUserInfo() != null) {
+            throw new IllegalArgumentException("Webhook URL cannot contain credentials");
+        }
+        if (!allowPrivateAddresses) {
+            for (InetAddress address : resolver.resolve(uri.getHost())) {
+                if (isPrivate(address)) {
+                    throw new IllegalArgumentException("Webhook URL resolves to a non-public address: "
+                            + address.getHostAddress());
+                }
+            }
+        }
+        return uri;
+    }
+
+    static boolean isPrivate(InetAddress address) {
+        if (address.isLoopbackAddress() || address.isLinkLocalAddress() || address.isSiteLocalAddress()
+                || address.isAnyLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        byte[] bytes = address.getAddress();
+        // 0.0.0.0/8 reaches the local host on some systems; fc00::/7 is the IPv6 unique-local range
+        return bytes.length == 4 ? bytes[0] == 0 : (bytes[0] & 0xfe) == 0xfc;
+    }
+
+    @FunctionalInterface
+    interface Resolver {
+        InetAddress[] resolve(String host) throws UnknownHostException;
+    }
+}
@@ -0,0 +1,42 @@
+-- Bulk task imports: one row per upload, updated as batches commit
+CREATE TABLE task_imports (
+    id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    created_by BIGINT,
+    format VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    rows_read BIGINT NOT NULL DEFAULT 0,
+    rows_imported BIGINT NOT NULL DEFAULT 0,
+    rows_rejected BIGINT NOT NULL DEFAULT 0,
+    error_message VARCHAR(500),
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+    FOREIGN KEY (created_by) REFERENCES users(id) ON DELETE SET NULL
+);
+
+-- Rejected rows; only the first tasks.import.max-errors of an import are kept
+CREATE TABLE task_import_errors (
+    id BIGSERIAL PRIMARY KEY,
+    import_id BIGINT NOT NULL,
+    line_number BIGINT NOT NULL,
+    message VARCHAR(500) NOT NULL,
+    FOREIGN KEY (import_id) REFERENCES task_imports(id) ON DELETE CASCADE
+);
+
+-- Validated rows of the batch being loaded; emptied when the batch commits
+CREATE TABLE task_import_staging (
+    import_id BIGINT NOT NULL,
+    line_number BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(20) NOT NULL,
+    due_date DATE,
+    priority VARCHAR(20) NOT NULL,
+    assignee_email VARCHAR(255)
+);
+
+-- Indexes
+CREATE INDEX idx_task_import_project ON task_imports(project_id);
+CREATE INDEX idx_task_import_error_import ON task_import_errors(import_id, line_number);
+CREATE INDEX idx_task_import_staging_import ON task_import_staging(import_id);
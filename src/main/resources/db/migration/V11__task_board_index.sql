@@ -0,0 +1,3 @@
+-- Board view: one pass over a project's tasks grouped by status column, with priority and
+-- due date next so each column is already close to display order.
+CREATE INDEX idx_task_project_status_priority_due ON tasks(project_id, status, priority, due_date);
@@ -0,0 +1,5 @@
+-- Position of a task within its board column as a fractional index key (see FractionalIndex).
+-- Rows without a key sort after the ranked ones until their column is first rebalanced.
+ALTER TABLE tasks ADD COLUMN rank_key VARCHAR(64);
+
+CREATE INDEX idx_task_project_status_rank ON tasks(project_id, status, rank_key);
@@ -0,0 +1,22 @@
+-- "Task A blocks task B" links within a project. There are no foreign keys to tasks because
+-- the table can be swapped for its partitioned copy at runtime; a task's links are removed
+-- together with the task by TaskServiceImpl and TaskArchiver.
+CREATE TABLE task_dependencies (
+    id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    blocking_task_id BIGINT NOT NULL,
+    blocked_task_id BIGINT NOT NULL,
+    create_date TIMESTAMP NOT NULL,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+    CONSTRAINT uk_dependency_link UNIQUE (blocking_task_id, blocked_task_id),
+    CONSTRAINT chk_dependency_not_self CHECK (blocking_task_id <> blocked_task_id)
+);
+
+-- Indexes
+CREATE INDEX idx_dependency_blocked ON task_dependencies(blocked_task_id);
+CREATE INDEX idx_dependency_project ON task_dependencies(project_id);
+
+-- Bumped with every change to a project's links. The update locks the project row, so link
+-- changes of one project run one at a time, and tells an instance whether its cached graph
+-- of the project is current.
+ALTER TABLE projects ADD COLUMN dependency_version BIGINT NOT NULL DEFAULT 0;
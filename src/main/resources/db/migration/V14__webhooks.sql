@@ -0,0 +1,34 @@
+-- Webhook subscriptions of a project. Every change to the project and its tasks is POSTed to
+-- the URL, up to max_batch_size events per request.
+CREATE TABLE webhook_subscriptions (
+    id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    url VARCHAR(2048) NOT NULL,
+    secret VARCHAR(255),
+    max_batch_size INT NOT NULL DEFAULT 1,
+    created_by BIGINT NOT NULL,
+    create_date TIMESTAMP NOT NULL,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+    FOREIGN KEY (created_by) REFERENCES users(id),
+    CONSTRAINT chk_webhook_batch_size CHECK (max_batch_size > 0)
+);
+
+CREATE INDEX idx_webhook_project ON webhook_subscriptions(project_id);
+
+-- Batches that could not be delivered. There are no foreign keys: the last events of a
+-- deleted project or subscription are still kept here.
+CREATE TABLE webhook_dead_letters (
+    id BIGSERIAL PRIMARY KEY,
+    subscription_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    url VARCHAR(2048) NOT NULL,
+    delivery_id VARCHAR(36) NOT NULL,
+    payload TEXT NOT NULL,
+    event_count INT NOT NULL,
+    attempts INT NOT NULL,
+    last_status INT,
+    last_error VARCHAR(1000),
+    create_date TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_webhook_dead_letter_subscription ON webhook_dead_letters(subscription_id, id);
@@ -0,0 +1,2 @@
+-- Imported tasks get their board rank in Java, so the staging rows carry it into tasks
+ALTER TABLE task_import_staging ADD COLUMN rank_key VARCHAR(64);
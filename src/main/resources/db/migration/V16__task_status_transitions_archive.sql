@@ -0,0 +1,16 @@
+-- Status history of archived tasks. TaskArchiver copies a task's transitions here in the same
+-- transaction that moves the task, before the delete from tasks cascades to the live rows.
+CREATE TABLE task_status_transitions_archive (
+    id BIGINT PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    assignee_id BIGINT,
+    from_status VARCHAR(20),
+    to_status VARCHAR(20) NOT NULL,
+    transitioned_at TIMESTAMP NOT NULL,
+    backfilled BOOLEAN NOT NULL,
+    FOREIGN KEY (task_id) REFERENCES tasks_archive(id) ON DELETE CASCADE
+);
+
+-- Indexes
+CREATE INDEX idx_transition_archive_task ON task_status_transitions_archive(task_id, transitioned_at);
@@ -0,0 +1,5 @@
+-- Lets every instance pick up tokens revoked elsewhere by polling for recent rows
+ALTER TABLE revoked_tokens ADD COLUMN revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- Indexes
+CREATE INDEX idx_revoked_token_revoked_at ON revoked_tokens(revoked_at);
@@ -0,0 +1,5 @@
+-- Lets every instance pick up role changes made elsewhere by polling for recent epoch bumps
+ALTER TABLE users ADD COLUMN security_epoch_changed_at TIMESTAMP;
+
+-- Indexes
+CREATE INDEX idx_user_security_epoch_changed_at ON users(security_epoch_changed_at);
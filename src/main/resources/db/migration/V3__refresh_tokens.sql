@@ -0,0 +1,20 @@
+-- Rotating refresh tokens (only the SHA-256 hash of the token is stored)
+CREATE TABLE refresh_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    user_id BIGINT NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked BOOLEAN NOT NULL DEFAULT FALSE,
+    create_date TIMESTAMP NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Revoked access tokens, kept until they would have expired anyway
+CREATE TABLE revoked_tokens (
+    token_id VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Indexes
+CREATE INDEX idx_refresh_token_user ON refresh_tokens(user_id);
+CREATE INDEX idx_revoked_token_expires ON revoked_tokens(expires_at);
@@ -0,0 +1,2 @@
+-- Bumped whenever a user's role changes so tokens issued earlier stop being accepted
+ALTER TABLE users ADD COLUMN security_epoch INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Append-only record of changes to tasks, projects and user roles, written in batches after commit
+CREATE TABLE audit_log (
+    id BIGSERIAL PRIMARY KEY,
+    occurred_at TIMESTAMP NOT NULL,
+    actor_id BIGINT,
+    actor_email VARCHAR(255),
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    changes TEXT NOT NULL
+);
+
+-- Keyset pagination runs newest first (id DESC) within each filter
+CREATE INDEX idx_audit_entity ON audit_log(entity_type, entity_id, id);
+CREATE INDEX idx_audit_actor ON audit_log(actor_id, id);
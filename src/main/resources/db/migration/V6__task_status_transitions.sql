@@ -0,0 +1,33 @@
+-- Every status change of a task; project and assignee are copied so history stays queryable without joins
+CREATE TABLE task_status_transitions (
+    id BIGSERIAL PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    assignee_id BIGINT,
+    from_status VARCHAR(20),
+    to_status VARCHAR(20) NOT NULL,
+    transitioned_at TIMESTAMP NOT NULL,
+    -- TRUE when the task was not seen entering to_status at transitioned_at (backfill, bulk import)
+    backfilled BOOLEAN NOT NULL DEFAULT FALSE,
+    FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE CASCADE
+);
+
+-- Log-scale histograms of lead and cycle time, incremented whenever a task reaches DONE.
+-- assignee_id 0 stands for unassigned so the column can be part of the primary key.
+CREATE TABLE task_duration_histograms (
+    project_id BIGINT NOT NULL,
+    assignee_id BIGINT NOT NULL,
+    metric VARCHAR(10) NOT NULL,
+    bucket INTEGER NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (project_id, assignee_id, metric, bucket)
+);
+
+-- Indexes
+CREATE INDEX idx_transition_task ON task_status_transitions(task_id, transitioned_at);
+CREATE INDEX idx_histogram_assignee ON task_duration_histograms(assignee_id, metric, bucket);
+
+-- Existing tasks start their history at creation, in the status they have now. Their earlier
+-- changes are unknown, so the rows are flagged and never taken as the start of a cycle time.
+INSERT INTO task_status_transitions (task_id, project_id, assignee_id, from_status, to_status, transitioned_at, backfilled)
+SELECT id, project_id, assigned_user_id, NULL, status, create_date, TRUE FROM tasks;
@@ -0,0 +1,24 @@
+-- DONE tasks untouched for a while are moved here by TaskArchiver so the hot tasks table
+-- and its indexes stay small. Archived rows are read-only and keep their original ids.
+CREATE TABLE tasks_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(20) NOT NULL,
+    due_date DATE,
+    priority VARCHAR(20) NOT NULL,
+    project_id BIGINT NOT NULL,
+    assigned_user_id BIGINT,
+    create_date TIMESTAMP NOT NULL,
+    update_date TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+    FOREIGN KEY (assigned_user_id) REFERENCES users(id) ON DELETE SET NULL
+);
+
+-- Indexes
+CREATE INDEX idx_task_archive_project ON tasks_archive(project_id);
+CREATE INDEX idx_task_archive_assigned_user ON tasks_archive(assigned_user_id);
+
+-- Lets the archiver find old DONE tasks without scanning the hot table
+CREATE INDEX idx_task_status_update ON tasks(status, update_date);
@@ -0,0 +1,23 @@
+-- Replace the single-column indexes from V1 with indexes shaped after the repository queries.
+-- Each listing filters on the leading columns and the usual sort key (due_date) comes next,
+-- so a sorted page is read in index order instead of being sorted. The plan regression
+-- suite (QueryPlanRegressionTest) checks every repository query against these.
+
+-- email already has the index behind its UNIQUE constraint
+DROP INDEX IF EXISTS idx_user_email;
+
+-- Low-cardinality columns on their own are never selective enough to be used
+DROP INDEX IF EXISTS idx_task_status;
+DROP INDEX IF EXISTS idx_task_priority;
+
+-- Covered by the leading column of the composite indexes below
+DROP INDEX IF EXISTS idx_task_project;
+DROP INDEX IF EXISTS idx_task_assigned_user;
+
+CREATE INDEX idx_task_project_due ON tasks(project_id, due_date);
+CREATE INDEX idx_task_project_status_due ON tasks(project_id, status, due_date);
+CREATE INDEX idx_task_project_priority_due ON tasks(project_id, priority, due_date);
+CREATE INDEX idx_task_assignee_status_due ON tasks(assigned_user_id, status, due_date);
+
+-- Nightly cleanup of expired refresh tokens
+CREATE INDEX idx_refresh_token_expires ON refresh_tokens(expires_at);
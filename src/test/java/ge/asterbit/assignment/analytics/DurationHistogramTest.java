@@ -0,0 +1,56 @@
+package ge.asterbit.assignment.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DurationHistogramTest {
+
+    @Test
+    void bucketFor_ShouldKeepUpperBoundWithinOneSubBucketOfTheDuration() {
+        // Arrange
+        long[] durations = {1, 2, 3, 59, 60, 3_600, 86_400, 2_592_000, 315_360_000};
+
+        for (long seconds : durations) {
+            // Act
+            long upperBound = DurationHistogram.upperBoundSeconds(DurationHistogram.bucketFor(seconds));
+
+            // Assert
+            assertTrue(upperBound >= seconds, "upper bound below " + seconds);
+            assertTrue(upperBound <= Math.ceil(seconds * Math.pow(2, 1.0 / DurationHistogram.SUB_BUCKETS)) + 1,
+                    "upper bound too far above " + seconds);
+        }
+        assertEquals(0, DurationHistogram.bucketFor(0));
+        assertTrue(DurationHistogram.bucketFor(315_360_000) < 240);
+    }
+
+    @Test
+    void percentile_ShouldReturnUpperBoundOfBucketHoldingTheRank() {
+        // Arrange
+        SortedMap<Integer, Long> counts = new TreeMap<>();
+        counts.put(DurationHistogram.bucketFor(60), 50L);
+        counts.put(DurationHistogram.bucketFor(3_600), 45L);
+        counts.put(DurationHistogram.bucketFor(86_400), 5L);
+        long total = DurationHistogram.total(counts);
+
+        // Act
+        Long p50 = DurationHistogram.percentile(counts, total, 0.50);
+        Long p90 = DurationHistogram.percentile(counts, total, 0.90);
+        Long p99 = DurationHistogram.percentile(counts, total, 0.99);
+
+        // Assert
+        assertEquals(100, total);
+        assertEquals(DurationHistogram.upperBoundSeconds(DurationHistogram.bucketFor(60)), p50);
+        assertEquals(DurationHistogram.upperBoundSeconds(DurationHistogram.bucketFor(3_600)), p90);
+        assertEquals(DurationHistogram.upperBoundSeconds(DurationHistogram.bucketFor(86_400)), p99);
+    }
+
+    @Test
+    void percentile_ShouldReturnNull_WhenHistogramIsEmpty() {
+        // Act & Assert
+        assertNull(DurationHistogram.percentile(new TreeMap<>(), 0, 0.5));
+    }
+}
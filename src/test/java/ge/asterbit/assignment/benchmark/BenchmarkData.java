@@ -0,0 +1,58 @@
+package ge.asterbit.assignment.benchmark;
+
+import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.entity.TaskPriority;
+import ge.asterbit.assignment.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static List<TaskDTO> tasks(int count) {
+        Random random = new Random(42);
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<TaskDTO> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long projectId = 1 + random.nextInt(5);
+            long userId = 1 + random.nextInt(20);
+            tasks.add(TaskDTO.builder()
+                    .id((long) i + 1)
+                    .title("Task number " + i)
+                    .description("Description of task " + i + " with a few extra words of detail")
+                    .status(TaskStatus.values()[random.nextInt(TaskStatus.values().length)])
+                    .priority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)])
+                    .dueDate(LocalDate.of(2024, 6, 1).plusDays(random.nextInt(180)))
+                    .projectId(projectId)
+                    .projectName("Project " + projectId + " platform migration")
+                    .assignedUserId(userId)
+                    .assignedUserEmail("user" + userId + "@tasktracker.com")
+                    .createDate(created.plusMinutes(i))
+                    .updateDate(created.plusMinutes(i * 2L))
+                    .build());
+        }
+        return tasks;
+    }
+
+    static long measureNanos(int iterations, ThrowingRunnable runnable) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            runnable.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            runnable.run();
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+
+    @FunctionalInterface
+    interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,66 @@
+package ge.asterbit.assignment.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import ge.asterbit.assignment.dto.common.PageResponse;
+import ge.asterbit.assignment.dto.task.TaskDTO;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares bytes on the wire and encode/decode time of JSON, CBOR and Smile for a
+ * 1,000-task page. Run with {@code mvn test -Dgroups=benchmark -DexcludedGroups=}.
+ */
+@Tag("benchmark")
+public class BinaryFormatBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final int ITERATIONS = 200;
+    private static final TypeReference<PageResponse<TaskDTO>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Test
+    void compareFormats() throws Exception {
+        PageResponse<TaskDTO> page = PageResponse.of(
+                new PageImpl<>(BenchmarkData.tasks(PAGE_SIZE), PageRequest.of(0, PAGE_SIZE), 25_000));
+
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("application/json", configure(new ObjectMapper()));
+        mappers.put("application/cbor", configure(new ObjectMapper(new CBORFactory())));
+        mappers.put("application/x-jackson-smile", configure(new ObjectMapper(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build())));
+
+        System.out.printf("%-30s %10s %12s %12s%n", "format", "bytes", "encode us", "decode us");
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            byte[] encoded = mapper.writeValueAsBytes(page);
+            assertEquals(page, mapper.readValue(encoded, PAGE_TYPE));
+
+            long encodeNanos = BenchmarkData.measureNanos(ITERATIONS, () -> mapper.writeValueAsBytes(page));
+            long decodeNanos = BenchmarkData.measureNanos(ITERATIONS, () -> mapper.readValue(encoded, PAGE_TYPE));
+            System.out.printf("%-30s %10d %12d %12d%n",
+                    entry.getKey(), encoded.length, encodeNanos / 1000, decodeNanos / 1000);
+        }
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        return mapper
+                .registerModule(new JavaTimeModule())
+                .registerModule(new BlackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
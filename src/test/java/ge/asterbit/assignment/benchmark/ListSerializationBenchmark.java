@@ -0,0 +1,64 @@
+package ge.asterbit.assignment.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import ge.asterbit.assignment.dto.common.PageResponse;
+import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.mapper.PageResponseMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares payload size and serialization time of a task page. Excluded from the
+ * default build; run with {@code mvn test -Dgroups=benchmark -DexcludedGroups=}.
+ */
+@Tag("benchmark")
+public class ListSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final int ITERATIONS = 200;
+
+    @Test
+    void compareListEnvelopes() throws Exception {
+        List<TaskDTO> tasks = BenchmarkData.tasks(PAGE_SIZE);
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("dueDate"));
+        PageResponseMapper mapper = new PageResponseMapper();
+
+        ObjectMapper reflective = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper blackbird = reflective.copy().registerModule(new BlackbirdModule());
+
+        PageImpl<TaskDTO> page = new PageImpl<>(tasks, pageable, 25_000);
+        PageResponse<TaskDTO> compact = mapper.toTaskResponse(page, false);
+        PageResponse<TaskDTO> normalized = mapper.toTaskResponse(
+                new PageImpl<>(BenchmarkData.tasks(PAGE_SIZE), pageable, 25_000), true);
+
+        int pageBytes = reflective.writeValueAsBytes(page).length;
+        int compactBytes = blackbird.writeValueAsBytes(compact).length;
+        int normalizedBytes = blackbird.writeValueAsBytes(normalized).length;
+
+        long pageNanos = BenchmarkData.measureNanos(ITERATIONS, () -> reflective.writeValueAsBytes(page));
+        long compactReflectiveNanos = BenchmarkData.measureNanos(ITERATIONS, () -> reflective.writeValueAsBytes(compact));
+        long compactBlackbirdNanos = BenchmarkData.measureNanos(ITERATIONS, () -> blackbird.writeValueAsBytes(compact));
+        long normalizedNanos = BenchmarkData.measureNanos(ITERATIONS, () -> blackbird.writeValueAsBytes(normalized));
+
+        System.out.printf("%-32s %10s %12s%n", "variant", "bytes", "us/page");
+        System.out.printf("%-32s %10d %12d%n", "PageImpl (reflection)", pageBytes, pageNanos / 1000);
+        System.out.printf("%-32s %10d %12d%n", "PageResponse (reflection)", compactBytes, compactReflectiveNanos / 1000);
+        System.out.printf("%-32s %10d %12d%n", "PageResponse (blackbird)", compactBytes, compactBlackbirdNanos / 1000);
+        System.out.printf("%-32s %10d %12d%n", "PageResponse normalized", normalizedBytes, normalizedNanos / 1000);
+
+        assertTrue(compactBytes < pageBytes);
+        assertTrue(normalizedBytes < compactBytes);
+    }
+}
@@ -0,0 +1,249 @@
+package ge.asterbit.assignment.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Starts the packaged application as a separate JVM and measures the time until the
+ * health endpoint answers and until the first registration has completed. Compares a plain
+ * {@code java -jar} start with the AOT-processed context and with AOT plus an AppCDS
+ * archive, laid out the same way as in the Dockerfile. The AOT variants need a jar built
+ * with {@code mvn package -Pfast-startup}. The application runs on in-memory H2 unless
+ * {@code -Dstartup.app-args} says otherwise. Excluded from the default build; run with
+ * {@code mvn test -Dgroups=benchmark -DexcludedGroups= -Dtest=StartupBenchmark}.
+ */
+@Tag("benchmark")
+public class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "ge.asterbit.assignment.AssignmentApplication";
+    private static final String AOT_INITIALIZER =
+            "BOOT-INF/classes/ge/asterbit/assignment/AssignmentApplication__ApplicationContextInitializer.class";
+    private static final String DEFAULT_APP_ARGS =
+            "--spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE"
+                    + " --spring.datasource.driver-class-name=org.h2.Driver"
+                    + " --spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+                    + " --spring.jpa.show-sql=false --logging.level.root=WARN"
+                    + " --logging.level.org.springframework.security=WARN --logging.level.ge.asterbit.assignment=WARN";
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(500))
+            .build();
+
+    @Test
+    void compareStartupModes() throws Exception {
+        Path jar = findJar();
+        assumeTrue(jar != null, "Package the application first: mvn package -Pfast-startup -DskipTests");
+
+        int iterations = Integer.getInteger("startup.iterations", 3);
+        List<String> appArgs = Arrays.asList(System.getProperty("startup.app-args", DEFAULT_APP_ARGS).trim().split("\\s+"));
+        Path workDir = Paths.get("target", "startup-benchmark");
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("java -jar", List.of("-jar", jar.toString()));
+        if (hasAotContext(jar)) {
+            variants.put("aot", List.of("-Dspring.aot.enabled=true", "-jar", jar.toString()));
+            List<String> classpath = extract(jar, workDir);
+            Path archive = workDir.resolve("application.jsa");
+            train(classpath, archive, appArgs, workDir);
+            List<String> cds = new ArrayList<>(List.of("-XX:SharedArchiveFile=" + archive, "-Xlog:cds=error",
+                    "-Dspring.aot.enabled=true"));
+            cds.addAll(classpath);
+            cds.add(MAIN_CLASS);
+            variants.put("aot + cds", cds);
+        } else {
+            System.out.println("No AOT-processed context in " + jar + "; only the plain start is measured");
+        }
+
+        System.out.printf("%-12s %12s %18s%n", "variant", "ready ms", "first request ms");
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            long[] ready = new long[iterations];
+            long[] firstRequest = new long[iterations];
+            for (int i = 0; i < iterations; i++) {
+                long[] sample = measure(variant.getValue(), appArgs, workDir);
+                ready[i] = sample[0];
+                firstRequest[i] = sample[1];
+            }
+            System.out.printf("%-12s %12d %18d%n", variant.getKey(), median(ready), median(firstRequest));
+        }
+    }
+
+    private long[] measure(List<String> jvmArgs, List<String> appArgs, Path workDir) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable());
+        command.addAll(jvmArgs);
+        command.addAll(appArgs);
+        command.add("--server.port=" + port);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("app.log").toFile())
+                .start();
+        try {
+            URI base = URI.create("http://localhost:" + port);
+            long deadline = start + START_TIMEOUT.toNanos();
+            while (!isUp(base)) {
+                assertTrue(process.isAlive(), "Application exited during startup, see " + workDir.resolve("app.log"));
+                assertTrue(System.nanoTime() < deadline, "Application did not start within " + START_TIMEOUT);
+                Thread.sleep(20);
+            }
+            long ready = System.nanoTime();
+
+            HttpResponse<String> register = client.send(HttpRequest.newBuilder(base.resolve("/api/v1/auth/register"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    "{\"email\":\"startup-" + port + "@benchmark.test\",\"password\":\"password\"}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertTrue(register.statusCode() / 100 == 2,
+                    "First request failed: " + register.statusCode() + " " + register.body());
+            long firstRequest = System.nanoTime();
+
+            return new long[]{
+                    TimeUnit.NANOSECONDS.toMillis(ready - start),
+                    TimeUnit.NANOSECONDS.toMillis(firstRequest - start)};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private boolean isUp(URI base) {
+        try {
+            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(base.resolve("/actuator/health"))
+                    .timeout(Duration.ofSeconds(2))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200;
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Unpacks the fat jar into {@code application.jar} plus {@code lib/}, since classes
+     * loaded from nested jars cannot be archived. Returns the matching {@code -cp} args.
+     */
+    private List<String> extract(Path jar, Path workDir) throws IOException {
+        Path lib = workDir.resolve("lib");
+        Files.createDirectories(lib);
+        Path application = workDir.resolve("application.jar");
+        List<String> classpath = new ArrayList<>();
+        classpath.add(application.toString());
+
+        try (JarFile fatJar = new JarFile(jar.toFile());
+             JarOutputStream out = new JarOutputStream(Files.newOutputStream(application))) {
+            Enumeration<JarEntry> entries = fatJar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (name.startsWith("BOOT-INF/lib/") && !entry.isDirectory()) {
+                    Path target = lib.resolve(name.substring("BOOT-INF/lib/".length()));
+                    try (InputStream in = fatJar.getInputStream(entry)) {
+                        Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    classpath.add(target.toString());
+                } else if (name.startsWith("BOOT-INF/classes/") && name.length() > "BOOT-INF/classes/".length()) {
+                    // Directory entries are kept, Flyway needs them to find db/migration
+                    out.putNextEntry(new JarEntry(name.substring("BOOT-INF/classes/".length())));
+                    if (!entry.isDirectory()) {
+                        try (InputStream in = fatJar.getInputStream(entry)) {
+                            in.transferTo(out);
+                        }
+                    }
+                    out.closeEntry();
+                }
+            }
+        }
+        return List.of("-cp", String.join(File.pathSeparator, classpath));
+    }
+
+    /**
+     * Training run: refreshes the context once, exits and dumps the loaded classes.
+     */
+    private void train(List<String> classpath, Path archive, List<String> appArgs, Path workDir) throws Exception {
+        List<String> command = new ArrayList<>(List.of(javaExecutable(), "-XX:ArchiveClassesAtExit=" + archive,
+                "-Xlog:cds=error", "-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh"));
+        command.addAll(classpath);
+        command.add(MAIN_CLASS);
+        command.addAll(appArgs);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("training.log").toFile())
+                .start();
+        assertTrue(process.waitFor(START_TIMEOUT.toSeconds(), TimeUnit.SECONDS) && process.exitValue() == 0,
+                "CDS training run failed, see " + workDir.resolve("training.log"));
+    }
+
+    private static Path findJar() throws IOException {
+        String configured = System.getProperty("startup.jar");
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        Path target = Paths.get("target");
+        if (!Files.isDirectory(target)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(target)) {
+            return files.filter(path -> path.getFileName().toString().matches("assignment-.*\\.jar"))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    private static boolean hasAotContext(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getEntry(AOT_INITIALIZER) != null;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String javaExecutable() {
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
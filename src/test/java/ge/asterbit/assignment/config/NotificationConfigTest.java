@@ -0,0 +1,67 @@
+package ge.asterbit.assignment.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ge.asterbit.assignment.notification.FileNotificationChannel;
+import ge.asterbit.assignment.notification.NotificationChannel;
+import ge.asterbit.assignment.notification.SmtpNotificationChannel;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class NotificationConfigTest {
+
+    private final NotificationConfig config = new NotificationConfig();
+
+    @Test
+    void notificationChannel_ShouldUseFileChannel_WhenChannelIsFile() {
+        // Act
+        NotificationChannel channel = channel("file", new MockEnvironment());
+
+        // Assert
+        assertInstanceOf(FileNotificationChannel.class, channel);
+    }
+
+    @Test
+    void notificationChannel_ShouldBuildMailSender_WhenChannelIsSmtpAndNoSenderIsConfigured() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.mail.host", "smtp.example.com")
+                .withProperty("spring.mail.port", "2525")
+                .withProperty("spring.mail.properties.mail.smtp.starttls.enable", "true");
+
+        // Act
+        NotificationChannel channel = channel("SMTP", environment);
+        JavaMailSenderImpl sender = (JavaMailSenderImpl) NotificationConfig.mailSender(environment);
+
+        // Assert
+        assertInstanceOf(SmtpNotificationChannel.class, channel);
+        assertEquals("smtp.example.com", sender.getHost());
+        assertEquals(2525, sender.getPort());
+        assertEquals("true", sender.getJavaMailProperties().getProperty("mail.smtp.starttls.enable"));
+    }
+
+    @Test
+    void notificationChannel_ShouldFail_WhenSmtpHasNoHostOrChannelIsUnknown() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> channel("smtp", new MockEnvironment()));
+        assertThrows(IllegalStateException.class, () -> channel("pigeon", new MockEnvironment()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private NotificationChannel channel(String name, MockEnvironment environment) {
+        ObjectProvider<JavaMailSender> mailSender = mock(ObjectProvider.class);
+        when(mailSender.getIfAvailable(any())).thenAnswer(invocation ->
+                invocation.<Supplier<JavaMailSender>>getArgument(0).get());
+        return config.notificationChannel(name, new ObjectMapper(), Path.of("target", "notifications"),
+                "no-reply@test.com", mailSender, environment);
+    }
+}
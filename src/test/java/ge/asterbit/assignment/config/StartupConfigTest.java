@@ -0,0 +1,58 @@
+package ge.asterbit.assignment.config;
+
+import ge.asterbit.assignment.datagen.SyntheticDataGenerator;
+import ge.asterbit.assignment.maintenance.TaskArchiver;
+import ge.asterbit.assignment.maintenance.TaskPartitionMigrator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class StartupConfigTest {
+
+    private final ListableBeanFactory beanFactory = mock(ListableBeanFactory.class);
+
+    @Test
+    void frozenSwitchMismatches_ShouldBeEmpty_WhenBeansMatchTheSwitches() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment().withProperty("tasks.archive.enabled", "TRUE");
+        beans(TaskPartitionMigrator.class);
+        beans(TaskArchiver.class, "taskArchiver");
+        beans(SyntheticDataGenerator.class);
+
+        // Act
+        List<String> mismatches = StartupConfig.frozenSwitchMismatches(environment, beanFactory);
+
+        // Assert
+        assertTrue(mismatches.isEmpty(), mismatches.toString());
+    }
+
+    @Test
+    void frozenSwitchMismatches_ShouldReportSwitches_WhenBuildAndRuntimeDisagree() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("tasks.partitioning.enabled", "true")
+                .withProperty("tasks.archive.enabled", "false");
+        environment.setActiveProfiles("datagen");
+        beans(TaskPartitionMigrator.class);
+        beans(TaskArchiver.class, "taskArchiver");
+        beans(SyntheticDataGenerator.class);
+
+        // Act
+        List<String> mismatches = StartupConfig.frozenSwitchMismatches(environment, beanFactory);
+
+        // Assert
+        assertEquals(3, mismatches.size());
+        assertEquals("tasks.partitioning.enabled is on but TaskPartitionMigrator does not exist", mismatches.get(0));
+        assertEquals("tasks.archive.enabled is off but TaskArchiver exists", mismatches.get(1));
+        assertTrue(mismatches.get(2).startsWith("the datagen profile is on"));
+    }
+
+    private void beans(Class<?> type, String... names) {
+        when(beanFactory.getBeanNamesForType(type, true, false)).thenReturn(names);
+    }
+}
@@ -0,0 +1,69 @@
+package ge.asterbit.assignment.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import ge.asterbit.assignment.dto.common.PageResponse;
+import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.mapper.PageResponseMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PageEnvelopeAdviceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new BlackbirdModule());
+    private final PageEnvelopeAdvice advice = new PageEnvelopeAdvice(objectMapper);
+    private final PageResponseMapper pageResponseMapper = new PageResponseMapper();
+
+    @Test
+    void beforeBodyWrite_ShouldKeepCompactEnvelope_WhenNotRequested() {
+        // Arrange
+        PageResponse<TaskDTO> response = pageResponseMapper.toTaskResponse(page(), false);
+
+        // Act
+        Object body = write(response, new MockHttpServletRequest());
+
+        // Assert
+        assertSame(response, body);
+    }
+
+    @Test
+    void beforeBodyWrite_ShouldWriteSpringPageWithRefs_WhenEnvelopeIsPage() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter(PageEnvelopeAdvice.PARAMETER, PageEnvelopeAdvice.SPRING_PAGE);
+        PageResponse<TaskDTO> response = pageResponseMapper.toTaskResponse(page(), true);
+
+        // Act
+        JsonNode body = (JsonNode) write(response, request);
+
+        // Assert
+        assertEquals(1, body.get("number").asInt());
+        assertEquals(5, body.get("totalElements").asLong());
+        assertTrue(body.has("pageable"));
+        assertEquals("Project", body.get("refs").get(PageResponseMapper.PROJECTS).get("2").asText());
+        assertFalse(body.get("content").get(0).has("projectName"));
+    }
+
+    private Object write(PageResponse<TaskDTO> response, MockHttpServletRequest request) {
+        return advice.beforeBodyWrite(response, null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(new MockHttpServletResponse()));
+    }
+
+    private static PageImpl<TaskDTO> page() {
+        TaskDTO task = TaskDTO.builder().id(1L).projectId(2L).projectName("Project").build();
+        return new PageImpl<>(List.of(task), PageRequest.of(1, 1), 5);
+    }
+}
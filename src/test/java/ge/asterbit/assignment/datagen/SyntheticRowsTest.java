@@ -0,0 +1,81 @@
+package ge.asterbit.assignment.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SyntheticRowsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final SyntheticRows.Plan PLAN = new SyntheticRows.Plan(10, 1000, 20, 5, 100, 1, 100_000);
+
+    @Test
+    void task_ShouldProduceSameRow_WhenSeedAndIndexAreEqual() {
+        // Arrange
+        SyntheticRows first = new SyntheticRows(42, "datagen.test", "hash", NOW, PLAN);
+        SyntheticRows second = new SyntheticRows(42, "datagen.test", "hash", NOW, PLAN);
+        Object[] a = new Object[SyntheticRows.TASK_COLUMNS.length];
+        Object[] b = new Object[SyntheticRows.TASK_COLUMNS.length];
+
+        // Act
+        first.task(777, a);
+        second.task(777, b);
+
+        // Assert
+        assertArrayEquals(a, b);
+        assertEquals(778L, a[0]);
+    }
+
+    @Test
+    void task_ShouldReferenceGeneratedRowsAndSkewProjects_WhenManyTasksAreGenerated() {
+        // Arrange
+        SyntheticRows rows = new SyntheticRows(7, "datagen.test", "hash", NOW, PLAN);
+        Object[] row = new Object[SyntheticRows.TASK_COLUMNS.length];
+        int firstProjectTasks = 0;
+        int unassigned = 0;
+        int done = 0;
+
+        // Act
+        for (int i = 0; i < PLAN.tasks(); i++) {
+            rows.task(i, row);
+            long projectId = (Long) row[6];
+            assertTrue(projectId >= 5 && projectId < 105);
+            if (row[7] == null) {
+                unassigned++;
+            } else {
+                long userId = (Long) row[7];
+                assertTrue(userId >= 10 && userId < 1010);
+            }
+            if (row[4] != null) {
+                assertFalse(((LocalDate) row[4]).isBefore(((LocalDateTime) row[8]).toLocalDate()));
+            }
+            firstProjectTasks += projectId == 5 ? 1 : 0;
+            done += "DONE".equals(row[3]) ? 1 : 0;
+        }
+
+        // Assert
+        assertTrue(firstProjectTasks > PLAN.tasks() / 10, "busiest project should hold over 10% of tasks");
+        assertEquals(0.15, unassigned / (double) PLAN.tasks(), 0.01);
+        assertEquals(0.45, done / (double) PLAN.tasks(), 0.01);
+    }
+
+    @Test
+    void user_ShouldMakeFirstUsersManagers_WhenGeneratingUsers() {
+        // Arrange
+        SyntheticRows rows = new SyntheticRows(42, "datagen.test", "hash", NOW, PLAN);
+        Object[] row = new Object[SyntheticRows.USER_COLUMNS.length];
+
+        // Act & Assert
+        rows.user(19, row);
+        assertEquals("MANAGER", row[3]);
+        assertEquals("user29@datagen.test", row[1]);
+        rows.user(20, row);
+        assertEquals("USER", row[3]);
+    }
+}
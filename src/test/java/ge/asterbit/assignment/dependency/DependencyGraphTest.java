@@ -0,0 +1,137 @@
+package ge.asterbit.assignment.dependency;
+
+import ge.asterbit.assignment.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DependencyGraphTest {
+
+    private static final TaskStatus OPEN = TaskStatus.TODO;
+
+    @Test
+    void addLink_ShouldRejectExactlyTheLinksThatCloseACycle_WhenLinksAreAddedAtRandom() {
+        // Arrange
+        Random random = new Random(7);
+        DependencyGraph graph = DependencyGraph.of(0, List.of());
+        Map<Long, Set<Long>> links = new HashMap<>();
+
+        for (int i = 0; i < 3_000; i++) {
+            long blocker = random.nextInt(300);
+            long blocked = random.nextInt(300);
+            boolean closesCycle = reaches(links, blocked, blocker);
+
+            // Act
+            List<Long> path = graph.findPath(blocked, blocker);
+
+            // Assert
+            assertEquals(closesCycle, !path.isEmpty(), blocker + " -> " + blocked);
+            if (closesCycle) {
+                assertEquals(blocked, path.get(0));
+                assertEquals(blocker, path.get(path.size() - 1));
+                for (int step = 1; step < path.size(); step++) {
+                    assertTrue(links.get(path.get(step - 1)).contains(path.get(step)));
+                }
+                assertThrows(IllegalArgumentException.class, () -> graph.addLink(blocker, OPEN, blocked, OPEN));
+            } else {
+                graph.addLink(blocker, OPEN, blocked, OPEN);
+                links.computeIfAbsent(blocker, key -> new HashSet<>()).add(blocked);
+            }
+        }
+    }
+
+    @Test
+    void isBlocked_ShouldOnlyCountBlockersThatAreNotDone() {
+        // Arrange
+        DependencyGraph graph = DependencyGraph.of(0, List.of(
+                new DependencyGraph.Link(1L, TaskStatus.DONE, 3L, OPEN),
+                new DependencyGraph.Link(2L, TaskStatus.IN_PROGRESS, 3L, OPEN),
+                new DependencyGraph.Link(3L, OPEN, 4L, OPEN)));
+
+        // Act & Assert
+        assertTrue(graph.isBlocked(3L));
+        assertTrue(graph.isBlocked(4L));
+        assertFalse(graph.isBlocked(1L));
+        assertFalse(graph.isBlocked(99L));
+        assertEquals(2, graph.countBlocked());
+        assertEquals(List.of(1L, 2L), graph.getBlockers(3L));
+        assertEquals(List.of(4L), graph.getBlockedTasks(3L));
+
+        graph.setStatus(2L, TaskStatus.DONE);
+        assertFalse(graph.isBlocked(3L));
+
+        graph.removeLink(3L, 4L);
+        assertFalse(graph.isBlocked(4L));
+        assertEquals(List.of(), graph.getBlockedTasks(3L));
+
+        graph.removeTask(3L);
+        assertEquals(0, graph.size());
+    }
+
+    @Test
+    void criticalPath_ShouldReturnLongestChainOfOpenTasks() {
+        // Arrange: 1 -> 2 -> 3 -> 4 with 1 done, and 5 -> 6 -> 4
+        DependencyGraph graph = DependencyGraph.of(0, List.of(
+                new DependencyGraph.Link(1L, TaskStatus.DONE, 2L, OPEN),
+                new DependencyGraph.Link(2L, OPEN, 3L, OPEN),
+                new DependencyGraph.Link(3L, OPEN, 4L, OPEN),
+                new DependencyGraph.Link(5L, OPEN, 6L, OPEN),
+                new DependencyGraph.Link(6L, OPEN, 4L, OPEN)));
+        graph.addLink(7L, OPEN, 5L, OPEN);
+        graph.addLink(8L, OPEN, 7L, OPEN);
+
+        // Act
+        List<Long> path = graph.criticalPath();
+
+        // Assert
+        assertEquals(List.of(8L, 7L, 5L, 6L, 4L), path);
+    }
+
+    @Test
+    void of_ShouldThrowException_WhenLinksContainCycle() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> DependencyGraph.of(0, List.of(
+                new DependencyGraph.Link(1L, OPEN, 2L, OPEN),
+                new DependencyGraph.Link(2L, OPEN, 1L, OPEN))));
+    }
+
+    @Test
+    void update_ShouldOnlyApplyLinkChange_WhenGraphIsAtPreviousVersion() {
+        // Arrange
+        DependencyGraph graph = DependencyGraph.of(4, List.of());
+
+        // Act
+        boolean stale = graph.update(7L, changed -> changed.addLink(1L, OPEN, 2L, OPEN));
+        boolean current = graph.update(5L, changed -> changed.addLink(1L, OPEN, 2L, OPEN));
+
+        // Assert
+        assertFalse(stale);
+        assertTrue(current);
+        assertEquals(5, graph.getVersion());
+        assertTrue(graph.isBlocked(2L));
+    }
+
+    private static boolean reaches(Map<Long, Set<Long>> links, long from, long to) {
+        Set<Long> seen = new HashSet<>();
+        Deque<Long> stack = new ArrayDeque<>(List.of(from));
+        while (!stack.isEmpty()) {
+            long node = stack.pop();
+            if (node == to) {
+                return true;
+            }
+            if (seen.add(node)) {
+                stack.addAll(links.getOrDefault(node, Set.of()));
+            }
+        }
+        return false;
+    }
+}
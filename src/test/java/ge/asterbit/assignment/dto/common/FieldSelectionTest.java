@@ -0,0 +1,38 @@
+package ge.asterbit.assignment.dto.common;
+
+import ge.asterbit.assignment.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FieldSelectionTest {
+
+    private static final Set<String> ALLOWED = Set.of("id", "title", "status");
+
+    @Test
+    void parse_ShouldReturnAll_WhenParameterIsMissing() {
+        assertTrue(FieldSelection.parse(null, ALLOWED).isAll());
+        assertTrue(FieldSelection.parse(" ", ALLOWED).isAll());
+    }
+
+    @Test
+    void parse_ShouldKeepRequestedFieldsInOrder() {
+        // Act
+        FieldSelection selection = FieldSelection.parse("title, id", ALLOWED);
+
+        // Assert
+        assertFalse(selection.isAll());
+        assertEquals(List.of("title", "id"), List.copyOf(selection.getFields()));
+    }
+
+    @Test
+    void parse_ShouldRejectFieldsOutsideAllowList() {
+        // Act & Assert
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> FieldSelection.parse("id,password", ALLOWED));
+        assertTrue(exception.getMessage().contains("password"));
+    }
+}
@@ -0,0 +1,66 @@
+package ge.asterbit.assignment.imports;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvImportRecordReaderTest {
+
+    @Test
+    void next_ShouldReadQuotedMultiLineFields_WhenRowSpansLines() throws Exception {
+        // Arrange
+        CsvImportRecordReader reader = new CsvImportRecordReader(new StringReader(
+                "Title,Due_Date\r\n\"Say \"\"hi\"\",\nthen leave\",2030-01-01\r\n\nSecond,\n"));
+
+        // Act
+        ImportRecord first = reader.next();
+        ImportRecord second = reader.next();
+        ImportRecord end = reader.next();
+
+        // Assert
+        assertEquals(2, first.lineNumber());
+        assertEquals("Say \"hi\",\nthen leave", first.fields().get("title"));
+        assertEquals("2030-01-01", first.fields().get("duedate"));
+        assertEquals(5, second.lineNumber());
+        assertEquals("", second.fields().get("duedate"));
+        assertNull(end);
+    }
+
+    @Test
+    void next_ShouldReturnErrorAndContinue_WhenRowIsMalformed() throws Exception {
+        // Arrange
+        CsvImportRecordReader reader = new CsvImportRecordReader(new StringReader(
+                "title,priority\nonly one column\n\"closed\"x,LOW\nGood row,LOW"));
+
+        // Act
+        ImportRecord wrongColumns = reader.next();
+        ImportRecord badQuote = reader.next();
+        ImportRecord good = reader.next();
+
+        // Assert
+        assertEquals("Expected 2 columns but found 1", wrongColumns.error());
+        assertEquals("Unexpected character after a quoted field", badQuote.error());
+        assertNull(good.error());
+        assertEquals("Good row", good.fields().get("title"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_ShouldRejectRowWithoutBufferingIt_WhenRowIsTooLong() throws Exception {
+        // Arrange
+        String longTitle = "x".repeat(ImportRecordReader.MAX_RECORD_CHARS + 10);
+        CsvImportRecordReader reader = new CsvImportRecordReader(new StringReader(
+                "title\n" + longTitle + "\nafter\n"));
+
+        // Act
+        ImportRecord tooLong = reader.next();
+        ImportRecord after = reader.next();
+
+        // Assert
+        assertNotNull(tooLong.error());
+        assertEquals("after", after.fields().get("title"));
+        assertEquals(3, after.lineNumber());
+    }
+}
@@ -0,0 +1,22 @@
+package ge.asterbit.assignment.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CopyTableWriterTest {
+
+    @Test
+    void appendCsv_ShouldQuoteStringsAndLeaveNullsEmpty_WhenEncodingRow() {
+        // Arrange
+        StringBuilder buffer = new StringBuilder();
+
+        // Act
+        CopyTableWriter.appendCsv(buffer, new Object[]{1L, "say \"hi\", bye", null, LocalDate.of(2026, 2, 3)});
+
+        // Assert
+        assertEquals("1,\"say \"\"hi\"\", bye\",,2026-02-03\n", buffer.toString());
+    }
+}
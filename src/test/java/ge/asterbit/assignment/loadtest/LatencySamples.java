@@ -0,0 +1,52 @@
+package ge.asterbit.assignment.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Raw latencies of one scenario in nanoseconds. Each worker keeps its own instance and
+ * they are merged after the run, so recording needs no synchronization; percentiles are
+ * exact nearest-rank values over the sorted samples.
+ */
+final class LatencySamples {
+
+    private long[] values = new long[1024];
+    private int size;
+    private boolean sorted;
+
+    void add(long nanos) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+        sorted = false;
+    }
+
+    void addAll(LatencySamples other) {
+        if (size + other.size > values.length) {
+            values = Arrays.copyOf(values, Math.max(size + other.size, values.length * 2));
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        sorted = false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long percentile(double quantile) {
+        if (size == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(values, 0, size);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(quantile * size);
+        return values[Math.min(size, Math.max(1, rank)) - 1];
+    }
+
+    long max() {
+        return percentile(1.0);
+    }
+}
@@ -0,0 +1,44 @@
+package ge.asterbit.assignment.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a running instance with a weighted mix of the Postman collection requests and
+ * reports throughput, latency percentiles and error rates. Start the database and the
+ * application first, with rate limits raised so they do not cap the measurement, e.g.
+ * {@code RATE_LIMIT_AUTH_CAPACITY=1000000 RATE_LIMIT_EXPENSIVE_CAPACITY=1000000
+ * RATE_LIMIT_DEFAULT_CAPACITY=1000000 mvn spring-boot:run}, then run
+ * {@code mvn test -Dgroups=load-test -DexcludedGroups=}. Settings are read from
+ * {@code -Dloadtest.*} properties; see {@link LoadTestConfig}.
+ */
+@Tag("load-test")
+public class LoadTest {
+
+    @Test
+    void runWorkloadMix() throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        LoadTestClient client = new LoadTestClient(config.baseUrl());
+
+        LoadTestFixture fixture = LoadTestFixture.create(client, config);
+        Instant startedAt = Instant.now();
+        LoadTestReport report = LoadTestReport.of(startedAt, config,
+                new LoadTestRunner(client, config, fixture).run());
+
+        report.print(System.out);
+        Path file = report.write(client.objectMapper(), config.reportDir());
+        System.out.println("Report written to " + file.toAbsolutePath());
+        if (config.baseline() != null) {
+            report.printComparison(System.out, LoadTestReport.read(client.objectMapper(), config.baseline()));
+        }
+
+        assertTrue(report.total().requests() > 0, "No requests were recorded");
+        assertTrue(report.total().errorRate() <= config.maxErrorRate(),
+                "Error rate " + report.total().errorRate() + " exceeds " + config.maxErrorRate());
+    }
+}
@@ -0,0 +1,75 @@
+package ge.asterbit.assignment.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code -Dloadtest.*} system properties so a run can be
+ * tuned from the Maven command line.
+ */
+record LoadTestConfig(
+        String baseUrl,
+        String adminEmail,
+        String adminPassword,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int users,
+        int managers,
+        int tasksPerProject,
+        Map<Scenario, Integer> mix,
+        long seed,
+        double maxErrorRate,
+        Path reportDir,
+        Path baseline) {
+
+    static LoadTestConfig fromSystemProperties() {
+        String baseline = System.getProperty("loadtest.baseline");
+        return new LoadTestConfig(
+                System.getProperty("loadtest.base-url", "http://localhost:8080"),
+                System.getProperty("loadtest.admin-email", "admin@tasktracker.com"),
+                System.getProperty("loadtest.admin-password", "admin"),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 15)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+                Integer.getInteger("loadtest.users", 40),
+                Integer.getInteger("loadtest.managers", 8),
+                Integer.getInteger("loadtest.tasks-per-project", 200),
+                parseMix(System.getProperty("loadtest.mix", "")),
+                Long.getLong("loadtest.seed", 42),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")),
+                Path.of(System.getProperty("loadtest.report-dir", "target/load-test")),
+                baseline != null && !baseline.isBlank() ? Path.of(baseline) : null);
+    }
+
+    /**
+     * Parses {@code "my-tasks=50,create-task=5"}. Scenarios that are not listed keep their
+     * default weight; a weight of {@code 0} disables a scenario.
+     */
+    static Map<Scenario, Integer> parseMix(String spec) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            mix.put(scenario, scenario.defaultWeight());
+        }
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries must look like scenario=weight: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight must not be negative: " + entry);
+            }
+            mix.put(Scenario.fromKey(parts[0].trim()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("At least one scenario needs a positive weight");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,40 @@
+package ge.asterbit.assignment.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoadTestConfigTest {
+
+    @Test
+    void parseMix_ShouldKeepDefaultWeights_WhenScenarioIsNotListed() {
+        // Act
+        Map<Scenario, Integer> mix = LoadTestConfig.parseMix("my-tasks=50, create-task=0");
+
+        // Assert
+        assertEquals(50, mix.get(Scenario.MY_TASKS));
+        assertEquals(0, mix.get(Scenario.CREATE_TASK));
+        assertEquals(Scenario.ASSIGN.defaultWeight(), mix.get(Scenario.ASSIGN));
+    }
+
+    @Test
+    void parseMix_ShouldThrowException_WhenScenarioIsUnknown() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parseMix("dashboard=10"));
+    }
+
+    @Test
+    void parseMix_ShouldThrowException_WhenAllWeightsAreZero() {
+        // Arrange
+        StringBuilder spec = new StringBuilder();
+        for (Scenario scenario : Scenario.values()) {
+            spec.append(scenario.key()).append("=0,");
+        }
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parseMix(spec.toString()));
+    }
+}
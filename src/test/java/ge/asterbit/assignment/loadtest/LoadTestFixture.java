@@ -0,0 +1,191 @@
+package ge.asterbit.assignment.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import ge.asterbit.assignment.dto.auth.AuthRequest;
+import ge.asterbit.assignment.dto.auth.RegisterRequest;
+import ge.asterbit.assignment.dto.project.CreateProjectRequest;
+import ge.asterbit.assignment.dto.task.CreateTaskRequest;
+import ge.asterbit.assignment.dto.user.RoleAssignmentRequest;
+import ge.asterbit.assignment.entity.Role;
+import ge.asterbit.assignment.entity.TaskPriority;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Accounts, projects and tasks the scenarios work on. Every run registers fresh accounts
+ * under a run-specific email prefix, so repeated runs against the same database do not
+ * interfere; the created data is left in place.
+ */
+final class LoadTestFixture {
+
+    static final String PASSWORD = "load-test-password";
+
+    private final List<UserSession> users;
+    private final List<ManagerSession> managers;
+
+    private LoadTestFixture(List<UserSession> users, List<ManagerSession> managers) {
+        this.users = users;
+        this.managers = managers;
+    }
+
+    List<UserSession> users() {
+        return users;
+    }
+
+    List<ManagerSession> managers() {
+        return managers;
+    }
+
+    static LoadTestFixture create(LoadTestClient client, LoadTestConfig config) throws Exception {
+        if (config.users() < 1 || config.managers() < 1 || (long) config.managers() * config.tasksPerProject() < config.users()) {
+            throw new IllegalArgumentException(
+                    "Need at least one user and one manager, and enough tasks for every user to have one");
+        }
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        String adminToken = login(client, config.adminEmail(), config.adminPassword());
+
+        List<UserSession> users = new ArrayList<>();
+        for (int i = 0; i < config.users(); i++) {
+            String email = "lt-" + runId + "-user" + i + "@load.test";
+            String token = register(client, email);
+            users.add(new UserSession(email, currentUserId(client, token), token));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(config.concurrency(), config.managers())));
+        try {
+            List<Future<ManagerSession>> futures = new ArrayList<>();
+            for (int i = 0; i < config.managers(); i++) {
+                int index = i;
+                futures.add(executor.submit(() -> createManager(client, config, adminToken, runId, index, users)));
+            }
+            List<ManagerSession> managers = new ArrayList<>();
+            for (Future<ManagerSession> future : futures) {
+                managers.add(future.get());
+            }
+            return new LoadTestFixture(users, managers);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ManagerSession createManager(LoadTestClient client, LoadTestConfig config, String adminToken,
+                                                String runId, int index, List<UserSession> users) throws Exception {
+        Random random = new Random(config.seed() + index);
+        String email = "lt-" + runId + "-manager" + index + "@load.test";
+        Long id = currentUserId(client, register(client, email));
+        client.call("PATCH", "/api/v1/users/" + id + "/role", adminToken,
+                RoleAssignmentRequest.builder().role(Role.MANAGER).build());
+        // The role change invalidates tokens issued before it
+        String token = login(client, email, PASSWORD);
+
+        JsonNode project = client.call("POST", "/api/v1/projects", token, CreateProjectRequest.builder()
+                .name("Load test " + runId + " #" + index)
+                .description("Created by the HTTP load test")
+                .build());
+        ManagerSession manager = new ManagerSession(token, project.get("id").asLong());
+
+        int backlogSize = Math.max(1, config.tasksPerProject() / 10);
+        for (int i = 0; i < config.tasksPerProject() + backlogSize; i++) {
+            boolean backlog = i >= config.tasksPerProject() || users.isEmpty();
+            UserSession assignee = backlog ? null : users.get((index * config.tasksPerProject() + i) % users.size());
+            JsonNode task = client.call("POST", "/api/v1/tasks", token,
+                    newTask(random, manager.projectId(), assignee != null ? assignee.id() : null));
+            long taskId = task.get("id").asLong();
+            if (assignee != null) {
+                assignee.taskIds().add(taskId);
+            } else {
+                manager.backlogTaskIds().add(taskId);
+            }
+        }
+        return manager;
+    }
+
+    static CreateTaskRequest newTask(Random random, long projectId, Long assigneeId) {
+        int number = random.nextInt(1_000_000);
+        return CreateTaskRequest.builder()
+                .title("Load test task " + number)
+                .description("Generated task " + number + " with a short description")
+                .dueDate(LocalDate.now().plusDays(1 + random.nextInt(90)))
+                .priority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)])
+                .projectId(projectId)
+                .assignedUserId(assigneeId)
+                .build();
+    }
+
+    static String login(LoadTestClient client, String email, String password) throws Exception {
+        return client.call("POST", "/api/v1/auth/login", null,
+                AuthRequest.builder().email(email).password(password).build()).get("token").asText();
+    }
+
+    private static String register(LoadTestClient client, String email) throws Exception {
+        return client.call("POST", "/api/v1/auth/register", null,
+                RegisterRequest.builder().email(email).password(PASSWORD).build()).get("token").asText();
+    }
+
+    private static Long currentUserId(LoadTestClient client, String token) throws Exception {
+        return client.call("GET", "/api/v1/users/me", token, null).get("id").asLong();
+    }
+
+    static final class UserSession {
+        private final String email;
+        private final long id;
+        private final List<Long> taskIds = new CopyOnWriteArrayList<>();
+        private volatile String token;
+
+        UserSession(String email, long id, String token) {
+            this.email = email;
+            this.id = id;
+            this.token = token;
+        }
+
+        String email() {
+            return email;
+        }
+
+        long id() {
+            return id;
+        }
+
+        List<Long> taskIds() {
+            return taskIds;
+        }
+
+        String token() {
+            return token;
+        }
+
+        void token(String token) {
+            this.token = token;
+        }
+    }
+
+    static final class ManagerSession {
+        private final String token;
+        private final long projectId;
+        private final List<Long> backlogTaskIds = new CopyOnWriteArrayList<>();
+
+        ManagerSession(String token, long projectId) {
+            this.token = token;
+            this.projectId = projectId;
+        }
+
+        String token() {
+            return token;
+        }
+
+        long projectId() {
+            return projectId;
+        }
+
+        List<Long> backlogTaskIds() {
+            return backlogTaskIds;
+        }
+    }
+}
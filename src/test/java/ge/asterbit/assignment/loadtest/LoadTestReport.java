@@ -0,0 +1,129 @@
+package ge.asterbit.assignment.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import ge.asterbit.assignment.loadtest.LoadTestRunner.ScenarioResult;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary of one run, printed as a table and written as JSON. Passing an earlier report
+ * as baseline prints the throughput and p99 change per scenario.
+ */
+record LoadTestReport(
+        Instant startedAt,
+        String baseUrl,
+        int concurrency,
+        long durationSeconds,
+        Map<String, Integer> mix,
+        List<ScenarioStats> scenarios,
+        ScenarioStats total) {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    record ScenarioStats(
+            String scenario,
+            long requests,
+            long errors,
+            long throttled,
+            double errorRate,
+            double throughput,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs) {
+
+        static ScenarioStats of(String scenario, ScenarioResult result, double seconds) {
+            LatencySamples latencies = result.latencies();
+            long requests = result.requests();
+            return new ScenarioStats(scenario, requests, result.errors(), result.throttled(),
+                    requests == 0 ? 0 : (double) result.errors() / requests,
+                    requests / seconds,
+                    millis(latencies.percentile(0.50)),
+                    millis(latencies.percentile(0.90)),
+                    millis(latencies.percentile(0.99)),
+                    millis(latencies.percentile(0.999)),
+                    millis(latencies.max()));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    static LoadTestReport of(Instant startedAt, LoadTestConfig config, Map<Scenario, ScenarioResult> results) {
+        double seconds = config.duration().toMillis() / 1000.0;
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((scenario, weight) -> mix.put(scenario.key(), weight));
+
+        List<ScenarioStats> scenarios = new ArrayList<>();
+        ScenarioResult total = new ScenarioResult();
+        results.forEach((scenario, result) -> {
+            scenarios.add(ScenarioStats.of(scenario.key(), result, seconds));
+            total.addAll(result);
+        });
+        return new LoadTestReport(startedAt, config.baseUrl(), config.concurrency(), config.duration().toSeconds(),
+                mix, scenarios, ScenarioStats.of("total", total, seconds));
+    }
+
+    void print(PrintStream out) {
+        out.printf("Load test against %s, %d workers, %d s%n", baseUrl, concurrency, durationSeconds);
+        out.printf("%-14s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "429s", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (ScenarioStats stats : scenarios) {
+            printRow(out, stats);
+        }
+        printRow(out, total);
+    }
+
+    void printComparison(PrintStream out, LoadTestReport baseline) {
+        Map<String, ScenarioStats> previous = new LinkedHashMap<>();
+        baseline.scenarios().forEach(stats -> previous.put(stats.scenario(), stats));
+        previous.put("total", baseline.total());
+
+        out.printf("Compared with the run of %s%n", baseline.startedAt());
+        out.printf("%-14s %12s %12s%n", "scenario", "req/s", "p99");
+        List<ScenarioStats> current = new ArrayList<>(scenarios);
+        current.add(total);
+        for (ScenarioStats stats : current) {
+            ScenarioStats before = previous.get(stats.scenario());
+            if (before != null) {
+                out.printf("%-14s %11.1f%% %11.1f%%%n", stats.scenario(),
+                        change(before.throughput(), stats.throughput()), change(before.p99Ms(), stats.p99Ms()));
+            }
+        }
+    }
+
+    Path write(ObjectMapper objectMapper, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("load-test-" + FILE_TIMESTAMP.format(startedAt) + ".json");
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+        return file;
+    }
+
+    static LoadTestReport read(ObjectMapper objectMapper, Path file) throws IOException {
+        return objectMapper.readValue(file.toFile(), LoadTestReport.class);
+    }
+
+    private static void printRow(PrintStream out, ScenarioStats stats) {
+        out.printf("%-14s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", stats.scenario(), stats.requests(),
+                stats.errors(), stats.throttled(), stats.throughput(), stats.p50Ms(), stats.p90Ms(), stats.p99Ms(),
+                stats.p999Ms(), stats.maxMs());
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+}
@@ -0,0 +1,180 @@
+package ge.asterbit.assignment.loadtest;
+
+import ge.asterbit.assignment.dto.auth.AuthRequest;
+import ge.asterbit.assignment.entity.TaskStatus;
+import ge.asterbit.assignment.loadtest.LoadTestFixture.ManagerSession;
+import ge.asterbit.assignment.loadtest.LoadTestFixture.UserSession;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load generator: {@code concurrency} workers each pick a scenario by weight,
+ * send it and wait for the answer before sending the next one. Requests started during
+ * the warm-up are sent but not recorded.
+ */
+final class LoadTestRunner {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final LoadTestClient client;
+    private final LoadTestConfig config;
+    private final LoadTestFixture fixture;
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    LoadTestRunner(LoadTestClient client, LoadTestConfig config, LoadTestFixture fixture) {
+        this.client = client;
+        this.config = config;
+        this.fixture = fixture;
+
+        List<Scenario> enabled = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Scenario, Integer> entry : config.mix().entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                enabled.add(entry.getKey());
+                weights.add(total);
+            }
+        }
+        this.scenarios = enabled.toArray(Scenario[]::new);
+        this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    Map<Scenario, ScenarioResult> run() throws Exception {
+        long measureStart = System.nanoTime() + config.warmup().toNanos();
+        long end = measureStart + config.duration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(config.concurrency());
+        try {
+            List<Future<Map<Scenario, ScenarioResult>>> futures = new ArrayList<>();
+            for (int i = 0; i < config.concurrency(); i++) {
+                int worker = i;
+                futures.add(executor.submit(() -> runWorker(worker, measureStart, end)));
+            }
+            Map<Scenario, ScenarioResult> merged = new EnumMap<>(Scenario.class);
+            for (Future<Map<Scenario, ScenarioResult>> future : futures) {
+                future.get().forEach((scenario, result) ->
+                        merged.computeIfAbsent(scenario, s -> new ScenarioResult()).addAll(result));
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<Scenario, ScenarioResult> runWorker(int worker, long measureStart, long end) throws InterruptedException {
+        Random random = new Random(config.seed() * 31 + worker);
+        UserSession user = fixture.users().get(worker % fixture.users().size());
+        ManagerSession manager = fixture.managers().get(worker % fixture.managers().size());
+        Map<Scenario, ScenarioResult> results = new EnumMap<>(Scenario.class);
+
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Scenario scenario = pick(random);
+            HttpRequest request = buildRequest(scenario, random, user, manager);
+
+            int status;
+            try {
+                HttpResponse<byte[]> response = client.send(request);
+                status = response.statusCode();
+                if (scenario == Scenario.LOGIN && status == 200) {
+                    user.token(client.readJson(response.body()).get("token").asText());
+                }
+            } catch (IOException ex) {
+                status = -1;
+            }
+            long elapsed = System.nanoTime() - now;
+
+            if (now >= measureStart) {
+                results.computeIfAbsent(scenario, s -> new ScenarioResult()).record(elapsed, status);
+            }
+        }
+        return results;
+    }
+
+    private Scenario pick(Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    private HttpRequest buildRequest(Scenario scenario, Random random, UserSession user, ManagerSession manager) {
+        String projectTasks = "/api/v1/tasks/project/" + manager.projectId();
+        return switch (scenario) {
+            case LOGIN -> client.request("POST", "/api/v1/auth/login", null,
+                    AuthRequest.builder().email(user.email()).password(LoadTestFixture.PASSWORD).build());
+            case MY_TASKS -> client.request("GET", "/api/v1/tasks/my?page=0&size=20", user.token(), null);
+            case PROJECT_BOARD -> client.request("GET",
+                    "/api/v1/projects/" + manager.projectId() + "/board?limit=20", manager.token(), null);
+            case STATUS_COLUMN -> client.request("GET",
+                    projectTasks + "/status/" + randomStatus(random) + "?page=0&size=20", manager.token(), null);
+            case UPDATE_STATUS -> client.request("PATCH",
+                    "/api/v1/tasks/" + randomElement(random, user.taskIds()) + "/status/" + randomStatus(random),
+                    user.token(), null);
+            case ASSIGN -> client.request("PATCH", "/api/v1/tasks/" + randomElement(random, manager.backlogTaskIds())
+                    + "/assign/" + randomElement(random, fixture.users()).id(), manager.token(), null);
+            case CREATE_TASK -> client.request("POST", "/api/v1/tasks", manager.token(),
+                    LoadTestFixture.newTask(random, manager.projectId(), null));
+        };
+    }
+
+    private static TaskStatus randomStatus(Random random) {
+        return STATUSES[random.nextInt(STATUSES.length)];
+    }
+
+    private static <T> T randomElement(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    static final class ScenarioResult {
+        private final LatencySamples latencies = new LatencySamples();
+        private long errors;
+        private long throttled;
+
+        void record(long nanos, int status) {
+            latencies.add(nanos);
+            if (status == 429) {
+                throttled++;
+            } else if (status < 200 || status >= 300) {
+                errors++;
+            }
+        }
+
+        void addAll(ScenarioResult other) {
+            latencies.addAll(other.latencies);
+            errors += other.errors;
+            throttled += other.throttled;
+        }
+
+        LatencySamples latencies() {
+            return latencies;
+        }
+
+        long requests() {
+            return latencies.size();
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        long throttled() {
+            return throttled;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ge.asterbit.assignment.loadtest;
+
+/**
+ * Requests issued by the load test, mirroring the Postman collection. User scenarios run
+ * with a regular account that has tasks assigned to it; manager scenarios run with the
+ * owner of a seeded project.
+ */
+enum Scenario {
+    LOGIN("login", false, 2),
+    MY_TASKS("my-tasks", false, 35),
+    PROJECT_BOARD("project-board", true, 20),
+    STATUS_COLUMN("status-column", true, 10),
+    UPDATE_STATUS("update-status", false, 18),
+    ASSIGN("assign", true, 5),
+    CREATE_TASK("create-task", true, 10);
+
+    private final String key;
+    private final boolean manager;
+    private final int defaultWeight;
+
+    Scenario(String key, boolean manager, int defaultWeight) {
+        this.key = key;
+        this.manager = manager;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String key() {
+        return key;
+    }
+
+    boolean manager() {
+        return manager;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equals(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario '" + key + "'");
+    }
+}
@@ -0,0 +1,107 @@
+package ge.asterbit.assignment.maintenance;
+
+import ge.asterbit.assignment.audit.AuditEvent;
+import ge.asterbit.assignment.audit.AuditWriter;
+import ge.asterbit.assignment.entity.AuditAction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskArchiverTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private AuditWriter auditWriter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        archiver = new TaskArchiver(jdbcTemplate, transactionTemplate, auditWriter, Duration.ofDays(90), 2, 10, meterRegistry);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void archiveCompletedTasks_ShouldMoveBatchesUntilNothingIsLeft() {
+        // Arrange
+        when(jdbcTemplate.queryForList(contains("FOR UPDATE"), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(1L, 2L), List.of(5L), List.of());
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(0);
+        when(jdbcTemplate.update(startsWith("DELETE FROM tasks WHERE"), any(SqlParameterSource.class))).thenReturn(2, 1);
+
+        // Act
+        archiver.archiveCompletedTasks();
+
+        // Assert
+        ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate, times(2)).update(startsWith("INSERT INTO tasks_archive"), captor.capture());
+        assertEquals(List.of(1L, 2L), ((MapSqlParameterSource) captor.getAllValues().get(0)).getValue("ids"));
+        assertEquals(List.of(5L), ((MapSqlParameterSource) captor.getAllValues().get(1)).getValue("ids"));
+        assertEquals(3.0, meterRegistry.counter("tasks.archived").count());
+        verify(jdbcTemplate, times(2)).update(startsWith("INSERT INTO task_status_transitions_archive"),
+                any(SqlParameterSource.class));
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM task_dependencies"), any(SqlParameterSource.class));
+
+        ArgumentCaptor<AuditEvent> auditCaptor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditWriter, times(3)).publish(auditCaptor.capture());
+        assertEquals(List.of(1L, 2L, 5L), auditCaptor.getAllValues().stream().map(AuditEvent::entityId).toList());
+        assertTrue(auditCaptor.getAllValues().stream().allMatch(event -> event.action() == AuditAction.ARCHIVE));
+    }
+
+    @Test
+    void archiveCompletedTasks_ShouldRemoveDependencyLinks_WhenArchivedTasksHaveThem() {
+        // Arrange
+        when(jdbcTemplate.queryForList(contains("FOR UPDATE"), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(1L, 2L), List.of());
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(0);
+        when(jdbcTemplate.update(startsWith("UPDATE projects SET dependency_version"), any(SqlParameterSource.class)))
+                .thenReturn(1);
+        when(jdbcTemplate.update(startsWith("DELETE FROM tasks WHERE"), any(SqlParameterSource.class))).thenReturn(2);
+
+        // Act
+        archiver.archiveCompletedTasks();
+
+        // Assert
+        assertEquals(2.0, meterRegistry.counter("tasks.archived").count());
+        verify(jdbcTemplate).update(startsWith("DELETE FROM task_dependencies"), any(SqlParameterSource.class));
+    }
+
+    @Test
+    void archiveCompletedTasks_ShouldNotWrite_WhenNoTaskIsEligible() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of());
+
+        // Act
+        archiver.archiveCompletedTasks();
+
+        // Assert
+        verify(jdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+        verifyNoInteractions(auditWriter);
+    }
+}
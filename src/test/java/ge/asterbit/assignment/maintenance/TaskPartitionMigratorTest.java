@@ -0,0 +1,158 @@
+package ge.asterbit.assignment.maintenance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskPartitionMigratorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TaskPartitionMigrator migrator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        migrator = new TaskPartitionMigrator(jdbcTemplate, transactionTemplate, 100);
+        when(jdbcTemplate.queryForObject(contains("to_regclass"), eq(Boolean.class))).thenReturn(true);
+        lenient().when(jdbcTemplate.queryForObject(contains("COUNT(*)"), eq(Integer.class))).thenReturn(1);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void migrateNextBatch_ShouldAddMirrorTriggerAndTarget_WhenMoveHasNotStarted() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(contains("COUNT(*)"), eq(Integer.class))).thenReturn(0);
+        when(jdbcTemplate.queryForList(contains("SKIP LOCKED"))).thenReturn(Collections.emptyList());
+
+        // Act
+        migrator.migrateNextBatch();
+        migrator.migrateNextBatch();
+
+        // Assert
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("LOCK TABLE tasks IN SHARE ROW EXCLUSIVE MODE");
+        inOrder.verify(jdbcTemplate).execute(startsWith("CREATE TRIGGER tasks_mirror"));
+        inOrder.verify(jdbcTemplate).execute(startsWith("INSERT INTO task_partition_migration"));
+        verify(jdbcTemplate, times(2)).queryForObject(contains("COUNT(*)"), eq(Integer.class));
+    }
+
+    @Test
+    void migrateNextBatch_ShouldNotAddMirrorTrigger_WhenMoveHasStarted() {
+        // Arrange
+        when(jdbcTemplate.queryForList(contains("SKIP LOCKED"))).thenReturn(Collections.emptyList());
+
+        // Act
+        migrator.migrateNextBatch();
+
+        // Assert
+        verify(jdbcTemplate, never()).execute(startsWith("LOCK TABLE"));
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE TRIGGER"));
+    }
+
+    @Test
+    void migrateNextBatch_ShouldCopyOneBatchAndRecordProgress() {
+        // Arrange
+        when(jdbcTemplate.queryForList(contains("SKIP LOCKED"))).thenReturn(List.of(progress(1000L, 200L)));
+        when(jdbcTemplate.queryForObject(contains("INSERT INTO tasks_partitioned"), eq(Long.class),
+                eq(200L), eq(1000L), eq(100))).thenReturn(300L);
+
+        // Act
+        migrator.migrateNextBatch();
+
+        // Assert
+        verify(jdbcTemplate).update("UPDATE task_partition_migration SET last_copied_id = ? WHERE id = 1", 300L);
+        verify(jdbcTemplate, never()).execute("LOCK TABLE tasks IN ACCESS EXCLUSIVE MODE");
+    }
+
+    @Test
+    void migrateNextBatch_ShouldSwapTablesOnce_WhenCopyHasCaughtUp() {
+        // Arrange
+        when(jdbcTemplate.queryForList(contains("SKIP LOCKED"))).thenReturn(List.of(progress(1000L, 1000L)));
+        when(jdbcTemplate.queryForList(endsWith("FOR UPDATE"))).thenReturn(List.of(progress(1000L, 1000L)));
+        when(jdbcTemplate.queryForList(contains("pg_indexes"), eq(String.class)))
+                .thenReturn(TaskPartitionMigrator.REQUIRED_INDEXES);
+        when(jdbcTemplate.queryForList(contains("pg_constraint"), eq(String.class)))
+                .thenReturn(TaskPartitionMigrator.REQUIRED_CONSTRAINTS);
+
+        // Act
+        migrator.migrateNextBatch();
+        migrator.migrateNextBatch();
+
+        // Assert
+        verify(jdbcTemplate).execute("ALTER TABLE tasks_partitioned RENAME TO tasks");
+        verify(jdbcTemplate).execute("UPDATE task_partition_migration SET completed_at = NOW() WHERE id = 1");
+        verify(jdbcTemplate, times(1)).queryForList(contains("SKIP LOCKED"));
+        verify(jdbcTemplate, never()).queryForObject(contains("INSERT INTO tasks_partitioned"), eq(Long.class),
+                any(Object[].class));
+    }
+
+    @Test
+    void migrateNextBatch_ShouldNotSwapTables_WhenPartitionedTableLacksAnIndex() {
+        // Arrange
+        when(jdbcTemplate.queryForList(contains("SKIP LOCKED"))).thenReturn(List.of(progress(1000L, 1000L)));
+        when(jdbcTemplate.queryForList(endsWith("FOR UPDATE"))).thenReturn(List.of(progress(1000L, 1000L)));
+        when(jdbcTemplate.queryForList(contains("pg_indexes"), eq(String.class)))
+                .thenReturn(TaskPartitionMigrator.REQUIRED_INDEXES.stream()
+                        .filter(name -> !name.equals("idx_tasks_part_status_update"))
+                        .toList());
+        when(jdbcTemplate.queryForList(contains("pg_constraint"), eq(String.class)))
+                .thenReturn(TaskPartitionMigrator.REQUIRED_CONSTRAINTS);
+
+        // Act
+        migrator.migrateNextBatch();
+        migrator.migrateNextBatch();
+
+        // Assert
+        verify(jdbcTemplate, never()).execute("LOCK TABLE tasks IN ACCESS EXCLUSIVE MODE");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE tasks_partitioned RENAME TO tasks");
+        verify(jdbcTemplate, never()).execute(contains("VALIDATE CONSTRAINT"));
+        verify(jdbcTemplate, times(1)).queryForList(contains("SKIP LOCKED"));
+    }
+
+    @Test
+    void migrateNextBatch_ShouldSkipBatch_WhenAnotherInstanceHoldsTheProgressRow() {
+        // Arrange
+        when(jdbcTemplate.queryForList(contains("SKIP LOCKED"))).thenReturn(Collections.emptyList());
+
+        // Act
+        migrator.migrateNextBatch();
+
+        // Assert
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        verify(jdbcTemplate, never()).execute("LOCK TABLE tasks IN ACCESS EXCLUSIVE MODE");
+    }
+
+    private Map<String, Object> progress(long targetId, long lastCopiedId) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("target_id", targetId);
+        row.put("last_copied_id", lastCopiedId);
+        row.put("completed_at", null);
+        return row;
+    }
+}
@@ -0,0 +1,87 @@
+package ge.asterbit.assignment.maintenance;
+
+import ge.asterbit.assignment.entity.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskRankRebalancerTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskRankRebalancer rebalancer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rebalancer = new TaskRankRebalancer(jdbcTemplate, transactionTemplate, 4, meterRegistry);
+    }
+
+    @Test
+    void rebalance_ShouldWriteAscendingKeysInCurrentOrder() {
+        // Arrange
+        when(jdbcTemplate.queryForList(contains("FOR UPDATE"), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(7L, 3L, 9L));
+
+        // Act
+        int rebalanced = rebalancer.rebalance(1L, TaskStatus.TODO, null);
+
+        // Assert
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE tasks SET rank_key"), captor.capture());
+        SqlParameterSource[] batch = captor.getValue();
+        assertEquals(3, rebalanced);
+        assertEquals(List.of(7L, 3L, 9L), List.of(batch[0].getValue("id"), batch[1].getValue("id"), batch[2].getValue("id")));
+        String first = (String) batch[0].getValue("rank");
+        String second = (String) batch[1].getValue("rank");
+        String third = (String) batch[2].getValue("rank");
+        assertTrue(first.compareTo(second) < 0 && second.compareTo(third) < 0);
+        assertEquals(1.0, meterRegistry.counter("tasks.rank.rebalanced").count());
+    }
+
+    @Test
+    void rebalancePending_ShouldOnlyRebalanceColumnsWithLongKeys() {
+        // Arrange
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(1L));
+
+        rebalancer.keyAssigned(1L, TaskStatus.TODO, "abcd");
+        rebalancer.keyAssigned(2L, TaskStatus.DONE, "abcde");
+        rebalancer.keyAssigned(2L, TaskStatus.DONE, "abcdef");
+
+        // Act
+        rebalancer.rebalancePending();
+        rebalancer.rebalancePending();
+
+        // Assert
+        ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), captor.capture(), eq(Long.class));
+        assertEquals(2L, ((MapSqlParameterSource) captor.getValue()).getValue("projectId"));
+        assertEquals("DONE", ((MapSqlParameterSource) captor.getValue()).getValue("status"));
+    }
+}
@@ -0,0 +1,67 @@
+package ge.asterbit.assignment.mapper;
+
+import ge.asterbit.assignment.dto.common.PageResponse;
+import ge.asterbit.assignment.dto.project.ProjectDTO;
+import ge.asterbit.assignment.dto.task.TaskDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PageResponseMapperTest {
+
+    private final PageResponseMapper pageResponseMapper = new PageResponseMapper();
+
+    @Test
+    void toTaskResponse_ShouldCopyPaginationMetadata() {
+        // Arrange
+        TaskDTO task = TaskDTO.builder().id(1L).projectId(2L).projectName("Project").build();
+
+        // Act
+        PageResponse<TaskDTO> response = pageResponseMapper.toTaskResponse(
+                new PageImpl<>(List.of(task), PageRequest.of(1, 1), 5), false);
+
+        // Assert
+        assertEquals(1, response.getPage());
+        assertEquals(1, response.getSize());
+        assertEquals(5, response.getTotalElements());
+        assertEquals(5, response.getTotalPages());
+        assertEquals("Project", response.getContent().get(0).getProjectName());
+        assertNull(response.getRefs());
+    }
+
+    @Test
+    void toTaskResponse_ShouldMoveReferencesToSideTable_WhenNormalized() {
+        // Arrange
+        List<TaskDTO> tasks = List.of(
+                TaskDTO.builder().id(1L).projectId(2L).projectName("Project").assignedUserId(3L).assignedUserEmail("a@test.com").build(),
+                TaskDTO.builder().id(2L).projectId(2L).projectName("Project").build()
+        );
+
+        // Act
+        PageResponse<TaskDTO> response = pageResponseMapper.toTaskResponse(new PageImpl<>(tasks), true);
+
+        // Assert
+        assertEquals(Map.of(2L, "Project"), response.getRefs().get(PageResponseMapper.PROJECTS));
+        assertEquals(Map.of(3L, "a@test.com"), response.getRefs().get(PageResponseMapper.USERS));
+        assertTrue(response.getContent().stream().allMatch(task -> task.getProjectName() == null));
+        assertEquals(2L, response.getContent().get(1).getProjectId());
+    }
+
+    @Test
+    void toProjectResponse_ShouldMoveOwnerEmailsToSideTable_WhenNormalized() {
+        // Arrange
+        ProjectDTO project = ProjectDTO.builder().id(1L).ownerId(4L).ownerEmail("owner@test.com").build();
+
+        // Act
+        PageResponse<ProjectDTO> response = pageResponseMapper.toProjectResponse(new PageImpl<>(List.of(project)), true);
+
+        // Assert
+        assertEquals(Map.of(4L, "owner@test.com"), response.getRefs().get(PageResponseMapper.USERS));
+        assertNull(response.getContent().get(0).getOwnerEmail());
+    }
+}
@@ -0,0 +1,42 @@
+package ge.asterbit.assignment.notification;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileNotificationChannelTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void send_ShouldAppendOneJsonLinePerDigest() throws Exception {
+        // Arrange
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        FileNotificationChannel channel = new FileNotificationChannel(objectMapper, directory.resolve("out"));
+        Notification notification = new Notification(3L, "user@test.com", NotificationType.ASSIGNED, 10L,
+                "Test Task", 1L, "Test Project", LocalDate.of(2026, 11, 2), "manager@test.com", LocalDateTime.now());
+
+        // Act
+        channel.send(List.of(new Digest(3L, "user@test.com", List.of(notification), 0)));
+        channel.send(List.of(new Digest(4L, "other@test.com", List.of(), 7)));
+
+        // Assert
+        List<String> lines = Files.readAllLines(directory.resolve("out").resolve(FileNotificationChannel.FILE_NAME));
+        assertEquals(2, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals("user@test.com", first.get("recipientEmail").asText());
+        assertEquals("ASSIGNED", first.get("notifications").get(0).get("type").asText());
+        assertEquals(10L, first.get("notifications").get(0).get("taskId").asLong());
+        assertEquals(7, objectMapper.readTree(lines.get(1)).get("omitted").asInt());
+    }
+}
@@ -0,0 +1,129 @@
+package ge.asterbit.assignment.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NotificationDispatcherTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(5);
+    private static final long NOW = 1_000_000L;
+
+    private final List<List<Digest>> batches = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationDispatcher dispatcher = new NotificationDispatcher(
+            digests -> batches.add(List.copyOf(digests)), WINDOW, Duration.ofSeconds(1), 2, 50, 3, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void flush_ShouldSendOneDigestPerRecipient_WhenThousandsOfTasksAreReassigned() {
+        // Arrange: 5,000 tasks move from recipient 1 to recipients 2 and 3
+        for (long taskId = 1; taskId <= 5_000; taskId++) {
+            dispatcher.enqueue(notification(1L, NotificationType.UNASSIGNED, taskId), NOW);
+            dispatcher.enqueue(notification(taskId % 2 == 0 ? 2L : 3L, NotificationType.ASSIGNED, taskId), NOW);
+        }
+
+        // Act
+        int flushed = dispatcher.flush(NOW + WINDOW.toMillis());
+
+        // Assert
+        assertEquals(3, flushed);
+        assertEquals(List.of(2, 1), batches.stream().map(List::size).toList());
+        List<Digest> digests = batches.stream().flatMap(List::stream)
+                .sorted(Comparator.comparing(Digest::recipientId))
+                .toList();
+        assertEquals(List.of(1L, 2L, 3L), digests.stream().map(Digest::recipientId).toList());
+        assertEquals(List.of(5_000, 2_500, 2_500), digests.stream()
+                .map(digest -> digest.notifications().size() + digest.omitted()).toList());
+        assertTrue(digests.stream().allMatch(digest -> digest.notifications().size() == 50));
+        assertEquals(3.0, meterRegistry.get("notifications.digests.sent").counter().count());
+        assertEquals(0, dispatcher.flush(Long.MAX_VALUE));
+    }
+
+    @Test
+    void flush_ShouldHoldDigest_UntilItsWindowHasClosed() {
+        // Arrange
+        dispatcher.enqueue(notification(1L, NotificationType.ASSIGNED, 10L), NOW);
+        dispatcher.enqueue(notification(1L, NotificationType.DUE_DATE_CHANGED, 11L), NOW + 1_000);
+
+        // Act
+        int early = dispatcher.flush(NOW + WINDOW.toMillis() - 1);
+        int due = dispatcher.flush(NOW + WINDOW.toMillis());
+
+        // Assert
+        assertEquals(0, early);
+        assertEquals(1, due);
+        assertEquals(List.of(10L, 11L), batches.get(0).get(0).notifications().stream()
+                .map(Notification::taskId).toList());
+    }
+
+    @Test
+    void enqueue_ShouldCancelAssignment_WhenTaskIsUnassignedWithinTheWindow() {
+        // Arrange
+        dispatcher.enqueue(notification(1L, NotificationType.ASSIGNED, 10L), NOW);
+        dispatcher.enqueue(notification(1L, NotificationType.DUE_DATE_CHANGED, 11L), NOW);
+        dispatcher.enqueue(notification(1L, NotificationType.DUE_DATE_CHANGED, 11L), NOW);
+        dispatcher.enqueue(notification(1L, NotificationType.UNASSIGNED, 10L), NOW);
+
+        // Act
+        dispatcher.flush(Long.MAX_VALUE);
+
+        // Assert
+        Digest digest = batches.get(0).get(0);
+        assertEquals(1, digest.notifications().size());
+        assertEquals(NotificationType.DUE_DATE_CHANGED, digest.notifications().get(0).type());
+    }
+
+    @Test
+    void enqueue_ShouldDropNotification_WhenTooManyRecipientsArePending() {
+        // Arrange
+        for (long recipientId = 1; recipientId <= 4; recipientId++) {
+            dispatcher.enqueue(notification(recipientId, NotificationType.ASSIGNED, 10L), NOW);
+        }
+
+        // Act
+        dispatcher.enqueue(notification(2L, NotificationType.ASSIGNED, 11L), NOW);
+        int flushed = dispatcher.flush(Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(3, flushed);
+        assertEquals(1.0, meterRegistry.get("notifications.dropped").counter().count());
+    }
+
+    @Test
+    void publish_ShouldQueueNotification_OnlyAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        dispatcher.publish(notification(1L, NotificationType.ASSIGNED, 10L));
+        int beforeCommit = dispatcher.flush(Long.MAX_VALUE);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        int afterCommit = dispatcher.flush(Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(0, beforeCommit);
+        assertEquals(1, afterCommit);
+    }
+
+    private static Notification notification(Long recipientId, NotificationType type, Long taskId) {
+        return new Notification(recipientId, "user" + recipientId + "@test.com", type, taskId, "Task " + taskId,
+                1L, "Test Project", null, "manager@test.com", LocalDateTime.now());
+    }
+}
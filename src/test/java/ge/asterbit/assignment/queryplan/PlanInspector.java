@@ -0,0 +1,42 @@
+package ge.asterbit.assignment.queryplan;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Walks the JSON output of {@code EXPLAIN (FORMAT JSON)} and reports the plan shapes the
+ * regression suite rejects: sequential scans of tables not explicitly allowed for the
+ * query, and sorts that spilled to disk.
+ */
+final class PlanInspector {
+
+    private PlanInspector() {
+    }
+
+    static List<String> findProblems(JsonNode explainOutput, Set<String> allowedSeqScans) {
+        List<String> problems = new ArrayList<>();
+        visit(explainOutput.get(0).get("Plan"), allowedSeqScans, problems);
+        return problems;
+    }
+
+    private static void visit(JsonNode node, Set<String> allowedSeqScans, List<String> problems) {
+        String nodeType = node.path("Node Type").asText();
+        String relation = node.path("Relation Name").asText(null);
+
+        if (nodeType.equals("Seq Scan") && !allowedSeqScans.contains(relation)) {
+            problems.add("sequential scan on " + relation);
+        }
+        if (nodeType.endsWith("Sort") && (node.path("Sort Space Type").asText().equals("Disk")
+                || node.path("Sort Method").asText().startsWith("external"))) {
+            problems.add("external sort (" + node.path("Sort Method").asText() + ") on "
+                    + node.path("Sort Key").toString());
+        }
+
+        for (JsonNode child : node.path("Plans")) {
+            visit(child, allowedSeqScans, problems);
+        }
+    }
+}
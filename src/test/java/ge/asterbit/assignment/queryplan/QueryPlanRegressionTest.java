@@ -0,0 +1,253 @@
+package ge.asterbit.assignment.queryplan;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ge.asterbit.assignment.entity.*;
+import ge.asterbit.assignment.repository.*;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every repository query against a seeded PostgreSQL database, replays the captured SQL
+ * under {@code EXPLAIN (ANALYZE, FORMAT JSON)} (plain {@code EXPLAIN} for writes, which run
+ * in a rolled-back transaction) and fails when a plan scans a table sequentially or sorts
+ * on disk. Start the database from docker-compose and run with
+ * {@code mvn test -Dgroups=query-plan -DexcludedGroups=}. The data set is seeded into the
+ * {@code query_plan} schema on the first run and reused afterwards; point
+ * {@code QUERY_PLAN_DB_URL} elsewhere to use another server.
+ */
+@Tag("query-plan")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=${QUERY_PLAN_DB_URL:jdbc:postgresql://localhost:5434/tasktracker?currentSchema=query_plan}",
+        "spring.datasource.username=${QUERY_PLAN_DB_USER:user}",
+        "spring.datasource.password=${QUERY_PLAN_DB_PASSWORD:password}",
+        "spring.flyway.schemas=query_plan",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.springframework.security=INFO",
+        "tasks.partitioning.enabled=false",
+        "tasks.archive.enabled=false"
+})
+@Import(QueryPlanRegressionTest.RecordingConfig.class)
+public class QueryPlanRegressionTest {
+
+    private static final PageRequest PAGE = PageRequest.of(2, 20);
+    private static final PageRequest PAGE_BY_DUE_DATE = PageRequest.of(2, 20, Sort.by("dueDate"));
+    private static final PageRequest PAGE_BY_RANK = PageRequest.of(0, 20, Sort.by("rank", "id"));
+    private static final Set<TaskStatus> OPEN_STATUSES = Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+    @Autowired private DataSource dataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ArchivedTaskRepository archivedTaskRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private RevokedTokenRepository revokedTokenRepository;
+    @Autowired private TaskStatusTransitionRepository transitionRepository;
+    @Autowired private TaskDurationBucketRepository bucketRepository;
+    @Autowired private AuditLogRepository auditLogRepository;
+    @Autowired private TaskDependencyRepository dependencyRepository;
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        seedIfEmpty();
+
+        Long projectId = jdbcTemplate.queryForObject(
+                "SELECT project_id FROM tasks GROUP BY project_id ORDER BY COUNT(*) DESC LIMIT 1", Long.class);
+        Project project = projectRepository.findById(projectId).orElseThrow();
+        User manager = userRepository.findById(jdbcTemplate.queryForObject(
+                "SELECT owner_id FROM projects WHERE id = ?", Long.class, projectId)).orElseThrow();
+        User assignee = userRepository.findById(jdbcTemplate.queryForObject(
+                "SELECT assigned_user_id FROM tasks WHERE assigned_user_id IS NOT NULL "
+                        + "GROUP BY assigned_user_id ORDER BY COUNT(*) DESC LIMIT 1", Long.class)).orElseThrow();
+        Long taskId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM tasks WHERE project_id = ?", Long.class, projectId);
+        Long archivedTaskId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM tasks_archive", Long.class);
+        List<Long> taskIds = jdbcTemplate.queryForList(
+                "SELECT id FROM tasks WHERE project_id = ? ORDER BY id LIMIT 50", Long.class, projectId);
+        String tokenHash = jdbcTemplate.queryForObject("SELECT MIN(token_hash) FROM refresh_tokens", String.class);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<QueryCase> cases = List.of(
+                // Tasks
+                query("tasks: all, unsorted page", () -> taskRepository.findAll(PAGE), "tasks"),
+                query("tasks: by project", () -> taskRepository.findByProject(project, PAGE)),
+                query("tasks: by project sorted", () -> taskRepository.findByProject(project, PAGE_BY_DUE_DATE)),
+                query("tasks: by project, unpaged", () -> taskRepository.findByProject(project)),
+                query("tasks: by assignee sorted", () -> taskRepository.findByAssignedUser(assignee, PAGE_BY_DUE_DATE)),
+                query("tasks: by project and status sorted",
+                        () -> taskRepository.findByProjectAndStatus(project, TaskStatus.IN_PROGRESS, PAGE_BY_DUE_DATE)),
+                query("tasks: by project and priority sorted",
+                        () -> taskRepository.findByProjectAndPriority(project, TaskPriority.HIGH, PAGE_BY_DUE_DATE)),
+                query("tasks: by assignee and status sorted",
+                        () -> taskRepository.findByAssignedUserAndStatus(assignee, TaskStatus.TODO, PAGE_BY_DUE_DATE)),
+                query("tasks: project board", () -> taskRepository.findBoard(projectId, 20)),
+                query("tasks: by project and status in rank order",
+                        () -> taskRepository.findByProjectAndStatus(project, TaskStatus.TODO, PAGE_BY_RANK)),
+                query("tasks: last rank in column", () -> taskRepository.findMaxRank(projectId, TaskStatus.TODO)),
+                query("tasks: ranks by ids", () -> taskRepository.findRanks(taskIds.subList(0, 2))),
+                query("tasks: workload by project owner",
+                        () -> taskRepository.findWorkloadByProjectOwner(manager, OPEN_STATUSES, now.toLocalDate())),
+                query("tasks: workload, all projects", () -> taskRepository.findWorkload(OPEN_STATUSES, now.toLocalDate()),
+                        "tasks"),
+                query("tasks: open by project, due date order", () -> taskRepository.findByProjectAndStatusIn(
+                        project, OPEN_STATUSES, PageRequest.of(0, 50, Sort.by(Sort.Order.asc("dueDate").nullsLast())))),
+                query("tasks: by id", () -> taskRepository.findById(taskId)),
+                query("tasks: by id and project", () -> taskRepository.findByIdAndProject(taskId, project)),
+                query("tasks: by id and assignee", () -> taskRepository.findByIdAndAssignedUser(taskId, assignee)),
+                query("tasks: by id and project owner", () -> taskRepository.findByIdAndProjectOwner(taskId, manager)),
+                query("tasks: exists by id and assignee", () -> taskRepository.existsByIdAndAssignedUser(taskId, assignee)),
+                query("tasks: existing ids", () -> taskRepository.findExistingIds(taskIds)),
+                query("tasks: multi-get visible to manager", () -> taskRepository.findAll(TaskSpecifications.idIn(taskIds)
+                        .and(TaskSpecifications.visibleTo(manager))
+                        .and(TaskSpecifications.fetchProjectAndAssignee()))),
+
+                // Archive
+                query("archive: by project", () -> archivedTaskRepository.findByProject(project, PAGE)),
+                query("archive: by id", () -> archivedTaskRepository.findById(archivedTaskId)),
+                query("archive: by id and assignee",
+                        () -> archivedTaskRepository.findByIdAndAssignedUser(archivedTaskId, assignee)),
+
+                // Projects
+                query("projects: all, unsorted page", () -> projectRepository.findAll(PAGE), "projects"),
+                query("projects: by owner", () -> projectRepository.findByOwner(manager, PAGE)),
+                query("projects: by owner, unpaged", () -> projectRepository.findByOwner(manager)),
+                query("projects: by id and owner", () -> projectRepository.findByIdAndOwner(projectId, manager)),
+                query("projects: exists by id and owner", () -> projectRepository.existsByIdAndOwner(projectId, manager)),
+
+                // Users and tokens
+                query("users: all, unsorted page", () -> userRepository.findAll(PAGE), "users"),
+                query("users: by email", () -> userRepository.findByEmail(assignee.getEmail())),
+                query("users: exists by email", () -> userRepository.existsByEmail(assignee.getEmail())),
+                query("users: security epoch", () -> userRepository.findSecurityEpochById(assignee.getId())),
+                query("refresh tokens: by hash", () -> refreshTokenRepository.findByTokenHash(tokenHash)),
+                query("refresh tokens: revoke all of user", () -> refreshTokenRepository.revokeAllByUserId(assignee.getId())),
+                query("refresh tokens: delete expired", () -> refreshTokenRepository.deleteExpired(now.minusDays(14))),
+                // The revocation list loads every live entry by design
+                query("revoked tokens: live", () -> revokedTokenRepository.findByExpiresAtAfter(now), "revoked_tokens"),
+                query("revoked tokens: delete expired", () -> revokedTokenRepository.deleteExpired(now.minusHours(14))),
+
+                // History and analytics
+                query("transitions: by task", () -> transitionRepository.findByTaskIdOrderByTransitionedAtAsc(taskId)),
+                query("transitions: first in progress", () -> transitionRepository
+                        .findFirstByTaskIdAndToStatusOrderByTransitionedAtAsc(taskId, TaskStatus.IN_PROGRESS)),
+                query("histograms: by project", () -> bucketRepository.sumByProject(projectId, DurationMetric.CYCLE)),
+                query("histograms: by assignee", () -> bucketRepository.sumByAssignee(assignee.getId(), DurationMetric.LEAD)),
+                query("histograms: increment", () -> bucketRepository.increment(projectId, 0L, "LEAD", 120)),
+
+                // Dependencies
+                query("dependencies: links of project", () -> dependencyRepository.findLinks(projectId)),
+                query("dependencies: delete links of task", () -> dependencyRepository.deleteByTaskId(taskId)),
+                query("dependencies: bump version", () -> dependencyRepository.incrementVersion(projectId)),
+
+                // Audit log
+                query("audit: newest first", () -> findAuditPage(AuditLogSpecifications.idBefore(null))),
+                query("audit: by entity", () -> findAuditPage(AuditLogSpecifications.hasEntityType(AuditEntityType.TASK)
+                        .and(AuditLogSpecifications.hasEntityId(taskId)))),
+                query("audit: by actor before cursor", () -> findAuditPage(AuditLogSpecifications.byActor(assignee.getId())
+                        .and(AuditLogSpecifications.idBefore(200_000L))))
+        );
+
+        return cases.stream().map(queryCase -> DynamicTest.dynamicTest(queryCase.name(), () -> assertPlans(queryCase)));
+    }
+
+    private void findAuditPage(org.springframework.data.jpa.domain.Specification<AuditLog> specification) {
+        auditLogRepository.findBy(specification, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "id"))
+                .limit(51)
+                .all());
+    }
+
+    private void assertPlans(QueryCase queryCase) throws Exception {
+        List<RecordingDataSource.Statement> statements = RecordingDataSource.record(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    queryCase.query().run();
+                    status.setRollbackOnly();
+                }));
+        assertFalse(statements.isEmpty(), "No SQL was captured");
+
+        List<String> problems = new ArrayList<>();
+        for (RecordingDataSource.Statement statement : statements) {
+            for (String problem : PlanInspector.findProblems(explain(statement), queryCase.allowedSeqScans())) {
+                problems.add(problem + " in: " + statement.sql());
+            }
+        }
+        assertTrue(problems.isEmpty(), String.join("\n", problems));
+    }
+
+    private JsonNode explain(RecordingDataSource.Statement statement) throws Exception {
+        String explain = statement.isQuery() ? "EXPLAIN (ANALYZE, FORMAT JSON) " : "EXPLAIN (FORMAT JSON) ";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(explain + statement.sql())) {
+            statement.bind(preparedStatement);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return objectMapper.readTree(resultSet.getString(1));
+            }
+        }
+    }
+
+    private void seedIfEmpty() {
+        Integer seededUsers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE '%@plan.test'", Integer.class);
+        if (seededUsers != null && seededUsers > 0) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("queryplan/seed.sql"));
+        } catch (Exception ex) {
+            throw new IllegalStateException("Could not seed the query plan database", ex);
+        }
+    }
+
+    private static QueryCase query(String name, Runnable query, String... allowedSeqScans) {
+        return new QueryCase(name, query, Set.of(allowedSeqScans));
+    }
+
+    private record QueryCase(String name, Runnable query, Set<String> allowedSeqScans) {
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? RecordingDataSource.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ge.asterbit.assignment.queryplan;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps a {@link DataSource} so the SQL and parameter bindings of every prepared statement
+ * executed inside {@link #record} are captured and can be replayed under {@code EXPLAIN}.
+ */
+public final class RecordingDataSource {
+
+    public record Binding(Method setter, Object[] args) {
+    }
+
+    public record Statement(String sql, List<Binding> bindings) {
+
+        public boolean isQuery() {
+            return sql.stripLeading().regionMatches(true, 0, "select", 0, 6)
+                    || sql.stripLeading().regionMatches(true, 0, "with", 0, 4);
+        }
+
+        public void bind(PreparedStatement target) throws Exception {
+            for (Binding binding : bindings) {
+                binding.setter().invoke(target, binding.args());
+            }
+        }
+    }
+
+    private static final ThreadLocal<List<Statement>> RECORDED = new ThreadLocal<>();
+
+    private RecordingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (method, args, result) ->
+                result instanceof Connection connection ? wrapConnection(connection) : result);
+    }
+
+    public static List<Statement> record(Runnable action) {
+        List<Statement> statements = new ArrayList<>();
+        RECORDED.set(statements);
+        try {
+            action.run();
+        } finally {
+            RECORDED.remove();
+        }
+        return statements;
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) ->
+                result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")
+                        ? wrapStatement(statement, (String) args[0])
+                        : result);
+    }
+
+    private static PreparedStatement wrapStatement(PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if ((name.equals("executeQuery") || name.equals("executeUpdate") || name.equals("execute"))
+                    && (args == null || args.length == 0)) {
+                List<Statement> recorded = RECORDED.get();
+                if (recorded != null) {
+                    recorded.add(new Statement(sql, List.copyOf(bindings)));
+                }
+            }
+            return result;
+        });
+    }
+
+    private interface ResultDecorator {
+        Object decorate(Method method, Object[] args, Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultDecorator decorator) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return decorator.decorate(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,70 @@
+package ge.asterbit.assignment.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FractionalIndexTest {
+
+    @Test
+    void between_ShouldKeepListSorted_WhenInsertingAtRandomPositions() {
+        // Arrange
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            // Act
+            int position = random.nextInt(keys.size() + 1);
+            String lower = position > 0 ? keys.get(position - 1) : null;
+            String upper = position < keys.size() ? keys.get(position) : null;
+            String key = FractionalIndex.between(lower, upper);
+
+            // Assert
+            assertTrue(lower == null || lower.compareTo(key) < 0, key + " not after " + lower);
+            assertTrue(upper == null || key.compareTo(upper) < 0, key + " not before " + upper);
+            assertNotEquals('0', key.charAt(key.length() - 1));
+            keys.add(position, key);
+        }
+    }
+
+    @Test
+    void between_ShouldKeepKeysShort_WhenAppendingOrPrepending() {
+        // Arrange
+        String last = null;
+        String first = null;
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            last = FractionalIndex.between(last, null);
+            first = FractionalIndex.between(null, first);
+        }
+
+        // Assert
+        assertTrue(last.length() <= 6, last);
+        assertTrue(first.length() <= 6, first);
+        assertThrows(IllegalArgumentException.class, () -> FractionalIndex.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> FractionalIndex.between("a0", null));
+    }
+
+    @Test
+    void spread_ShouldReturnAscendingKeysWithRoomBetweenThem() {
+        for (int count : new int[]{0, 1, 35, 36, 1_000, 50_000}) {
+            // Act
+            List<String> keys = FractionalIndex.spread(count);
+
+            // Assert
+            assertEquals(count, keys.size());
+            int length = keys.stream().mapToInt(String::length).max().orElse(0);
+            for (int i = 1; i < keys.size(); i++) {
+                assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+                String key = FractionalIndex.between(keys.get(i - 1), keys.get(i));
+                assertTrue(key.length() <= length + 1, "no room between " + keys.get(i - 1) + " and " + keys.get(i));
+            }
+        }
+        assertEquals(List.of("i"), FractionalIndex.spread(1));
+    }
+}
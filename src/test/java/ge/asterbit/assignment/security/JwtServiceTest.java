@@ -0,0 +1,90 @@
+package ge.asterbit.assignment.security;
+
+import ge.asterbit.assignment.entity.Role;
+import ge.asterbit.assignment.entity.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtServiceTest {
+
+    private static final String SECRET = "dGVzdFNlY3JldEtleVRoYXRJc0xvbmdFbm91Z2hGb3JIUzI1NlNpZ25pbmc=";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expiration", 60000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 120000L);
+    }
+
+    @Test
+    void generateToken_ShouldEmbedIdentityClaims() {
+        // Arrange
+        User user = User.builder()
+                .id(7L)
+                .email("manager@test.com")
+                .role(Role.MANAGER)
+                .securityEpoch(3)
+                .build();
+
+        // Act
+        String token = jwtService.generateToken(user);
+        Claims claims = jwtService.extractAllClaims(token);
+        AuthenticatedUser principal = jwtService.extractAuthenticatedUser(claims);
+
+        // Assert
+        assertNotNull(claims.getId());
+        assertEquals(new AuthenticatedUser(7L, "manager@test.com", Role.MANAGER, 3), principal);
+        assertEquals(3, jwtService.extractSecurityEpoch(claims));
+        assertTrue(jwtService.isTokenValid(claims, principal));
+    }
+
+    @Test
+    void extractAuthenticatedUser_ShouldReturnNull_WhenIdentityClaimsAreMissing() {
+        // Arrange
+        String token = jwtService.generateToken(new AuthenticatedUser(1L, "user@test.com", Role.USER, 0));
+
+        // Act
+        AuthenticatedUser principal = jwtService.extractAuthenticatedUser(jwtService.extractAllClaims(token));
+
+        // Assert
+        assertNull(principal);
+    }
+
+    @Test
+    void isWarmupToken_ShouldOnlyAcceptTokensWithWarmupClaim() {
+        // Arrange
+        User user = User.builder()
+                .id(1L)
+                .email("admin@test.com")
+                .role(Role.ADMIN)
+                .securityEpoch(0)
+                .build();
+
+        // Act
+        Claims warmup = jwtService.extractAllClaims(jwtService.generateWarmupToken(user, Duration.ofSeconds(5)));
+        Claims regular = jwtService.extractAllClaims(jwtService.generateToken(user));
+
+        // Assert
+        assertTrue(jwtService.isWarmupToken(warmup));
+        assertFalse(jwtService.isWarmupToken(regular));
+        assertTrue(warmup.getExpiration().getTime() - warmup.getIssuedAt().getTime() <= 5000);
+    }
+
+    @Test
+    void isLoopback_ShouldOnlyAcceptLoopbackAddresses() {
+        // Act & Assert
+        assertTrue(JwtService.isLoopback("127.0.0.1"));
+        assertTrue(JwtService.isLoopback("0:0:0:0:0:0:0:1"));
+        assertFalse(JwtService.isLoopback("10.0.0.7"));
+        assertFalse(JwtService.isLoopback(null));
+    }
+}
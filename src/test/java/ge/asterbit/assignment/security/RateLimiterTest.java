@@ -0,0 +1,90 @@
+package ge.asterbit.assignment.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(
+                3, Duration.ofMinutes(1),
+                5, Duration.ofMinutes(1),
+                10, Duration.ofMinutes(1),
+                2,
+                List.of("/api/v1/tasks", "/api/v1/tasks/project/**"),
+                meterRegistry
+        );
+    }
+
+    @Test
+    void tokenBucket_ShouldAllowBurstUpToCapacityAndThenRefill() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(3, TimeUnit.SECONDS.toNanos(3));
+        long now = 0;
+
+        // Act & Assert
+        assertEquals(0, bucket.tryConsume(now));
+        assertEquals(0, bucket.tryConsume(now));
+        assertEquals(0, bucket.tryConsume(now));
+        long wait = bucket.tryConsume(now);
+        assertEquals(TimeUnit.SECONDS.toNanos(1), wait);
+        assertEquals(0, bucket.tryConsume(now + wait));
+        assertFalse(bucket.isIdle(now + wait));
+        assertTrue(bucket.isIdle(now + TimeUnit.SECONDS.toNanos(10)));
+    }
+
+    @Test
+    void tryConsume_ShouldKeepSeparateBucketsPerKey() {
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryConsume(RateLimiter.Policy.AUTH, "10.0.0.1"));
+        }
+
+        // Assert
+        assertTrue(rateLimiter.tryConsume(RateLimiter.Policy.AUTH, "10.0.0.1") > 0);
+        assertEquals(0, rateLimiter.tryConsume(RateLimiter.Policy.AUTH, "10.0.0.2"));
+        assertEquals(1.0, meterRegistry.get("ratelimit.requests")
+                .tag("policy", "auth").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void tryConsume_ShouldEvictLeastRecentlyUsedBucket_WhenMaxBucketsReached() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryConsume(RateLimiter.Policy.AUTH, "10.0.0.1");
+        }
+        rateLimiter.tryConsume(RateLimiter.Policy.AUTH, "10.0.0.2");
+        assertTrue(rateLimiter.tryConsume(RateLimiter.Policy.AUTH, "10.0.0.1") > 0);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryConsume(RateLimiter.Policy.AUTH, "10.0.0.3"));
+        }
+
+        // Assert
+        assertTrue(rateLimiter.tryConsume(RateLimiter.Policy.AUTH, "10.0.0.1") > 0);
+        assertEquals(2.0, meterRegistry.get("ratelimit.buckets").gauge().value());
+        assertEquals(1.0, meterRegistry.get("ratelimit.buckets.evicted").counter().count());
+    }
+
+    @Test
+    void resolvePolicy_ShouldClassifyAuthExpensiveAndDefaultRequests() {
+        // Act & Assert
+        assertEquals(RateLimiter.Policy.AUTH, rateLimiter.resolvePolicy("POST", "/api/v1/auth/login"));
+        assertEquals(RateLimiter.Policy.EXPENSIVE, rateLimiter.resolvePolicy("GET", "/api/v1/tasks/project/7"));
+        assertEquals(RateLimiter.Policy.DEFAULT, rateLimiter.resolvePolicy("POST", "/api/v1/tasks"));
+        assertEquals(RateLimiter.Policy.DEFAULT, rateLimiter.resolvePolicy("GET", "/api/v1/tasks/7"));
+    }
+}
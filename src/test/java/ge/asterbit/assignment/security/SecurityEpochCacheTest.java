@@ -0,0 +1,75 @@
+package ge.asterbit.assignment.security;
+
+import ge.asterbit.assignment.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SecurityEpochCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SecurityEpochCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SecurityEpochCache(userRepository, 60_000);
+    }
+
+    @Test
+    void sync_ShouldRejectOldTokens_WhenEpochWasBumpedOnAnotherInstance() {
+        // Arrange
+        when(userRepository.findSecurityEpochById(3L)).thenReturn(Optional.of(0));
+        assertTrue(cache.isCurrent(3L, 0));
+        when(userRepository.findSecurityEpochChangedAfter(any(LocalDateTime.class)))
+                .thenReturn(List.of(epochChange(3L, 1), epochChange(4L, 2)));
+
+        // Act
+        cache.sync();
+
+        // Assert
+        assertFalse(cache.isCurrent(3L, 0));
+        assertTrue(cache.isCurrent(3L, 1));
+        verify(userRepository, times(1)).findSecurityEpochById(3L);
+        verify(userRepository, never()).findSecurityEpochById(4L);
+    }
+
+    @Test
+    void sync_ShouldReadBackBeforeThePreviousSync() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.now();
+        when(userRepository.findSecurityEpochChangedAfter(any(LocalDateTime.class))).thenReturn(List.of());
+
+        // Act
+        cache.sync();
+
+        // Assert
+        verify(userRepository).findSecurityEpochChangedAfter(argThat(since -> since.isBefore(before)));
+    }
+
+    private static UserRepository.EpochChange epochChange(Long id, int epoch) {
+        return new UserRepository.EpochChange() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public int getSecurityEpoch() {
+                return epoch;
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package ge.asterbit.assignment.security;
+
+import ge.asterbit.assignment.entity.RevokedToken;
+import ge.asterbit.assignment.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationList = new TokenRevocationList(revokedTokenRepository, 1000, 0.01, 5_000, 900_000);
+    }
+
+    @Test
+    void rebuild_ShouldLoadActiveRevocationsFromDatabase() {
+        // Arrange
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        when(revokedTokenRepository.findByExpiresAtAfter(any(LocalDateTime.class)))
+                .thenReturn(List.of(new RevokedToken("revoked-1", expiresAt, LocalDateTime.now()),
+                        new RevokedToken("revoked-2", expiresAt, LocalDateTime.now())));
+
+        // Act
+        tokenRevocationList.rebuild();
+
+        // Assert
+        assertTrue(tokenRevocationList.isRevoked("revoked-1"));
+        assertTrue(tokenRevocationList.isRevoked("revoked-2"));
+        assertFalse(tokenRevocationList.isRevoked("active"));
+        verify(revokedTokenRepository).deleteExpired(any(LocalDateTime.class));
+    }
+
+    @Test
+    void revoke_ShouldPersistAndTakeEffectImmediately() {
+        // Act
+        tokenRevocationList.revoke("token-id", LocalDateTime.now().plusMinutes(5));
+
+        // Assert
+        assertTrue(tokenRevocationList.isRevoked("token-id"));
+        assertFalse(tokenRevocationList.isRevoked(null));
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    void sync_ShouldPickUpTokensRevokedOnAnotherInstance() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(revokedTokenRepository.findByRevokedAtAfter(any(LocalDateTime.class)))
+                .thenReturn(List.of(new RevokedToken("elsewhere", now.plusMinutes(10), now)));
+
+        // Act
+        tokenRevocationList.sync();
+
+        // Assert
+        assertTrue(tokenRevocationList.isRevoked("elsewhere"));
+        verify(revokedTokenRepository, never()).findByExpiresAtAfter(any(LocalDateTime.class));
+    }
+
+    @Test
+    void constructor_ShouldFail_WhenSyncIntervalIsNotShorterThanAccessTokenLifetime() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> new TokenRevocationList(revokedTokenRepository, 1000, 0.01, 900_000, 900_000));
+    }
+
+    @Test
+    void bloomFilter_ShouldNeverReportFalseNegatives() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("token-" + i);
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("token-" + i));
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(falsePositives < 300, "False positive rate too high: " + falsePositives);
+    }
+}
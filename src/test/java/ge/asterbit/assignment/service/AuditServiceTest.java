@@ -0,0 +1,82 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.dto.audit.AuditLogDTO;
+import ge.asterbit.assignment.dto.audit.AuditLogPage;
+import ge.asterbit.assignment.entity.AuditAction;
+import ge.asterbit.assignment.entity.AuditEntityType;
+import ge.asterbit.assignment.entity.AuditLog;
+import ge.asterbit.assignment.mapper.AuditLogMapper;
+import ge.asterbit.assignment.repository.AuditLogRepository;
+import ge.asterbit.assignment.service.impl.AuditServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditServiceTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    private AuditServiceImpl auditService;
+
+    @BeforeEach
+    void setUp() {
+        auditService = new AuditServiceImpl(auditLogRepository, Mappers.getMapper(AuditLogMapper.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAuditLog_ShouldReturnNextCursor_WhenMoreEntriesExist() {
+        // Arrange
+        List<AuditLog> rows = LongStream.of(10, 9, 8).mapToObj(this::createTestEntry).toList();
+        when(auditLogRepository.findBy(any(Specification.class), any())).thenReturn(rows);
+
+        // Act
+        AuditLogPage result = auditService.getAuditLog(AuditEntityType.TASK, 5L, null, null, 2);
+
+        // Assert
+        assertEquals(List.of(10L, 9L), result.getContent().stream().map(AuditLogDTO::getId).toList());
+        assertEquals(9L, result.getNextCursor());
+        assertEquals("DONE", result.getContent().get(0).getChanges().get("status").get("to").asText());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAuditLog_ShouldOmitNextCursor_OnLastPage() {
+        // Arrange
+        when(auditLogRepository.findBy(any(Specification.class), any())).thenReturn(List.of(createTestEntry(3L)));
+
+        // Act
+        AuditLogPage result = auditService.getAuditLog(null, null, null, 4L, 50);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getNextCursor());
+    }
+
+    private AuditLog createTestEntry(long id) {
+        return AuditLog.builder()
+                .id(id)
+                .occurredAt(LocalDateTime.now())
+                .actorId(1L)
+                .actorEmail("admin@test.com")
+                .entityType(AuditEntityType.TASK)
+                .entityId(5L)
+                .action(AuditAction.UPDATE)
+                .changes("{\"status\":{\"from\":\"TODO\",\"to\":\"DONE\"}}")
+                .build();
+    }
+}
@@ -2,12 +2,14 @@ package ge.asterbit.assignment.service;
 
 import ge.asterbit.assignment.dto.auth.AuthRequest;
 import ge.asterbit.assignment.dto.auth.AuthResponse;
+import ge.asterbit.assignment.dto.auth.RefreshTokenRequest;
 import ge.asterbit.assignment.dto.auth.RegisterRequest;
 import ge.asterbit.assignment.entity.Role;
 import ge.asterbit.assignment.entity.User;
 import ge.asterbit.assignment.mapper.UserMapper;
 import ge.asterbit.assignment.repository.UserRepository;
 import ge.asterbit.assignment.security.JwtService;
+import ge.asterbit.assignment.security.TokenRevocationList;
 import ge.asterbit.assignment.service.impl.AuthServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,8 +21,6 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -44,6 +44,12 @@ public class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
     private AuthServiceImpl authService;
 
     @BeforeEach
@@ -53,7 +59,9 @@ public class AuthServiceTest {
                 userMapper,
                 passwordEncoder,
                 jwtService,
-                authenticationManager
+                authenticationManager,
+                refreshTokenService,
+                tokenRevocationList
         );
     }
 
@@ -123,7 +131,8 @@ public class AuthServiceTest {
 
         String token = "jwt-token";
 
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
         when(jwtService.generateToken(any(User.class))).thenReturn(token);
 
         // Act
@@ -138,7 +147,7 @@ public class AuthServiceTest {
         verify(authenticationManager).authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
         );
-        verify(userRepository).findByEmail(request.getEmail());
+        verify(userRepository, never()).findByEmail(anyString());
         verify(jwtService).generateToken(user);
     }
 
@@ -163,4 +172,43 @@ public class AuthServiceTest {
         verify(passwordEncoder, never()).encode(anyString());
         verify(userRepository, never()).save(any());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void refresh_ShouldRotateRefreshTokenAndReturnNewTokenPair() {
+        // Arrange
+        RefreshTokenRequest request = RefreshTokenRequest.builder()
+                .refreshToken("old-refresh-token")
+                .build();
+
+        User user = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .role(Role.USER)
+                .build();
+
+        when(refreshTokenService.rotateRefreshToken("old-refresh-token")).thenReturn(user);
+        when(refreshTokenService.createRefreshToken(user)).thenReturn("new-refresh-token");
+        when(jwtService.generateToken(user)).thenReturn("jwt-token");
+        when(jwtService.getExpiration()).thenReturn(900000L);
+
+        // Act
+        AuthResponse response = authService.refresh(request);
+
+        // Assert
+        assertEquals("jwt-token", response.getToken());
+        assertEquals("new-refresh-token", response.getRefreshToken());
+        assertEquals(900L, response.getExpiresIn());
+        assertEquals(user.getEmail(), response.getEmail());
+        verify(refreshTokenService).rotateRefreshToken("old-refresh-token");
+    }
+
+    @Test
+    void logout_ShouldRevokeRefreshToken_WhenAccessTokenIsMissing() {
+        // Act
+        authService.logout(null, "refresh-token");
+
+        // Assert
+        verify(refreshTokenService).revokeRefreshToken("refresh-token");
+        verify(tokenRevocationList, never()).revoke(anyString(), any());
+    }
+}
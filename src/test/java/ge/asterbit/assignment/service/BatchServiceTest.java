@@ -0,0 +1,239 @@
+package ge.asterbit.assignment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ge.asterbit.assignment.dto.batch.BatchItemRequest;
+import ge.asterbit.assignment.dto.batch.BatchItemResponse;
+import ge.asterbit.assignment.dto.batch.BatchRequest;
+import ge.asterbit.assignment.dto.batch.BatchResponse;
+import ge.asterbit.assignment.exception.BadRequestException;
+import ge.asterbit.assignment.security.RateLimiter;
+import ge.asterbit.assignment.service.impl.BatchServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchServiceTest {
+
+    @Mock
+    private DispatcherServlet dispatcherServlet;
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BatchServiceImpl batchService;
+    private MockHttpServletRequest httpRequest;
+
+    @BeforeEach
+    void setUp() {
+        batchService = newBatchService(5000);
+        httpRequest = new MockHttpServletRequest("POST", "/api/v1/batch");
+        httpRequest.addHeader("Authorization", "Bearer token");
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user@test.com", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.destroy();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void execute_ShouldDispatchEachItemAndKeepRequestOrder() throws Exception {
+        // Arrange
+        when(rateLimiter.resolvePolicy(anyString(), anyString())).thenReturn(RateLimiter.Policy.DEFAULT);
+        when(rateLimiter.tryConsume(RateLimiter.Policy.DEFAULT, "user:user@test.com")).thenReturn(0L);
+        doAnswer(invocation -> {
+            HttpServletRequest request = invocation.getArgument(0);
+            HttpServletResponse response = invocation.getArgument(1);
+            assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+            assertEquals("application/json", request.getHeader("Accept"));
+            response.setStatus(request.getMethod().equals("POST") ? 201 : 200);
+            response.getWriter().write("{\"path\":\"" + request.getRequestURI() + "\",\"page\":\""
+                    + request.getParameter("page") + "\"}");
+            return null;
+        }).when(dispatcherServlet).service(any(ServletRequest.class), any());
+
+        BatchRequest request = new BatchRequest(List.of(
+                new BatchItemRequest("a", "GET", "/api/v1/tasks/my?page=2", null),
+                new BatchItemRequest("b", "post", "/api/v1/projects", new ObjectMapper().readTree("{\"name\":\"P\"}"))
+        ));
+
+        // Act
+        BatchResponse result = batchService.execute(request, httpRequest);
+
+        // Assert
+        List<BatchItemResponse> responses = result.getResponses();
+        assertEquals(2, responses.size());
+        assertEquals("a", responses.get(0).getId());
+        assertEquals(200, responses.get(0).getStatus());
+        assertEquals("/api/v1/tasks/my", responses.get(0).getBody().get("path").asText());
+        assertEquals("2", responses.get(0).getBody().get("page").asText());
+        assertEquals("b", responses.get(1).getId());
+        assertEquals(201, responses.get(1).getStatus());
+
+        verify(dispatcherServlet, times(2)).service(any(ServletRequest.class), any());
+    }
+
+    @Test
+    void execute_ShouldRejectItemsOutsideTheApiOrRateLimited() throws Exception {
+        // Arrange
+        when(rateLimiter.resolvePolicy("GET", "/api/v1/users/me")).thenReturn(RateLimiter.Policy.DEFAULT);
+        when(rateLimiter.tryConsume(RateLimiter.Policy.DEFAULT, "user:user@test.com")).thenReturn(1_000_000L);
+
+        BatchRequest request = new BatchRequest(List.of(
+                new BatchItemRequest("auth", "POST", "/api/v1/auth/login", null),
+                new BatchItemRequest("nested", "POST", "/api/v1/batch", null),
+                new BatchItemRequest("limited", "GET", "/api/v1/users/me", null)
+        ));
+
+        // Act
+        BatchResponse result = batchService.execute(request, httpRequest);
+
+        // Assert
+        assertEquals(400, result.getResponses().get(0).getStatus());
+        assertEquals(400, result.getResponses().get(1).getStatus());
+        assertEquals(429, result.getResponses().get(2).getStatus());
+
+        verify(dispatcherServlet, never()).service(any(ServletRequest.class), any());
+    }
+
+    @Test
+    void execute_ShouldRollBackWriteAndSkipTheRest_WhenBatchTimesOut() throws Exception {
+        // Arrange
+        batchService.destroy();
+        batchService = newBatchService(100);
+        when(rateLimiter.resolvePolicy(anyString(), anyString())).thenReturn(RateLimiter.Policy.DEFAULT);
+        when(rateLimiter.tryConsume(RateLimiter.Policy.DEFAULT, "user:user@test.com")).thenReturn(0L);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        doAnswer(invocation -> {
+            Thread.sleep(300);
+            ((HttpServletResponse) invocation.getArgument(1)).setStatus(200);
+            return null;
+        }).when(dispatcherServlet).service(any(ServletRequest.class), any());
+
+        BatchRequest request = new BatchRequest(List.of(
+                new BatchItemRequest("slow", "PUT", "/api/v1/tasks/1", null),
+                new BatchItemRequest("next", "DELETE", "/api/v1/tasks/2", null)
+        ));
+
+        // Act
+        BatchResponse result = batchService.execute(request, httpRequest);
+
+        // Assert
+        assertEquals(504, result.getResponses().get(0).getStatus());
+        assertEquals(504, result.getResponses().get(1).getStatus());
+        ArgumentCaptor<TransactionStatus> status = ArgumentCaptor.forClass(TransactionStatus.class);
+        verify(transactionManager, timeout(2_000)).commit(status.capture());
+        assertTrue(status.getValue().isRollbackOnly());
+        Thread.sleep(300);
+        verify(dispatcherServlet, times(1)).service(any(ServletRequest.class), any());
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    void execute_ShouldKeepItsOwnCopyOfTheCallersRequest_WhenItemOutlivesTheBatch() throws Exception {
+        // Arrange
+        batchService.destroy();
+        batchService = newBatchService(100);
+        TestingAuthenticationToken caller = new TestingAuthenticationToken("user@test.com", null, "ROLE_ADMIN");
+        httpRequest.setUserPrincipal(caller);
+        httpRequest.setAttribute("traceId", "t-1");
+        when(rateLimiter.resolvePolicy(anyString(), anyString())).thenReturn(RateLimiter.Policy.DEFAULT);
+        when(rateLimiter.tryConsume(RateLimiter.Policy.DEFAULT, "user:user@test.com")).thenReturn(0L);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        CountDownLatch batchReturned = new CountDownLatch(1);
+        CompletableFuture<List<Object>> seen = new CompletableFuture<>();
+        doAnswer(invocation -> {
+            HttpServletRequest request = invocation.getArgument(0);
+            batchReturned.await(2, TimeUnit.SECONDS);
+            seen.complete(Arrays.asList(request.getHeader("Authorization"), request.getAttribute("traceId"),
+                    request.getUserPrincipal(), request.isUserInRole("ADMIN")));
+            return null;
+        }).when(dispatcherServlet).service(any(ServletRequest.class), any());
+
+        BatchRequest request = new BatchRequest(List.of(new BatchItemRequest("slow", "PUT", "/api/v1/tasks/1", null)));
+
+        // Act
+        BatchResponse result = batchService.execute(request, httpRequest);
+        httpRequest.removeHeader("Authorization");
+        httpRequest.clearAttributes();
+        httpRequest.setUserPrincipal(null);
+        batchReturned.countDown();
+
+        // Assert
+        assertEquals(504, result.getResponses().get(0).getStatus());
+        assertEquals(Arrays.asList("Bearer token", "t-1", caller, true), seen.get(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_ShouldCommitWrite_WhenItFinishesInTime() throws Exception {
+        // Arrange
+        when(rateLimiter.resolvePolicy(anyString(), anyString())).thenReturn(RateLimiter.Policy.DEFAULT);
+        when(rateLimiter.tryConsume(RateLimiter.Policy.DEFAULT, "user:user@test.com")).thenReturn(0L);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        doAnswer(invocation -> {
+            ((HttpServletResponse) invocation.getArgument(1)).setStatus(204);
+            return null;
+        }).when(dispatcherServlet).service(any(ServletRequest.class), any());
+
+        BatchRequest request = new BatchRequest(List.of(new BatchItemRequest("a", "DELETE", "/api/v1/tasks/2", null)));
+
+        // Act
+        BatchResponse result = batchService.execute(request, httpRequest);
+
+        // Assert
+        assertEquals(204, result.getResponses().get(0).getStatus());
+        ArgumentCaptor<TransactionStatus> status = ArgumentCaptor.forClass(TransactionStatus.class);
+        verify(transactionManager).commit(status.capture());
+        assertFalse(status.getValue().isRollbackOnly());
+    }
+
+    @Test
+    void execute_ShouldThrowException_WhenBatchHasTooManyItems() {
+        // Arrange
+        BatchRequest request = new BatchRequest(
+                Collections.nCopies(4, new BatchItemRequest(null, "GET", "/api/v1/users/me", null)));
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> batchService.execute(request, httpRequest));
+
+        verifyNoInteractions(rateLimiter, dispatcherServlet);
+    }
+
+    private BatchServiceImpl newBatchService(long timeoutMillis) {
+        return new BatchServiceImpl(dispatcherServlet, rateLimiter, new ObjectMapper().findAndRegisterModules(),
+                new TransactionTemplate(transactionManager), 3, 1024, 4096, 2, 8, timeoutMillis, new SimpleMeterRegistry());
+    }
+}
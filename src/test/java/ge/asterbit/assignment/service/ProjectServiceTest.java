@@ -10,7 +10,10 @@ import ge.asterbit.assignment.exception.AccessDeniedException;
 import ge.asterbit.assignment.exception.ResourceNotFoundException;
 import ge.asterbit.assignment.mapper.ProjectMapper;
 import ge.asterbit.assignment.repository.ProjectRepository;
+import ge.asterbit.assignment.repository.projection.ProjectionQueryExecutor;
 import ge.asterbit.assignment.service.impl.ProjectServiceImpl;
+import ge.asterbit.assignment.webhook.WebhookDispatcher;
+import ge.asterbit.assignment.webhook.WebhookEventType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +46,12 @@ public class ProjectServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ProjectionQueryExecutor projectionQueryExecutor;
+
+    @Mock
+    private WebhookDispatcher webhookDispatcher;
+
     private ProjectServiceImpl projectService;
 
     private User adminUser;
@@ -53,7 +62,8 @@ public class ProjectServiceTest {
 
     @BeforeEach
     void setUp() {
-        projectService = new ProjectServiceImpl(projectRepository, projectMapper, userService);
+        projectService = new ProjectServiceImpl(projectRepository, projectMapper, userService, projectionQueryExecutor,
+                webhookDispatcher);
 
         adminUser = createTestUser(1L, "admin@test.com", Role.ADMIN);
         managerUser = createTestUser(2L, "manager@test.com", Role.MANAGER);
@@ -221,6 +231,7 @@ public class ProjectServiceTest {
                 .build();
 
         when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(userService.getCurrentUserReference()).thenReturn(managerUser);
         when(projectMapper.createRequestToProject(request)).thenReturn(newProject);
         when(projectRepository.save(any(Project.class))).thenReturn(savedProject);
         when(projectMapper.toDTO(savedProject)).thenReturn(savedProjectDTO);
@@ -240,6 +251,7 @@ public class ProjectServiceTest {
         assertEquals(managerUser, capturedProject.getOwner());
 
         verify(userService).getCurrentUserEntity();
+        verify(userService).getCurrentUserReference();
         verify(projectMapper).createRequestToProject(request);
         verify(projectMapper).toDTO(savedProject);
     }
@@ -400,6 +412,8 @@ public class ProjectServiceTest {
         verify(userService).getCurrentUserEntity();
         verify(projectRepository).findByIdAndOwner(projectId, managerUser);
         verify(projectRepository).delete(project);
+        verify(webhookDispatcher).publish(WebhookEventType.PROJECT_DELETED, projectId, projectId, null,
+                managerUser.getEmail());
     }
 
     private User createTestUser(Long id, String email, Role role) {
@@ -0,0 +1,223 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.analytics.DurationHistogram;
+import ge.asterbit.assignment.dto.analytics.CycleTimeReportDTO;
+import ge.asterbit.assignment.entity.*;
+import ge.asterbit.assignment.exception.AccessDeniedException;
+import ge.asterbit.assignment.dto.task.TaskStatusTransitionDTO;
+import ge.asterbit.assignment.mapper.TaskMapper;
+import ge.asterbit.assignment.repository.ArchivedTaskStatusTransitionRepository;
+import ge.asterbit.assignment.repository.TaskDurationBucketRepository;
+import ge.asterbit.assignment.repository.TaskDurationBucketRepository.BucketCount;
+import ge.asterbit.assignment.repository.TaskStatusTransitionRepository;
+import ge.asterbit.assignment.service.impl.TaskHistoryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskHistoryServiceTest {
+
+    @Mock
+    private TaskStatusTransitionRepository transitionRepository;
+
+    @Mock
+    private ArchivedTaskStatusTransitionRepository archivedTransitionRepository;
+
+    @Mock
+    private TaskDurationBucketRepository bucketRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ProjectService projectService;
+
+    private TaskHistoryServiceImpl taskHistoryService;
+    private User managerUser;
+    private User regularUser;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        taskHistoryService = new TaskHistoryServiceImpl(transitionRepository, archivedTransitionRepository,
+                bucketRepository, taskMapper, userService, projectService);
+        managerUser = User.builder().id(2L).email("manager@test.com").role(Role.MANAGER).build();
+        regularUser = User.builder().id(3L).email("user@test.com").role(Role.USER).build();
+        project = Project.builder().id(1L).name("Test Project").owner(managerUser).build();
+    }
+
+    @Test
+    void recordTransition_ShouldUpdateLeadAndCycleHistograms_WhenTaskIsDone() {
+        // Arrange
+        Task task = createTestTask(regularUser, LocalDateTime.now().minusHours(2));
+        TaskStatusTransition started = TaskStatusTransition.builder()
+                .taskId(task.getId())
+                .toStatus(TaskStatus.IN_PROGRESS)
+                .transitionedAt(LocalDateTime.now().minusMinutes(30))
+                .build();
+        when(transitionRepository.findFirstByTaskIdAndToStatusOrderByTransitionedAtAsc(task.getId(), TaskStatus.IN_PROGRESS))
+                .thenReturn(Optional.of(started));
+
+        // Act
+        taskHistoryService.recordTransition(task, TaskStatus.IN_PROGRESS, TaskStatus.DONE);
+
+        // Assert
+        ArgumentCaptor<TaskStatusTransition> captor = ArgumentCaptor.forClass(TaskStatusTransition.class);
+        verify(transitionRepository).save(captor.capture());
+        assertEquals(TaskStatus.IN_PROGRESS, captor.getValue().getFromStatus());
+        assertEquals(TaskStatus.DONE, captor.getValue().getToStatus());
+        assertEquals(project.getId(), captor.getValue().getProjectId());
+        assertEquals(regularUser.getId(), captor.getValue().getAssigneeId());
+
+        verify(bucketRepository).increment(project.getId(), regularUser.getId(), "LEAD",
+                DurationHistogram.bucketFor(7_200));
+        verify(bucketRepository).increment(project.getId(), regularUser.getId(), "CYCLE",
+                DurationHistogram.bucketFor(1_800));
+    }
+
+    @Test
+    void recordTransition_ShouldSkipCycleTime_WhenTaskStartIsBackfilled() {
+        // Arrange
+        Task task = createTestTask(regularUser, LocalDateTime.now().minusHours(2));
+        TaskStatusTransition backfilled = TaskStatusTransition.builder()
+                .taskId(task.getId())
+                .toStatus(TaskStatus.IN_PROGRESS)
+                .transitionedAt(task.getCreateDate())
+                .backfilled(true)
+                .build();
+        when(transitionRepository.findFirstByTaskIdAndToStatusOrderByTransitionedAtAsc(task.getId(), TaskStatus.IN_PROGRESS))
+                .thenReturn(Optional.of(backfilled));
+
+        // Act
+        taskHistoryService.recordTransition(task, TaskStatus.IN_PROGRESS, TaskStatus.DONE);
+
+        // Assert
+        verify(bucketRepository).increment(project.getId(), regularUser.getId(), "LEAD",
+                DurationHistogram.bucketFor(7_200));
+        verify(bucketRepository, never()).increment(anyLong(), anyLong(), eq("CYCLE"), anyInt());
+    }
+
+    @Test
+    void recordTransition_ShouldOnlyStoreTransition_WhenTaskIsNotDone() {
+        // Arrange
+        Task task = createTestTask(null, LocalDateTime.now());
+
+        // Act
+        taskHistoryService.recordTransition(task, TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+        // Assert
+        verify(transitionRepository).save(any(TaskStatusTransition.class));
+        verifyNoInteractions(bucketRepository);
+    }
+
+    @Test
+    void getTransitions_ShouldReadArchivedHistory_WhenTaskHasNoLiveTransitions() {
+        // Arrange
+        ArchivedTaskStatusTransition archived = ArchivedTaskStatusTransition.builder()
+                .id(4L).taskId(10L).projectId(1L).toStatus(TaskStatus.DONE).transitionedAt(LocalDateTime.now())
+                .build();
+        TaskStatusTransitionDTO archivedDTO = new TaskStatusTransitionDTO();
+        when(transitionRepository.findByTaskIdOrderByTransitionedAtAsc(10L)).thenReturn(List.of());
+        when(archivedTransitionRepository.findByTaskIdOrderByTransitionedAtAsc(10L)).thenReturn(List.of(archived));
+        when(taskMapper.toTransitionDTO(archived)).thenReturn(archivedDTO);
+
+        // Act
+        List<TaskStatusTransitionDTO> result = taskHistoryService.getTransitions(10L);
+
+        // Assert
+        assertEquals(List.of(archivedDTO), result);
+    }
+
+    @Test
+    void getProjectCycleTimes_ShouldComputePercentilesFromBuckets() {
+        // Arrange
+        int hourBucket = DurationHistogram.bucketFor(3_600);
+        int dayBucket = DurationHistogram.bucketFor(86_400);
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(projectService.getProjectEntityByIdAndOwner(project.getId(), managerUser)).thenReturn(project);
+        when(bucketRepository.sumByProject(project.getId(), DurationMetric.LEAD))
+                .thenReturn(List.of(bucketCount(hourBucket, 9L), bucketCount(dayBucket, 1L)));
+        when(bucketRepository.sumByProject(project.getId(), DurationMetric.CYCLE)).thenReturn(List.of());
+
+        // Act
+        CycleTimeReportDTO result = taskHistoryService.getProjectCycleTimes(project.getId());
+
+        // Assert
+        assertEquals(10, result.getLeadTime().getSampleSize());
+        assertEquals(DurationHistogram.upperBoundSeconds(hourBucket), result.getLeadTime().getP50Seconds());
+        assertEquals(DurationHistogram.upperBoundSeconds(dayBucket), result.getLeadTime().getP95Seconds());
+        assertEquals(0, result.getCycleTime().getSampleSize());
+        assertNull(result.getCycleTime().getP50Seconds());
+    }
+
+    @Test
+    void getAssigneeCycleTimes_ShouldThrowException_WhenUserRequestsSomeoneElse() {
+        // Arrange
+        when(userService.getCurrentUserEntity()).thenReturn(regularUser);
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> taskHistoryService.getAssigneeCycleTimes(managerUser.getId()));
+
+        verifyNoInteractions(bucketRepository);
+    }
+
+    @Test
+    void getAssigneeCycleTimes_ShouldOnlySumOwnedProjects_WhenManagerRequestsSomeoneElse() {
+        // Arrange
+        int hourBucket = DurationHistogram.bucketFor(3_600);
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(bucketRepository.sumByAssigneeAndProjectOwner(regularUser.getId(), managerUser.getId(), DurationMetric.LEAD))
+                .thenReturn(List.of(bucketCount(hourBucket, 2L)));
+        when(bucketRepository.sumByAssigneeAndProjectOwner(regularUser.getId(), managerUser.getId(), DurationMetric.CYCLE))
+                .thenReturn(List.of());
+
+        // Act
+        CycleTimeReportDTO result = taskHistoryService.getAssigneeCycleTimes(regularUser.getId());
+
+        // Assert
+        assertEquals(2, result.getLeadTime().getSampleSize());
+        assertEquals(0, result.getCycleTime().getSampleSize());
+        verify(bucketRepository, never()).sumByAssignee(any(), any());
+    }
+
+    private Task createTestTask(User assignedUser, LocalDateTime createDate) {
+        return Task.builder()
+                .id(5L)
+                .title("Test Task")
+                .status(TaskStatus.DONE)
+                .priority(TaskPriority.MEDIUM)
+                .project(project)
+                .assignedUser(assignedUser)
+                .createDate(createDate)
+                .build();
+    }
+
+    private BucketCount bucketCount(int bucket, long taskCount) {
+        return new BucketCount() {
+            @Override
+            public Integer getBucket() {
+                return bucket;
+            }
+
+            @Override
+            public Long getTaskCount() {
+                return taskCount;
+            }
+        };
+    }
+}
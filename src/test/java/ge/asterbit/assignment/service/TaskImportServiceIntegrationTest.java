@@ -0,0 +1,142 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.audit.AuditEvent;
+import ge.asterbit.assignment.audit.AuditWriter;
+import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.dto.task.TaskImportDTO;
+import ge.asterbit.assignment.entity.AuditAction;
+import ge.asterbit.assignment.entity.Role;
+import ge.asterbit.assignment.entity.TaskImportFormat;
+import ge.asterbit.assignment.entity.TaskImportStatus;
+import ge.asterbit.assignment.notification.Notification;
+import ge.asterbit.assignment.notification.NotificationDispatcher;
+import ge.asterbit.assignment.notification.NotificationType;
+import ge.asterbit.assignment.ranking.FractionalIndex;
+import ge.asterbit.assignment.security.AuthenticatedUser;
+import ge.asterbit.assignment.webhook.WebhookDispatcher;
+import ge.asterbit.assignment.webhook.WebhookEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs an import against an in-memory H2 database, so the staging table, the
+ * {@code INSERT ... SELECT} and the events sent for the inserted rows are checked together.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-import;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "tasks.import.batch-size=2"
+})
+public class TaskImportServiceIntegrationTest {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private WebhookDispatcher webhookDispatcher;
+
+    @MockBean
+    private NotificationDispatcher notificationDispatcher;
+
+    @MockBean
+    private AuditWriter auditWriter;
+
+    private Long ownerId;
+    private Long assigneeId;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = insertUser("owner@test.com", Role.MANAGER);
+        assigneeId = insertUser("assignee@test.com", Role.USER);
+        jdbcTemplate.update("INSERT INTO projects (name, description, owner_id, create_date, update_date) "
+                + "VALUES ('Imports', 'd', ?, NOW(), NOW())", ownerId);
+        projectId = jdbcTemplate.queryForObject("SELECT id FROM projects WHERE owner_id = ?", Long.class, ownerId);
+        jdbcTemplate.update("INSERT INTO tasks (title, status, priority, project_id, rank_key, create_date, update_date) "
+                + "VALUES ('Existing', 'TODO', 'LOW', ?, ?, NOW(), NOW())", projectId, FractionalIndex.between(null, null));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(ownerId, "owner@test.com", Role.MANAGER, 0), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM projects");
+        jdbcTemplate.update("DELETE FROM users WHERE email <> 'admin@tasktracker.com'");
+    }
+
+    @Test
+    void importTasks_ShouldInsertRankedTasksAndPublishTheirEvents_WhenRowsAreStaged() {
+        // Arrange
+        String csv = "title,status,priority,assignee_email\n"
+                + "First import,TODO,HIGH,assignee@test.com\n"
+                + "Second import,TODO,LOW,\n"
+                + "Third import,DONE,LOW,nobody@test.com\n";
+
+        // Act
+        TaskImportDTO result = taskImportService.importTasks(projectId, TaskImportFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(TaskImportStatus.COMPLETED, result.getStatus());
+        assertEquals(2, result.getRowsImported());
+        assertEquals(1, result.getRowsRejected());
+        assertEquals(List.of("Existing", "First import", "Second import"), jdbcTemplate.queryForList(
+                "SELECT title FROM tasks WHERE project_id = ? AND rank_key IS NOT NULL ORDER BY rank_key",
+                String.class, projectId));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_status_transitions "
+                + "WHERE project_id = ?", Integer.class, projectId));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_import_staging", Integer.class));
+
+        ArgumentCaptor<TaskDTO> webhookCaptor = ArgumentCaptor.forClass(TaskDTO.class);
+        verify(webhookDispatcher, times(2)).publish(eq(WebhookEventType.TASK_CREATED), eq(projectId), anyLong(),
+                webhookCaptor.capture(), eq("owner@test.com"));
+        assertEquals("Imports", webhookCaptor.getAllValues().get(0).getProjectName());
+        assertEquals("assignee@test.com", webhookCaptor.getAllValues().get(0).getAssignedUserEmail());
+
+        ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+        verify(notificationDispatcher).publish(notificationCaptor.capture());
+        assertEquals(assigneeId, notificationCaptor.getValue().recipientId());
+        assertEquals(NotificationType.ASSIGNED, notificationCaptor.getValue().type());
+
+        ArgumentCaptor<AuditEvent> auditCaptor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditWriter, atLeast(2)).publish(auditCaptor.capture());
+        List<AuditEvent> creations = auditCaptor.getAllValues().stream()
+                .filter(event -> event.action() == AuditAction.CREATE)
+                .toList();
+        assertEquals(2, creations.size());
+        assertEquals(ownerId, creations.get(0).actorId());
+        assertEquals(assigneeId, creations.get(0).changes().get("assignedUserId").to());
+        assertEquals("Second import", creations.get(1).changes().get("title").to());
+    }
+
+    private Long insertUser(String email, Role role) {
+        jdbcTemplate.update("INSERT INTO users (email, password, role, create_date, update_date) "
+                + "VALUES (?, 'x', ?, NOW(), NOW())", email, role.name());
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    }
+}
@@ -0,0 +1,148 @@
+package ge.asterbit.assignment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ge.asterbit.assignment.audit.AuditWriter;
+import ge.asterbit.assignment.dto.task.TaskImportDTO;
+import ge.asterbit.assignment.entity.*;
+import ge.asterbit.assignment.exception.ResourceNotFoundException;
+import ge.asterbit.assignment.maintenance.TaskRankRebalancer;
+import ge.asterbit.assignment.mapper.TaskMapper;
+import ge.asterbit.assignment.notification.NotificationDispatcher;
+import ge.asterbit.assignment.repository.TaskImportErrorRepository;
+import ge.asterbit.assignment.repository.TaskImportRepository;
+import ge.asterbit.assignment.repository.TaskRepository;
+import ge.asterbit.assignment.service.impl.TaskImportServiceImpl;
+import ge.asterbit.assignment.webhook.WebhookDispatcher;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskImportServiceTest {
+
+    private static final ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+
+    @Mock
+    private TaskImportRepository taskImportRepository;
+
+    @Mock
+    private TaskImportErrorRepository taskImportErrorRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskRankRebalancer taskRankRebalancer;
+
+    @Mock
+    private WebhookDispatcher webhookDispatcher;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private AuditWriter auditWriter;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TaskImportServiceImpl taskImportService;
+    private User managerUser;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = VALIDATOR_FACTORY.getValidator();
+        taskImportService = new TaskImportServiceImpl(taskImportRepository, taskImportErrorRepository, taskMapper,
+                userService, projectService, taskRepository, taskRankRebalancer, webhookDispatcher,
+                notificationDispatcher, auditWriter, jdbcTemplate, transactionTemplate, new ObjectMapper(), validator,
+                100, 1000, 10);
+        managerUser = User.builder().id(2L).email("manager@test.com").role(Role.MANAGER).build();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        VALIDATOR_FACTORY.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importTasks_ShouldRecordRejectedRows_WhenRowsAreInvalid() {
+        // Arrange
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskImportRepository.save(any(TaskImport.class))).thenAnswer(invocation -> {
+            TaskImport saved = invocation.getArgument(0);
+            saved.setId(7L);
+            return saved;
+        });
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        List<TaskImportError> savedErrors = new ArrayList<>();
+        when(taskImportErrorRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            savedErrors.addAll(invocation.getArgument(0));
+            return savedErrors;
+        });
+        when(taskMapper.toImportDTO(any(TaskImport.class))).thenReturn(new TaskImportDTO());
+        String csv = "title,priority\nab,LOW\nValid title,URGENT\n";
+
+        // Act
+        taskImportService.importTasks(1L, TaskImportFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        verify(projectService).getProjectEntityByIdAndOwner(1L, managerUser);
+        verifyNoInteractions(jdbcTemplate);
+        ArgumentCaptor<TaskImport> captor = ArgumentCaptor.forClass(TaskImport.class);
+        verify(taskImportRepository, atLeastOnce()).save(captor.capture());
+        TaskImport finished = captor.getValue();
+        assertEquals(TaskImportStatus.COMPLETED, finished.getStatus());
+        assertEquals(2, finished.getRowsRead());
+        assertEquals(2, finished.getRowsRejected());
+        assertEquals(0, finished.getRowsImported());
+        assertEquals(List.of(2L, 3L), savedErrors.stream().map(TaskImportError::getLineNumber).toList());
+    }
+
+    @Test
+    void getImport_ShouldThrowException_WhenImportBelongsToAnotherUser() {
+        // Arrange
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskImportRepository.findById(7L)).thenReturn(Optional.of(
+                TaskImport.builder().id(7L).projectId(1L).createdBy(99L).build()));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> taskImportService.getImport(7L));
+    }
+}
@@ -1,32 +1,63 @@
 package ge.asterbit.assignment.service;
 
+import ge.asterbit.assignment.dependency.DependencyGraph;
+import ge.asterbit.assignment.dependency.DependencyGraphCache;
+import ge.asterbit.assignment.dto.common.FieldSelection;
 import ge.asterbit.assignment.dto.task.CreateTaskRequest;
+import ge.asterbit.assignment.dto.task.MoveTaskRequest;
+import ge.asterbit.assignment.dto.task.TaskBoardColumnDTO;
+import ge.asterbit.assignment.dto.task.TaskBoardDTO;
 import ge.asterbit.assignment.dto.task.TaskDTO;
+import ge.asterbit.assignment.dto.task.TaskDependenciesDTO;
+import ge.asterbit.assignment.dto.task.TaskLookupResponse;
+import ge.asterbit.assignment.dto.task.TaskStatusTransitionDTO;
 import ge.asterbit.assignment.dto.task.UpdateTaskRequest;
 import ge.asterbit.assignment.entity.*;
 import ge.asterbit.assignment.exception.AccessDeniedException;
+import ge.asterbit.assignment.exception.BadRequestException;
 import ge.asterbit.assignment.exception.ResourceNotFoundException;
+import ge.asterbit.assignment.maintenance.TaskRankRebalancer;
 import ge.asterbit.assignment.mapper.TaskMapper;
+import ge.asterbit.assignment.notification.Notification;
+import ge.asterbit.assignment.notification.NotificationDispatcher;
+import ge.asterbit.assignment.notification.NotificationType;
+import ge.asterbit.assignment.repository.ArchivedTaskRepository;
+import ge.asterbit.assignment.repository.TaskDependencyRepository;
 import ge.asterbit.assignment.repository.TaskRepository;
+import ge.asterbit.assignment.repository.projection.ProjectionQueryExecutor;
+import ge.asterbit.assignment.repository.projection.TaskProjection;
 import ge.asterbit.assignment.service.impl.TaskServiceImpl;
+import ge.asterbit.assignment.webhook.WebhookDispatcher;
+import ge.asterbit.assignment.webhook.WebhookEventType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +66,9 @@ public class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
     @Mock
     private TaskMapper taskMapper;
 
@@ -44,6 +78,27 @@ public class TaskServiceTest {
     @Mock
     private ProjectService projectService;
 
+    @Mock
+    private ProjectionQueryExecutor projectionQueryExecutor;
+
+    @Mock
+    private TaskHistoryService taskHistoryService;
+
+    @Mock
+    private TaskRankRebalancer taskRankRebalancer;
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Mock
+    private DependencyGraphCache dependencyGraphCache;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private WebhookDispatcher webhookDispatcher;
+
     private TaskServiceImpl taskService;
 
     private User adminUser;
@@ -55,7 +110,9 @@ public class TaskServiceTest {
 
     @BeforeEach
     void setUp() {
-        taskService = new TaskServiceImpl(taskRepository, taskMapper, userService, projectService);
+        taskService = new TaskServiceImpl(taskRepository, archivedTaskRepository, taskMapper, userService, projectService, projectionQueryExecutor,
+                taskHistoryService, taskRankRebalancer, taskDependencyRepository, dependencyGraphCache,
+                notificationDispatcher, webhookDispatcher);
 
         adminUser = createTestUser(1L, "admin@test.com", Role.ADMIN);
         managerUser = createTestUser(2L, "manager@test.com", Role.MANAGER);
@@ -132,6 +189,47 @@ public class TaskServiceTest {
         verify(taskMapper).toDTO(task);
     }
 
+    @Test
+    void getTasksByProject_ShouldUseNarrowedProjection_WhenFieldsAreSelected() {
+        // Arrange
+        Long projectId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        FieldSelection fields = FieldSelection.parse("id,title,status", TaskProjection.SPEC.getFieldNames());
+        TaskDTO sparse = TaskDTO.builder().id(1L).title("Test Task").status(TaskStatus.TODO).build();
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(projectService.getProjectEntityByIdAndOwner(projectId, managerUser)).thenReturn(project);
+        when(projectionQueryExecutor.findAll(eq(TaskProjection.SPEC), any(), eq(fields.getFields()), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(sparse)));
+
+        // Act
+        Page<TaskDTO> result = taskService.getTasksByProject(projectId, pageable, fields);
+
+        // Assert
+        assertEquals(sparse, result.getContent().get(0));
+        verify(taskRepository, never()).findByProject(any(Project.class), any(Pageable.class));
+        verify(taskMapper, never()).toDTO(any(Task.class));
+    }
+
+    @Test
+    void getTaskById_ShouldReturnOnlySelectedFields_WhenFieldsAreSelected() {
+        // Arrange
+        FieldSelection fields = FieldSelection.parse("id,priority", TaskProjection.SPEC.getFieldNames());
+
+        when(userService.getCurrentUserEntity()).thenReturn(adminUser);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskMapper.toDTO(task)).thenReturn(taskDTO);
+
+        // Act
+        TaskDTO result = taskService.getTaskById(1L, fields);
+
+        // Assert
+        assertEquals(taskDTO.getId(), result.getId());
+        assertEquals(taskDTO.getPriority(), result.getPriority());
+        assertNull(result.getTitle());
+        assertNull(result.getProjectName());
+    }
+
     @Test
     void getMyTasks_ShouldReturnTasksAssignedToCurrentUser() {
         // Arrange
@@ -160,7 +258,7 @@ public class TaskServiceTest {
         // Arrange
         Long projectId = 1L;
         TaskStatus status = TaskStatus.IN_PROGRESS;
-        Pageable pageable = PageRequest.of(0, 10);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate"));
         task.setStatus(status);
         Page<Task> taskPage = new PageImpl<>(List.of(task));
 
@@ -225,6 +323,115 @@ public class TaskServiceTest {
         verify(taskMapper).toDTO(task);
     }
 
+    @Test
+    void getTaskById_ShouldReturnArchivedTask_WhenTaskIsNotInHotTable() {
+        // Arrange
+        Long taskId = 9L;
+        ArchivedTask archivedTask = ArchivedTask.builder()
+                .id(taskId)
+                .title("Old Task")
+                .status(TaskStatus.DONE)
+                .priority(TaskPriority.LOW)
+                .project(project)
+                .assignedUser(regularUser)
+                .archivedAt(LocalDateTime.now())
+                .build();
+        TaskDTO archivedDTO = TaskDTO.builder().id(taskId).title("Old Task").archived(true).build();
+
+        when(userService.getCurrentUserEntity()).thenReturn(regularUser);
+        when(taskRepository.findByIdAndAssignedUser(taskId, regularUser)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findByIdAndAssignedUser(taskId, regularUser)).thenReturn(Optional.of(archivedTask));
+        when(taskMapper.toDTO(archivedTask)).thenReturn(archivedDTO);
+
+        // Act
+        TaskDTO result = taskService.getTaskById(taskId);
+
+        // Assert
+        assertEquals(archivedDTO, result);
+        assertTrue(result.getArchived());
+    }
+
+    @Test
+    void getTaskById_ShouldThrowException_WhenTaskIsNeitherHotNorArchived() {
+        // Arrange
+        Long taskId = 9L;
+        when(userService.getCurrentUserEntity()).thenReturn(adminUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findById(taskId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(taskId));
+    }
+
+    @Test
+    void getTaskHistory_ShouldReturnHistory_WhenTaskIsArchived() {
+        // Arrange
+        Long taskId = 9L;
+        ArchivedTask archivedTask = ArchivedTask.builder().id(taskId).project(project).build();
+        List<TaskStatusTransitionDTO> history = List.of(new TaskStatusTransitionDTO());
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findById(taskId)).thenReturn(Optional.of(archivedTask));
+        when(taskHistoryService.getTransitions(taskId)).thenReturn(history);
+
+        // Act
+        List<TaskStatusTransitionDTO> result = taskService.getTaskHistory(taskId);
+
+        // Assert
+        assertEquals(history, result);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getTasksByIds_ShouldSplitFoundForbiddenAndMissing_WhenUserIsManager() {
+        // Arrange
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskRepository.findAll(any(Specification.class))).thenReturn(List.of(task));
+        when(taskRepository.findExistingIds(List.of(3L, 2L))).thenReturn(List.of(2L));
+        when(taskMapper.toDTO(task)).thenReturn(taskDTO);
+
+        // Act
+        TaskLookupResponse result = taskService.getTasksByIds(List.of(3L, 1L, 2L, 1L), FieldSelection.all());
+
+        // Assert
+        assertEquals(List.of(taskDTO), result.getFound());
+        assertEquals(List.of(2L), result.getForbidden());
+        assertEquals(List.of(3L), result.getMissing());
+
+        verify(taskRepository).findAll(any(Specification.class));
+        verify(taskRepository).findExistingIds(List.of(3L, 2L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getTasksByIds_ShouldReportInaccessibleTasksAsMissing_WhenUserIsRegularUser() {
+        // Arrange
+        when(userService.getCurrentUserEntity()).thenReturn(regularUser);
+        when(taskRepository.findAll(any(Specification.class))).thenReturn(List.of());
+
+        // Act
+        TaskLookupResponse result = taskService.getTasksByIds(List.of(5L), FieldSelection.all());
+
+        // Assert
+        assertTrue(result.getFound().isEmpty());
+        assertTrue(result.getForbidden().isEmpty());
+        assertEquals(List.of(5L), result.getMissing());
+
+        verify(taskRepository, never()).findExistingIds(any());
+    }
+
+    @Test
+    void getTasksByIds_ShouldThrowException_WhenTooManyIdsAreRequested() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 501).boxed().toList();
+        when(userService.getCurrentUserEntity()).thenReturn(adminUser);
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> taskService.getTasksByIds(ids, FieldSelection.all()));
+
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     void createTask_ShouldCreateAndReturnTaskDTO() {
         // Arrange
@@ -297,6 +504,42 @@ public class TaskServiceTest {
         verify(taskMapper).createRequestToTask(request);
         verify(userService).getUserEntityById(regularUser.getId());
         verify(taskMapper).toDTO(savedTask);
+        verify(taskHistoryService).recordTransition(savedTask, null, TaskStatus.TODO);
+        verify(webhookDispatcher).publish(WebhookEventType.TASK_CREATED, project.getId(), savedTask.getId(),
+                savedTaskDTO, managerUser.getEmail());
+    }
+
+    @Test
+    void createTask_ShouldReportRankKeyToRebalancerOnlyAfterCommit() {
+        // Arrange
+        CreateTaskRequest request = CreateTaskRequest.builder()
+                .title("New Task")
+                .projectId(project.getId())
+                .priority(TaskPriority.LOW)
+                .build();
+        Task newTask = Task.builder()
+                .title(request.getTitle())
+                .priority(request.getPriority())
+                .status(TaskStatus.TODO)
+                .build();
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(projectService.getProjectEntityByIdAndOwner(project.getId(), managerUser)).thenReturn(project);
+        when(taskMapper.createRequestToTask(request)).thenReturn(newTask);
+        when(taskRepository.save(newTask)).thenReturn(newTask);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            taskService.createTask(request);
+
+            // Assert
+            verify(taskRankRebalancer, never()).keyAssigned(any(), any(), any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(taskRankRebalancer).keyAssigned(eq(project.getId()), eq(TaskStatus.TODO), eq(newTask.getRank()));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -332,6 +575,248 @@ public class TaskServiceTest {
         verify(userService).getCurrentUserEntity();
         verify(taskRepository).findByIdAndAssignedUser(taskId, regularUser);
         verify(taskMapper).toDTO(updatedTask);
+        verify(taskHistoryService).recordTransition(updatedTask, TaskStatus.TODO, newStatus);
+    }
+
+    @Test
+    void updateTaskStatus_ShouldNotRecordTransition_WhenStatusIsUnchanged() {
+        // Arrange
+        Long taskId = 1L;
+
+        when(userService.getCurrentUserEntity()).thenReturn(regularUser);
+        when(taskRepository.findByIdAndAssignedUser(taskId, regularUser)).thenReturn(Optional.of(task));
+        when(taskRepository.save(task)).thenReturn(task);
+        when(taskMapper.toDTO(task)).thenReturn(taskDTO);
+
+        // Act
+        taskService.updateTaskStatus(taskId, TaskStatus.TODO);
+
+        // Assert
+        verify(taskRepository).save(task);
+        verifyNoInteractions(taskHistoryService);
+    }
+
+    @Test
+    void updateTaskStatus_ShouldBumpLinkVersion_WhenLinkedTaskIsDone() {
+        // Arrange
+        when(userService.getCurrentUserEntity()).thenReturn(regularUser);
+        when(taskRepository.findByIdAndAssignedUser(task.getId(), regularUser)).thenReturn(Optional.of(task));
+        when(taskRepository.save(task)).thenReturn(task);
+        when(taskMapper.toDTO(task)).thenReturn(taskDTO);
+        when(taskDependencyRepository.existsByBlockingTaskIdOrBlockedTaskId(task.getId(), task.getId())).thenReturn(true);
+        when(taskDependencyRepository.findVersion(project.getId())).thenReturn(8L);
+
+        // Act
+        taskService.updateTaskStatus(task.getId(), TaskStatus.DONE);
+
+        // Assert
+        verify(taskDependencyRepository).incrementVersion(project.getId());
+        verify(dependencyGraphCache).linksChanged(eq(project.getId()), eq(8L), any());
+        verify(dependencyGraphCache, never()).statusChanged(any(), any(), any());
+    }
+
+    @Test
+    void updateTaskStatus_ShouldKeepLinkVersion_WhenTaskStaysOpen() {
+        // Arrange
+        when(userService.getCurrentUserEntity()).thenReturn(regularUser);
+        when(taskRepository.findByIdAndAssignedUser(task.getId(), regularUser)).thenReturn(Optional.of(task));
+        when(taskRepository.save(task)).thenReturn(task);
+        when(taskMapper.toDTO(task)).thenReturn(taskDTO);
+
+        // Act
+        taskService.updateTaskStatus(task.getId(), TaskStatus.IN_PROGRESS);
+
+        // Assert
+        verify(dependencyGraphCache).statusChanged(project.getId(), task.getId(), TaskStatus.IN_PROGRESS);
+        verify(taskDependencyRepository, never()).incrementVersion(any());
+        verify(taskDependencyRepository, never()).existsByBlockingTaskIdOrBlockedTaskId(any(), any());
+    }
+
+    @Test
+    void moveTask_ShouldPlaceTaskBetweenNeighboursAndRecordTransition_WhenStatusChanges() {
+        // Arrange
+        Long taskId = 1L;
+        MoveTaskRequest request = MoveTaskRequest.builder()
+                .status(TaskStatus.IN_PROGRESS)
+                .afterTaskId(2L)
+                .beforeTaskId(3L)
+                .build();
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findRanks(List.of(2L, 3L))).thenReturn(List.of(
+                rankedTask(2L, TaskStatus.IN_PROGRESS, "a"), rankedTask(3L, TaskStatus.IN_PROGRESS, "b")));
+        when(taskRepository.save(task)).thenReturn(task);
+        when(taskMapper.toDTO(task)).thenReturn(taskDTO);
+
+        // Act
+        taskService.moveTask(taskId, request);
+
+        // Assert
+        assertEquals(TaskStatus.IN_PROGRESS, task.getStatus());
+        assertTrue("a".compareTo(task.getRank()) < 0 && task.getRank().compareTo("b") < 0);
+        verify(taskRankRebalancer).keyAssigned(project.getId(), TaskStatus.IN_PROGRESS, task.getRank());
+        verify(taskRankRebalancer, never()).rebalance(any(), any(), any());
+        verify(taskHistoryService).recordTransition(task, TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void moveTask_ShouldRebalanceColumnOnce_WhenNeighbourIsUnranked() {
+        // Arrange
+        Long taskId = 1L;
+        MoveTaskRequest request = MoveTaskRequest.builder().afterTaskId(2L).build();
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findRanks(List.of(2L)))
+                .thenReturn(List.of(rankedTask(2L, TaskStatus.TODO, null)))
+                .thenReturn(List.of(rankedTask(2L, TaskStatus.TODO, "i")));
+        when(taskRepository.save(task)).thenReturn(task);
+        when(taskMapper.toDTO(task)).thenReturn(taskDTO);
+
+        // Act
+        taskService.moveTask(taskId, request);
+
+        // Assert
+        assertTrue(task.getRank().compareTo("i") > 0);
+        verify(taskRankRebalancer).rebalance(project.getId(), TaskStatus.TODO, taskId);
+        verifyNoInteractions(taskHistoryService);
+    }
+
+    @Test
+    void moveTask_ShouldThrowException_WhenNeighbourIsInAnotherColumn() {
+        // Arrange
+        Long taskId = 1L;
+        MoveTaskRequest request = MoveTaskRequest.builder().beforeTaskId(2L).build();
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findRanks(List.of(2L))).thenReturn(List.of(rankedTask(2L, TaskStatus.DONE, "i")));
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> taskService.moveTask(taskId, request));
+
+        assertEquals("Task 2 is not in the TODO column of project 1", exception.getMessage());
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void moveTask_ShouldThrowException_WhenNeighboursAreInTheWrongOrder() {
+        // Arrange
+        Long taskId = 1L;
+        MoveTaskRequest request = MoveTaskRequest.builder().afterTaskId(2L).beforeTaskId(3L).build();
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findRanks(List.of(2L, 3L))).thenReturn(List.of(
+                rankedTask(2L, TaskStatus.TODO, "b"), rankedTask(3L, TaskStatus.TODO, "a")));
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> taskService.moveTask(taskId, request));
+
+        assertEquals("Task 2 must come before task 3", exception.getMessage());
+        verify(taskRankRebalancer).rebalance(project.getId(), TaskStatus.TODO, taskId);
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void moveTask_ShouldFailWithoutBlamingNeighbours_WhenKeyStaysTooLongAfterRebalance() {
+        // Arrange
+        Long taskId = 1L;
+        MoveTaskRequest request = MoveTaskRequest.builder().afterTaskId(2L).beforeTaskId(3L).build();
+        String longKey = "h" + "z".repeat(63);
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findRanks(List.of(2L, 3L))).thenReturn(List.of(
+                rankedTask(2L, TaskStatus.TODO, longKey), rankedTask(3L, TaskStatus.TODO, "i")));
+
+        // Act & Assert
+        Exception exception = assertThrows(IllegalStateException.class, () -> taskService.moveTask(taskId, request));
+
+        assertEquals("No rank key of at most 64 characters fits in the TODO column of project 1, even after rebalancing",
+                exception.getMessage());
+        verify(taskRankRebalancer).rebalance(project.getId(), TaskStatus.TODO, taskId);
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void getReadyTasks_ShouldSkipBlockedTasks() {
+        // Arrange
+        Long projectId = 1L;
+        Task blockedTask = createTestTask(2L, "Blocked Task", project, regularUser);
+        DependencyGraph graph = DependencyGraph.of(0, List.of(
+                new DependencyGraph.Link(1L, TaskStatus.TODO, 2L, TaskStatus.TODO)));
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(projectService.getProjectEntityByIdAndOwner(projectId, managerUser)).thenReturn(project);
+        when(dependencyGraphCache.get(projectId)).thenReturn(graph);
+        when(taskRepository.findByProjectAndStatusIn(eq(project), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(task, blockedTask)));
+        when(taskMapper.toDTO(task)).thenReturn(taskDTO);
+
+        // Act
+        List<TaskDTO> result = taskService.getReadyTasks(projectId, 10);
+
+        // Assert
+        assertEquals(List.of(taskDTO), result);
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskRepository).findByProjectAndStatusIn(eq(project), eq(Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS)),
+                pageableCaptor.capture());
+        assertEquals(11, pageableCaptor.getValue().getPageSize());
+    }
+
+    @Test
+    void addBlocker_ShouldThrowException_WhenLinkWouldCreateCycle() {
+        // Arrange
+        Long taskId = 1L;
+        Long blockerId = 3L;
+        Task blocker = createTestTask(blockerId, "Blocker", project, regularUser);
+        DependencyGraph graph = DependencyGraph.of(4, List.of(
+                new DependencyGraph.Link(1L, TaskStatus.TODO, 2L, TaskStatus.TODO),
+                new DependencyGraph.Link(2L, TaskStatus.TODO, 3L, TaskStatus.TODO)));
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findByIdAndProject(blockerId, project)).thenReturn(Optional.of(blocker));
+        when(taskDependencyRepository.findVersion(project.getId())).thenReturn(5L);
+        when(dependencyGraphCache.getAtVersion(project.getId(), 4L)).thenReturn(graph);
+
+        // Act & Assert
+        Exception exception = assertThrows(BadRequestException.class, () -> taskService.addBlocker(taskId, blockerId));
+
+        assertEquals("Task 3 already waits for task 1 (1 -> 2 -> 3); the link would create a cycle",
+                exception.getMessage());
+        verify(taskDependencyRepository).incrementVersion(project.getId());
+        verify(taskDependencyRepository, never()).save(any());
+        verify(dependencyGraphCache, never()).linksChanged(any(), anyLong(), any());
+    }
+
+    @Test
+    void addBlocker_ShouldSaveLinkAndUpdateGraphAfterCommit() {
+        // Arrange
+        Long taskId = 1L;
+        Long blockerId = 2L;
+        Task blocker = createTestTask(blockerId, "Blocker", project, regularUser);
+        DependencyGraph graph = DependencyGraph.of(0, List.of());
+
+        when(userService.getCurrentUserEntity()).thenReturn(adminUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findByIdAndProject(blockerId, project)).thenReturn(Optional.of(blocker));
+        when(taskDependencyRepository.findVersion(project.getId())).thenReturn(1L);
+        when(dependencyGraphCache.getAtVersion(project.getId(), 0L)).thenReturn(graph);
+
+        // Act
+        TaskDependenciesDTO result = taskService.addBlocker(taskId, blockerId);
+
+        // Assert
+        assertEquals(List.of(blockerId), result.getBlockedBy());
+        assertTrue(result.isBlocked());
+        ArgumentCaptor<TaskDependency> linkCaptor = ArgumentCaptor.forClass(TaskDependency.class);
+        verify(taskDependencyRepository).save(linkCaptor.capture());
+        assertEquals(blockerId, linkCaptor.getValue().getBlockingTaskId());
+        assertEquals(taskId, linkCaptor.getValue().getBlockedTaskId());
+        verify(dependencyGraphCache).linksChanged(eq(project.getId()), eq(1L), any());
     }
 
     @Test
@@ -365,6 +850,70 @@ public class TaskServiceTest {
         verify(taskRepository).findById(taskId);
         verify(userService).getUserEntityById(userId);
         verify(taskMapper).toDTO(updatedTask);
+        verifyNoInteractions(notificationDispatcher);
+    }
+
+    @Test
+    void assignTask_ShouldNotifyNewAndPreviousAssignee_WhenTaskChangesHands() {
+        // Arrange
+        Long taskId = 1L;
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(userService.getUserEntityById(adminUser.getId())).thenReturn(adminUser);
+        when(taskRepository.save(task)).thenReturn(task);
+        when(taskMapper.toDTO(task)).thenReturn(taskDTO);
+
+        // Act
+        taskService.assignTask(taskId, adminUser.getId());
+
+        // Assert
+        ArgumentCaptor<Notification> captor = ArgumentCaptor.forClass(Notification.class);
+        verify(notificationDispatcher, times(2)).publish(captor.capture());
+        Notification assigned = captor.getAllValues().get(0);
+        Notification unassigned = captor.getAllValues().get(1);
+        assertEquals(NotificationType.ASSIGNED, assigned.type());
+        assertEquals(adminUser.getId(), assigned.recipientId());
+        assertEquals(NotificationType.UNASSIGNED, unassigned.type());
+        assertEquals(regularUser.getEmail(), unassigned.recipientEmail());
+        assertEquals(managerUser.getEmail(), unassigned.actorEmail());
+        assertEquals(taskId, unassigned.taskId());
+    }
+
+    @Test
+    void getProjectBoard_ShouldGroupRowsIntoAllColumns_WhenUserIsProjectOwner() {
+        // Arrange
+        TaskRepository.BoardRow row = mock(TaskRepository.BoardRow.class);
+        when(row.getStatus()).thenReturn(TaskStatus.TODO);
+        when(row.getColumnTotal()).thenReturn(12L);
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(projectService.getProjectEntityByIdAndOwner(project.getId(), managerUser)).thenReturn(project);
+        when(taskRepository.findBoard(project.getId(), 5)).thenReturn(List.of(row));
+        when(taskMapper.toDTO(row)).thenReturn(taskDTO);
+
+        // Act
+        TaskBoardDTO result = taskService.getProjectBoard(project.getId(), 5);
+
+        // Assert
+        assertEquals(project.getName(), result.getProjectName());
+        assertEquals(TaskStatus.values().length, result.getColumns().size());
+        TaskBoardColumnDTO todo = result.getColumns().get(0);
+        assertEquals(TaskStatus.TODO, todo.getStatus());
+        assertEquals(12L, todo.getTotal());
+        assertEquals(List.of(taskDTO), todo.getTasks());
+        assertTrue(result.getColumns().stream()
+                .filter(column -> column.getStatus() != TaskStatus.TODO)
+                .allMatch(column -> column.getTotal() == 0 && column.getTasks().isEmpty()));
+    }
+
+    @Test
+    void getProjectBoard_ShouldThrowException_WhenLimitIsOutOfRange() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> taskService.getProjectBoard(project.getId(), 0));
+        assertThrows(BadRequestException.class, () -> taskService.getProjectBoard(project.getId(), 101));
+
+        verify(taskRepository, never()).findBoard(any(), anyInt());
     }
 
     @Test
@@ -384,6 +933,26 @@ public class TaskServiceTest {
         verify(taskRepository).delete(task);
     }
 
+    @Test
+    void deleteTask_ShouldLockProjectLinks_BeforeDeletingThem() {
+        // Arrange
+        when(userService.getCurrentUserEntity()).thenReturn(adminUser);
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
+        when(taskDependencyRepository.deleteByTaskId(task.getId())).thenReturn(2);
+        when(taskDependencyRepository.findVersion(project.getId())).thenReturn(3L);
+
+        // Act
+        taskService.deleteTask(task.getId());
+
+        // Assert
+        InOrder inOrder = inOrder(taskDependencyRepository, dependencyGraphCache, taskRepository);
+        inOrder.verify(taskDependencyRepository).lockVersion(project.getId());
+        inOrder.verify(taskDependencyRepository).deleteByTaskId(task.getId());
+        inOrder.verify(taskDependencyRepository).incrementVersion(project.getId());
+        inOrder.verify(dependencyGraphCache).linksChanged(eq(project.getId()), eq(3L), any());
+        inOrder.verify(taskRepository).delete(task);
+    }
+
     @Test
     void deleteTask_ShouldThrowException_WhenUserIsNotAuthorized() {
         // Arrange
@@ -427,6 +996,30 @@ public class TaskServiceTest {
                 .build();
     }
 
+    private TaskRepository.RankedTask rankedTask(Long id, TaskStatus status, String rank) {
+        return new TaskRepository.RankedTask() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getProjectId() {
+                return project.getId();
+            }
+
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public String getRank() {
+                return rank;
+            }
+        };
+    }
+
     private Task createTestTask(Long id, String title, Project project, User assignedUser) {
         return Task.builder()
                 .id(id)
@@ -7,6 +7,8 @@ import ge.asterbit.assignment.exception.AccessDeniedException;
 import ge.asterbit.assignment.exception.ResourceNotFoundException;
 import ge.asterbit.assignment.mapper.UserMapper;
 import ge.asterbit.assignment.repository.UserRepository;
+import ge.asterbit.assignment.security.AuthenticatedUser;
+import ge.asterbit.assignment.security.SecurityEpochCache;
 import ge.asterbit.assignment.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,6 +31,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +43,9 @@ public class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private SecurityEpochCache securityEpochCache;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -55,7 +63,7 @@ public class UserServiceTest {
 
     @BeforeEach
     void setUp() {
-        userService = new UserServiceImpl(userRepository, userMapper);
+        userService = new UserServiceImpl(userRepository, userMapper, securityEpochCache);
         
         // Mock security context
         SecurityContextHolder.setContext(securityContext);
@@ -203,6 +211,28 @@ public class UserServiceTest {
         verify(userRepository).findById(userId);
         verify(userRepository).save(regularUser);
         verify(userMapper).toDTO(updatedUser);
+        assertEquals(1, regularUser.getSecurityEpoch());
+        verify(securityEpochCache).bump(userId, 1);
+    }
+
+    @Test
+    void assignRole_ShouldBumpCachedEpoch_OnlyAfterCommit() {
+        // Arrange
+        when(userRepository.findById(3L)).thenReturn(Optional.of(regularUser));
+        when(userRepository.save(regularUser)).thenReturn(regularUser);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            userService.assignRole(3L, Role.MANAGER);
+            verify(securityEpochCache, never()).bump(any(), anyInt());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            verify(securityEpochCache).bump(3L, 1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -261,6 +291,38 @@ public class UserServiceTest {
         verify(userRepository).findByEmail(email);
     }
 
+    @Test
+    void getCurrentUserEntity_ShouldBuildUserFromTokenClaims_WithoutLoadingIt() {
+        // Arrange
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(new AuthenticatedUser(2L, "manager@test.com", Role.MANAGER, 4));
+
+        // Act
+        User result = userService.getCurrentUserEntity();
+
+        // Assert
+        assertEquals(2L, result.getId());
+        assertEquals("manager@test.com", result.getEmail());
+        assertEquals(Role.MANAGER, result.getRole());
+        assertEquals(4, result.getSecurityEpoch());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getCurrentUserReference_ShouldReturnReferenceById() {
+        // Arrange
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(new AuthenticatedUser(2L, "manager@test.com", Role.MANAGER, 4));
+        when(userRepository.getReferenceById(2L)).thenReturn(managerUser);
+
+        // Act
+        User result = userService.getCurrentUserReference();
+
+        // Assert
+        assertEquals(managerUser, result);
+        verify(userRepository, never()).findByEmail(any());
+    }
+
     @Test
     void getCurrentUserEntity_ShouldThrowException_WhenUserNotFound() {
         // Arrange
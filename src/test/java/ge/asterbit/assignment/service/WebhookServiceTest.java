@@ -0,0 +1,144 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.dto.webhook.CreateWebhookRequest;
+import ge.asterbit.assignment.dto.webhook.WebhookSubscriptionDTO;
+import ge.asterbit.assignment.entity.Project;
+import ge.asterbit.assignment.entity.Role;
+import ge.asterbit.assignment.entity.User;
+import ge.asterbit.assignment.entity.WebhookSubscription;
+import ge.asterbit.assignment.exception.BadRequestException;
+import ge.asterbit.assignment.exception.ResourceNotFoundException;
+import ge.asterbit.assignment.mapper.WebhookMapper;
+import ge.asterbit.assignment.repository.WebhookDeadLetterRepository;
+import ge.asterbit.assignment.repository.WebhookSubscriptionRepository;
+import ge.asterbit.assignment.service.impl.WebhookServiceImpl;
+import ge.asterbit.assignment.webhook.WebhookDispatcher;
+import ge.asterbit.assignment.webhook.WebhookUrlPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WebhookServiceTest {
+
+    @Mock
+    private WebhookSubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private WebhookDeadLetterRepository deadLetterRepository;
+
+    @Mock
+    private WebhookMapper webhookMapper;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private WebhookDispatcher webhookDispatcher;
+
+    @Mock
+    private WebhookUrlPolicy webhookUrlPolicy;
+
+    private WebhookServiceImpl webhookService;
+
+    private User managerUser;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        webhookService = new WebhookServiceImpl(subscriptionRepository, deadLetterRepository, webhookMapper,
+                userService, projectService, webhookDispatcher, webhookUrlPolicy);
+
+        managerUser = User.builder().id(2L).email("manager@test.com").role(Role.MANAGER).build();
+        project = Project.builder().id(1L).name("Test Project").owner(managerUser).build();
+    }
+
+    @Test
+    void createWebhook_ShouldSaveSubscriptionAndRefreshDispatcher_WhenUserIsProjectOwner() throws Exception {
+        // Arrange
+        CreateWebhookRequest request = CreateWebhookRequest.builder()
+                .url("https://hooks.example.com/tasks")
+                .maxBatchSize(20)
+                .build();
+        WebhookSubscriptionDTO dto = WebhookSubscriptionDTO.builder().id(5L).build();
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(projectService.getProjectEntityByIdAndOwner(1L, managerUser)).thenReturn(project);
+        when(subscriptionRepository.findByProjectIdOrderByIdAsc(1L)).thenReturn(List.of());
+        when(subscriptionRepository.save(any(WebhookSubscription.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(webhookMapper.toDTO(any(WebhookSubscription.class))).thenReturn(dto);
+
+        // Act
+        WebhookSubscriptionDTO result = webhookService.createWebhook(1L, request);
+
+        // Assert
+        assertEquals(dto, result);
+        ArgumentCaptor<WebhookSubscription> captor = ArgumentCaptor.forClass(WebhookSubscription.class);
+        verify(subscriptionRepository).save(captor.capture());
+        assertEquals(1L, captor.getValue().getProjectId());
+        assertEquals(20, captor.getValue().getMaxBatchSize());
+        assertEquals(managerUser.getId(), captor.getValue().getCreatedBy());
+        verify(webhookUrlPolicy).check("https://hooks.example.com/tasks");
+        verify(webhookDispatcher).subscriptionsChanged(1L);
+    }
+
+    @Test
+    void createWebhook_ShouldThrowException_WhenUrlIsRejectedByPolicy() throws Exception {
+        // Arrange
+        CreateWebhookRequest request = CreateWebhookRequest.builder().url("https://169.254.169.254/latest").build();
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(projectService.getProjectEntityByIdAndOwner(1L, managerUser)).thenReturn(project);
+        when(subscriptionRepository.findByProjectIdOrderByIdAsc(1L)).thenReturn(List.of());
+        when(webhookUrlPolicy.check(request.getUrl()))
+                .thenThrow(new IllegalArgumentException("Webhook URL resolves to a non-public address: 169.254.169.254"));
+
+        // Act & Assert
+        BadRequestException ex = assertThrows(BadRequestException.class, () -> webhookService.createWebhook(1L, request));
+        assertTrue(ex.getMessage().contains("non-public address"));
+        verify(subscriptionRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteWebhook_ShouldDeleteSubscriptionAndItsDeadLetters() {
+        // Arrange
+        WebhookSubscription subscription = WebhookSubscription.builder().id(5L).projectId(1L).build();
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(projectService.getProjectEntityByIdAndOwner(1L, managerUser)).thenReturn(project);
+        when(subscriptionRepository.findByIdAndProjectId(5L, 1L)).thenReturn(Optional.of(subscription));
+
+        // Act
+        webhookService.deleteWebhook(1L, 5L);
+
+        // Assert
+        verify(deadLetterRepository).deleteBySubscriptionId(5L);
+        verify(subscriptionRepository).delete(subscription);
+        verify(webhookDispatcher).subscriptionRemoved(1L, 5L);
+    }
+
+    @Test
+    void deleteWebhook_ShouldThrowException_WhenWebhookBelongsToAnotherProject() {
+        // Arrange
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(projectService.getProjectEntityByIdAndOwner(1L, managerUser)).thenReturn(project);
+        when(subscriptionRepository.findByIdAndProjectId(5L, 1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> webhookService.deleteWebhook(1L, 5L));
+        verifyNoInteractions(deadLetterRepository, webhookDispatcher);
+    }
+}
@@ -0,0 +1,109 @@
+package ge.asterbit.assignment.service;
+
+import ge.asterbit.assignment.dto.analytics.WorkloadReportDTO;
+import ge.asterbit.assignment.entity.Role;
+import ge.asterbit.assignment.entity.TaskStatus;
+import ge.asterbit.assignment.entity.User;
+import ge.asterbit.assignment.repository.TaskRepository;
+import ge.asterbit.assignment.repository.TaskRepository.WorkloadRow;
+import ge.asterbit.assignment.service.impl.WorkloadServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkloadServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserService userService;
+
+    private WorkloadServiceImpl workloadService;
+
+    private User managerUser;
+
+    @BeforeEach
+    void setUp() {
+        workloadService = new WorkloadServiceImpl(taskRepository, userService, 60000);
+        managerUser = User.builder().id(2L).email("manager@test.com").role(Role.MANAGER).build();
+    }
+
+    @Test
+    void getWorkload_ShouldSplitUnassignedRow_WhenUserIsManager() {
+        // Arrange
+        WorkloadRow assigned = row(3L, "user@test.com", 5);
+        WorkloadRow unassigned = row(null, null, 2);
+
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskRepository.findWorkloadByProjectOwner(eq(managerUser), eq(Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS)),
+                any(LocalDate.class))).thenReturn(List.of(assigned, unassigned));
+
+        // Act
+        WorkloadReportDTO result = workloadService.getWorkload();
+
+        // Assert
+        assertEquals(1, result.getAssignees().size());
+        assertEquals("user@test.com", result.getAssignees().get(0).getAssigneeEmail());
+        assertEquals(5, result.getAssignees().get(0).getOpenTasks());
+        assertEquals(2, result.getUnassigned().getOpenTasks());
+        verify(taskRepository, never()).findWorkload(any(), any());
+    }
+
+    @Test
+    void getWorkload_ShouldReuseReport_WhenCalledAgainWithinTtl() {
+        // Arrange
+        when(userService.getCurrentUserEntity()).thenReturn(managerUser);
+        when(taskRepository.findWorkloadByProjectOwner(eq(managerUser), any(), any())).thenReturn(List.of());
+
+        // Act
+        WorkloadReportDTO first = workloadService.getWorkload();
+        WorkloadReportDTO second = workloadService.getWorkload();
+
+        // Assert
+        assertSame(first, second);
+        verify(taskRepository, times(1)).findWorkloadByProjectOwner(eq(managerUser), any(), any());
+    }
+
+    @Test
+    void getWorkload_ShouldCoverAllProjects_WhenUserIsAdmin() {
+        // Arrange
+        User adminUser = User.builder().id(1L).email("admin@test.com").role(Role.ADMIN).build();
+
+        when(userService.getCurrentUserEntity()).thenReturn(adminUser);
+        when(taskRepository.findWorkload(any(), any(LocalDate.class))).thenReturn(List.of());
+
+        // Act
+        WorkloadReportDTO result = workloadService.getWorkload();
+
+        // Assert
+        assertTrue(result.getAssignees().isEmpty());
+        assertNull(result.getUnassigned());
+        verify(taskRepository, never()).findWorkloadByProjectOwner(any(), any(), any());
+    }
+
+    private WorkloadRow row(Long assigneeId, String email, long openTasks) {
+        WorkloadRow row = mock(WorkloadRow.class);
+        when(row.getAssigneeId()).thenReturn(assigneeId);
+        lenient().when(row.getAssigneeEmail()).thenReturn(email);
+        when(row.getOpenTasks()).thenReturn(openTasks);
+        when(row.getHighPriority()).thenReturn(0L);
+        when(row.getMediumPriority()).thenReturn(0L);
+        when(row.getLowPriority()).thenReturn(openTasks);
+        when(row.getOverdue()).thenReturn(0L);
+        when(row.getNoDueDate()).thenReturn(0L);
+        return row;
+    }
+}
@@ -0,0 +1,88 @@
+package ge.asterbit.assignment.warmup;
+
+import ge.asterbit.assignment.repository.UserRepository;
+import ge.asterbit.assignment.security.JwtService;
+import ge.asterbit.assignment.service.TaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WarmupRunnerTest {
+
+    @Mock
+    private Environment environment;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void run_ShouldDoNothing_WhenDisabled() throws Exception {
+        // Arrange
+        WarmupRunner runner = runner(false);
+
+        // Act
+        runner.run(null);
+
+        // Assert
+        verifyNoInteractions(environment, userRepository, jdbcTemplate, jwtService, taskService, transactionTemplate);
+    }
+
+    @Test
+    void run_ShouldSkip_WhenWarmupUserDoesNotExist() throws Exception {
+        // Arrange
+        WarmupRunner runner = runner(true);
+        when(environment.getProperty("local.server.port", Integer.class)).thenReturn(8080);
+        when(userRepository.findByEmail("admin@test.com")).thenReturn(Optional.empty());
+
+        // Act
+        runner.run(null);
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate, jwtService, taskService, transactionTemplate);
+    }
+
+    @Test
+    void forTarget_ShouldOnlyAddScopedCalls_ForKnownProjectAndTask() {
+        // Act
+        List<WarmupRunner.WarmupCall> empty = WarmupRunner.WarmupCall.forTarget(new WarmupRunner.WarmupTarget(null, null));
+        List<WarmupRunner.WarmupCall> full = WarmupRunner.WarmupCall.forTarget(new WarmupRunner.WarmupTarget(3L, 9L));
+
+        // Assert
+        assertTrue(empty.stream().noneMatch(call -> call.path().contains("/project/")));
+        assertTrue(full.stream().anyMatch(call -> call.path().startsWith("/api/v1/tasks/project/3/status/")));
+        assertTrue(full.stream().anyMatch(call -> call.path().equals("/api/v1/tasks/9/history")));
+        assertTrue(full.stream()
+                .filter(call -> !call.method().equals("GET"))
+                .allMatch(call -> call.expectedStatus() == 400));
+    }
+
+    private WarmupRunner runner(boolean enabled) {
+        return new WarmupRunner(enabled, "admin@test.com", 10, 2, 5, Duration.ofSeconds(5), environment,
+                userRepository, jdbcTemplate, jwtService, taskService, transactionTemplate, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,266 @@
+package ge.asterbit.assignment.webhook;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import ge.asterbit.assignment.entity.WebhookSubscription;
+import ge.asterbit.assignment.repository.WebhookSubscriptionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+public class WebhookDispatcherTest {
+
+    private static final Long PROJECT_ID = 1L;
+    private static final String SECRET = "0123456789abcdef";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final WebhookSubscriptionRepository subscriptionRepository = mock(WebhookSubscriptionRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    /** Local stand-in for a subscriber: records each request and answers with the next queued status. */
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private final Queue<ReceivedRequest> received = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+    private volatile long responseDelayMillis;
+
+    private WebhookDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.createContext("/hook", exchange -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                received.add(new ReceivedRequest(exchange.getRequestHeaders().getFirst(WebhookDispatcher.DELIVERY_HEADER),
+                        exchange.getRequestHeaders().getFirst(WebhookDispatcher.SIGNATURE_HEADER), body));
+                Thread.sleep(responseDelayMillis);
+                Integer status = statuses.poll();
+                exchange.sendResponseHeaders(status != null ? status : 200, -1);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+
+        // The stand-in listens on loopback over plain http, which the default policy rejects
+        dispatcher = newDispatcher(new WebhookUrlPolicy(true, true));
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        dispatcher.stop();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void publish_ShouldBatchSignedEventsWithBoundedConcurrency_WhenSubscriberAcceptsBatches() throws Exception {
+        // Arrange
+        subscribe(3, SECRET);
+        responseDelayMillis = 50;
+
+        // Act
+        for (long taskId = 1; taskId <= 10; taskId++) {
+            dispatcher.publish(WebhookEventType.TASK_UPDATED, PROJECT_ID, taskId, Map.of("id", taskId), "manager@test.com");
+        }
+
+        // Assert
+        awaitTrue(() -> eventsReceived() == 10);
+        assertEquals(4, received.size());
+        assertTrue(maxConcurrent.get() <= 2, "max concurrent requests " + maxConcurrent.get());
+        for (ReceivedRequest request : received) {
+            assertEquals("sha256=" + hmac(request.body()), request.signature());
+            JsonNode events = objectMapper.readTree(request.body()).get("events");
+            assertTrue(events.size() <= 3);
+            assertEquals("task.updated", events.get(0).get("type").asText());
+        }
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void publish_ShouldRetrySameDelivery_WhenSubscriberIsTemporarilyUnavailable() throws Exception {
+        // Arrange
+        subscribe(1, null);
+        statuses.addAll(List.of(503, 429));
+
+        // Act
+        dispatcher.publish(WebhookEventType.TASK_CREATED, PROJECT_ID, 7L, Map.of("id", 7), "manager@test.com");
+
+        // Assert
+        awaitTrue(() -> received.size() == 3);
+        assertEquals(1, received.stream().map(ReceivedRequest::deliveryId).distinct().count());
+        assertNull(received.peek().signature());
+        Thread.sleep(100);
+        assertEquals(3, received.size());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void publish_ShouldDeadLetterBatch_WhenAttemptsAreExhausted() throws Exception {
+        // Arrange
+        subscribe(1, null);
+        statuses.addAll(List.of(500, 502, 503));
+
+        // Act
+        dispatcher.publish(WebhookEventType.TASK_DELETED, PROJECT_ID, 7L, null, "manager@test.com");
+
+        // Assert
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, timeout(5_000)).update(startsWith("INSERT INTO webhook_dead_letters"), args.capture());
+        Object[] row = args.getValue();
+        assertEquals(10L, row[0]);
+        assertEquals(PROJECT_ID, row[1]);
+        assertEquals(received.peek().deliveryId(), row[3]);
+        assertEquals(1, row[5]);
+        assertEquals(3, row[6]);
+        assertEquals(503, row[7]);
+        assertEquals(3, received.size());
+    }
+
+    @Test
+    void publish_ShouldDeadLetterWithoutRetry_WhenSubscriberRejectsBatch() throws Exception {
+        // Arrange
+        subscribe(1, null);
+        statuses.add(400);
+
+        // Act
+        dispatcher.publish(WebhookEventType.PROJECT_UPDATED, PROJECT_ID, PROJECT_ID, Map.of("id", 1), "manager@test.com");
+
+        // Assert
+        verify(jdbcTemplate, timeout(5_000)).update(startsWith("INSERT INTO webhook_dead_letters"), any(Object[].class));
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    void publish_ShouldDeadLetterWithoutSending_WhenUrlResolvesToPrivateAddress() throws Exception {
+        // Arrange
+        dispatcher.stop();
+        dispatcher = newDispatcher(new WebhookUrlPolicy(true, false));
+        dispatcher.start();
+        subscribe(1, null);
+
+        // Act
+        dispatcher.publish(WebhookEventType.TASK_CREATED, PROJECT_ID, 7L, Map.of("id", 7), "manager@test.com");
+
+        // Assert
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, timeout(5_000)).update(startsWith("INSERT INTO webhook_dead_letters"), args.capture());
+        assertEquals(0, args.getValue()[6]);
+        assertNull(args.getValue()[7]);
+        assertTrue(((String) args.getValue()[8]).contains("non-public address"));
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void publish_ShouldNotFollowRedirect_WhenSubscriberRedirects() throws Exception {
+        // Arrange
+        subscribe(1, null);
+        statuses.add(307);
+
+        // Act
+        dispatcher.publish(WebhookEventType.TASK_CREATED, PROJECT_ID, 7L, Map.of("id", 7), "manager@test.com");
+
+        // Assert
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, timeout(5_000)).update(startsWith("INSERT INTO webhook_dead_letters"), args.capture());
+        assertEquals(307, args.getValue()[7]);
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    void publish_ShouldNotQueueEvents_WhenProjectHasNoSubscriptions() {
+        // Arrange
+        when(subscriptionRepository.findByProjectIdOrderByIdAsc(PROJECT_ID)).thenReturn(List.of());
+
+        // Act
+        dispatcher.publish(WebhookEventType.TASK_CREATED, PROJECT_ID, 7L, Map.of("id", 7), "manager@test.com");
+        dispatcher.publish(WebhookEventType.TASK_UPDATED, PROJECT_ID, 7L, Map.of("id", 7), "manager@test.com");
+
+        // Assert
+        verify(subscriptionRepository, times(1)).findByProjectIdOrderByIdAsc(PROJECT_ID);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        assertTrue(received.isEmpty());
+    }
+
+    private WebhookDispatcher newDispatcher(WebhookUrlPolicy urlPolicy) {
+        return new WebhookDispatcher(subscriptionRepository, jdbcTemplate, objectMapper, urlPolicy, 60_000, 2, 100, 3,
+                Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofSeconds(1), Duration.ofSeconds(2),
+                Duration.ofMillis(10), new SimpleMeterRegistry());
+    }
+
+    private void subscribe(int maxBatchSize, String secret) {
+        WebhookSubscription subscription = WebhookSubscription.builder()
+                .id(10L)
+                .projectId(PROJECT_ID)
+                .url("http://127.0.0.1:" + server.getAddress().getPort() + "/hook")
+                .secret(secret)
+                .maxBatchSize(maxBatchSize)
+                .build();
+        when(subscriptionRepository.findByProjectIdOrderByIdAsc(PROJECT_ID)).thenReturn(List.of(subscription));
+    }
+
+    private int eventsReceived() {
+        int events = 0;
+        for (ReceivedRequest request : received) {
+            try {
+                events += objectMapper.readTree(request.body()).get("events").size();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        return events;
+    }
+
+    private static String hmac(byte[] body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(body));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(10);
+        }
+    }
+
+    private record ReceivedRequest(String deliveryId, String signature, byte[] body) {
+    }
+}
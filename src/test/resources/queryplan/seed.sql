@@ -0,0 +1,71 @@
+-- Deterministic data set for QueryPlanRegressionTest. Volumes are large enough that the
+-- planner only picks an index when it actually fits the query, and seeding takes seconds.
+SELECT setseed(0.42);
+
+INSERT INTO users (email, password, role, create_date, update_date)
+SELECT 'user' || g || '@plan.test', 'x', CASE WHEN g <= 500 THEN 'MANAGER' ELSE 'USER' END, NOW(), NOW()
+FROM generate_series(1, 20000) g;
+
+INSERT INTO projects (name, description, owner_id, create_date, update_date)
+SELECT 'Project ' || g, 'Seeded for query plans', u.id, NOW(), NOW()
+FROM generate_series(1, 5000) g
+JOIN users u ON u.email = 'user' || (1 + g % 500) || '@plan.test';
+
+-- Project sizes are skewed so the largest projects hold thousands of tasks
+INSERT INTO tasks (title, description, status, due_date, priority, project_id, assigned_user_id, create_date, update_date)
+SELECT 'Task ' || g, 'Seeded for query plans',
+       (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + floor(random() * 3)::int],
+       CURRENT_DATE + floor(random() * 365)::int - 180,
+       (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + floor(random() * 3)::int],
+       p.min_id + floor(power(random(), 2) * 5000)::int,
+       CASE WHEN random() < 0.1 THEN NULL ELSE u.min_id + floor(random() * 20000)::int END,
+       NOW() - random() * INTERVAL '400 days',
+       NOW() - random() * INTERVAL '100 days'
+FROM generate_series(1, 500000) g,
+     (SELECT MIN(id) AS min_id FROM projects) p,
+     (SELECT MIN(id) AS min_id FROM users WHERE email LIKE '%@plan.test') u;
+
+INSERT INTO task_status_transitions (task_id, project_id, assignee_id, from_status, to_status, transitioned_at)
+SELECT id, project_id, assigned_user_id, NULL, 'TODO', create_date FROM tasks;
+
+INSERT INTO task_status_transitions (task_id, project_id, assignee_id, from_status, to_status, transitioned_at)
+SELECT id, project_id, assigned_user_id, 'TODO', 'IN_PROGRESS', create_date + INTERVAL '1 day'
+FROM tasks WHERE status <> 'TODO';
+
+-- Every fifth task waits for the task created before it in the same project
+INSERT INTO task_dependencies (project_id, blocking_task_id, blocked_task_id, create_date)
+SELECT project_id, previous_id, id, NOW()
+FROM (SELECT id, project_id, LAG(id) OVER (PARTITION BY project_id ORDER BY id) AS previous_id FROM tasks) t
+WHERE previous_id IS NOT NULL AND id % 5 = 0;
+
+INSERT INTO tasks_archive (id, title, description, status, due_date, priority, project_id, assigned_user_id,
+                           create_date, update_date, archived_at)
+SELECT 10000000 + g, 'Archived ' || g, 'Seeded for query plans', 'DONE', CURRENT_DATE - 400, 'MEDIUM',
+       p.min_id + floor(random() * 5000)::int, u.min_id + floor(random() * 20000)::int,
+       NOW() - INTERVAL '500 days', NOW() - INTERVAL '400 days', NOW() - INTERVAL '300 days'
+FROM generate_series(1, 200000) g,
+     (SELECT MIN(id) AS min_id FROM projects) p,
+     (SELECT MIN(id) AS min_id FROM users WHERE email LIKE '%@plan.test') u;
+
+INSERT INTO task_duration_histograms (project_id, assignee_id, metric, bucket, task_count)
+SELECT p.id, 0, m.metric, b, 1 + floor(random() * 50)::int
+FROM projects p, (VALUES ('LEAD'), ('CYCLE')) m(metric), generate_series(100, 140) b;
+
+INSERT INTO audit_log (occurred_at, actor_id, actor_email, entity_type, entity_id, action, changes)
+SELECT NOW() - g * INTERVAL '1 second', u.min_id + floor(random() * 20000)::int, 'seed@plan.test',
+       (ARRAY['TASK', 'PROJECT', 'USER'])[1 + floor(random() * 3)::int], 1 + floor(random() * 500000)::int,
+       'UPDATE', '{"status":{"from":"TODO","to":"DONE"}}'
+FROM generate_series(1, 300000) g,
+     (SELECT MIN(id) AS min_id FROM users WHERE email LIKE '%@plan.test') u;
+
+INSERT INTO refresh_tokens (token_hash, user_id, expires_at, revoked, create_date)
+SELECT md5('token' || g) || md5('salt' || g), u.min_id + floor(random() * 20000)::int,
+       NOW() + (floor(random() * 30)::int - 15) * INTERVAL '1 day', random() < 0.5, NOW()
+FROM generate_series(1, 100000) g,
+     (SELECT MIN(id) AS min_id FROM users WHERE email LIKE '%@plan.test') u;
+
+INSERT INTO revoked_tokens (token_id, expires_at)
+SELECT md5('revoked' || g)::uuid::text, NOW() + (floor(random() * 30)::int - 15) * INTERVAL '1 hour'
+FROM generate_series(1, 50000) g;
+
+ANALYZE;